@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.misc;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.LoadedPagesMap;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.OptimisticReadWriteLock;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.RobinHoodBackwardShiftHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks lookups of loaded pages in a page memory segment: under the segment read lock and in an optimistic
+ * read section of {@link OptimisticReadWriteLock}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 3)
+public class JmhLoadedPagesLookupBenchmark {
+    /** Pages count. */
+    private static final int PAGES_CNT = 64 * 1024;
+
+    /** Cache group ID. */
+    private static final int GRP_ID = 1;
+
+    /** Partition generation. */
+    private static final int VER = 1;
+
+    /** Absent value. */
+    private static final long ABSENT = -1;
+
+    /** Every N-th operation modifies the table under the write lock, {@code 0} for read-only load. */
+    @Param({"0", "1000"})
+    private int writePeriod;
+
+    /** Direct memory provider. */
+    private DirectMemoryProvider provider;
+
+    /** Loaded pages table. */
+    private LoadedPagesMap loadedPages;
+
+    /** Segment lock. */
+    private OptimisticReadWriteLock lock;
+
+    /**
+     * Setup.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        long memSize = RobinHoodBackwardShiftHashMap.requiredMemory(PAGES_CNT);
+
+        provider = new UnsafeMemoryProvider(null);
+        provider.initialize(new long[] {memSize});
+
+        DirectMemoryRegion region = provider.nextRegion();
+
+        loadedPages = new RobinHoodBackwardShiftHashMap(region.address(), memSize);
+
+        for (int i = 0; i < PAGES_CNT; i++)
+            loadedPages.put(GRP_ID, i, i, VER);
+
+        lock = new OptimisticReadWriteLock();
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /**
+     * Lookup under the segment read lock.
+     *
+     * @return Relative pointer.
+     */
+    @Benchmark
+    public long readLock() {
+        long pageId = nextPageId();
+
+        if (write())
+            return put(pageId);
+
+        lock.readLock().lock();
+
+        try {
+            return loadedPages.get(GRP_ID, pageId, VER, ABSENT, ABSENT);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lookup in an optimistic read section, falls back to the read lock when the write lock is held.
+     *
+     * @return Relative pointer.
+     */
+    @Benchmark
+    public long optimisticRead() {
+        long pageId = nextPageId();
+
+        if (write())
+            return put(pageId);
+
+        if (lock.tryOptimisticRead()) {
+            try {
+                return loadedPages.get(GRP_ID, pageId, VER, ABSENT, ABSENT);
+            }
+            finally {
+                lock.endOptimisticRead();
+            }
+        }
+
+        lock.readLock().lock();
+
+        try {
+            return loadedPages.get(GRP_ID, pageId, VER, ABSENT, ABSENT);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Page ID to look up.
+     */
+    private static long nextPageId() {
+        return ThreadLocalRandom.current().nextInt(PAGES_CNT);
+    }
+
+    /**
+     * @return {@code True} if the current operation has to modify the table.
+     */
+    private boolean write() {
+        return writePeriod > 0 && ThreadLocalRandom.current().nextInt(writePeriod) == 0;
+    }
+
+    /**
+     * Rewrites the page mapping under the write lock.
+     *
+     * @param pageId Page ID.
+     * @return Relative pointer.
+     */
+    private long put(long pageId) {
+        lock.writeLock().lock();
+
+        try {
+            loadedPages.put(GRP_ID, pageId, pageId, VER);
+
+            return pageId;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs the benchmark with 1 to 64 threads.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            Options options = new OptionsBuilder()
+                .include(JmhLoadedPagesLookupBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.sql;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cache.query.annotations.QuerySqlField;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_BATCH_SIZE;
+
+/**
+ * Compares row-by-row and row batch execution modes of the Calcite engine on analytical queries over a local node.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class JmhSqlBatchExecutionBenchmark {
+    /** Keys count. */
+    private static final int KEYS_CNT = 1_000_000;
+
+    /** Count of distinct values of the grouping field. */
+    private static final int GROUPS_CNT = 100;
+
+    /** IP finder shared across nodes. */
+    private static final TcpDiscoveryVmIpFinder IP_FINDER = new TcpDiscoveryVmIpFinder(true);
+
+    /** Count of rows passed between execution nodes at once, zero for row mode. */
+    @Param({"0", "512"})
+    private int batchSize;
+
+    /** Ignite node. */
+    private Ignite ignite;
+
+    /** Cache. */
+    private IgniteCache<Integer, Item> cache;
+
+    /**
+     * Initiate Ignite and caches.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        // Each parameter value is measured in a separate fork, so the property is read by execution nodes after it's set.
+        System.setProperty(IGNITE_CALCITE_EXEC_BATCH_SIZE, String.valueOf(batchSize));
+
+        IgniteConfiguration cfg = new IgniteConfiguration()
+            .setIgniteInstanceName("server")
+            .setLocalHost("127.0.0.1")
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(IP_FINDER))
+            .setSqlConfiguration(new SqlConfiguration().setQueryEnginesConfiguration(new CalciteQueryEngineConfiguration()));
+
+        ignite = Ignition.start(cfg);
+
+        cache = ignite.getOrCreateCache(new CacheConfiguration<Integer, Item>("CACHE")
+            .setIndexedTypes(Integer.class, Item.class));
+
+        try (IgniteDataStreamer<Integer, Item> ds = ignite.dataStreamer("CACHE")) {
+            for (int i = 0; i < KEYS_CNT; i++)
+                ds.addData(i, new Item(i));
+        }
+    }
+
+    /**
+     * Stop Ignite instance.
+     */
+    @TearDown
+    public void tearDown() {
+        ignite.close();
+    }
+
+    /**
+     * Full scan with a selective filter.
+     */
+    @Benchmark
+    public void queryFilter() {
+        List<?> res = executeSql("SELECT fld FROM Item WHERE fld % 1000 = 0 AND price >= 0");
+
+        if (res.size() != KEYS_CNT / 1000)
+            throw new AssertionError("Unexpected result size: " + res.size());
+    }
+
+    /**
+     * Full scan with an arithmetic projection and aggregation.
+     */
+    @Benchmark
+    public void queryProjectSum() {
+        List<List<?>> res = executeSql("SELECT SUM(price * qty - fld) FROM Item");
+
+        if (res.size() != 1)
+            throw new AssertionError("Unexpected result size: " + res.size());
+    }
+
+    /**
+     * Full scan with hash aggregation.
+     */
+    @Benchmark
+    public void queryGroupBy() {
+        List<?> res = executeSql("SELECT grp, SUM(price), COUNT(*) FROM Item WHERE qty > 1 GROUP BY grp");
+
+        if (res.size() != GROUPS_CNT)
+            throw new AssertionError("Unexpected result size: " + res.size());
+    }
+
+    /** */
+    private List<List<?>> executeSql(String sql, Object... args) {
+        return cache.query(new SqlFieldsQuery(sql).setArgs(args)).getAll();
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        final Options options = new OptionsBuilder()
+            .include(JmhSqlBatchExecutionBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+
+    /** */
+    private static class Item {
+        /** */
+        @QuerySqlField
+        private final int fld;
+
+        /** */
+        @QuerySqlField
+        private final int grp;
+
+        /** */
+        @QuerySqlField
+        private final long qty;
+
+        /** */
+        @QuerySqlField
+        private final double price;
+
+        /** */
+        public Item(int val) {
+            fld = val;
+            grp = val % GROUPS_CNT;
+            qty = val % 10;
+            price = val * 0.5;
+        }
+    }
+}
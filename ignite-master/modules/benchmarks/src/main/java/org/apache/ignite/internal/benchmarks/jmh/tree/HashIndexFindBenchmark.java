@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.tree;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.QueryEntity;
+import org.apache.ignite.cache.QueryIndex;
+import org.apache.ignite.cache.QueryIndexType;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexPlainRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKeyFactory;
+import org.apache.ignite.internal.metric.IoStatisticsType;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.apache.ignite.internal.metric.IoStatisticsHolderIndex.LOGICAL_READS_INNER;
+import static org.apache.ignite.internal.metric.IoStatisticsHolderIndex.LOGICAL_READS_LEAF;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Compares lookups by an exact value in a hash index and in a sorted index on the same field.
+ * <p>
+ * Values share a common prefix of the configured length, so the sorted index has to compare the values beyond the
+ * inlined part, while the hash index compares the inlined hashes first. The setup prints count of index pages read
+ * by a lookup in each index, which is the height of the tree for the hash index.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 10)
+public class HashIndexFindBenchmark {
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** Sorted index name. */
+    private static final String SORTED_IDX_NAME = "SORTED_IDX";
+
+    /** Hash index name. */
+    private static final String HASH_IDX_NAME = "HASH_IDX";
+
+    /** Items count. */
+    @Param({"100000", "1000000"})
+    private int cnt;
+
+    /** Length of the common prefix of the indexed values. */
+    @Param({"0", "64"})
+    private int prefixLen;
+
+    /** Common prefix of the indexed values. */
+    private String prefix;
+
+    /** Ignite. */
+    private IgniteEx ignite;
+
+    /** */
+    private InlineIndex sortedIdx;
+
+    /** */
+    private HashIndex hashIdx;
+
+    /** */
+    @Benchmark
+    public void findSorted() throws IgniteCheckedException {
+        IndexRow row = new IndexPlainRowImpl(new IndexKey[] {randomKey(), null}, null);
+
+        check(sortedIdx.find(row, row, true, true, 0, null));
+    }
+
+    /** */
+    @Benchmark
+    public void findHash() throws IgniteCheckedException {
+        check(hashIdx.find(new IndexKey[] {randomKey()}, 0, null));
+    }
+
+    /** */
+    private IndexKey randomKey() {
+        return IndexKeyFactory.wrap(name(ThreadLocalRandom.current().nextInt(cnt)), IndexKeyType.STRING, null, null);
+    }
+
+    /** */
+    private String name(int key) {
+        return prefix + String.format("%07d", key);
+    }
+
+    /** */
+    private static void check(GridCursor<IndexRow> cur) throws IgniteCheckedException {
+        int cnt = 0;
+
+        while (cur.next())
+            cnt++;
+
+        assert cnt == 1 : cnt;
+    }
+
+    /**
+     * Initiate Ignite and caches.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        prefix = new String(new char[prefixLen]).replace('\0', 'a');
+
+        ignite = (IgniteEx)Ignition.start(new IgniteConfiguration().setIgniteInstanceName("test"));
+
+        QueryIndex sorted = new QueryIndex("name", QueryIndexType.SORTED);
+        sorted.setName(SORTED_IDX_NAME);
+
+        QueryIndex hash = new QueryIndex("name", QueryIndexType.HASH);
+        hash.setName(HASH_IDX_NAME);
+
+        CacheConfiguration<Integer, Object> cfg = new CacheConfiguration<Integer, Object>(CACHE_NAME)
+            .setQueryEntities(F.asList(new QueryEntity(Integer.class.getName(), "Person")
+                .addQueryField("name", String.class.getName(), null)
+                .setIndexes(F.asList(sorted, hash))));
+
+        ignite.getOrCreateCache(cfg);
+
+        try (IgniteDataStreamer<Integer, Object> dataLdr = ignite.dataStreamer(CACHE_NAME)) {
+            for (int i = 0; i < cnt; i++)
+                dataLdr.addData(i, ignite.binary().builder("Person").setField("name", name(i)).build());
+        }
+
+        for (Index idx : ignite.context().indexProcessor().indexes(CACHE_NAME)) {
+            if (idx.name().endsWith(SORTED_IDX_NAME))
+                sortedIdx = idx.unwrap(InlineIndex.class);
+            else if (idx.name().endsWith(HASH_IDX_NAME))
+                hashIdx = idx.unwrap(HashIndex.class);
+        }
+
+        try {
+            printPageReads(IoStatisticsType.SORTED_INDEX, SORTED_IDX_NAME, this::findSorted);
+            printPageReads(IoStatisticsType.HASH_INDEX, HASH_IDX_NAME, this::findHash);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * Prints average count of index pages read by a lookup.
+     *
+     * @param type Index statistics type.
+     * @param idxName Index name.
+     * @param find Lookup.
+     */
+    private void printPageReads(IoStatisticsType type, String idxName, Lookup find) throws IgniteCheckedException {
+        MetricRegistry mreg = ignite.context().metric()
+            .registry(metricName(type.metricGroupName(), CACHE_NAME, idxName));
+
+        LongMetric inner = mreg.findMetric(LOGICAL_READS_INNER);
+        LongMetric leaf = mreg.findMetric(LOGICAL_READS_LEAF);
+
+        long inner0 = inner.value();
+        long leaf0 = leaf.value();
+
+        int lookups = 10_000;
+
+        for (int i = 0; i < lookups; i++)
+            find.run();
+
+        System.out.printf("Index pages read per lookup [idx=%s, cnt=%d, prefixLen=%d, inner=%.2f, leaf=%.2f]%n",
+            idxName, cnt, prefixLen, (double)(inner.value() - inner0) / lookups,
+            (double)(leaf.value() - leaf0) / lookups);
+    }
+
+    /**
+     * Stop Ignite instance.
+     */
+    @TearDown
+    public void tearDown() {
+        ignite.close();
+    }
+
+    /** */
+    @FunctionalInterface
+    private interface Lookup {
+        /** */
+        void run() throws IgniteCheckedException;
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        final Options options = new OptionsBuilder()
+            .include(HashIndexFindBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -254,16 +254,24 @@ SqlCreate SqlCreateIndex(Span s, boolean replace) :
     final SqlIdentifier tblId;
     final SqlNodeList columnList;
     SqlIdentifier idxId = null;
+    SqlNodeList includeList = null;
     SqlNumericLiteral parallel = null;
     SqlNumericLiteral inlineSize = null;
+    boolean hash = false;
 }
 {
+    [
+        <HASH> { hash = true; }
+    ]
     <INDEX>
     ifNotExists = IfNotExistsOpt()
     [ idxId = SimpleIdentifier() ]
     <ON>
     tblId = CompoundIdentifier()
     columnList = IndexedColumnList()
+    [
+        <INCLUDE> includeList = ParenthesizedSimpleIdentifierList()
+    ]
     (
         <PARALLEL> <UNSIGNED_INTEGER_LITERAL> {
             if (parallel != null)
@@ -280,7 +288,8 @@ SqlCreate SqlCreateIndex(Span s, boolean replace) :
         }
     )*
     {
-        return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, columnList, parallel, inlineSize);
+        return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, columnList, includeList, parallel,
+            inlineSize, hash);
     }
 }
 
@@ -20,6 +20,7 @@ package org.apache.ignite.calcite;
 import org.apache.ignite.internal.processors.query.QueryEngine;
 import org.apache.ignite.internal.processors.query.QueryEngineConfigurationEx;
 import org.apache.ignite.internal.processors.query.calcite.CalciteQueryProcessor;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.lang.IgniteExperimental;
 
 /**
@@ -36,6 +37,18 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private static final long DFLT_QUERY_MEMORY_QUOTA = 0L;
 
+    /** */
+    private static final boolean DFLT_SPILL_TO_DISK_ENABLED = false;
+
+    /** */
+    private static final int DFLT_PLAN_CACHE_SIZE = 1024;
+
+    /** */
+    private static final long DFLT_PLAN_CACHE_EXPIRE_TIMEOUT = 0L;
+
+    /** */
+    private static final boolean DFLT_LITERALS_PARAMETERIZATION_ENABLED = false;
+
     /** */
     private boolean isDflt;
 
@@ -45,6 +58,18 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private long qryMemoryQuota = DFLT_QUERY_MEMORY_QUOTA;
 
+    /** */
+    private boolean spillToDiskEnabled = DFLT_SPILL_TO_DISK_ENABLED;
+
+    /** */
+    private int planCacheSize = DFLT_PLAN_CACHE_SIZE;
+
+    /** */
+    private long planCacheExpireTimeout = DFLT_PLAN_CACHE_EXPIRE_TIMEOUT;
+
+    /** */
+    private boolean literalsParameterizationEnabled = DFLT_LITERALS_PARAMETERIZATION_ENABLED;
+
     /** {@inheritDoc} */
     @Override public String engineName() {
         return ENGINE_NAME;
@@ -108,4 +133,102 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
 
         return this;
     }
+
+    /**
+     * Gets flag indicating whether sort, hash aggregate and hash join spill their state to disk when memory quota
+     * is exceeded.
+     *
+     * @return {@code True} if spilling to disk is enabled.
+     */
+    public boolean isSpillToDiskEnabled() {
+        return spillToDiskEnabled;
+    }
+
+    /**
+     * Sets flag indicating whether sort, hash aggregate and hash join spill their state to temporary files in the
+     * work directory when the global or per-query memory quota is exceeded, instead of failing the query. Has no
+     * effect if neither of the memory quotas is set.
+     *
+     * @param spillToDiskEnabled {@code True} to enable spilling to disk.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setSpillToDiskEnabled(boolean spillToDiskEnabled) {
+        this.spillToDiskEnabled = spillToDiskEnabled;
+
+        return this;
+    }
+
+    /**
+     * Gets maximum number of query plans kept in the plan cache.
+     *
+     * @return Maximum number of cached query plans.
+     */
+    public int getPlanCacheSize() {
+        return planCacheSize;
+    }
+
+    /**
+     * Sets maximum number of query plans kept in the plan cache. The oldest plans are evicted when the limit is
+     * reached.
+     *
+     * @param planCacheSize Maximum number of cached query plans.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setPlanCacheSize(int planCacheSize) {
+        A.ensure(planCacheSize > 0, "planCacheSize > 0");
+
+        this.planCacheSize = planCacheSize;
+
+        return this;
+    }
+
+    /**
+     * Gets time in milliseconds a query plan is kept in the plan cache.
+     *
+     * @return Plan expire timeout in milliseconds, {@code 0} if plans don't expire.
+     */
+    public long getPlanCacheExpireTimeout() {
+        return planCacheExpireTimeout;
+    }
+
+    /**
+     * Sets time in milliseconds a query plan is kept in the plan cache. An expired plan is evicted on the next
+     * access and the query is planned again, so the plan reflects the changed data statistics.
+     *
+     * @param planCacheExpireTimeout Plan expire timeout in milliseconds, {@code 0} if plans don't expire.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setPlanCacheExpireTimeout(long planCacheExpireTimeout) {
+        A.ensure(planCacheExpireTimeout >= 0, "planCacheExpireTimeout >= 0");
+
+        this.planCacheExpireTimeout = planCacheExpireTimeout;
+
+        return this;
+    }
+
+    /**
+     * Gets flag indicating whether literals of the query conditions are replaced with dynamic parameters before the
+     * plan cache lookup.
+     *
+     * @return {@code True} if literals parameterization is enabled.
+     */
+    public boolean isLiteralsParameterizationEnabled() {
+        return literalsParameterizationEnabled;
+    }
+
+    /**
+     * Sets flag indicating whether numeric and character string literals of the WHERE and JOIN ... ON conditions of
+     * a SELECT query are replaced with dynamic parameters before the plan cache lookup. Exact numeric literals with
+     * a fractional part are not replaced, since they define the scale of the expressions. Queries
+     * which differ only in such literals share the same plan and are not planned again. The plan doesn't take into
+     * account the particular literal values, so it may be less efficient than the plan for the original query.
+     *
+     * @param literalsParameterizationEnabled {@code True} to enable literals parameterization.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setLiteralsParameterizationEnabled(boolean literalsParameterizationEnabled) {
+        this.literalsParameterizationEnabled = literalsParameterizationEnabled;
+
+        return this;
+    }
 }
@@ -48,6 +48,7 @@ import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.calcite.tools.FrameworkConfig;
 import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.util.Pair;
 import org.apache.ignite.SystemProperty;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.QueryCancelledException;
@@ -92,6 +93,7 @@ import org.apache.ignite.internal.processors.query.calcite.prepare.IgniteConvert
 import org.apache.ignite.internal.processors.query.calcite.prepare.IgniteTypeCoercion;
 import org.apache.ignite.internal.processors.query.calcite.prepare.MultiStepPlan;
 import org.apache.ignite.internal.processors.query.calcite.prepare.PrepareServiceImpl;
+import org.apache.ignite.internal.processors.query.calcite.prepare.QueryParameterizer;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlan;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCache;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCacheImpl;
@@ -386,7 +388,8 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         String sql,
         Object... params
     ) throws IgniteSQLException {
-        return parseAndProcessQuery(qryCtx, executionSvc::executePlan, schemaName, sql, params);
+        return parseAndProcessQuery(qryCtx, executionSvc::executePlan, cfg.isLiteralsParameterizationEnabled(),
+            schemaName, sql, params);
     }
 
     /** {@inheritDoc} */
@@ -395,7 +398,7 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         String schemaName,
         String sql
     ) throws IgniteSQLException {
-        return parseAndProcessQuery(ctx, (qry, plan) -> fieldsMeta(plan, true), schemaName, sql);
+        return parseAndProcessQuery(ctx, (qry, plan) -> fieldsMeta(plan, true), false, schemaName, sql);
     }
 
     /** {@inheritDoc} */
@@ -404,7 +407,7 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         String schemaName,
         String sql
     ) throws IgniteSQLException {
-        return parseAndProcessQuery(ctx, (qry, plan) -> fieldsMeta(plan, false), schemaName, sql);
+        return parseAndProcessQuery(ctx, (qry, plan) -> fieldsMeta(plan, false), false, schemaName, sql);
     }
 
     /** {@inheritDoc} */
@@ -474,10 +477,20 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         return cursors;
     }
 
-    /** */
+    /**
+     * @param qryCtx Query context.
+     * @param action Action to perform with the query plan.
+     * @param parameterize Whether to replace literals of a single query with dynamic parameters before the plan
+     *      cache lookup.
+     * @param schemaName Schema name.
+     * @param sql Query text.
+     * @param params Query parameters.
+     * @return Results of the action for every query of the text.
+     */
     private <T> List<T> parseAndProcessQuery(
         @Nullable QueryContext qryCtx,
         BiFunction<RootQuery<Object[]>, QueryPlan, T> action,
+        boolean parameterize,
         @Nullable String schemaName,
         String sql,
         Object... params
@@ -500,6 +513,22 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
 
         SqlNodeList qryList = Commons.parse(sql, FRAMEWORK_CONFIG.getParserConfig());
 
+        if (parameterize && qryList.size() == 1) {
+            Pair<SqlNode, Object[]> parameterized = QueryParameterizer.parameterize(qryList.get(0), params);
+
+            if (parameterized != null) {
+                SqlNode qryNode = parameterized.left;
+                Object[] qryParams = parameterized.right;
+
+                // Plans of the parameterized queries are cached by the text with literals replaced by parameters.
+                CacheKey key = new CacheKey(schema.getName(), qryNode.toString(), contextKey(qryCtx), qryParams);
+
+                return Collections.singletonList(processQuery(qryCtx, qry -> action.apply(qry,
+                        queryPlanCache().queryPlan(key, () -> prepareSvc.prepareSingle(qryNode, qry.planningContext()))),
+                    schema.getName(), removeSensitive(qryList.get(0)), null, qryParams));
+            }
+        }
+
         List<T> res = new ArrayList<>(qryList.size());
         List<RootQuery<Object[]>> qrys = new ArrayList<>(qryList.size());
 
@@ -39,6 +39,7 @@ import org.apache.ignite.internal.processors.query.calcite.message.MessageType;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryBatchAcknowledgeMessage;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryBatchMessage;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryCloseMessage;
+import org.apache.ignite.internal.processors.query.calcite.message.RuntimeFilterMessage;
 import org.apache.ignite.internal.processors.query.calcite.metadata.FragmentDescription;
 import org.apache.ignite.internal.processors.query.calcite.prepare.BaseQueryContext;
 import org.apache.ignite.internal.processors.query.calcite.util.AbstractService;
@@ -159,6 +160,12 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         messageService().send(nodeId, new QueryBatchAcknowledgeMessage(qryId, fragmentId, exchangeId, batchId));
     }
 
+    /** {@inheritDoc} */
+    @Override public void sendRuntimeFilter(UUID nodeId, UUID qryId, long fragmentId, long exchangeId,
+        RuntimeFilter filter) throws IgniteCheckedException {
+        messageService().send(nodeId, new RuntimeFilterMessage(qryId, fragmentId, exchangeId, filter));
+    }
+
     /** {@inheritDoc} */
     @Override public void closeQuery(UUID nodeId, UUID qryId) throws IgniteCheckedException {
         messageService().send(nodeId, new QueryCloseMessage(qryId));
@@ -194,6 +201,7 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         messageService().register((n, m) -> onMessage(n, (QueryBatchAcknowledgeMessage)m), MessageType.QUERY_ACKNOWLEDGE_MESSAGE);
         messageService().register((n, m) -> onMessage(n, (QueryBatchMessage)m), MessageType.QUERY_BATCH_MESSAGE);
         messageService().register((n, m) -> onMessage(n, (QueryCloseMessage)m), MessageType.QUERY_CLOSE_MESSAGE);
+        messageService().register((n, m) -> onMessage(n, (RuntimeFilterMessage)m), MessageType.QUERY_RUNTIME_FILTER_MESSAGE);
     }
 
     /** {@inheritDoc} */
@@ -281,6 +289,22 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         }
     }
 
+    /** */
+    protected void onMessage(UUID nodeId, RuntimeFilterMessage msg) {
+        Outbox<?> outbox = mailboxRegistry().outbox(msg.queryId(), msg.exchangeId());
+
+        // The filter is an optimization only, so it is safe to ignore it if the outbox is not created yet or is closed.
+        if (outbox != null)
+            outbox.onRuntimeFilter(nodeId, msg.filter());
+        else if (log.isDebugEnabled()) {
+            log.debug("Stale runtime filter message received: [" +
+                "nodeId=" + nodeId + ", " +
+                "queryId=" + msg.queryId() + ", " +
+                "fragmentId=" + msg.fragmentId() + ", " +
+                "exchangeId=" + msg.exchangeId() + "]");
+        }
+    }
+
     /** */
     protected void onMessage(UUID nodeId, QueryBatchMessage msg) {
         Inbox<?> inbox = mailboxRegistry().inbox(msg.queryId(), msg.exchangeId());
@@ -360,6 +384,7 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
             null,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
             0,
             ImmutableMap.of());
     }
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactoryImpl;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.ExecutionNodeMemoryTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.IoTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryTracker;
@@ -50,6 +51,7 @@ import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
 import org.apache.ignite.internal.util.lang.RunnableX;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.checkRange;
 
@@ -102,6 +104,9 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
     /** */
     private final IoTracker ioTracker;
 
+    /** */
+    private final SpillManager spillMgr;
+
     /** */
     private final long timeout;
 
@@ -129,6 +134,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         RowHandler<Row> handler,
         MemoryTracker qryMemoryTracker,
         IoTracker ioTracker,
+        @Nullable SpillManager spillMgr,
         long timeout,
         Map<String, Object> params
     ) {
@@ -143,6 +149,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         this.handler = handler;
         this.qryMemoryTracker = qryMemoryTracker;
         this.ioTracker = ioTracker;
+        this.spillMgr = spillMgr;
         this.params = params;
         this.timeout = timeout;
 
@@ -321,6 +328,17 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         });
     }
 
+    /**
+     * Executes a task, which is a part of the fragment work, in parallel with the fragment thread. The task must not
+     * access execution nodes of the fragment.
+     *
+     * @param taskIdx Index of the task among the fragment tasks executed in parallel, starting from {@code 1}.
+     * @param task Task.
+     */
+    public void executeParallel(int taskIdx, Runnable task) {
+        executor.execute(qryId, fragmentId(), taskIdx, task);
+    }
+
     /**
      * Sets cancel flag, returns {@code true} if flag was changed by this call.
      *
@@ -363,6 +381,13 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         return ioTracker;
     }
 
+    /**
+     * @return Manager of spill files or {@code null} if execution nodes must not spill their state to disk.
+     */
+    public @Nullable SpillManager spillManager() {
+        return spillMgr;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -64,6 +65,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ddl.DdlCommandHa
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Inbox;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Node;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Outbox;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.GlobalMemoryTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.IoTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryTracker;
@@ -105,6 +107,8 @@ import org.apache.ignite.internal.processors.security.SecurityUtils;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+import org.apache.ignite.marshaller.MarshallerUtils;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.Collections.singletonList;
@@ -186,6 +190,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
     /** */
     private MemoryTracker memoryTracker;
 
+    /** Manager of spill files, {@code null} if spilling to disk is disabled. */
+    private SpillManager spillMgr;
+
     /**
      * @param ctx Kernal.
      */
@@ -441,6 +448,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         memoryTracker = cfg.getGlobalMemoryQuota() > 0 ? new GlobalMemoryTracker(cfg.getGlobalMemoryQuota()) :
             NoOpMemoryTracker.INSTANCE;
 
+        if (cfg.isSpillToDiskEnabled())
+            spillMgr = createSpillManager(ctx);
+
         init();
     }
 
@@ -460,6 +470,28 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         eventManager().removeDiscoveryEventListener(discoLsnr, EventType.EVT_NODE_FAILED, EventType.EVT_NODE_LEFT);
 
         iteratorsHolder().tearDown();
+
+        if (spillMgr != null)
+            spillMgr.stop();
+    }
+
+    /** */
+    private static SpillManager createSpillManager(GridKernalContext ctx) {
+        try {
+            File dir = U.resolveWorkDirectory(ctx.config().getWorkDirectory(),
+                SpillManager.SPILL_DIR + File.separator + ctx.pdsFolderResolver().resolveFolders().folderName(), true);
+
+            @SuppressWarnings("deprecation")
+            Marshaller marsh = ctx.config().getMarshaller();
+
+            if (marsh == null) // Stubbed context doesn't have a marshaller
+                marsh = MarshallerUtils.jdkMarshaller(ctx.igniteInstanceName());
+
+            return new SpillManager(dir, marsh, U.resolveClassLoader(ctx.config()));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to create directory of SQL spill files", e);
+        }
     }
 
     /** */
@@ -608,6 +640,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
             handler,
             qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
             createIoTracker(locNodeId, qry.localQueryId()),
+            spillMgr,
             timeout,
             qryParams);
 
@@ -815,6 +848,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
                 handler,
                 qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
                 createIoTracker(nodeId, msg.originatingQryId()),
+                spillMgr,
                 msg.timeout(),
                 Commons.parametersMap(msg.parameters())
             );
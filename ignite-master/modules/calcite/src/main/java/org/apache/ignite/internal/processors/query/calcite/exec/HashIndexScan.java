@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexPlainRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scan on hash index.
+ * <p>
+ * Rows of a hash index are ordered by the hash of the indexed keys first, so only the exact values of all the indexed
+ * keys can be looked up. The search rows are completed with the hash of the keys.
+ */
+public class HashIndexScan<Row> extends IndexScan<Row> {
+    /** Count of the hashed keys. */
+    private final int hashedKeysCnt;
+
+    /**
+     * @param ectx Execution context.
+     * @param desc Table descriptor.
+     * @param idx Physical index.
+     * @param idxFieldMapping Mapping from the hashed index keys to row fields.
+     * @param parts Partitions to scan.
+     * @param ranges Index scan bounds, each range has the same exact lower and upper bounds for all hashed keys.
+     * @param requiredColumns Required columns.
+     */
+    public HashIndexScan(
+        ExecutionContext<Row> ectx,
+        CacheTableDescriptor desc,
+        HashIndex idx,
+        ImmutableIntList idxFieldMapping,
+        int[] parts,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        // The leading key is the hash of the indexed keys.
+        super(ectx, desc, new TreeIndexWrapper(idx.unwrap(InlineIndex.class)), 1, idxFieldMapping, parts, ranges,
+            requiredColumns);
+
+        hashedKeysCnt = idxFieldMapping.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IndexRow row2indexRow(Row bound) {
+        IndexRow row = super.row2indexRow(bound);
+
+        if (row == null)
+            return null;
+
+        IndexKey[] keys = new IndexKey[row.keysCount()];
+        IndexKey[] hashedKeys = new IndexKey[hashedKeysCnt];
+
+        for (int i = 0; i < hashedKeysCnt; i++) {
+            hashedKeys[i] = row.key(i + 1);
+
+            assert hashedKeys[i] != null : "Hashed key is not specified: " + i;
+
+            keys[i + 1] = hashedKeys[i];
+        }
+
+        keys[0] = HashIndexRowHandler.hashKey(hashedKeys);
+
+        return new IndexPlainRowImpl(keys, row.rowHandler());
+    }
+}
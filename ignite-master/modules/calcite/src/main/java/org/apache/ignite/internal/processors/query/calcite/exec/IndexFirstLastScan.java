@@ -49,7 +49,7 @@ public class IndexFirstLastScan<Row> extends IndexScan<Row> {
         int[] parts,
         @Nullable ImmutableBitSet requiredColumns
     ) {
-        super(ectx, desc, new FirstLastIndexWrapper(idx, first), idxFieldMapping, parts, null, requiredColumns);
+        super(ectx, desc, new FirstLastIndexWrapper(idx, first), 0, idxFieldMapping, parts, null, requiredColumns);
     }
 
     /** {@inheritDoc} */
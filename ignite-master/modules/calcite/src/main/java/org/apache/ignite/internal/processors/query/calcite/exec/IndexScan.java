@@ -93,6 +93,9 @@ public class IndexScan<Row> extends AbstractIndexScan<Row, IndexRow> {
     /** */
     protected final InlineIndex idx;
 
+    /** Count of the leading index keys which are not mapped to row fields. */
+    private final int keysOff;
+
     /** Mapping from index keys to row fields. */
     private final ImmutableIntList idxFieldMapping;
 
@@ -118,20 +121,22 @@ public class IndexScan<Row> extends AbstractIndexScan<Row, IndexRow> {
         RangeIterable<Row> ranges,
         @Nullable ImmutableBitSet requiredColumns
     ) {
-        this(ectx, desc, new TreeIndexWrapper(idx), idxFieldMapping, parts, ranges, requiredColumns);
+        this(ectx, desc, new TreeIndexWrapper(idx), 0, idxFieldMapping, parts, ranges, requiredColumns);
     }
 
     /**
      * @param ectx Execution context.
      * @param desc Table descriptor.
-     * @param idxFieldMapping Mapping from index keys to row fields.
      * @param treeIdx Physical index wrapper.
+     * @param keysOff Count of the leading index keys which are not mapped to row fields.
+     * @param idxFieldMapping Mapping from index keys following the leading ones to row fields.
      * @param ranges Index scan bounds.
      */
     protected IndexScan(
         ExecutionContext<Row> ectx,
         CacheTableDescriptor desc,
         TreeIndexWrapper treeIdx,
+        int keysOff,
         ImmutableIntList idxFieldMapping,
         int[] parts,
         RangeIterable<Row> ranges,
@@ -154,6 +159,7 @@ public class IndexScan<Row> extends AbstractIndexScan<Row, IndexRow> {
         this.parts = parts;
         mvccSnapshot = ectx.mvccSnapshot();
         this.requiredColumns = requiredColumns;
+        this.keysOff = keysOff;
         this.idxFieldMapping = idxFieldMapping;
 
         RelDataType srcRowType = desc.rowType(ectx.getTypeFactory(), null);
@@ -203,8 +209,8 @@ public class IndexScan<Row> extends AbstractIndexScan<Row, IndexRow> {
             // j = source field index, i = target field index.
             int keyIdx = idxFieldMapping.indexOf(j);
 
-            if (keyIdx >= 0 && keyIdx < inlinedKeys.size())
-                fieldIdxMapping[i] = keyIdx;
+            if (keyIdx >= 0 && keyIdx + keysOff < inlinedKeys.size())
+                fieldIdxMapping[i] = keyIdx + keysOff;
             else
                 return null;
         }
@@ -236,8 +242,8 @@ public class IndexScan<Row> extends AbstractIndexScan<Row, IndexRow> {
 
         IndexKey[] keys = new IndexKey[idxRowHnd.indexKeyDefinitions().size()];
 
-        assert keys.length >= idxFieldMapping.size() : "Unexpected index keys [keys.length=" + keys.length +
-            ", idxFieldMapping.size()=" + idxFieldMapping.size() + ']';
+        assert keys.length >= keysOff + idxFieldMapping.size() : "Unexpected index keys [keys.length=" + keys.length +
+            ", keysOff=" + keysOff + ", idxFieldMapping.size()=" + idxFieldMapping.size() + ']';
 
         boolean nullSearchRow = true;
 
@@ -248,7 +254,7 @@ public class IndexScan<Row> extends AbstractIndexScan<Row, IndexRow> {
             if (key != ectx.unspecifiedValue()) {
                 key = TypeUtils.fromInternal(ectx, key, fieldsStoreTypes[fieldIdx]);
 
-                keys[i] = IndexKeyFactory.wrap(key, idxRowHnd.indexKeyDefinitions().get(i).idxType(),
+                keys[keysOff + i] = IndexKeyFactory.wrap(key, idxRowHnd.indexKeyDefinitions().get(keysOff + i).idxType(),
                     cctx.cacheObjectContext(), idxRowHnd.indexKeyTypeSettings());
 
                 nullSearchRow = false;
@@ -24,30 +24,49 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.core.Intersect;
+import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexOver;
+import org.apache.calcite.rex.RexWindow;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeFamily;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.query.IgniteQueryErrorCode;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
+import org.apache.ignite.internal.processors.query.IgniteSQLException;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.PartialAggregate;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.AbstractSetOpNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.CollectNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.CorrelatedNestedLoopJoinNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.FilterNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashAggregateNode;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashJoinNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Inbox;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.IndexSpoolNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.IntersectNode;
@@ -65,6 +84,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.rel.SortAggregat
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.SortNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.UnionAllNode;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.WindowNode;
 import org.apache.ignite.internal.processors.query.calcite.metadata.AffinityService;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
@@ -73,6 +93,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.IgniteCorrelatedN
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteExchange;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteFilter;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashIndexSpool;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashJoin;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexBound;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexCount;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
@@ -93,6 +114,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableSpool;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTrimExchange;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteUnionAll;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteValues;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteColocatedHashAggregate;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteColocatedSortAggregate;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteMapHashAggregate;
@@ -102,6 +124,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteReduceS
 import org.apache.ignite.internal.processors.query.calcite.rel.set.IgniteSetOp;
 import org.apache.ignite.internal.processors.query.calcite.rule.LogicalScanConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteCacheTable;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteIndex;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteTable;
 import org.apache.ignite.internal.processors.query.calcite.trait.Destination;
@@ -111,6 +134,8 @@ import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactor
 import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.internal.processors.query.calcite.util.RexUtils;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.calcite.rel.RelDistribution.Type.HASH_DISTRIBUTED;
 import static org.apache.ignite.internal.processors.query.calcite.util.TypeUtils.combinedRowType;
@@ -182,8 +207,9 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteFilter rel) {
         Predicate<Row> pred = expressionFactory.predicate(rel.getCondition(), rel.getRowType());
+        Consumer<RowBatch<Row>> batchPred = expressionFactory.batchPredicate(rel.getCondition(), rel.getRowType());
 
-        FilterNode<Row> node = new FilterNode<>(ctx, rel.getRowType(), pred);
+        FilterNode<Row> node = new FilterNode<>(ctx, rel.getRowType(), pred, batchPred);
 
         Node<Row> input = visit(rel.getInput());
 
@@ -212,8 +238,9 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteProject rel) {
         Function<Row, Row> prj = expressionFactory.project(rel.getProjects(), rel.getInput().getRowType());
+        Consumer<RowBatch<Row>> batchPrj = expressionFactory.batchProject(rel.getProjects(), rel.getInput().getRowType());
 
-        ProjectNode<Row> node = new ProjectNode<>(ctx, rel.getRowType(), prj);
+        ProjectNode<Row> node = new ProjectNode<>(ctx, rel.getRowType(), prj, batchPrj);
 
         Node<Row> input = visit(rel.getInput());
 
@@ -290,6 +317,89 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
         return node;
     }
 
+    /**
+     * Checks whether rows of the left input of a hash join can be filtered out by the sending nodes using a runtime
+     * filter built from the right input keys. The left input has to come from an exchange, left rows not matched by
+     * the join have to be skipped by the join type, and the keys have to be of the types with a value based hash code.
+     *
+     * @param rel Hash join.
+     * @param joinInfo Join info.
+     * @return {@code True} if a runtime filter is applicable.
+     */
+    private boolean runtimeFilterApplicable(IgniteHashJoin rel, JoinInfo joinInfo) {
+        if (!(rel.getLeft() instanceof IgniteReceiver))
+            return false;
+
+        JoinRelType joinType = rel.getJoinType();
+
+        if (joinType != JoinRelType.INNER && joinType != JoinRelType.SEMI && joinType != JoinRelType.RIGHT)
+            return false;
+
+        List<RelDataTypeField> leftFields = rel.getLeft().getRowType().getFieldList();
+        List<RelDataTypeField> rightFields = rel.getRight().getRowType().getFieldList();
+
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            RelDataType leftKeyType = leftFields.get(joinInfo.leftKeys.getInt(i)).getType();
+            RelDataType rightKeyType = rightFields.get(joinInfo.rightKeys.getInt(i)).getType();
+
+            // Keys of different types may be represented by different classes with different hash codes.
+            if (leftKeyType.getSqlTypeName() != rightKeyType.getSqlTypeName())
+                return false;
+
+            SqlTypeFamily family = leftKeyType.getSqlTypeName().getFamily();
+
+            if (family != SqlTypeFamily.NUMERIC && family != SqlTypeFamily.CHARACTER && family != SqlTypeFamily.DATE
+                && family != SqlTypeFamily.TIME && family != SqlTypeFamily.TIMESTAMP && family != SqlTypeFamily.BOOLEAN)
+                return false;
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Node<Row> visit(IgniteHashJoin rel) {
+        RelDataType outType = rel.getRowType();
+        RelDataType leftType = rel.getLeft().getRowType();
+        RelDataType rightType = rel.getRight().getRowType();
+        JoinRelType joinType = rel.getJoinType();
+
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        BiPredicate<Row, Row> nonEquiCond = null;
+
+        if (!joinInfo.isEqui()) {
+            RelDataType rowType = combinedRowType(ctx.getTypeFactory(), leftType, rightType);
+
+            nonEquiCond = expressionFactory.biPredicate(joinInfo.getRemaining(rel.getCluster().getRexBuilder()), rowType);
+        }
+
+        HashJoinNode<Row> node = HashJoinNode.create(ctx, outType, leftType, rightType, joinType, joinInfo.leftKeys,
+            joinInfo.rightKeys, nonEquiCond);
+
+        if (runtimeFilterApplicable(rel, joinInfo)) {
+            IgniteReceiver receiver = (IgniteReceiver)rel.getLeft();
+
+            node.runtimeFilterListener(filter -> {
+                for (UUID nodeId : ctx.remotes(receiver.exchangeId())) {
+                    try {
+                        exchangeSvc.sendRuntimeFilter(nodeId, ctx.queryId(), receiver.sourceFragmentId(),
+                            receiver.exchangeId(), filter);
+                    }
+                    catch (IgniteCheckedException e) {
+                        U.warn(ctx.logger(), "Failed to send runtime filter.", e);
+                    }
+                }
+            });
+        }
+
+        Node<Row> leftInput = visit(rel.getLeft());
+        Node<Row> rightInput = visit(rel.getRight());
+
+        node.register(F.asList(leftInput, rightInput));
+
+        return node;
+    }
+
     /** */
     private boolean hasExchange(RelNode rel) {
         if (rel instanceof IgniteReceiver)
@@ -316,19 +426,25 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
 
         RelDataType rowType = tbl.getRowType(typeFactory, requiredColumns);
 
+        IgniteIndex idx = tbl.getIndex(rel.indexName());
+
+        // Rows of an index without collation (hash index) are looked up by exact values of the indexed fields.
+        RelCollation rangesCollation = idx != null && rel.collation().getFieldCollations().isEmpty() ?
+            TraitUtils.createCollation(idx.keys()) : rel.collation();
+
         Predicate<Row> filters = condition == null ? null : expressionFactory.predicate(condition, rowType);
         Function<Row, Row> prj = projects == null ? null : expressionFactory.project(projects, rowType);
         RangeIterable<Row> ranges = searchBounds == null ? null :
-            expressionFactory.ranges(searchBounds, rel.collation(), tbl.getRowType(typeFactory));
+            expressionFactory.ranges(searchBounds, rangesCollation, tbl.getRowType(typeFactory));
 
         ColocationGroup grp = ctx.group(rel.sourceId());
 
-        IgniteIndex idx = tbl.getIndex(rel.indexName());
-
         if (idx != null && !tbl.isIndexRebuildInProgress()) {
             Iterable<Row> rowsIter = idx.scan(ctx, grp, ranges, requiredColumns);
 
-            return new ScanStorageNode<>(idx.name(), ctx, rowType, rowsIter, filters, prj);
+            return new ScanStorageNode<>(idx.name(), ctx, rowType, rowsIter, filters, prj,
+                condition == null ? null : expressionFactory.batchPredicate(condition, rowType),
+                projects == null ? null : expressionFactory.batchProject(projects, rowType));
         }
         else {
             // Index was invalidated after planning, workaround through table-scan -> sort -> index spool.
@@ -489,14 +605,30 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
 
         RelDataType rowType = tbl.getRowType(typeFactory, requiredColunms);
 
-        Predicate<Row> filters = condition == null ? null : expressionFactory.predicate(condition, rowType);
         Function<Row, Row> prj = projects == null ? null : expressionFactory.project(projects, rowType);
+        Consumer<RowBatch<Row>> batchPrj = projects == null ? null : expressionFactory.batchProject(projects, rowType);
 
         ColocationGroup group = ctx.group(rel.sourceId());
 
-        Iterable<Row> rowsIter = tbl.scan(ctx, group, requiredColunms);
+        Predicate<Row> filters = null;
+        Consumer<RowBatch<Row>> batchFilters = null;
+        Iterable<Row> rowsIter;
+
+        if (condition != null && tbl instanceof IgniteCacheTable) {
+            // Cache table applies the filter itself, before the columns not referenced by the filter are read.
+            rowsIter = ((IgniteCacheTable)tbl).scan(ctx, group, requiredColunms,
+                () -> expressionFactory.predicate(condition, rowType), RexUtils.localRefs(condition), null);
+        }
+        else {
+            if (condition != null) {
+                filters = expressionFactory.predicate(condition, rowType);
+                batchFilters = expressionFactory.batchPredicate(condition, rowType);
+            }
+
+            rowsIter = tbl.scan(ctx, group, requiredColunms);
+        }
 
-        return new ScanStorageNode<>(tbl.name(), ctx, rowType, rowsIter, filters, prj);
+        return new ScanStorageNode<>(tbl.name(), ctx, rowType, rowsIter, filters, prj, batchFilters, batchPrj);
     }
 
     /** {@inheritDoc} */
@@ -704,15 +836,63 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
             type, rel.getAggCallList(), inputType);
         RowFactory<Row> rowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rowType);
 
-        HashAggregateNode<Row> node = new HashAggregateNode<>(ctx, rowType, type, rel.getGroupSets(), accFactory, rowFactory);
+        Node<Row> input = partialAggregateScan(rel, rowFactory);
 
-        Node<Row> input = visit(rel.getInput());
+        HashAggregateNode<Row> node = new HashAggregateNode<>(ctx, rowType, type, rel.getGroupSets(), accFactory,
+            rowFactory, input != null);
+
+        if (input == null)
+            input = visit(rel.getInput());
 
         node.register(input);
 
         return node;
     }
 
+    /**
+     * Creates a scan of the cache table, which rows are partially aggregated by the threads scanning the table in
+     * parallel. The map aggregate node merges the partial aggregates then.
+     *
+     * @param rel Map aggregate.
+     * @param rowFactory Factory of the map aggregate rows.
+     * @return Scan node or {@code null} if the aggregate input is not a parallel scan of a cache table.
+     */
+    private @Nullable Node<Row> partialAggregateScan(IgniteMapHashAggregate rel, RowFactory<Row> rowFactory) {
+        if (!(rel.getInput() instanceof IgniteTableScan) || TableScan.parallelism() == 1)
+            return null;
+
+        IgniteTableScan scan = (IgniteTableScan)rel.getInput();
+
+        IgniteTable tbl = scan.getTable().unwrap(IgniteTable.class);
+
+        if (!(tbl instanceof IgniteCacheTable))
+            return null;
+
+        RexNode condition = scan.condition();
+        List<RexNode> projects = scan.projects();
+        ImmutableBitSet requiredColunms = scan.requiredColumns();
+
+        RelDataType rowType = tbl.getRowType(ctx.getTypeFactory(), requiredColunms);
+        RelDataType inputType = scan.getRowType();
+
+        Iterable<Row> rowsIter = ((IgniteCacheTable)tbl).scan(
+            ctx,
+            ctx.group(scan.sourceId()),
+            requiredColunms,
+            condition == null ? null : () -> expressionFactory.predicate(condition, rowType),
+            condition == null ? null : RexUtils.localRefs(condition),
+            () -> new PartialAggregate<>(
+                rel.getGroupSets(),
+                expressionFactory.accumulatorsFactory(AggregateType.MAP, rel.getAggCallList(), inputType),
+                projects == null ? null : expressionFactory.project(projects, rowType),
+                ctx.rowHandler(),
+                rowFactory
+            )
+        );
+
+        return new ScanStorageNode<>(tbl.name(), ctx, rel.getRowType(), rowsIter);
+    }
+
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteReduceHashAggregate rel) {
         AggregateType type = AggregateType.REDUCE;
@@ -840,6 +1020,145 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
         return node;
     }
 
+    /** {@inheritDoc} */
+    @Override public Node<Row> visit(IgniteWindow rel) {
+        RelDataType inputType = rel.getInput().getRowType();
+        RexWindow window = rel.window();
+
+        List<WindowNode.WindowFunction<Row>> funcs = new ArrayList<>(rel.calls().size());
+
+        for (RexOver call : rel.calls())
+            funcs.add(windowFunction(rel.getCluster().getRexBuilder(), call, inputType));
+
+        long lower = window.getLowerBound() == null ? WindowNode.UNBOUNDED_PRECEDING
+            : frameBound(window.getLowerBound(), window.isRows());
+
+        long upper = window.getUpperBound() == null
+            ? (window.orderKeys.isEmpty() ? WindowNode.UNBOUNDED_FOLLOWING : WindowNode.CURRENT_ROW)
+            : frameBound(window.getUpperBound(), window.isRows());
+
+        WindowNode<Row> node = new WindowNode<>(
+            ctx,
+            rel.getRowType(),
+            expressionFactory.comparator(TraitUtils.createCollation(rel.partitionKeys().asList())),
+            expressionFactory.comparator(rel.orderKeys()),
+            window.isRows(),
+            lower,
+            upper,
+            funcs
+        );
+
+        Node<Row> input = visit(rel.getInput());
+
+        node.register(input);
+
+        return node;
+    }
+
+    /** */
+    private WindowNode.WindowFunction<Row> windowFunction(RexBuilder rexBuilder, RexOver call, RelDataType inputType) {
+        List<RexNode> operands = call.getOperands();
+        SqlKind kind = call.getOperator().getKind();
+
+        switch (kind) {
+            case ROW_NUMBER:
+                return WindowNode.rowNumber();
+
+            case RANK:
+                return WindowNode.rank();
+
+            case DENSE_RANK:
+                return WindowNode.denseRank();
+
+            case LAG:
+            case LEAD:
+                int offset = operands.size() > 1 ? intLiteral(operands.get(1)) : 1;
+
+                Function<Row, Object> dflt = operands.size() > 2 ?
+                    windowValue(rexBuilder.makeCast(call.getType(), operands.get(2)), inputType) : null;
+
+                return WindowNode.offset(windowValue(operands.get(0), inputType), kind == SqlKind.LAG ? -offset : offset,
+                    dflt);
+
+            case FIRST_VALUE:
+            case LAST_VALUE:
+                return WindowNode.frameValue(windowValue(operands.get(0), inputType), kind == SqlKind.FIRST_VALUE);
+
+            default:
+                List<Integer> argList;
+                RelDataType argsType;
+                Function<Row, Row> args;
+
+                if (operands.stream().allMatch(RexInputRef.class::isInstance)) {
+                    argList = Commons.transform(operands, op -> ((RexInputRef)op).getIndex());
+                    argsType = inputType;
+                    args = null;
+                }
+                else {
+                    // Arguments are not input fields (constants, for example), compute them.
+                    argList = ImmutableIntList.range(0, operands.size());
+                    argsType = ctx.getTypeFactory().createStructType(Commons.transform(operands, RexNode::getType),
+                        Commons.transform(argList, i -> "$a" + i));
+                    args = expressionFactory.project(operands, inputType);
+                }
+
+                AggregateCall aggCall = AggregateCall.create((SqlAggFunction)call.getOperator(), call.isDistinct(), false,
+                    call.ignoreNulls(), argList, -1, RelCollations.EMPTY, call.getType(), null);
+
+                Supplier<List<AccumulatorWrapper<Row>>> accFactory = expressionFactory.accumulatorsFactory(
+                    AggregateType.SINGLE,
+                    F.asList(aggCall),
+                    argsType
+                );
+
+                // Distinct accumulators can't return the result more than once.
+                return WindowNode.aggregate(accFactory, args, !call.isDistinct());
+        }
+    }
+
+    /** */
+    private Function<Row, Object> windowValue(RexNode expr, RelDataType inputType) {
+        RowHandler<Row> hnd = ctx.rowHandler();
+
+        if (expr instanceof RexInputRef) {
+            int idx = ((RexInputRef)expr).getIndex();
+
+            return row -> hnd.get(idx, row);
+        }
+
+        Function<Row, Row> prj = expressionFactory.project(F.asList(expr), inputType);
+
+        return row -> hnd.get(0, prj.apply(row));
+    }
+
+    /** */
+    private static long frameBound(RexWindowBound bound, boolean rows) {
+        if (bound.isCurrentRow())
+            return WindowNode.CURRENT_ROW;
+
+        if (bound.isUnbounded())
+            return bound.isPreceding() ? WindowNode.UNBOUNDED_PRECEDING : WindowNode.UNBOUNDED_FOLLOWING;
+
+        if (!rows) {
+            throw new IgniteSQLException("RANGE window frame with an offset is not supported",
+                IgniteQueryErrorCode.UNSUPPORTED_OPERATION);
+        }
+
+        int offset = intLiteral(bound.getOffset());
+
+        return bound.isPreceding() ? -offset : offset;
+    }
+
+    /** */
+    private static int intLiteral(RexNode node) {
+        if (!(node instanceof RexLiteral)) {
+            throw new IgniteSQLException("Window function offset must be a constant: " + node,
+                IgniteQueryErrorCode.UNSUPPORTED_OPERATION);
+        }
+
+        return RexLiteral.intValue(node);
+    }
+
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteRel rel) {
         return rel.accept(this);
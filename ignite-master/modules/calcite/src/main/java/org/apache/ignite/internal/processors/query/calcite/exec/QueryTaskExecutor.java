@@ -32,4 +32,15 @@ public interface QueryTaskExecutor extends Service {
      * @param qryTask Query task.
      */
     void execute(UUID qryId, long fragmentId, Runnable qryTask);
+
+    /**
+     * Executes a task, which is a part of particular query fragment work, in a thread next to the thread responsible
+     * for the fragment. Such a task must not access execution nodes of the fragment.
+     *
+     * @param qryId Query ID.
+     * @param fragmentId Fragment ID.
+     * @param taskIdx Index of the task among the fragment tasks executed in parallel, starting from {@code 1}.
+     * @param qryTask Query task.
+     */
+    void execute(UUID qryId, long fragmentId, int taskIdx, Runnable qryTask);
 }
@@ -60,6 +60,11 @@ public class QueryTaskExecutorImpl extends AbstractService implements QueryTaskE
 
     /** {@inheritDoc} */
     @Override public void execute(UUID qryId, long fragmentId, Runnable qryTask) {
+        execute(qryId, fragmentId, 0, qryTask);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void execute(UUID qryId, long fragmentId, int taskIdx, Runnable qryTask) {
         stripedThreadPoolExecutor.execute(
             () -> {
                 try {
@@ -76,7 +81,7 @@ public class QueryTaskExecutorImpl extends AbstractService implements QueryTaskE
                     uncaughtException(Thread.currentThread(), e);
                 }
             },
-            hash(qryId, fragmentId)
+            U.safeAbs(hash(qryId, fragmentId) + taskIdx)
         );
     }
 
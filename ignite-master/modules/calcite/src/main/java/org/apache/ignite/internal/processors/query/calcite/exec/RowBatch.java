@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Batch of rows passed between execution nodes at once.
+ * <p>
+ * The batch is row-oriented: it holds references to rows in the {@link RowHandler} format, not typed column vectors.
+ * It saves a call per row between the nodes and lets generated code loop over the rows, but the row fields are
+ * still boxed values.
+ * <p>
+ * A batch is owned by the node which pushes it: a consumer may modify the batch (filter or replace rows), but must not
+ * keep a reference to the batch itself after the push returns, since the producer reuses it for the next rows.
+ */
+public class RowBatch<Row> {
+    /** */
+    private final Object[] rows;
+
+    /** */
+    private int size;
+
+    /**
+     * @param capacity Maximum count of rows in the batch.
+     */
+    public RowBatch(int capacity) {
+        rows = new Object[capacity];
+    }
+
+    /** @return Count of rows. */
+    public int size() {
+        return size;
+    }
+
+    /** @return Maximum count of rows. */
+    public int capacity() {
+        return rows.length;
+    }
+
+    /** @return {@code True} if the batch contains no rows. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param row Row to append.
+     */
+    public void add(Row row) {
+        assert size < rows.length;
+
+        rows[size++] = row;
+    }
+
+    /**
+     * @param idx Row index.
+     * @return Row.
+     */
+    public Row get(int idx) {
+        assert idx < size;
+
+        return (Row)rows[idx];
+    }
+
+    /**
+     * @param idx Row index.
+     * @param row Row.
+     */
+    public void set(int idx, Row row) {
+        assert idx < size;
+
+        rows[idx] = row;
+    }
+
+    /**
+     * Drops rows starting from the given index.
+     *
+     * @param size New count of rows.
+     */
+    public void truncate(int size) {
+        assert size <= this.size;
+
+        Arrays.fill(rows, size, this.size, null);
+
+        this.size = size;
+    }
+
+    /** Removes all rows. */
+    public void clear() {
+        truncate(0);
+    }
+
+    /**
+     * Removes rows not matching the predicate, keeping the order of other rows.
+     *
+     * @param pred Row predicate.
+     */
+    public void filter(Predicate<Row> pred) {
+        int cnt = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (pred.test((Row)rows[i]))
+                rows[cnt++] = rows[i];
+        }
+
+        truncate(cnt);
+    }
+
+    /**
+     * Replaces each row with the result of the function.
+     *
+     * @param f Row function.
+     */
+    public void apply(Function<Row, Row> f) {
+        for (int i = 0; i < size; i++)
+            rows[i] = f.apply((Row)rows[i]);
+    }
+
+    /**
+     * Gives direct access to rows for batch compiled expressions.
+     *
+     * @return Array, whose first {@link #size()} elements are rows of the batch.
+     */
+    public Object[] rows() {
+        return rows;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.math.BigDecimal;
+
+/**
+ * Bloom filter over the join keys of a hash join build side. It is sent to the nodes producing the probe side rows
+ * to drop rows which can't be matched before they are sent over the network.
+ * <p>
+ * A hash of a key is based on {@link Object#hashCode()} of the key values, so the filter may be used only for the key
+ * types with a value based hash code, which is the same on all nodes. Values equal in SQL but not by
+ * {@link Object#equals(Object)} are hashed the same way, see {@link #hash(Object)}. A key containing NULL never passes
+ * the filter.
+ */
+public class RuntimeFilter {
+    /** Maximum count of distinct keys to build a filter for. */
+    public static final int MAX_KEYS = 1 << 20;
+
+    /** Bits per key, gives about 1% of false positives. */
+    private static final int BITS_PER_KEY = 10;
+
+    /** Count of hash functions, optimal for {@link #BITS_PER_KEY}. */
+    private static final int HASH_FUNCTIONS = 7;
+
+    /** Indexes of the key fields in a probe side row. */
+    private final int[] keys;
+
+    /** */
+    private final long[] bits;
+
+    /** */
+    private final int hashCnt;
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param keys Indexes of the key fields in a probe side row.
+     * @param keysCnt Expected count of distinct keys.
+     */
+    public RuntimeFilter(int[] keys, int keysCnt) {
+        this(keys, new long[Math.max(1, (int)(((long)keysCnt * BITS_PER_KEY + Long.SIZE - 1) / Long.SIZE))],
+            HASH_FUNCTIONS);
+    }
+
+    /**
+     * @param keys Indexes of the key fields in a probe side row.
+     * @param bits Filter bits.
+     * @param hashCnt Count of hash functions.
+     */
+    public RuntimeFilter(int[] keys, long[] bits, int hashCnt) {
+        assert keys.length > 0 && bits.length > 0 && hashCnt > 0;
+
+        this.keys = keys;
+        this.bits = bits;
+        this.hashCnt = hashCnt;
+    }
+
+    /** @return Indexes of the key fields in a probe side row. */
+    public int[] keys() {
+        return keys;
+    }
+
+    /** @return Filter bits. */
+    public long[] bits() {
+        return bits;
+    }
+
+    /** @return Count of hash functions. */
+    public int hashFunctions() {
+        return hashCnt;
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key Key values, none of them is {@code null}.
+     */
+    public void add(Object[] key) {
+        assert key.length == keys.length;
+
+        int h = 1;
+
+        for (Object val : key)
+            h = 31 * h + hash(val);
+
+        long hash = mix(h);
+        long bitsCnt = (long)bits.length * Long.SIZE;
+
+        for (int i = 1; i <= hashCnt; i++) {
+            long bit = bit(hash, i, bitsCnt);
+
+            bits[(int)(bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * @param hnd Row handler.
+     * @param row Probe side row.
+     * @return {@code False} if the row definitely has no match on the build side.
+     */
+    public <Row> boolean mightContain(RowHandler<Row> hnd, Row row) {
+        int h = 1;
+
+        for (int key : keys) {
+            Object val = hnd.get(key, row);
+
+            if (val == null)
+                return false;
+
+            h = 31 * h + hash(val);
+        }
+
+        long hash = mix(h);
+        long bitsCnt = (long)bits.length * Long.SIZE;
+
+        for (int i = 1; i <= hashCnt; i++) {
+            long bit = bit(hash, i, bitsCnt);
+
+            if ((bits[(int)(bit >>> 6)] & (1L << bit)) == 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes a hash code of a key value which is the same for the values equal in SQL. {@link BigDecimal} values
+     * which differ only in scale (e.g. {@code 1.0} and {@code 1.00}) and floating point zeros of different signs are
+     * equal in SQL, but have different hash codes.
+     *
+     * @param val Key value.
+     * @return Hash code.
+     */
+    static int hash(Object val) {
+        if (val instanceof BigDecimal) {
+            BigDecimal dec = (BigDecimal)val;
+
+            // Zero is checked explicitly since stripTrailingZeros() keeps the scale of zero on some JDK versions.
+            return dec.signum() == 0 ? 0 : dec.stripTrailingZeros().hashCode();
+        }
+
+        if (val instanceof Double) {
+            double d = (Double)val;
+
+            return d == 0d ? 0 : Double.hashCode(d);
+        }
+
+        if (val instanceof Float) {
+            float f = (Float)val;
+
+            return f == 0f ? 0 : Float.hashCode(f);
+        }
+
+        return val.hashCode();
+    }
+
+    /**
+     * Computes the bit of the i-th hash function using double hashing.
+     *
+     * @param hash 64-bit hash of the key.
+     * @param i Index of the hash function.
+     * @param bitsCnt Count of bits.
+     * @return Bit index.
+     */
+    private static long bit(long hash, int i, long bitsCnt) {
+        int combined = (int)hash + i * (int)(hash >>> 32);
+
+        if (combined < 0)
+            combined = ~combined;
+
+        return combined % bitsCnt;
+    }
+
+    /** Spreads the bits of a 32-bit hash code to 64 bits (finalization step of MurmurHash3). */
+    private static long mix(int h) {
+        long k = h;
+
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+
+        return k;
+    }
+}
@@ -24,10 +24,22 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.cache.query.QueryCancelledException;
 import org.apache.ignite.cluster.ClusterTopologyException;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTopologyFuture;
@@ -36,6 +48,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReplacementScanHint;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
 import org.apache.ignite.internal.util.lang.GridCursor;
@@ -44,8 +57,16 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_SCAN_PARALLELISM;
+
 /** */
 public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
+    /** Count of rows scanned at once by a parallel scan task. */
+    private static final int CHUNK_SIZE = 512;
+
+    /** Time to wait for rows scanned by parallel scan tasks before the next check of the scan state. */
+    private static final long CHUNK_WAIT_TIMEOUT = 10L;
+
     /** */
     private final GridCacheContext<?, ?> cctx;
 
@@ -73,30 +94,98 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
     /** Participating colunms. */
     private final ImmutableBitSet requiredColunms;
 
+    /** Row filter factory. Filter is applied before all the row columns are read. */
+    @Nullable private final Supplier<Predicate<Row>> filterFactory;
+
+    /** Row columns referenced by the filter. */
+    private final ImmutableBitSet filterColumns;
+
+    /** Row columns not referenced by the filter. */
+    private final ImmutableBitSet otherColumns;
+
+    /**
+     * Factory of combiners, which partially aggregate chunks of the scanned rows in the scanning threads, {@code null}
+     * if the scanned rows are returned as is.
+     */
+    @Nullable private final Supplier<Function<List<Row>, List<Row>>> combinerFactory;
+
+    /** Counter of rows rejected by the filter, these rows are still scanned. */
+    @Nullable private final AtomicLong rejectedRowsCntr;
+
+    /** Count of threads scanning partitions in parallel. */
+    private final int parallelism;
+
+    /** Count of parallel scan tasks which may read the reserved partitions. Guarded by {@code this}. */
+    private int tasks;
+
+    /** Whether the partitions should be released once the running parallel scan tasks finish. Guarded by {@code this}. */
+    private boolean releasePending;
+
     /** */
     public TableScan(
         ExecutionContext<Row> ectx,
         CacheTableDescriptor desc,
         int[] parts,
         @Nullable ImmutableBitSet requiredColunms
+    ) {
+        this(ectx, desc, parts, requiredColunms, null, null, null);
+    }
+
+    /** */
+    public TableScan(
+        ExecutionContext<Row> ectx,
+        CacheTableDescriptor desc,
+        int[] parts,
+        @Nullable ImmutableBitSet requiredColunms,
+        @Nullable Supplier<Predicate<Row>> filterFactory,
+        @Nullable ImmutableBitSet filterColumns,
+        @Nullable Supplier<Function<List<Row>, List<Row>>> combinerFactory
     ) {
         this.ectx = ectx;
         cctx = desc.cacheContext();
         this.desc = desc;
         this.parts = parts;
         this.requiredColunms = requiredColunms;
+        this.filterFactory = filterFactory;
+        this.combinerFactory = combinerFactory;
 
         RelDataType rowType = desc.rowType(this.ectx.getTypeFactory(), requiredColunms);
 
         factory = this.ectx.rowHandler().factory(this.ectx.getTypeFactory(), rowType);
         topVer = ectx.topologyVersion();
         mvccSnapshot = ectx.mvccSnapshot();
+
+        parallelism = parallelism();
+
+        if (filterFactory != null) {
+            assert filterColumns != null;
+
+            this.filterColumns = filterColumns;
+            otherColumns = ImmutableBitSet.range(rowType.getFieldCount()).except(filterColumns);
+            rejectedRowsCntr = ectx.ioTracker().processedRowsCounter("Scanned " + desc.typeDescription().tableName());
+        }
+        else {
+            this.filterColumns = ImmutableBitSet.of();
+            otherColumns = ImmutableBitSet.of();
+            rejectedRowsCntr = null;
+        }
+    }
+
+    /**
+     * @return Count of threads scanning partitions of a table in parallel.
+     */
+    public static int parallelism() {
+        return Math.max(1, IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_SCAN_PARALLELISM, 1));
     }
 
     /** {@inheritDoc} */
     @Override public Iterator<Row> iterator() {
         reserve();
         try {
+            // Rows are combined by chunks, so the combined scan is done by the parallel iterator even without tasks.
+            if (combinerFactory != null || (parallelism > 1 && reserved.size() > 1))
+                return new ParallelIteratorImpl(Math.max(0, Math.min(parallelism, reserved.size()) - 1));
+
             return new IteratorImpl();
         }
         catch (Exception e) {
@@ -174,6 +263,15 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
 
     /** */
     private synchronized void release() {
+        // Partitions are released by the last parallel scan task, the query thread must not wait for them.
+        if (tasks > 0) {
+            releasePending = true;
+
+            return;
+        }
+
+        releasePending = false;
+
         if (F.isEmpty(reserved))
             return;
 
@@ -182,6 +280,62 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
         reserved = null;
     }
 
+    /**
+     * Registers a parallel scan task, which keeps the reserved partitions until it finishes.
+     *
+     * @return {@code False} if the partitions are released or going to be released.
+     */
+    private synchronized boolean onTaskStarted() {
+        if (reserved == null || releasePending)
+            return false;
+
+        tasks++;
+
+        return true;
+    }
+
+    /** Releases the partitions if the last parallel scan task is finished after the scan was closed. */
+    private synchronized void onTaskFinished() {
+        assert tasks > 0;
+
+        if (--tasks == 0 && releasePending)
+            release();
+    }
+
+    /**
+     * Converts a cache row to a relational node row.
+     *
+     * @param row Cache row.
+     * @param filter Row filter.
+     * @return Relational node row or {@code null} if the cache row is skipped.
+     * @throws IgniteCheckedException If failed.
+     */
+    private @Nullable Row toRow(CacheDataRow row, @Nullable Predicate<Row> filter) throws IgniteCheckedException {
+        if (row.expireTime() > 0 && row.expireTime() <= U.currentTimeMillis())
+            return null;
+
+        if (!desc.match(row))
+            return null;
+
+        if (filter == null)
+            return desc.toRow(ectx, row, factory, requiredColunms);
+
+        Row res = factory.create();
+
+        desc.fillRow(ectx, row, res, requiredColunms, filterColumns);
+
+        if (!filter.test(res)) {
+            if (rejectedRowsCntr != null)
+                rejectedRowsCntr.incrementAndGet();
+
+            return null;
+        }
+
+        desc.fillRow(ectx, row, res, requiredColunms, otherColumns);
+
+        return res;
+    }
+
     /**
      * Table scan iterator.
      */
@@ -189,6 +343,9 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
         /** */
         private final Queue<GridDhtLocalPartition> parts;
 
+        /** */
+        @Nullable private final Predicate<Row> filter;
+
         /** */
         private GridCursor<? extends CacheDataRow> cur;
 
@@ -200,6 +357,7 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
             assert reserved != null;
 
             parts = new ArrayDeque<>(reserved);
+            filter = filterFactory == null ? null : filterFactory.get();
         }
 
         /** {@inheritDoc} */
@@ -235,6 +393,18 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
             if (next != null)
                 return;
 
+            PageReplacementScanHint.begin();
+
+            try {
+                advance0();
+            }
+            finally {
+                PageReplacementScanHint.end();
+            }
+        }
+
+        /** */
+        private void advance0() throws IgniteCheckedException {
             while (true) {
                 if (cur == null) {
                     GridDhtLocalPartition part = parts.poll();
@@ -245,21 +415,351 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
                 }
 
                 if (cur.next()) {
-                    CacheDataRow row = cur.get();
+                    next = toRow(cur.get(), filter);
+
+                    if (next != null)
+                        break;
+                }
+                else
+                    cur = null;
+            }
+        }
+    }
+
+    /**
+     * Scan of a single partition, which may be continued by different threads one after another.
+     */
+    private class PartitionScan {
+        /** */
+        private final GridCursor<? extends CacheDataRow> cur;
+
+        /**
+         * @param part Partition.
+         * @throws IgniteCheckedException If failed.
+         */
+        private PartitionScan(GridDhtLocalPartition part) throws IgniteCheckedException {
+            cur = part.dataStore().cursor(cctx.cacheId(), mvccSnapshot);
+        }
+
+        /**
+         * Scans next rows of the partition.
+         *
+         * @param chunk Scanned rows.
+         * @param filter Row filter.
+         * @return {@code True} if the partition is scanned to the end.
+         * @throws IgniteCheckedException If failed.
+         */
+        private boolean scan(List<Row> chunk, @Nullable Predicate<Row> filter) throws IgniteCheckedException {
+            while (chunk.size() < CHUNK_SIZE) {
+                if (!cur.next())
+                    return true;
+
+                Row row = toRow(cur.get(), filter);
+
+                if (row != null)
+                    chunk.add(row);
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Table scan iterator, which scans partitions by several tasks in parallel. Tasks scan rows by chunks and are
+     * suspended when enough chunks are waiting for the consumer. Rows of a chunk are partially aggregated by the
+     * scanning thread if the scan has a combiner. The consuming thread scans partitions itself when
+     * there are no ready chunks, so the scan progresses even if all the query threads are busy.
+     * <p>
+     * The consuming thread never waits for the tasks: tasks may be queued to the stripes busy with other fragments or
+     * even to the stripe of the consuming thread. Closed iterator just stops the tasks, and the partitions are released
+     * by the last finished task.
+     */
+    private class ParallelIteratorImpl extends GridIteratorAdapter<Row> implements AutoCloseable {
+        /** Partitions, which scan is not started yet. */
+        private final Queue<GridDhtLocalPartition> parts;
+
+        /** Started partition scans, which are not processed by any thread at the moment. */
+        private final Queue<PartitionScan> scans = new ConcurrentLinkedQueue<>();
+
+        /** Rows scanned by the parallel tasks. */
+        private final BlockingQueue<List<Row>> chunks = new LinkedBlockingQueue<>();
+
+        /** Filters of the parallel tasks, a filter instance can't be used by several threads concurrently. */
+        private final Queue<Predicate<Row>> taskFilters = new ConcurrentLinkedQueue<>();
+
+        /** Combiners of the parallel tasks, a combiner instance can't be used by several threads concurrently. */
+        private final Queue<Function<List<Row>, List<Row>>> taskCombiners = new ConcurrentLinkedQueue<>();
+
+        /** Filter of the consuming thread. */
+        @Nullable private final Predicate<Row> filter;
+
+        /** Combiner of the consuming thread. */
+        @Nullable private final Function<List<Row>, List<Row>> combiner;
+
+        /** Count of partitions, which scan is not finished. */
+        private final AtomicInteger remaining;
+
+        /** Count of running parallel tasks. */
+        private final AtomicInteger activeTasks = new AtomicInteger();
+
+        /** */
+        private final int maxTasks;
+
+        /** */
+        private final int maxChunks;
+
+        /** */
+        private volatile Throwable err;
+
+        /** */
+        private volatile boolean closed;
+
+        /** */
+        private Iterator<Row> cur = Collections.emptyIterator();
+
+        /**
+         * @param maxTasks Maximum count of parallel tasks.
+         */
+        private ParallelIteratorImpl(int maxTasks) {
+            assert reserved != null;
+
+            this.maxTasks = maxTasks;
+
+            maxChunks = maxTasks * 2;
+            parts = new ConcurrentLinkedQueue<>(reserved);
+            remaining = new AtomicInteger(parts.size());
+            filter = filterFactory == null ? null : filterFactory.get();
+            combiner = combinerFactory == null ? null : combinerFactory.get();
+
+            if (filterFactory != null) {
+                for (int i = 0; i < maxTasks; i++)
+                    taskFilters.add(filterFactory.get());
+            }
+
+            if (combinerFactory != null) {
+                for (int i = 0; i < maxTasks; i++)
+                    taskCombiners.add(combinerFactory.get());
+            }
+
+            try {
+                startTasks();
+            }
+            catch (RuntimeException e) {
+                close();
+
+                throw e;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNextX() throws IgniteCheckedException {
+            advance();
+
+            return cur.hasNext();
+        }
+
+        /** {@inheritDoc} */
+        @Override public Row nextX() throws IgniteCheckedException {
+            advance();
+
+            if (!cur.hasNext())
+                throw new NoSuchElementException();
+
+            return cur.next();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void removeX() {
+            throw new UnsupportedOperationException("Remove is not supported.");
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            closed = true;
+        }
+
+        /** */
+        private void advance() throws IgniteCheckedException {
+            if (cur.hasNext())
+                return;
+
+            PageReplacementScanHint.begin();
+
+            try {
+                advance0();
+            }
+            finally {
+                PageReplacementScanHint.end();
+            }
+        }
+
+        /** */
+        private void advance0() throws IgniteCheckedException {
+            while (!cur.hasNext() && !closed) {
+                checkError();
+
+                if (ectx.isCancelled())
+                    throw new QueryCancelledException();
+
+                List<Row> chunk = chunks.poll();
+
+                if (chunk == null) {
+                    if (remaining.get() == 0) {
+                        // Tasks publish scanned rows before a partition scan is counted as finished.
+                        chunk = chunks.poll();
+
+                        if (chunk == null)
+                            return;
+                    }
+                    else if ((chunk = scanChunk(filter, combiner, false)) == null) {
+                        // All the remaining partitions are being scanned by the parallel tasks.
+                        try {
+                            chunk = chunks.poll(CHUNK_WAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+                        }
+                        catch (InterruptedException e) {
+                            throw new IgniteInterruptedCheckedException(e);
+                        }
+
+                        if (chunk == null)
+                            continue;
+                    }
+                }
+
+                cur = chunk.iterator();
+
+                startTasks();
+            }
+        }
+
+        /**
+         * Scans next rows of a partition, which is not being scanned by other thread.
+         *
+         * @param filter Row filter.
+         * @param combiner Combiner of the scanned rows.
+         * @param publish Whether to publish scanned rows for the consuming thread.
+         * @return Scanned rows or {@code null} if there are no partitions available for scan.
+         * @throws IgniteCheckedException If failed.
+         */
+        private @Nullable List<Row> scanChunk(
+            @Nullable Predicate<Row> filter,
+            @Nullable Function<List<Row>, List<Row>> combiner,
+            boolean publish
+        ) throws IgniteCheckedException {
+            PartitionScan scan = scans.poll();
+
+            if (scan == null) {
+                GridDhtLocalPartition part = parts.poll();
+
+                if (part == null)
+                    return null;
+
+                scan = new PartitionScan(part);
+            }
+
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            boolean finished = scan.scan(chunk, filter);
+
+            if (combiner != null)
+                chunk = combiner.apply(chunk);
+
+            if (publish && !chunk.isEmpty())
+                chunks.add(chunk);
+
+            if (finished)
+                remaining.decrementAndGet();
+            else
+                scans.add(scan);
+
+            return chunk;
+        }
+
+        /** */
+        private void startTasks() {
+            while (!closed && chunks.size() < maxChunks && (!parts.isEmpty() || !scans.isEmpty())) {
+                int cnt = activeTasks.get();
 
-                    if (row.expireTime() > 0 && row.expireTime() <= U.currentTimeMillis())
-                        continue;
+                if (cnt >= maxTasks)
+                    break;
 
-                    if (!desc.match(row))
-                        continue;
+                if (!activeTasks.compareAndSet(cnt, cnt + 1))
+                    continue;
 
-                    next = desc.toRow(ectx, row, factory, requiredColunms);
+                if (!onTaskStarted()) {
+                    activeTasks.decrementAndGet();
 
                     break;
                 }
-                else
-                    cur = null;
+
+                try {
+                    ectx.executeParallel(cnt + 1, this::runTask);
+                }
+                catch (RuntimeException e) {
+                    onParallelTaskFinished();
+
+                    throw e;
+                }
             }
         }
+
+        /** */
+        private void runTask() {
+            Predicate<Row> filter = taskFilters.poll();
+            Function<List<Row>, List<Row>> combiner = taskCombiners.poll();
+
+            assert filterFactory == null || filter != null;
+            assert combinerFactory == null || combiner != null;
+
+            // I/O statistics are gathered per thread.
+            ectx.ioTracker().startTracking();
+
+            PageReplacementScanHint.begin();
+
+            try {
+                while (!closed && !ectx.isCancelled() && err == null && chunks.size() < maxChunks) {
+                    if (scanChunk(filter, combiner, true) == null)
+                        break;
+                }
+            }
+            catch (Throwable e) {
+                err = e;
+            }
+            finally {
+                PageReplacementScanHint.end();
+
+                ectx.ioTracker().stopTracking();
+
+                if (filter != null)
+                    taskFilters.add(filter);
+
+                if (combiner != null)
+                    taskCombiners.add(combiner);
+
+                onParallelTaskFinished();
+            }
+        }
+
+        /** */
+        private void onParallelTaskFinished() {
+            activeTasks.decrementAndGet();
+
+            onTaskFinished();
+        }
+
+        /** */
+        private void checkError() throws IgniteCheckedException {
+            Throwable e = err;
+
+            if (e == null)
+                return;
+
+            if (e instanceof RuntimeException)
+                throw (RuntimeException)e;
+
+            if (e instanceof Error)
+                throw (Error)e;
+
+            throw U.cast(e);
+        }
     }
 }
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.query.calcite.exec.exp;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -30,6 +31,7 @@ import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
@@ -89,6 +91,26 @@ public interface ExpressionFactory<Row> {
      */
     Function<Row, Row> project(List<RexNode> projects, RelDataType rowType);
 
+    /**
+     * Creates a batch Filter predicate, which removes rows not matching the filter from a batch. Unlike
+     * {@link #predicate(RexNode, RelDataType)}, the generated code evaluates the whole batch in one call.
+     *
+     * @param filter Filter expression.
+     * @param rowType Input row type.
+     * @return Batch filter.
+     */
+    Consumer<RowBatch<Row>> batchPredicate(RexNode filter, RelDataType rowType);
+
+    /**
+     * Creates a batch Project function, which replaces rows of a batch with projected rows. Unlike
+     * {@link #project(List, RelDataType)}, the generated code evaluates the whole batch in one call.
+     *
+     * @param projects Projection expressions.
+     * @param rowType Input row type.
+     * @return Batch project function.
+     */
+    Consumer<RowBatch<Row>> batchProject(List<RexNode> projects, RelDataType rowType);
+
     /**
      * Creates a Values relational node rows source.
      *
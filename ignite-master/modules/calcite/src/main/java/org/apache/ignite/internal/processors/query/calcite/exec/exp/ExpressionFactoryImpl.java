@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -62,6 +63,7 @@ import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.sql.validate.SqlConformance;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.RexToLixTranslator.InputGetter;
@@ -240,6 +242,16 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         return new ProjectImpl(scalar(projects, rowType), ctx.rowHandler().factory(typeFactory, RexUtil.types(projects)));
     }
 
+    /** {@inheritDoc} */
+    @Override public Consumer<RowBatch<Row>> batchPredicate(RexNode filter, RelDataType rowType) {
+        return new BatchPredicateImpl(ImmutableList.of(filter), rowType);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Consumer<RowBatch<Row>> batchProject(List<RexNode> projects, RelDataType rowType) {
+        return new BatchProjectImpl(projects, rowType, ctx.rowHandler().factory(typeFactory, RexUtil.types(projects)));
+    }
+
     /** {@inheritDoc} */
     @Override public Supplier<Row> rowSource(List<RexNode> values) {
         return new ValuesImpl(scalar(values, null), ctx.rowHandler().factory(typeFactory,
@@ -431,6 +443,18 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
             k -> compile(nodes, type, true));
     }
 
+    /**
+     * Creates {@link BatchScalar}, a code-generated expressions evaluator for batches of rows.
+     *
+     * @param nodes Expressions.
+     * @param type Row type.
+     * @return BatchScalar.
+     */
+    private BatchScalar batchScalar(List<RexNode> nodes, RelDataType type) {
+        return (BatchScalar)SCALAR_CACHE.computeIfAbsent("batch:" + digest(nodes, type, false),
+            k -> compileBatch(nodes, type));
+    }
+
     /** */
     private Scalar compile(List<RexNode> nodes, RelDataType type, boolean biInParams) {
         if (type == null)
@@ -512,6 +536,67 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         return Commons.compile(clazz, Expressions.toString(F.asList(decl), "\n", false));
     }
 
+    /** */
+    private BatchScalar compileBatch(List<RexNode> nodes, RelDataType type) {
+        RexProgramBuilder programBuilder = new RexProgramBuilder(type, rexBuilder);
+
+        for (RexNode node : nodes)
+            programBuilder.addProject(node, null);
+
+        RexProgram program = programBuilder.getProgram();
+
+        BlockBuilder builder = new BlockBuilder();
+
+        ParameterExpression ctx_ = Expressions.parameter(ExecutionContext.class, "ctx");
+        ParameterExpression in_ = Expressions.parameter(Object[].class, "in");
+        ParameterExpression out_ = Expressions.parameter(Object[].class, "out");
+        ParameterExpression cnt_ = Expressions.parameter(int.class, "cnt");
+        ParameterExpression i_ = Expressions.parameter(int.class, "i");
+        ParameterExpression in1_ = Expressions.parameter(Object.class, "in1");
+        ParameterExpression out1_ = Expressions.parameter(Object.class, "out1");
+
+        builder.add(
+            Expressions.declare(Modifier.FINAL, DataContext.ROOT, Expressions.convert_(ctx_, DataContext.class)));
+
+        Expression hnd_ = builder.append("hnd",
+            Expressions.call(ctx_,
+                IgniteMethod.CONTEXT_ROW_HANDLER.method()));
+
+        // Correlated values are the same for all rows of a batch, so they are read once, before the loop.
+        Function1<String, InputGetter> correlates = new CorrelatesBuilder(builder, ctx_, hnd_).build(nodes);
+
+        BlockBuilder body = new BlockBuilder(true, builder);
+
+        body.add(Expressions.declare(Modifier.FINAL, in1_, Expressions.arrayIndex(in_, i_)));
+        body.add(Expressions.declare(Modifier.FINAL, out1_, Expressions.arrayIndex(out_, i_)));
+
+        List<Expression> projects = RexToLixTranslator.translateProjects(program, typeFactory, conformance,
+            body, null, ctx_, new FieldGetter(hnd_, in1_, type), correlates);
+
+        assert nodes.size() == projects.size();
+
+        for (int i = 0; i < projects.size(); i++) {
+            body.add(
+                Expressions.statement(
+                    Expressions.call(hnd_,
+                        IgniteMethod.ROW_HANDLER_SET.method(),
+                        Expressions.constant(i), out1_, projects.get(i))));
+        }
+
+        builder.add(
+            Expressions.for_(
+                Expressions.declare(0, i_, Expressions.constant(0)),
+                Expressions.lessThan(i_, cnt_),
+                Expressions.preIncrementAssign(i_),
+                body.toBlock()));
+
+        MethodDeclaration decl = Expressions.methodDecl(
+            Modifier.PUBLIC, void.class, IgniteMethod.BATCH_SCALAR_EXECUTE.method().getName(),
+            ImmutableList.of(ctx_, in_, out_, cnt_), builder.toBlock());
+
+        return Commons.compile(BatchScalar.class, Expressions.toString(F.asList(decl), "\n", false));
+    }
+
     /** */
     private String digest(List<RexNode> nodes, RelDataType type, boolean biParam) {
         StringBuilder b = new StringBuilder();
@@ -636,6 +721,117 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         }
     }
 
+    /** Removes rows, which don't match the filter, from a batch. Expressions are compiled on first use. */
+    private class BatchPredicateImpl implements Consumer<RowBatch<Row>> {
+        /** */
+        private final List<RexNode> nodes;
+
+        /** */
+        private final RelDataType rowType;
+
+        /** */
+        private final RowFactory<Row> factory;
+
+        /** */
+        private BatchScalar scalar;
+
+        /** Reusable rows to evaluate the filter to. */
+        private Object[] out = new Object[0];
+
+        /**
+         * @param nodes Filter expression.
+         * @param rowType Input row type.
+         */
+        private BatchPredicateImpl(List<RexNode> nodes, RelDataType rowType) {
+            this.nodes = nodes;
+            this.rowType = rowType;
+
+            factory = ctx.rowHandler().factory(typeFactory, typeFactory.createJavaType(Boolean.class));
+        }
+
+        /** {@inheritDoc} */
+        @Override public void accept(RowBatch<Row> batch) {
+            if (scalar == null)
+                scalar = batchScalar(nodes, rowType);
+
+            int size = batch.size();
+
+            if (out.length < size) {
+                int len = out.length;
+
+                out = Arrays.copyOf(out, batch.capacity());
+
+                for (int i = len; i < out.length; i++)
+                    out[i] = factory.create();
+            }
+
+            Object[] rows = batch.rows();
+
+            scalar.execute(ctx, rows, out, size);
+
+            RowHandler<Row> hnd = ctx.rowHandler();
+
+            int cnt = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (Boolean.TRUE == hnd.get(0, (Row)out[i]))
+                    rows[cnt++] = rows[i];
+            }
+
+            batch.truncate(cnt);
+        }
+    }
+
+    /** Replaces rows of a batch with projected rows. Expressions are compiled on first use. */
+    private class BatchProjectImpl implements Consumer<RowBatch<Row>> {
+        /** */
+        private final List<RexNode> nodes;
+
+        /** */
+        private final RelDataType rowType;
+
+        /** */
+        private final RowFactory<Row> factory;
+
+        /** */
+        private BatchScalar scalar;
+
+        /** Reusable buffer for projected rows. */
+        private Object[] out = new Object[0];
+
+        /**
+         * @param nodes Projection expressions.
+         * @param rowType Input row type.
+         * @param factory Row factory.
+         */
+        private BatchProjectImpl(List<RexNode> nodes, RelDataType rowType, RowFactory<Row> factory) {
+            this.nodes = nodes;
+            this.rowType = rowType;
+            this.factory = factory;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void accept(RowBatch<Row> batch) {
+            if (scalar == null)
+                scalar = batchScalar(nodes, rowType);
+
+            int size = batch.size();
+
+            if (out.length < size)
+                out = new Object[batch.capacity()];
+
+            for (int i = 0; i < size; i++)
+                out[i] = factory.create();
+
+            Object[] rows = batch.rows();
+
+            scalar.execute(ctx, rows, out, size);
+
+            System.arraycopy(out, 0, rows, 0, size);
+            Arrays.fill(out, 0, size, null);
+        }
+    }
+
     /** */
     private class ValuesImpl implements Supplier<Row> {
         /** */
@@ -17,8 +17,12 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -35,7 +39,10 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
 import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
 import org.apache.ignite.internal.processors.query.calcite.type.UuidType;
+import org.apache.ignite.internal.processors.query.stat.Hasher;
+import org.apache.ignite.internal.processors.query.stat.hll.HLL;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static org.apache.calcite.sql.type.SqlTypeName.ANY;
 import static org.apache.calcite.sql.type.SqlTypeName.BIGINT;
@@ -52,6 +59,9 @@ import static org.apache.calcite.sql.type.SqlTypeName.VARCHAR;
 public class Accumulators {
     /** */
     public static <Row> Supplier<Accumulator<Row>> accumulatorFactory(AggregateCall call, ExecutionContext<Row> ctx) {
+        if (call.isDistinct() && call.isApproximate() && "COUNT".equals(call.getAggregation().getName()))
+            return () -> new ApproxCountDistinct<>(call, ctx.rowHandler());
+
         Supplier<Accumulator<Row>> supplier = accumulatorFunctionFactory(call, ctx);
 
         if (call.isDistinct())
@@ -90,6 +100,8 @@ public class Accumulators {
             case "ARRAY_AGG":
             case "ARRAY_CONCAT_AGG":
                 return listAggregateSupplier(call, ctx);
+            case "APPROX_PERCENTILE":
+                return () -> new ApproxPercentile<>(call, hnd);
             default:
                 throw new AssertionError(call.getAggregation().getName());
         }
@@ -1279,6 +1291,187 @@ public class Accumulators {
         }
     }
 
+    /**
+     * Estimates count of distinct values with a HyperLogLog sketch. Memory usage doesn't depend on the count of values,
+     * and sketches of the map phase are merged on the reduce phase.
+     */
+    private static class ApproxCountDistinct<Row> extends AbstractAccumulator<Row> {
+        /** Log2 of the count of registers, gives the standard error of about 1%. */
+        private static final int LOG2M = 13;
+
+        /** Width of a register in bits. */
+        private static final int REG_WIDTH = 5;
+
+        /** */
+        private transient HLL hll = new HLL(LOG2M, REG_WIDTH);
+
+        /** */
+        private transient Hasher hasher;
+
+        /** */
+        ApproxCountDistinct(AggregateCall aggCall, RowHandler<Row> hnd) {
+            super(aggCall, hnd);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void add(Row row) {
+            Object val = get(0, row);
+
+            if (val != null)
+                hll.addRaw(hash(val));
+        }
+
+        /** {@inheritDoc} */
+        @Override public void apply(Accumulator<Row> other) {
+            ApproxCountDistinct<Row> other0 = (ApproxCountDistinct<Row>)other;
+
+            hll.union(other0.hll);
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object end() {
+            return hll.cardinality();
+        }
+
+        /** {@inheritDoc} */
+        @Override public List<RelDataType> argumentTypes(IgniteTypeFactory typeFactory) {
+            return F.asList(typeFactory.createTypeWithNullability(typeFactory.createSqlType(ANY), true));
+        }
+
+        /** {@inheritDoc} */
+        @Override public RelDataType returnType(IgniteTypeFactory typeFactory) {
+            return typeFactory.createSqlType(BIGINT);
+        }
+
+        /**
+         * Computes a 64-bit hash of the value. The hash must be the same on all nodes, so it is based on the value
+         * representation rather than on the identity of the object.
+         */
+        private long hash(Object val) {
+            if (val instanceof Integer || val instanceof Long || val instanceof Short || val instanceof Byte)
+                return mix(((Number)val).longValue());
+            else if (val instanceof Double)
+                return mix(Double.doubleToLongBits((Double)val));
+            else if (val instanceof Float)
+                return mix(Float.floatToIntBits((Float)val));
+            else if (val instanceof Boolean)
+                return mix((Boolean)val ? 1 : 0);
+            else if (val instanceof UUID)
+                return mix(((UUID)val).getMostSignificantBits() ^ mix(((UUID)val).getLeastSignificantBits()));
+
+            byte[] bytes;
+
+            if (val instanceof String)
+                bytes = ((String)val).getBytes(StandardCharsets.UTF_8);
+            else if (val instanceof BigDecimal) {
+                BigDecimal dec = ((BigDecimal)val).stripTrailingZeros();
+
+                bytes = U.join(dec.unscaledValue().toByteArray(), U.intToBytes(dec.scale()));
+            }
+            else if (val instanceof byte[])
+                bytes = (byte[])val;
+            else if (val instanceof ByteString)
+                bytes = ((ByteString)val).getBytes();
+            else
+                return mix(val.hashCode());
+
+            if (hasher == null)
+                hasher = new Hasher();
+
+            return hasher.fastHash(bytes);
+        }
+
+        /** Finalization step of MurmurHash3, spreads the bits of a value over the hash. */
+        private static long mix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+
+            return k;
+        }
+
+        /** */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+
+            U.writeByteArray(out, hll.toBytes());
+        }
+
+        /** */
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+
+            hll = HLL.fromBytes(U.readByteArray(in));
+        }
+    }
+
+    /**
+     * Estimates a percentile of numeric values with a t-digest sketch. Memory usage doesn't depend on the count of
+     * values, and sketches of the map phase are merged on the reduce phase.
+     */
+    private static class ApproxPercentile<Row> extends AbstractAccumulator<Row> {
+        /** */
+        private final TDigest digest = new TDigest();
+
+        /** Requested percentile, taken from the first row. */
+        private Double fraction;
+
+        /** */
+        ApproxPercentile(AggregateCall aggCall, RowHandler<Row> hnd) {
+            super(aggCall, hnd);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void add(Row row) {
+            Double val = get(0, row);
+
+            if (val == null)
+                return;
+
+            if (fraction == null) {
+                Double fraction0 = get(1, row);
+
+                if (fraction0 == null || fraction0 < 0 || fraction0 > 1) {
+                    throw new IllegalArgumentException("Percentile of APPROX_PERCENTILE() must be between 0 and 1, " +
+                        "but was " + fraction0 + '.');
+                }
+
+                fraction = fraction0;
+            }
+
+            digest.add(val);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void apply(Accumulator<Row> other) {
+            ApproxPercentile<Row> other0 = (ApproxPercentile<Row>)other;
+
+            if (fraction == null)
+                fraction = other0.fraction;
+
+            digest.merge(other0.digest);
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object end() {
+            return digest.isEmpty() ? null : digest.quantile(fraction);
+        }
+
+        /** {@inheritDoc} */
+        @Override public List<RelDataType> argumentTypes(IgniteTypeFactory typeFactory) {
+            RelDataType type = typeFactory.createTypeWithNullability(typeFactory.createSqlType(DOUBLE), true);
+
+            return F.asList(type, type);
+        }
+
+        /** {@inheritDoc} */
+        @Override public RelDataType returnType(IgniteTypeFactory typeFactory) {
+            return typeFactory.createTypeWithNullability(typeFactory.createSqlType(DOUBLE), true);
+        }
+    }
+
     /** */
     private static class DistinctAccumulator<Row> extends AbstractAccumulator<Row> {
         /** */
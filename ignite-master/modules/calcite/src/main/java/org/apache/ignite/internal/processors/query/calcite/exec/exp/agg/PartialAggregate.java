@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Aggregates a chunk of rows to partial aggregates of the map phase: rows of grouping ID, group key and accumulators.
+ * Partial aggregates of different chunks are merged by the map aggregate node.
+ * <p>
+ * Instance is used by a single thread at a time.
+ */
+public class PartialAggregate<Row> implements Function<List<Row>, List<Row>> {
+    /** */
+    private final List<ImmutableBitSet> grpSets;
+
+    /** May be {@code null} when there are not accumulators (DISTINCT aggregate). */
+    @Nullable private final Supplier<List<AccumulatorWrapper<Row>>> accFactory;
+
+    /** Projection of the input rows. */
+    @Nullable private final Function<Row, Row> prj;
+
+    /** */
+    private final RowHandler<Row> hnd;
+
+    /** */
+    private final RowFactory<Row> rowFactory;
+
+    /** */
+    private final Map<GroupKey, List<AccumulatorWrapper<Row>>> groups = new HashMap<>();
+
+    /**
+     * @param grpSets Grouping sets.
+     * @param accFactory Accumulators factory of the map phase.
+     * @param prj Projection of the input rows.
+     * @param hnd Row handler.
+     * @param rowFactory Factory of the map phase rows.
+     */
+    public PartialAggregate(
+        List<ImmutableBitSet> grpSets,
+        @Nullable Supplier<List<AccumulatorWrapper<Row>>> accFactory,
+        @Nullable Function<Row, Row> prj,
+        RowHandler<Row> hnd,
+        RowFactory<Row> rowFactory
+    ) {
+        this.grpSets = grpSets;
+        this.accFactory = accFactory;
+        this.prj = prj;
+        this.hnd = hnd;
+        this.rowFactory = rowFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Row> apply(List<Row> rows) {
+        if (prj != null) {
+            for (int i = 0; i < rows.size(); i++)
+                rows.set(i, prj.apply(rows.get(i)));
+        }
+
+        List<Row> res = new ArrayList<>();
+
+        for (byte grpId = 0; grpId < grpSets.size(); grpId++) {
+            ImmutableBitSet grpFields = grpSets.get(grpId);
+
+            for (Row row : rows) {
+                GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
+
+                for (Integer field : grpFields)
+                    b.add(hnd.get(field, row));
+
+                List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(b.build(), this::create);
+
+                for (AccumulatorWrapper<Row> wrapper : wrappers)
+                    wrapper.add(row);
+            }
+
+            for (Map.Entry<GroupKey, List<AccumulatorWrapper<Row>>> entry : groups.entrySet()) {
+                if (accFactory != null) {
+                    List<AccumulatorWrapper<Row>> wrappers = entry.getValue();
+                    Accumulator<Row>[] accums = new Accumulator[wrappers.size()];
+
+                    for (int i = 0; i < wrappers.size(); i++)
+                        accums[i] = wrappers.get(i).accumulator();
+
+                    res.add(rowFactory.create(grpId, entry.getKey(), accums));
+                }
+                else
+                    res.add(rowFactory.create(grpId, entry.getKey()));
+            }
+
+            groups.clear();
+        }
+
+        return res;
+    }
+
+    /** */
+    private List<AccumulatorWrapper<Row>> create(GroupKey key) {
+        if (accFactory == null)
+            return Collections.emptyList();
+
+        return accFactory.get();
+    }
+}
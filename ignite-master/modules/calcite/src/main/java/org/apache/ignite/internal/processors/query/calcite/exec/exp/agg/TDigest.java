@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Merging t-digest: a compact sketch of a values distribution used to estimate quantiles.
+ * <p>
+ * The sketch keeps a sorted list of centroids (mean and weight). Centroids near the tails of the distribution are kept
+ * small, so extreme quantiles are estimated precisely, while centroids near the median absorb many values. The size of
+ * the sketch is bounded by about {@code compression / 2} centroids regardless of the count of values. Two sketches may be
+ * merged, so values may be added on several nodes independently.
+ */
+class TDigest implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Default compression, keeps the rank error of an estimated quantile well below 1%. */
+    static final double DFLT_COMPRESSION = 200;
+
+    /** Ratio of the buffer size to the compression. */
+    private static final int BUF_FACTOR = 5;
+
+    /** */
+    private final double compression;
+
+    /** Means of the centroids, sorted. */
+    private double[] mean = new double[0];
+
+    /** Weights of the centroids. */
+    private double[] weight = new double[0];
+
+    /** Total weight of the centroids. */
+    private double totalWeight;
+
+    /** Values not merged into the centroids yet. */
+    private transient double[] buf;
+
+    /** */
+    private int bufSize;
+
+    /** */
+    private double min = Double.POSITIVE_INFINITY;
+
+    /** */
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /** */
+    TDigest() {
+        this(DFLT_COMPRESSION);
+    }
+
+    /**
+     * @param compression Compression, the bigger the value, the more accurate and the larger is the sketch.
+     */
+    TDigest(double compression) {
+        this.compression = compression;
+
+        buf = new double[(int)(compression * BUF_FACTOR)];
+    }
+
+    /**
+     * @param val Value.
+     */
+    void add(double val) {
+        if (Double.isNaN(val))
+            return;
+
+        min = Math.min(min, val);
+        max = Math.max(max, val);
+
+        buf[bufSize++] = val;
+
+        if (bufSize == buf.length)
+            flush();
+    }
+
+    /**
+     * Merges other sketch into this one.
+     *
+     * @param other Other sketch.
+     */
+    void merge(TDigest other) {
+        other.flush();
+
+        if (other.totalWeight == 0)
+            return;
+
+        flush();
+
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+
+        compress(other.mean, other.weight, other.mean.length);
+    }
+
+    /** @return {@code True} if no values were added. */
+    boolean isEmpty() {
+        return totalWeight == 0 && bufSize == 0;
+    }
+
+    /**
+     * @param q Quantile, from 0 to 1.
+     * @return Estimated value of the quantile.
+     */
+    double quantile(double q) {
+        assert q >= 0 && q <= 1 : q;
+        assert !isEmpty();
+
+        flush();
+
+        int n = mean.length;
+
+        if (n == 1)
+            return mean[0];
+
+        double idx = q * totalWeight;
+
+        // Values between the minimum and the center of the first centroid.
+        if (idx < weight[0] / 2)
+            return min + (mean[0] - min) * idx / (weight[0] / 2);
+
+        double weightSoFar = weight[0] / 2;
+
+        for (int i = 0; i < n - 1; i++) {
+            double dw = (weight[i] + weight[i + 1]) / 2;
+
+            if (weightSoFar + dw > idx)
+                return mean[i] + (mean[i + 1] - mean[i]) * (idx - weightSoFar) / dw;
+
+            weightSoFar += dw;
+        }
+
+        // Values between the center of the last centroid and the maximum.
+        return mean[n - 1] + (max - mean[n - 1]) * Math.min(1, (idx - weightSoFar) / (weight[n - 1] / 2));
+    }
+
+    /** */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        flush();
+
+        out.defaultWriteObject();
+    }
+
+    /** */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        buf = new double[(int)(compression * BUF_FACTOR)];
+    }
+
+    /** Merges buffered values into the centroids. */
+    private void flush() {
+        if (bufSize == 0)
+            return;
+
+        Arrays.sort(buf, 0, bufSize);
+
+        double[] ones = new double[bufSize];
+
+        Arrays.fill(ones, 1);
+
+        double[] vals = Arrays.copyOf(buf, bufSize);
+
+        bufSize = 0;
+
+        compress(vals, ones, vals.length);
+    }
+
+    /**
+     * Merges sorted centroids into the centroids of the sketch and compresses the result.
+     *
+     * @param otherMean Sorted means.
+     * @param otherWeight Weights.
+     * @param otherCnt Count of centroids.
+     */
+    private void compress(double[] otherMean, double[] otherWeight, int otherCnt) {
+        int n = mean.length + otherCnt;
+
+        double[] m = new double[n];
+        double[] w = new double[n];
+
+        // Merge two sorted lists.
+        for (int i = 0, j = 0, k = 0; k < n; k++) {
+            if (j == otherCnt || (i < mean.length && mean[i] <= otherMean[j])) {
+                m[k] = mean[i];
+                w[k] = weight[i++];
+            }
+            else {
+                m[k] = otherMean[j];
+                w[k] = otherWeight[j++];
+            }
+        }
+
+        double total = totalWeight;
+
+        for (int i = 0; i < otherCnt; i++)
+            total += otherWeight[i];
+
+        int out = 0;
+        double weightSoFar = 0;
+
+        for (int i = 1; i < n; i++) {
+            double proposed = w[out] + w[i];
+
+            // A centroid may span at most a unit of the scale function.
+            double kLeft = scale(weightSoFar / total);
+            double kRight = scale((weightSoFar + proposed) / total);
+
+            if (kRight - kLeft <= 1) {
+                m[out] += (m[i] - m[out]) * w[i] / proposed;
+                w[out] = proposed;
+            }
+            else {
+                weightSoFar += w[out];
+
+                out++;
+
+                m[out] = m[i];
+                w[out] = w[i];
+            }
+        }
+
+        mean = Arrays.copyOf(m, out + 1);
+        weight = Arrays.copyOf(w, out + 1);
+        totalWeight = total;
+    }
+
+    /**
+     * Scale function which maps a quantile to the index of a centroid. It is steep near the tails, so centroids there
+     * are small.
+     *
+     * @param q Quantile.
+     * @return Centroid index.
+     */
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, q) - 1);
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_BATCH_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IN_BUFFER_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IO_BATCH_CNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IO_BATCH_SIZE;
@@ -49,6 +50,9 @@ public abstract class AbstractNode<Row> implements Node<Row> {
     /** */
     protected static final int IO_BATCH_CNT = IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_IO_BATCH_CNT, 4);
 
+    /** Count of rows passed between nodes in one batch, zero if batch execution mode is disabled. */
+    protected static final int BATCH_SIZE = IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_BATCH_SIZE, 0);
+
     /** for debug purpose */
     private volatile Thread thread;
 
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
+
 /**
  * Represents an abstract data consumer.
  *
@@ -30,6 +32,17 @@ public interface Downstream<Row> {
      */
     void push(Row row) throws Exception;
 
+    /**
+     * Pushes a batch of rows to consumer. The batch counts as {@link RowBatch#size()} pushed rows.
+     * Consumer may modify the batch, but mustn't keep a reference to it after return.
+     *
+     * @param batch Data rows.
+     */
+    default void pushBatch(RowBatch<Row> batch) throws Exception {
+        for (int i = 0; i < batch.size(); i++)
+            push(batch.get(i));
+    }
+
     /**
      * Signals that data is over.
      */
@@ -19,11 +19,14 @@ package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
 import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -32,6 +35,9 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
     /** */
     private final Predicate<Row> pred;
 
+    /** */
+    @Nullable private final Consumer<RowBatch<Row>> batchPred;
+
     /** */
     private final Deque<Row> inBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
 
@@ -49,9 +55,24 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
      * @param pred Predicate.
      */
     public FilterNode(ExecutionContext<Row> ctx, RelDataType rowType, Predicate<Row> pred) {
+        this(ctx, rowType, pred, null);
+    }
+
+    /**
+     * @param ctx Execution context.
+     * @param pred Predicate.
+     * @param batchPred Batch predicate, equivalent to the row predicate.
+     */
+    public FilterNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        Predicate<Row> pred,
+        @Nullable Consumer<RowBatch<Row>> batchPred
+    ) {
         super(ctx, rowType);
 
         this.pred = pred;
+        this.batchPred = batchPred;
     }
 
     /** {@inheritDoc} */
@@ -82,6 +103,42 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
         filter();
     }
 
+    /** {@inheritDoc} */
+    @Override public void pushBatch(RowBatch<Row> batch) throws Exception {
+        assert downstream() != null;
+        assert waiting >= batch.size();
+
+        checkState();
+
+        waiting -= batch.size();
+
+        if (batchPred != null)
+            batchPred.accept(batch);
+        else
+            batch.filter(pred);
+
+        if (inBuf.isEmpty() && batch.size() <= requested) {
+            // Pass the batch through, if it doesn't overflow the downstream.
+            if (!batch.isEmpty()) {
+                requested -= batch.size();
+
+                inLoop = true;
+                try {
+                    downstream().pushBatch(batch);
+                }
+                finally {
+                    inLoop = false;
+                }
+            }
+        }
+        else {
+            for (int i = 0; i < batch.size(); i++)
+                inBuf.add(batch.get(i));
+        }
+
+        filter();
+    }
+
     /** {@inheritDoc} */
     @Override public void end() throws Exception {
         assert downstream() != null;
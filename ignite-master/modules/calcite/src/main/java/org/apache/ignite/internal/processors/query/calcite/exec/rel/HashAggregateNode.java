@@ -27,29 +27,52 @@ import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.Accumulator;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryQuotaExceededException;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.negate;
 
 /**
- *
+ * Hash aggregate node.
+ * <p>
+ * If the memory quota is exceeded and spilling to disk is enabled, partial aggregates of all groups are written to
+ * disk, distributed to partitions by a hash of the group key. When the input ends, partitions are aggregated one by
+ * one. A partition which doesn't fit the quota is spilled again to partitions of the next level, which use the next
+ * bits of the hash.
  */
 public class HashAggregateNode<Row> extends AggregateNode<Row> {
+    /** Count of hash bits used to choose a partition. */
+    private static final int PART_BITS = 4;
+
+    /** Count of partitions of a spill level. */
+    private static final int PARTS_CNT = 1 << PART_BITS;
+
+    /** Maximum count of spill levels. */
+    private static final int MAX_SPILL_LEVELS = Integer.SIZE / PART_BITS;
+
     /** */
     private final ImmutableBitSet grpSet;
 
     /** */
     private final List<Grouping> groupings;
 
+    /** Whether input rows are partial aggregates of the map phase, which are computed by the scanning threads. */
+    private final boolean partialInput;
+
     /** */
     private int requested;
 
@@ -59,6 +82,15 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     /** */
     private boolean inLoop;
 
+    /** Partitions of groups spilled at the current level, {@code null} if groups are not spilled at this level. */
+    private SpillFile<Row>[] parts;
+
+    /** Spilled partitions to aggregate, {@code null} if the node has not spilled. */
+    private ArrayDeque<Partition> pending;
+
+    /** Factory of spilled rows: grouping ID, group key and partial aggregates. */
+    private RowFactory<Row> spillRowFactory;
+
     /**
      * @param ctx Execution context.
      */
@@ -70,7 +102,27 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         Supplier<List<AccumulatorWrapper<Row>>> accFactory,
         RowFactory<Row> rowFactory
     ) {
-        super(ctx, rowType, type, accFactory, rowFactory, rowOverhead(type, grpSets));
+        this(ctx, rowType, type, grpSets, accFactory, rowFactory, false);
+    }
+
+    /**
+     * @param ctx Execution context.
+     * @param partialInput Whether input rows are partial aggregates of the map phase.
+     */
+    public HashAggregateNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        AggregateType type,
+        List<ImmutableBitSet> grpSets,
+        Supplier<List<AccumulatorWrapper<Row>>> accFactory,
+        RowFactory<Row> rowFactory,
+        boolean partialInput
+    ) {
+        super(ctx, rowType, type, accFactory, rowFactory, rowOverhead(type, grpSets, partialInput));
+
+        assert !partialInput || type == AggregateType.MAP : type;
+
+        this.partialInput = partialInput;
 
         ImmutableBitSet.Builder b = ImmutableBitSet.builder();
 
@@ -90,8 +142,8 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     }
 
     /** */
-    private static long rowOverhead(AggregateType type, List<ImmutableBitSet> grpSets) {
-        if (type == AggregateType.REDUCE) // On reduce node each row affects only one group.
+    private static long rowOverhead(AggregateType type, List<ImmutableBitSet> grpSets, boolean partialInput) {
+        if (type == AggregateType.REDUCE || partialInput) // Each row of partial aggregates affects only one group.
             return HASH_MAP_ROW_OVERHEAD;
         else // Assume half of groups are affected in case row is added to at least one of them.
             return HASH_MAP_ROW_OVERHEAD * grpSets.size() / 2;
@@ -122,6 +174,37 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         waiting--;
 
+        add(row);
+
+        if (waiting == 0)
+            source().request(waiting = IN_BUFFER_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void pushBatch(RowBatch<Row> batch) throws Exception {
+        assert downstream() != null;
+        assert waiting >= batch.size();
+
+        checkState();
+
+        waiting -= batch.size();
+
+        for (int i = 0; i < batch.size(); i++)
+            add(batch.get(i));
+
+        if (waiting == 0)
+            source().request(waiting = IN_BUFFER_SIZE);
+    }
+
+    /** Adds the row to groupings. */
+    private void add(Row row) throws IgniteCheckedException {
+        if (partialInput) {
+            if (groupings.get((byte)handler().get(0, row)).merge(row) || hasAggAccum)
+                onRowAdded(row, 0);
+
+            return;
+        }
+
         boolean groupingsChanged = false;
 
         for (Grouping grouping : groupings) {
@@ -148,10 +231,7 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         // whole row we have close to real memory consumption by row referenced objects (except service structures).
         // Also we can guess size of service structures required by grouping and use it as constant row overhead.
         if (hasAggAccum || groupingsChanged)
-            nodeMemoryTracker.onRowAdded(row);
-
-        if (waiting == 0)
-            source().request(waiting = IN_BUFFER_SIZE);
+            onRowAdded(row, 0);
     }
 
     /** {@inheritDoc} */
@@ -163,6 +243,9 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         waiting = -1;
 
+        if (parts != null)
+            finishSpill(0);
+
         flush();
     }
 
@@ -170,10 +253,18 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     @Override protected void rewindInternal() {
         requested = 0;
         waiting = 0;
+        closeSpill();
         groupings.forEach(Grouping::reset);
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeSpill();
+
+        super.closeInternal();
+    }
+
     /** */
     private void flush() throws Exception {
         if (isClosed())
@@ -188,7 +279,18 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         inLoop = true;
         try {
-            while (requested > 0 && !groupingsQueue.isEmpty()) {
+            while (requested > 0) {
+                if (groupingsQueue.isEmpty()) {
+                    if (F.isEmpty(pending))
+                        break;
+
+                    aggregate(pending.pop());
+
+                    groupingsQueue = groupingsQueue();
+
+                    continue;
+                }
+
                 Grouping grouping = groupingsQueue.peek();
 
                 int toSnd = Math.min(requested, IN_BUFFER_SIZE - processed);
@@ -223,6 +325,130 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         }
     }
 
+    /**
+     * Tracks memory of the added row. Spills groups to disk if the memory quota is exceeded.
+     *
+     * @param row Added row.
+     * @param lvl Spill level.
+     */
+    private void onRowAdded(Row row, int lvl) throws IgniteCheckedException {
+        try {
+            nodeMemoryTracker.onRowAdded(row);
+        }
+        catch (MemoryQuotaExceededException e) {
+            // Spilling can't split a single group.
+            if (context().spillManager() == null || lvl == MAX_SPILL_LEVELS || groupsCount() <= 1)
+                throw e;
+
+            spill(lvl);
+        }
+    }
+
+    /**
+     * Writes partial aggregates of all groups to partitions of the spill level.
+     *
+     * @param lvl Spill level.
+     */
+    private void spill(int lvl) throws IgniteCheckedException {
+        if (parts == null) {
+            SpillManager spillMgr = context().spillManager();
+
+            assert spillMgr != null;
+
+            if (spillRowFactory == null)
+                spillRowFactory = handler().factory(Byte.class, GroupKey.class, Object[].class);
+
+            parts = new SpillFile[PARTS_CNT];
+
+            for (int i = 0; i < PARTS_CNT; i++)
+                parts[i] = spillMgr.createFile(spillRowFactory);
+        }
+
+        for (Grouping grouping : groupings)
+            grouping.spill(lvl);
+
+        nodeMemoryTracker.reset();
+    }
+
+    /**
+     * Spills the rest of groups and schedules aggregation of the partitions.
+     *
+     * @param lvl Spill level.
+     */
+    private void finishSpill(int lvl) throws IgniteCheckedException {
+        spill(lvl);
+
+        if (pending == null)
+            pending = new ArrayDeque<>();
+
+        for (SpillFile<Row> part : parts) {
+            if (part.size() > 0)
+                pending.push(new Partition(part, lvl));
+            else
+                part.close();
+        }
+
+        parts = null;
+    }
+
+    /**
+     * Aggregates partial aggregates of a spilled partition.
+     *
+     * @param part Partition.
+     */
+    private void aggregate(Partition part) throws Exception {
+        nodeMemoryTracker.reset();
+
+        try {
+            int processed = 0;
+
+            for (Row row = part.file.next(); row != null; row = part.file.next()) {
+                if (++processed % IN_BUFFER_SIZE == 0)
+                    checkState();
+
+                if (groupings.get((byte)handler().get(0, row)).merge(row) || hasAggAccum)
+                    onRowAdded(row, part.lvl + 1);
+            }
+        }
+        finally {
+            part.file.close();
+        }
+
+        if (parts != null)
+            finishSpill(part.lvl + 1);
+    }
+
+    /** */
+    private int groupsCount() {
+        int cnt = 0;
+
+        for (Grouping grouping : groupings)
+            cnt += grouping.size();
+
+        return cnt;
+    }
+
+    /** */
+    private RowHandler<Row> handler() {
+        return context().rowHandler();
+    }
+
+    /** */
+    private void closeSpill() {
+        if (parts != null) {
+            for (SpillFile<Row> part : parts)
+                part.close();
+
+            parts = null;
+        }
+
+        if (pending != null) {
+            pending.forEach(p -> p.file.close());
+
+            pending = null;
+        }
+    }
+
     /** */
     private ArrayDeque<Grouping> groupingsQueue() {
         return groupings.stream()
@@ -387,6 +613,55 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
             return res;
         }
 
+        /**
+         * Writes partial aggregates of the groups to partitions of the spill level and removes the groups.
+         *
+         * @param lvl Spill level.
+         */
+        private void spill(int lvl) throws IgniteCheckedException {
+            for (Map.Entry<GroupKey, List<AccumulatorWrapper<Row>>> entry : groups.entrySet()) {
+                GroupKey grpKey = entry.getKey();
+                List<AccumulatorWrapper<Row>> wrappers = entry.getValue();
+                Object[] accums = null;
+
+                if (hasAccumulators()) {
+                    accums = new Object[wrappers.size()];
+
+                    for (int i = 0; i < wrappers.size(); i++)
+                        accums[i] = wrappers.get(i).accumulator();
+                }
+
+                int hash = U.hash(31 * grpId + grpKey.hashCode());
+                int part = (hash >>> (lvl * PART_BITS)) & (PARTS_CNT - 1);
+
+                parts[part].add(spillRowFactory.create(grpId, grpKey, accums));
+            }
+
+            groups.clear();
+        }
+
+        /**
+         * Merges spilled or scanned partial aggregates of a group.
+         *
+         * @param row Row of partial aggregates.
+         * @return {@code True} if a new group is added.
+         */
+        private boolean merge(Row row) {
+            GroupKey grpKey = (GroupKey)handler.get(1, row);
+            Object[] accums = hasAccumulators() ? (Object[])handler.get(2, row) : null;
+
+            int size = groups.size();
+
+            List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(grpKey, this::create);
+
+            if (accums != null) {
+                for (int i = 0; i < wrappers.size(); i++)
+                    wrappers.get(i).accumulator().apply((Accumulator<Row>)accums[i]);
+            }
+
+            return groups.size() > size;
+        }
+
         /** */
         private List<AccumulatorWrapper<Row>> create(GroupKey key) {
             if (accFactory == null)
@@ -405,4 +680,21 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
             return groups.size();
         }
     }
+
+    /**
+     * Spilled partition.
+     */
+    private class Partition {
+        /** */
+        private final SpillFile<Row> file;
+
+        /** Spill level. */
+        private final int lvl;
+
+        /** */
+        private Partition(SpillFile<Row> file, int lvl) {
+            this.file = file;
+            this.lvl = lvl;
+        }
+    }
 }
@@ -0,0 +1,754 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryQuotaExceededException;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash join node.
+ * <p>
+ * Materializes the right input into a hash table by the right join keys, then streams the left input and looks up
+ * matching right rows by the left join keys. Rows with NULL in any of the keys never match. Rows of the right input
+ * which were not matched by any left row are pushed after the left input is drained (for RIGHT and FULL joins).
+ * <p>
+ * If the memory quota is exceeded while the hash table is built and spilling to disk is enabled, both inputs are
+ * distributed to partitions on disk by a hash of the join keys, and the partitions are joined one by one. A partition
+ * of the right input must fit the quota.
+ */
+public class HashJoinNode<Row> extends MemoryTrackingNode<Row> {
+    /** Special value to highlights that all row were received and we are not waiting any more. */
+    private static final int NOT_WAITING = -1;
+
+    /** Count of partitions of spilled inputs. */
+    private static final int PARTS_CNT = 16;
+
+    /**
+     * Placeholder for keys containing NULL values. Right rows with such keys are stored under this key to be pushed
+     * as not matched, left rows with such keys are not looked up.
+     */
+    private static final GroupKey NULL_KEY = new GroupKey(X.EMPTY_OBJECT_ARRAY);
+
+    /** */
+    private final JoinRelType joinType;
+
+    /** Left join keys. */
+    private final ImmutableIntList leftKeys;
+
+    /** Right join keys. */
+    private final ImmutableIntList rightKeys;
+
+    /** Non-equi part of the join condition, {@code null} if the join condition consists of the key pairs only. */
+    @Nullable private final BiPredicate<Row, Row> nonEquiCond;
+
+    /** Left row factory for not matched right rows. */
+    @Nullable private final RowHandler.RowFactory<Row> leftRowFactory;
+
+    /** Right row factory for not matched left rows. */
+    @Nullable private final RowHandler.RowFactory<Row> rightRowFactory;
+
+    /** */
+    private final RowHandler<Row> handler;
+
+    /** Right rows by the join keys. */
+    private final Map<GroupKey, Bucket<Row>> hashTbl = new HashMap<>();
+
+    /** */
+    private final Deque<Row> leftInBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
+
+    /** */
+    private int requested;
+
+    /** */
+    private int waitingLeft;
+
+    /** */
+    private int waitingRight;
+
+    /** */
+    private boolean inLoop;
+
+    /** Left row being joined. */
+    private Row left;
+
+    /** Right rows matching the join keys of the current left row. */
+    private Bucket<Row> bucket;
+
+    /** Index of the next right row of the current bucket. */
+    private int rightIdx;
+
+    /** Whether current left row was matched or not. */
+    private boolean matched;
+
+    /** Buckets to push not matched right rows from. */
+    private Iterator<Bucket<Row>> notMatchedIt;
+
+    /** Left row type. */
+    private final RelDataType leftRowType;
+
+    /** Right row type. */
+    private final RelDataType rightRowType;
+
+    /** Partitions of the spilled left input, {@code null} if the node has not spilled. */
+    private SpillFile<Row>[] leftParts;
+
+    /** Partitions of the spilled right input, {@code null} if the node has not spilled. */
+    private SpillFile<Row>[] rightParts;
+
+    /** Index of the partition being joined, {@code -1} while the left input is being distributed to partitions. */
+    private int curPart;
+
+    /** Listener of the runtime filter built from the right input keys, {@code null} if the filter is not needed. */
+    @Nullable private Consumer<RuntimeFilter> runtimeFilterLsnr;
+
+    /**
+     * @param ctx Execution context.
+     * @param rowType Row type.
+     * @param leftRowType Left row type.
+     * @param rightRowType Right row type.
+     * @param joinType Join type.
+     * @param leftKeys Left join keys.
+     * @param rightKeys Right join keys.
+     * @param nonEquiCond Non-equi part of the join condition.
+     * @param leftRowFactory Left row factory.
+     * @param rightRowFactory Right row factory.
+     */
+    private HashJoinNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        RelDataType leftRowType,
+        RelDataType rightRowType,
+        JoinRelType joinType,
+        ImmutableIntList leftKeys,
+        ImmutableIntList rightKeys,
+        @Nullable BiPredicate<Row, Row> nonEquiCond,
+        @Nullable RowHandler.RowFactory<Row> leftRowFactory,
+        @Nullable RowHandler.RowFactory<Row> rightRowFactory
+    ) {
+        super(ctx, rowType, HASH_MAP_ROW_OVERHEAD);
+
+        assert !F.isEmpty(leftKeys) && leftKeys.size() == rightKeys.size();
+
+        this.leftRowType = leftRowType;
+        this.rightRowType = rightRowType;
+        this.joinType = joinType;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.nonEquiCond = nonEquiCond;
+        this.leftRowFactory = leftRowFactory;
+        this.rightRowFactory = rightRowFactory;
+
+        handler = ctx.rowHandler();
+    }
+
+    /**
+     * Sets a listener to be notified once with a runtime filter which left rows have to pass to be matched. The filter
+     * is built when the right input is drained, unless the right input has spilled to disk or has too many distinct
+     * keys.
+     *
+     * @param lsnr Listener.
+     */
+    public void runtimeFilterListener(Consumer<RuntimeFilter> lsnr) {
+        assert joinType == JoinRelType.INNER || joinType == JoinRelType.SEMI || joinType == JoinRelType.RIGHT;
+
+        runtimeFilterLsnr = lsnr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert !F.isEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop)
+            context().execute(this::doJoin, this::onError);
+    }
+
+    /** */
+    private void doJoin() throws Exception {
+        checkState();
+
+        join();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        left = null;
+        bucket = null;
+        rightIdx = 0;
+        matched = false;
+        notMatchedIt = null;
+
+        hashTbl.clear();
+        leftInBuf.clear();
+
+        closeSpill();
+
+        nodeMemoryTracker.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeSpill();
+
+        super.closeInternal();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        if (idx == 0)
+            return new Downstream<Row>() {
+                /** {@inheritDoc} */
+                @Override public void push(Row row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        else if (idx == 1)
+            return new Downstream<Row>() {
+                /** {@inheritDoc} */
+                @Override public void push(Row row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    /** */
+    private void pushLeft(Row row) throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft--;
+
+        leftInBuf.add(row);
+
+        join();
+    }
+
+    /** */
+    private void pushRight(Row row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight--;
+
+        GroupKey key = key(row, rightKeys);
+
+        // Right rows with NULL keys are needed only to be pushed as not matched.
+        if (key != NULL_KEY || projectsNotMatchedRight()) {
+            if (rightParts != null)
+                rightParts[partition(key)].add(row);
+            else {
+                hashTbl.computeIfAbsent(key, k -> new Bucket<>()).rows.add(row);
+
+                onRowAdded(row);
+            }
+        }
+
+        if (waitingRight == 0)
+            rightSource().request(waitingRight = IN_BUFFER_SIZE);
+    }
+
+    /** */
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft = NOT_WAITING;
+
+        join();
+    }
+
+    /** */
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight = NOT_WAITING;
+
+        publishRuntimeFilter();
+
+        join();
+    }
+
+    /** Builds the runtime filter from the keys of the hash table and notifies the listener. */
+    private void publishRuntimeFilter() {
+        Consumer<RuntimeFilter> lsnr = runtimeFilterLsnr;
+
+        if (lsnr == null)
+            return;
+
+        // The node may be rewound, but the filter is sent only once.
+        runtimeFilterLsnr = null;
+
+        if (rightParts != null || hashTbl.size() > RuntimeFilter.MAX_KEYS)
+            return;
+
+        RuntimeFilter filter = new RuntimeFilter(leftKeys.toIntArray(), hashTbl.size());
+
+        for (GroupKey key : hashTbl.keySet()) {
+            if (key != NULL_KEY)
+                filter.add(key.fields());
+        }
+
+        lsnr.accept(filter);
+    }
+
+    /** */
+    private Node<Row> leftSource() {
+        return sources().get(0);
+    }
+
+    /** */
+    private Node<Row> rightSource() {
+        return sources().get(1);
+    }
+
+    /** */
+    private void join() throws Exception {
+        if (waitingRight == NOT_WAITING) {
+            inLoop = true;
+            try {
+                if (rightParts != null)
+                    joinPartitions();
+                else {
+                    probe();
+
+                    if (waitingLeft == NOT_WAITING && left == null && leftInBuf.isEmpty() && projectsNotMatchedRight())
+                        pushNotMatchedRight();
+                }
+            }
+            finally {
+                inLoop = false;
+            }
+        }
+
+        if (waitingRight == 0)
+            rightSource().request(waitingRight = IN_BUFFER_SIZE);
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty())
+            leftSource().request(waitingLeft = IN_BUFFER_SIZE);
+
+        if (requested > 0 && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && left == null
+            && leftInBuf.isEmpty() && (rightParts != null ? curPart == PARTS_CNT :
+            notMatchedIt != null || !projectsNotMatchedRight())) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    /** Joins buffered left rows with the hash table. */
+    private void probe() throws Exception {
+        while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+            checkState();
+
+            if (left == null) {
+                left = leftInBuf.remove();
+
+                GroupKey key = key(left, leftKeys);
+
+                bucket = key == NULL_KEY ? null : hashTbl.get(key);
+                rightIdx = 0;
+                matched = false;
+            }
+
+            if (!joinLeft())
+                break;
+
+            left = null;
+            bucket = null;
+        }
+    }
+
+    /** Distributes the left input to partitions, then joins the partitions one by one. */
+    private void joinPartitions() throws Exception {
+        if (curPart < 0) {
+            while (!leftInBuf.isEmpty()) {
+                Row row = leftInBuf.remove();
+                GroupKey key = key(row, leftKeys);
+
+                // Left rows with NULL keys are needed only to be pushed as not matched.
+                if (key != NULL_KEY || projectsNotMatchedLeft())
+                    leftParts[partition(key)].add(row);
+            }
+
+            if (waitingLeft != NOT_WAITING)
+                return;
+
+            curPart = 0;
+
+            loadPartition();
+        }
+
+        while (requested > 0 && curPart < PARTS_CNT) {
+            if (left == null && leftInBuf.isEmpty()) {
+                for (int i = 0; i < IN_BUFFER_SIZE; i++) {
+                    Row row = leftParts[curPart].next();
+
+                    if (row == null)
+                        break;
+
+                    leftInBuf.add(row);
+                }
+            }
+
+            if (left != null || !leftInBuf.isEmpty()) {
+                probe();
+
+                continue;
+            }
+
+            if (projectsNotMatchedRight()) {
+                pushNotMatchedRight();
+
+                if (requested == 0)
+                    break;
+            }
+
+            leftParts[curPart].close();
+            rightParts[curPart].close();
+
+            hashTbl.clear();
+            notMatchedIt = null;
+            bucket = null;
+
+            nodeMemoryTracker.reset();
+
+            if (++curPart < PARTS_CNT)
+                loadPartition();
+        }
+    }
+
+    /** Builds the hash table from the current partition of the right input. */
+    private void loadPartition() throws Exception {
+        SpillFile<Row> part = rightParts[curPart];
+
+        for (Row row = part.next(); row != null; row = part.next()) {
+            hashTbl.computeIfAbsent(key(row, rightKeys), k -> new Bucket<>()).rows.add(row);
+
+            nodeMemoryTracker.onRowAdded(row);
+        }
+    }
+
+    /**
+     * Tracks the row added to the hash table. Spills both inputs to disk if the memory quota is exceeded.
+     *
+     * @param row Added row.
+     */
+    private void onRowAdded(Row row) throws IgniteCheckedException {
+        try {
+            nodeMemoryTracker.onRowAdded(row);
+        }
+        catch (MemoryQuotaExceededException e) {
+            // Spilling can't split rows with equal keys.
+            if (context().spillManager() == null || hashTbl.size() <= 1)
+                throw e;
+
+            spill();
+        }
+    }
+
+    /** Moves the hash table to partitions of the right input on disk. */
+    private void spill() throws IgniteCheckedException {
+        SpillManager spillMgr = context().spillManager();
+
+        assert spillMgr != null;
+
+        RowHandler.RowFactory<Row> leftFactory = handler.factory(context().getTypeFactory(), leftRowType);
+        RowHandler.RowFactory<Row> rightFactory = handler.factory(context().getTypeFactory(), rightRowType);
+
+        leftParts = new SpillFile[PARTS_CNT];
+        rightParts = new SpillFile[PARTS_CNT];
+
+        for (int i = 0; i < PARTS_CNT; i++) {
+            leftParts[i] = spillMgr.createFile(leftFactory);
+            rightParts[i] = spillMgr.createFile(rightFactory);
+        }
+
+        curPart = -1;
+
+        for (Map.Entry<GroupKey, Bucket<Row>> e : hashTbl.entrySet()) {
+            SpillFile<Row> part = rightParts[partition(e.getKey())];
+
+            for (Row row : e.getValue().rows)
+                part.add(row);
+        }
+
+        hashTbl.clear();
+
+        nodeMemoryTracker.reset();
+    }
+
+    /** */
+    private void closeSpill() {
+        if (leftParts != null) {
+            for (int i = 0; i < PARTS_CNT; i++) {
+                leftParts[i].close();
+                rightParts[i].close();
+            }
+
+            leftParts = null;
+            rightParts = null;
+        }
+    }
+
+    /** */
+    private static int partition(GroupKey key) {
+        return U.hash(key.hashCode()) & (PARTS_CNT - 1);
+    }
+
+    /**
+     * Pushes rows produced by the current left row.
+     *
+     * @return {@code True} if the left row is processed, {@code false} if the downstream requested no more rows.
+     */
+    private boolean joinLeft() throws Exception {
+        if (bucket != null) {
+            List<Row> rows = bucket.rows;
+
+            while (rightIdx < rows.size()) {
+                if (requested == 0)
+                    return false;
+
+                Row right = rows.get(rightIdx++);
+
+                if (nonEquiCond != null && !nonEquiCond.test(left, right))
+                    continue;
+
+                matched = true;
+
+                if (joinType == JoinRelType.SEMI) {
+                    requested--;
+                    downstream().push(left);
+
+                    return true;
+                }
+
+                if (joinType == JoinRelType.ANTI)
+                    return true;
+
+                if (projectsNotMatchedRight())
+                    bucket.markMatched(rightIdx - 1);
+
+                requested--;
+                downstream().push(handler.concat(left, right));
+            }
+        }
+
+        if (!matched) {
+            if (joinType == JoinRelType.ANTI) {
+                if (requested == 0)
+                    return false;
+
+                requested--;
+                downstream().push(left);
+            }
+            else if (joinType == JoinRelType.LEFT || joinType == JoinRelType.FULL) {
+                if (requested == 0)
+                    return false;
+
+                requested--;
+                downstream().push(handler.concat(left, rightRowFactory.create()));
+            }
+        }
+
+        return true;
+    }
+
+    /** Pushes right rows which were not matched by any left row. */
+    private void pushNotMatchedRight() throws Exception {
+        if (notMatchedIt == null) {
+            notMatchedIt = hashTbl.values().iterator();
+            bucket = null;
+            rightIdx = 0;
+        }
+
+        while (requested > 0) {
+            checkState();
+
+            if (bucket == null || rightIdx == bucket.rows.size()) {
+                if (!notMatchedIt.hasNext()) {
+                    bucket = null;
+
+                    return;
+                }
+
+                bucket = notMatchedIt.next();
+                rightIdx = 0;
+            }
+
+            int idx = bucket.notMatched(rightIdx);
+
+            if (idx < 0) {
+                rightIdx = bucket.rows.size();
+
+                continue;
+            }
+
+            rightIdx = idx + 1;
+
+            requested--;
+            downstream().push(handler.concat(leftRowFactory.create(), bucket.rows.get(idx)));
+        }
+    }
+
+    /** @return {@code True} if left rows which were not matched have to be pushed. */
+    private boolean projectsNotMatchedLeft() {
+        return joinType == JoinRelType.LEFT || joinType == JoinRelType.FULL || joinType == JoinRelType.ANTI;
+    }
+
+    /** @return {@code True} if right rows which were not matched have to be pushed. */
+    private boolean projectsNotMatchedRight() {
+        return joinType == JoinRelType.RIGHT || joinType == JoinRelType.FULL;
+    }
+
+    /** */
+    private GroupKey key(Row row, ImmutableIntList keys) {
+        GroupKey.Builder b = GroupKey.builder(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object val = handler.get(keys.getInt(i), row);
+
+            if (val == null)
+                return NULL_KEY;
+
+            b.add(val);
+        }
+
+        return b.build();
+    }
+
+    /** */
+    @NotNull public static <Row> HashJoinNode<Row> create(ExecutionContext<Row> ctx, RelDataType outputRowType,
+        RelDataType leftRowType, RelDataType rightRowType, JoinRelType joinType, ImmutableIntList leftKeys,
+        ImmutableIntList rightKeys, @Nullable BiPredicate<Row, Row> nonEquiCond) {
+        RowHandler.RowFactory<Row> leftRowFactory = null;
+        RowHandler.RowFactory<Row> rightRowFactory = null;
+
+        switch (joinType) {
+            case FULL:
+                leftRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), leftRowType);
+
+                // Fall through.
+            case LEFT:
+                rightRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rightRowType);
+
+                break;
+
+            case RIGHT:
+                leftRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), leftRowType);
+
+                break;
+
+            case INNER:
+            case SEMI:
+            case ANTI:
+                break;
+
+            default:
+                throw new IllegalStateException("Join type \"" + joinType + "\" is not supported yet");
+        }
+
+        return new HashJoinNode<>(ctx, outputRowType, leftRowType, rightRowType, joinType, leftKeys, rightKeys,
+            nonEquiCond, leftRowFactory, rightRowFactory);
+    }
+
+    /** Right rows with equal join keys. */
+    private static class Bucket<Row> {
+        /** */
+        private final List<Row> rows = new ArrayList<>(1);
+
+        /** Indexes of matched rows, created on the first match. */
+        private BitSet matched;
+
+        /** */
+        void markMatched(int idx) {
+            if (matched == null)
+                matched = new BitSet(rows.size());
+
+            matched.set(idx);
+        }
+
+        /** @return Index of the first not matched row starting from {@code from}, or {@code -1} if there is none. */
+        int notMatched(int from) {
+            int idx = matched == null ? from : matched.nextClearBit(from);
+
+            return idx < rows.size() ? idx : -1;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExchangeService;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.MailboxRegistry;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
 import org.apache.ignite.internal.processors.query.calcite.trait.Destination;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
@@ -40,6 +41,9 @@ import org.apache.ignite.internal.util.typedef.internal.U;
  * A part of exchange.
  */
 public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, SingleNode<Row>, Downstream<Row> {
+    /** Maximum count of batches sent to a node and not acknowledged yet. */
+    private static final int MAX_IO_BATCH_CNT = IO_BATCH_CNT * 4;
+
     /** */
     private final ExchangeService exchange;
 
@@ -111,6 +115,20 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         nodeBuffers.get(nodeId).acknowledge(batchId);
     }
 
+    /**
+     * Sets a runtime filter for the rows sent to the node. Rows which can't pass the filter are not sent to the node
+     * since then.
+     *
+     * @param nodeId Target ID.
+     * @param filter Runtime filter.
+     */
+    public void onRuntimeFilter(UUID nodeId, RuntimeFilter filter) {
+        if (isClosed() || !dest.targets().contains(nodeId))
+            return;
+
+        getOrCreateBuffer(nodeId).filter = filter;
+    }
+
     /** */
     public void init() {
         try {
@@ -230,16 +248,20 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         while (!inBuf.isEmpty()) {
             checkState();
 
-            Collection<Buffer> buffers = dest.targets(inBuf.peek()).stream()
+            Row row = inBuf.peek();
+            List<UUID> targets = dest.targets(row);
+
+            assert !F.isEmpty(targets);
+
+            Collection<Buffer> buffers = targets.stream()
                 .map(this::getOrCreateBuffer)
+                .filter(b -> b.accepts(row))
                 .collect(Collectors.toList());
 
-            assert !F.isEmpty(buffers);
-
             if (!buffers.stream().allMatch(Buffer::ready))
                 return;
 
-            Row row = inBuf.remove();
+            inBuf.remove();
 
             for (Buffer dest : buffers)
                 dest.add(row);
@@ -281,6 +303,27 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         /** */
         private List<Row> curr;
 
+        /** Runtime filter of the rows sent to the node, {@code null} if all rows are sent. */
+        private RuntimeFilter filter;
+
+        /**
+         * Count of batches which may be sent and not acknowledged yet. Adjusted to the product of the acknowledgement
+         * round-trip time and the rate of acknowledgements, to keep the target node busy while batches are in flight.
+         */
+        private int batchesLimit = IO_BATCH_CNT;
+
+        /** Send time of the batches which are not acknowledged yet, by a batch ID modulo the array length. */
+        private final long[] sendTime = new long[MAX_IO_BATCH_CNT];
+
+        /** Minimal observed time between a batch send and its acknowledgement, in nanoseconds. */
+        private long minRtt = Long.MAX_VALUE;
+
+        /** Time of the previous acknowledgement, in nanoseconds. */
+        private long lastAckTime;
+
+        /** Moving average of the time between acknowledgements, in nanoseconds. */
+        private long avgAckInterval;
+
         /** */
         private Buffer(UUID nodeId) {
             this.nodeId = nodeId;
@@ -297,7 +340,15 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
             if (hwm == Integer.MAX_VALUE)
                 return false;
 
-            return curr.size() < IO_BATCH_SIZE || hwm - lwm < IO_BATCH_CNT;
+            return curr.size() < IO_BATCH_SIZE || hwm - lwm < batchesLimit;
+        }
+
+        /**
+         * @param row Row.
+         * @return {@code False} if the row can't be matched by the target node and may be skipped.
+         */
+        private boolean accepts(Row row) {
+            return filter == null || filter.mightContain(context().rowHandler(), row);
         }
 
         /**
@@ -309,7 +360,11 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
             assert ready();
 
             if (curr.size() == IO_BATCH_SIZE) {
-                sendBatch(nodeId, ++hwm, false, curr);
+                int batchId = ++hwm;
+
+                sendTime[batchId % MAX_IO_BATCH_CNT] = System.nanoTime();
+
+                sendBatch(nodeId, batchId, false, curr);
 
                 curr = new ArrayList<>(IO_BATCH_SIZE);
             }
@@ -346,10 +401,35 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
 
             lwm = id;
 
+            if (hwm != Integer.MAX_VALUE)
+                adjustBatchesLimit(id);
+
             if (!readyBefore && ready())
                 flush();
         }
 
+        /**
+         * Recalculates the count of batches which may be in flight using the timing of the acknowledgement.
+         *
+         * @param id Acknowledged batch ID.
+         */
+        private void adjustBatchesLimit(int id) {
+            long now = System.nanoTime();
+
+            minRtt = Math.min(minRtt, now - sendTime[id % MAX_IO_BATCH_CNT]);
+
+            if (lastAckTime > 0) {
+                long interval = now - lastAckTime;
+
+                avgAckInterval = avgAckInterval == 0 ? interval : (avgAckInterval * 7 + interval) / 8;
+            }
+
+            lastAckTime = now;
+
+            if (avgAckInterval > 0)
+                batchesLimit = (int)Math.max(IO_BATCH_CNT, Math.min(MAX_IO_BATCH_CNT, minRtt / avgAckInterval + 1));
+        }
+
         /** */
         public void close() {
             int currBatchId = hwm;
@@ -17,10 +17,13 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
 import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -29,14 +32,32 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
     /** */
     private final Function<Row, Row> prj;
 
+    /** */
+    @Nullable private final Consumer<RowBatch<Row>> batchPrj;
+
     /**
      * @param ctx Execution context.
      * @param prj Projection.
      */
     public ProjectNode(ExecutionContext<Row> ctx, RelDataType rowType, Function<Row, Row> prj) {
+        this(ctx, rowType, prj, null);
+    }
+
+    /**
+     * @param ctx Execution context.
+     * @param prj Projection.
+     * @param batchPrj Batch projection, equivalent to the row projection.
+     */
+    public ProjectNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        Function<Row, Row> prj,
+        @Nullable Consumer<RowBatch<Row>> batchPrj
+    ) {
         super(ctx, rowType);
 
         this.prj = prj;
+        this.batchPrj = batchPrj;
     }
 
     /** {@inheritDoc} */
@@ -63,6 +84,20 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
         downstream().push(prj.apply(row));
     }
 
+    /** {@inheritDoc} */
+    @Override public void pushBatch(RowBatch<Row> batch) throws Exception {
+        assert downstream() != null;
+
+        checkState();
+
+        if (batchPrj != null)
+            batchPrj.accept(batch);
+        else
+            batch.apply(prj);
+
+        downstream().pushBatch(batch);
+    }
+
     /** {@inheritDoc} */
     @Override public void end() throws Exception {
         assert downstream() != null;
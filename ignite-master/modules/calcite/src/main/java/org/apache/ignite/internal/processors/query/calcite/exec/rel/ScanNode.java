@@ -19,15 +19,20 @@ package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
 import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Scan node.
+ * <p>
+ * In batch execution mode rows are pushed to downstream by batches, filter and projection are applied to the whole
+ * batch, using batch compiled expressions if they are provided.
  */
 public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row> {
     /** */
@@ -39,6 +44,15 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
     /** */
     @Nullable private final Function<Row, Row> rowTransformer;
 
+    /** */
+    @Nullable private final Consumer<RowBatch<Row>> batchFilter;
+
+    /** */
+    @Nullable private final Consumer<RowBatch<Row>> batchTransformer;
+
+    /** */
+    private RowBatch<Row> batch;
+
     /** */
     private Iterator<Row> it;
 
@@ -73,12 +87,38 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
         Iterable<Row> src,
         @Nullable Predicate<Row> filter,
         @Nullable Function<Row, Row> rowTransformer
+    ) {
+        this(ctx, rowType, src, filter, rowTransformer, null, null);
+    }
+
+    /**
+     * @param ctx Execution context.
+     * @param rowType Row type.
+     * @param src Source.
+     * @param filter Row filter.
+     * @param rowTransformer Row transformer (projection).
+     * @param batchFilter Batch filter, equivalent to the row filter.
+     * @param batchTransformer Batch transformer, equivalent to the row transformer.
+     */
+    public ScanNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        Iterable<Row> src,
+        @Nullable Predicate<Row> filter,
+        @Nullable Function<Row, Row> rowTransformer,
+        @Nullable Consumer<RowBatch<Row>> batchFilter,
+        @Nullable Consumer<RowBatch<Row>> batchTransformer
     ) {
         super(ctx, rowType);
 
+        assert batchFilter == null || filter != null;
+        assert batchTransformer == null || rowTransformer != null;
+
         this.src = src;
         this.filter = filter;
         this.rowTransformer = rowTransformer;
+        this.batchFilter = batchFilter;
+        this.batchTransformer = batchTransformer;
     }
 
     /** {@inheritDoc} */
@@ -112,12 +152,14 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
         Commons.closeQuiet(it);
         it = null;
         Commons.closeQuiet(src);
+        batch = null;
     }
 
     /** {@inheritDoc} */
     @Override protected void rewindInternal() {
         Commons.closeQuiet(it);
         it = null;
+        batch = null;
     }
 
     /** {@inheritDoc} */
@@ -153,6 +195,11 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
      * @return Count of processed rows.
      */
     protected int processNextBatch() throws Exception {
+        int batchSize = batchSize();
+
+        if (batchSize > 0)
+            return processNextRowBatches(batchSize);
+
         int processed = 0;
         while (requested > 0 && it.hasNext()) {
             checkState();
@@ -188,6 +235,73 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
         return processed;
     }
 
+    /**
+     * Batch execution mode counterpart of {@link #processNextBatch()}.
+     *
+     * @param batchSize Maximum count of rows in a batch.
+     * @return Count of processed rows.
+     */
+    private int processNextRowBatches(int batchSize) throws Exception {
+        if (batch == null)
+            batch = new RowBatch<>(batchSize);
+
+        // Node can be closed by downstream during push.
+        RowBatch<Row> batch = this.batch;
+
+        int processed = 0;
+        while (requested > 0 && it.hasNext()) {
+            checkState();
+
+            batch.clear();
+
+            int limit = Math.min(requested, batchSize);
+
+            while (batch.size() < limit && it.hasNext())
+                batch.add(it.next());
+
+            processed += batch.size();
+
+            if (batchFilter != null)
+                batchFilter.accept(batch);
+            else if (filter != null)
+                batch.filter(filter);
+
+            if (!batch.isEmpty()) {
+                requested -= batch.size();
+
+                if (batchTransformer != null)
+                    batchTransformer.accept(batch);
+                else if (rowTransformer != null)
+                    batch.apply(rowTransformer);
+
+                downstream().pushBatch(batch);
+            }
+
+            if (processed >= IN_BUFFER_SIZE && requested > 0) {
+                // Allow others to do their job.
+                context().execute(this::push, this::onError);
+
+                return processed;
+            }
+        }
+
+        if (requested > 0 && !it.hasNext()) {
+            Commons.closeQuiet(it);
+            it = null;
+
+            requested = 0;
+
+            downstream().end();
+        }
+
+        return processed;
+    }
+
+    /** @return Count of rows pushed to downstream at once, zero to push rows one by one. */
+    protected int batchSize() {
+        return BATCH_SIZE;
+    }
+
     /** */
     @Nullable public Predicate<Row> filter() {
         return filter;
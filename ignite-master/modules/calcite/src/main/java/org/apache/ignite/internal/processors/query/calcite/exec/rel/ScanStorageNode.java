@@ -18,10 +18,12 @@
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -47,7 +49,30 @@ public class ScanStorageNode<Row> extends ScanNode<Row> {
         @Nullable Predicate<Row> filter,
         @Nullable Function<Row, Row> rowTransformer
     ) {
-        super(ctx, rowType, src, filter, rowTransformer);
+        this(storageName, ctx, rowType, src, filter, rowTransformer, null, null);
+    }
+
+    /**
+     * @param storageName Storage (index or table) name.
+     * @param ctx Execution context.
+     * @param rowType Row type.
+     * @param src Source.
+     * @param filter Row filter.
+     * @param rowTransformer Row transformer (projection).
+     * @param batchFilter Batch filter, equivalent to the row filter.
+     * @param batchTransformer Batch transformer, equivalent to the row transformer.
+     */
+    public ScanStorageNode(
+        String storageName,
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        Iterable<Row> src,
+        @Nullable Predicate<Row> filter,
+        @Nullable Function<Row, Row> rowTransformer,
+        @Nullable Consumer<RowBatch<Row>> batchFilter,
+        @Nullable Consumer<RowBatch<Row>> batchTransformer
+    ) {
+        super(ctx, rowType, src, filter, rowTransformer, batchFilter, batchTransformer);
 
         processedRowsCntr = context().ioTracker().processedRowsCounter("Scanned " + storageName);
     }
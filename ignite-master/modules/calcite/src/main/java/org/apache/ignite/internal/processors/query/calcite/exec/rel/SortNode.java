@@ -22,15 +22,25 @@ import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryQuotaExceededException;
 import org.apache.ignite.internal.util.GridBoundedPriorityQueue;
 import org.apache.ignite.internal.util.typedef.F;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ * <p>
+ * If the memory quota is exceeded by a sort without a limit and spilling to disk is enabled, buffered rows are written
+ * to disk as a sorted run. When the input ends, the runs and the rest of buffered rows are merged.
  */
 public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
+    /** Maximum count of runs merged at once. */
+    private static final int MERGE_FACTOR = 64;
+
     /** How many rows are requested by downstream. */
     private int requested;
 
@@ -49,6 +59,15 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
     /** Reverse-ordered rows in case of limited sort. */
     private List<Row> reversed;
 
+    /** Rows comparator. */
+    private final Comparator<Row> comp;
+
+    /** Sorted runs written to disk, {@code null} if the node has not spilled. */
+    private List<SpillFile<Row>> runs;
+
+    /** Merge of sorted runs and buffered rows. */
+    private Merge merge;
+
     /**
      * @param ctx Execution context.
      * @param comp Rows comparator.
@@ -68,6 +87,8 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
 
         limit = fetch == null ? -1 : fetch.get() + (offset == null ? 0 : offset.get());
 
+        this.comp = comp == null ? (Comparator<Row>)Comparator.naturalOrder() : comp;
+
         if (limit < 0)
             rows = new PriorityQueue<>(comp);
         else {
@@ -92,9 +113,18 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         if (reversed != null)
             reversed.clear();
 
+        closeRuns();
+
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeRuns();
+
+        super.closeInternal();
+    }
+
     /** {@inheritDoc} */
     @Override protected Downstream<Row> requestDownstream(int idx) {
         if (idx != 0)
@@ -133,7 +163,7 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         Row top = rows.peek();
 
         if (rows.add(row)) {
-            nodeMemoryTracker.onRowAdded(row);
+            onRowAdded(row);
 
             if (size == rows.size()) // Row added, but size is not changed means another (top) row is evicted.
                 nodeMemoryTracker.onRowRemoved(top);
@@ -152,6 +182,9 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
 
         waiting = -1;
 
+        if (runs != null)
+            merge = new Merge(mergeRuns(runs), true);
+
         flush();
     }
 
@@ -185,16 +218,12 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 processed = 0;
             }
 
-            while (requested > 0 && (reversed == null ? !rows.isEmpty() : !reversed.isEmpty())) {
+            while (requested > 0 && !isEmpty()) {
                 checkState();
 
                 requested--;
 
-                Row row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
-
-                nodeMemoryTracker.onRowRemoved(row);
-
-                downstream().push(row);
+                downstream().push(poll());
 
                 if (++processed >= IN_BUFFER_SIZE && requested > 0) {
                     // allow others to do their job
@@ -204,7 +233,7 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (isEmpty()) {
                 if (requested > 0)
                     downstream().end();
 
@@ -215,4 +244,199 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
             inLoop = false;
         }
     }
+
+    /** */
+    private boolean isEmpty() {
+        if (merge != null)
+            return merge.isEmpty();
+
+        return reversed == null ? rows.isEmpty() : reversed.isEmpty();
+    }
+
+    /** */
+    private Row poll() throws IgniteCheckedException {
+        if (merge != null)
+            return merge.poll();
+
+        Row row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+
+        nodeMemoryTracker.onRowRemoved(row);
+
+        return row;
+    }
+
+    /**
+     * Tracks the row added to the buffer. Spills buffered rows to disk if the memory quota is exceeded.
+     *
+     * @param row Added row.
+     */
+    private void onRowAdded(Row row) throws IgniteCheckedException {
+        try {
+            nodeMemoryTracker.onRowAdded(row);
+        }
+        catch (MemoryQuotaExceededException e) {
+            // Spilling a few rows doesn't release the memory, which is held by the other nodes.
+            if (limit >= 0 || context().spillManager() == null || rows.size() < IN_BUFFER_SIZE)
+                throw e;
+
+            spill();
+        }
+    }
+
+    /**
+     * Writes buffered rows to disk as a sorted run.
+     */
+    private void spill() throws IgniteCheckedException {
+        if (runs == null)
+            runs = new ArrayList<>();
+
+        SpillFile<Row> run = createRun();
+
+        while (!rows.isEmpty())
+            run.add(rows.poll());
+
+        nodeMemoryTracker.reset();
+    }
+
+    /**
+     * Merges runs until no more than {@link #MERGE_FACTOR} runs are left.
+     *
+     * @param runs Sorted runs.
+     * @return Sorted runs.
+     */
+    private List<SpillFile<Row>> mergeRuns(List<SpillFile<Row>> runs) throws Exception {
+        while (runs.size() > MERGE_FACTOR) {
+            List<SpillFile<Row>> batch = new ArrayList<>(runs.subList(0, MERGE_FACTOR));
+
+            runs.subList(0, MERGE_FACTOR).clear();
+
+            SpillFile<Row> run = createRun();
+
+            try (Merge m = new Merge(batch, false)) {
+                while (!m.isEmpty()) {
+                    checkState();
+
+                    run.add(m.poll());
+                }
+            }
+        }
+
+        return runs;
+    }
+
+    /** */
+    private SpillFile<Row> createRun() {
+        SpillManager spillMgr = context().spillManager();
+
+        assert spillMgr != null;
+
+        SpillFile<Row> run = spillMgr.createFile(context().rowHandler().factory(context().getTypeFactory(), rowType()));
+
+        runs.add(run);
+
+        return run;
+    }
+
+    /** */
+    private void closeRuns() {
+        if (merge != null) {
+            merge.close();
+
+            merge = null;
+        }
+
+        if (runs != null) {
+            runs.forEach(SpillFile::close);
+
+            runs = null;
+        }
+    }
+
+    /**
+     * Merge of sorted runs.
+     */
+    private class Merge implements AutoCloseable {
+        /** Runs ordered by their current rows. */
+        private final PriorityQueue<Run> heap = new PriorityQueue<>((r1, r2) -> comp.compare(r1.row, r2.row));
+
+        /** Merged runs. */
+        private final List<SpillFile<Row>> files;
+
+        /**
+         * @param files Sorted runs.
+         * @param withBuf Whether to merge buffered rows as well.
+         */
+        private Merge(List<SpillFile<Row>> files, boolean withBuf) throws IgniteCheckedException {
+            this.files = files;
+
+            for (SpillFile<Row> file : files)
+                add(new Run(file));
+
+            if (withBuf)
+                add(new Run(null));
+        }
+
+        /** */
+        private void add(Run run) throws IgniteCheckedException {
+            if (run.advance())
+                heap.add(run);
+        }
+
+        /** */
+        private boolean isEmpty() {
+            return heap.isEmpty();
+        }
+
+        /** */
+        private Row poll() throws IgniteCheckedException {
+            Run run = heap.poll();
+
+            assert run != null;
+
+            Row row = run.row;
+
+            add(run);
+
+            return row;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            heap.clear();
+
+            files.forEach(SpillFile::close);
+        }
+    }
+
+    /**
+     * Sorted run with its current row.
+     */
+    private class Run {
+        /** File of the run or {@code null} for buffered rows. */
+        private final SpillFile<Row> file;
+
+        /** Current row. */
+        private Row row;
+
+        /** */
+        private Run(SpillFile<Row> file) {
+            this.file = file;
+        }
+
+        /**
+         * @return {@code False} if the run is exhausted.
+         */
+        private boolean advance() throws IgniteCheckedException {
+            if (file != null)
+                row = file.next();
+            else {
+                row = rows.poll();
+
+                if (row != null)
+                    nodeMemoryTracker.onRowRemoved(row);
+            }
+
+            return row != null;
+        }
+    }
 }
@@ -0,0 +1,504 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Computes window functions over the input sorted by the partition keys and then by the order keys.
+ * <p>
+ * Rows of the current partition are buffered. When the partition ends, the window functions are computed for all
+ * its rows and the rows are emitted with the function values appended.
+ */
+public class WindowNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
+    /** Unbounded preceding frame bound. */
+    public static final long UNBOUNDED_PRECEDING = Long.MIN_VALUE;
+
+    /** Unbounded following frame bound. */
+    public static final long UNBOUNDED_FOLLOWING = Long.MAX_VALUE;
+
+    /** Current row frame bound. */
+    public static final long CURRENT_ROW = 0;
+
+    /** Compares partition keys, {@code null} if there are no partition keys. */
+    private final Comparator<Row> partCmp;
+
+    /** Compares order keys, {@code null} if there are no order keys (all rows of a partition are peers). */
+    private final Comparator<Row> peerCmp;
+
+    /** {@code True} for a ROWS frame, {@code false} for a RANGE frame. */
+    private final boolean rows;
+
+    /** Lower frame bound. */
+    private final long lower;
+
+    /** Upper frame bound. */
+    private final long upper;
+
+    /** Window functions. */
+    private final List<WindowFunction<Row>> funcs;
+
+    /** Output row factory. */
+    private final RowFactory<Row> rowFactory;
+
+    /** Rows of the current partition. */
+    private final List<Row> part = new ArrayList<>();
+
+    /** Rows ready to be pushed downstream. */
+    private final Deque<Row> outBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
+
+    /** */
+    private int requested;
+
+    /** */
+    private int waiting;
+
+    /**
+     * Frame bounds are offsets relative to the current row: negative for preceding rows, positive for following rows,
+     * {@link #CURRENT_ROW}, {@link #UNBOUNDED_PRECEDING} or {@link #UNBOUNDED_FOLLOWING}. A RANGE frame supports
+     * only current row and unbounded bounds, the current row bound of a RANGE frame includes the peers of the row.
+     *
+     * @param ctx Execution context.
+     * @param rowType Output row type.
+     * @param partCmp Partition keys comparator.
+     * @param peerCmp Order keys comparator.
+     * @param rows {@code True} for a ROWS frame, {@code false} for a RANGE frame.
+     * @param lower Lower frame bound.
+     * @param upper Upper frame bound.
+     * @param funcs Window functions.
+     */
+    public WindowNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        @Nullable Comparator<Row> partCmp,
+        @Nullable Comparator<Row> peerCmp,
+        boolean rows,
+        long lower,
+        long upper,
+        List<WindowFunction<Row>> funcs
+    ) {
+        super(ctx, rowType);
+
+        assert rows || (lower == UNBOUNDED_PRECEDING || lower == CURRENT_ROW || lower == UNBOUNDED_FOLLOWING);
+        assert rows || (upper == UNBOUNDED_PRECEDING || upper == CURRENT_ROW || upper == UNBOUNDED_FOLLOWING);
+
+        this.partCmp = partCmp;
+        this.peerCmp = peerCmp;
+        this.rows = rows;
+        this.lower = lower;
+        this.upper = upper;
+        this.funcs = funcs;
+
+        rowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rowType);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert !F.isEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        doPush();
+
+        if (!outBuf.isEmpty())
+            return;
+
+        if (waiting == 0)
+            source().request(waiting = IN_BUFFER_SIZE);
+        else if (waiting < 0 && requested > 0) {
+            requested = 0;
+
+            downstream().end();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void push(Row row) throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting--;
+
+        if (!part.isEmpty() && partCmp != null && partCmp.compare(part.get(part.size() - 1), row) != 0) {
+            flushPartition();
+
+            doPush();
+        }
+
+        part.add(row);
+
+        nodeMemoryTracker.onRowAdded(row);
+
+        if (waiting == 0 && requested > 0 && outBuf.isEmpty()) {
+            waiting = IN_BUFFER_SIZE;
+
+            context().execute(() -> source().request(IN_BUFFER_SIZE), this::onError);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void end() throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting = -1;
+
+        flushPartition();
+
+        doPush();
+
+        if (outBuf.isEmpty() && requested > 0) {
+            requested = 0;
+
+            downstream().end();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        requested = 0;
+        waiting = 0;
+        part.clear();
+        outBuf.clear();
+        nodeMemoryTracker.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        if (idx != 0)
+            throw new IndexOutOfBoundsException();
+
+        return this;
+    }
+
+    /** */
+    private void doPush() throws Exception {
+        while (requested > 0 && !outBuf.isEmpty()) {
+            checkState();
+
+            requested--;
+
+            downstream().push(outBuf.poll());
+        }
+    }
+
+    /** Computes the window functions for the rows of the current partition. */
+    private void flushPartition() {
+        if (part.isEmpty())
+            return;
+
+        Partition<Row> p = new Partition<>(part, peerCmp, rows, lower, upper);
+
+        int size = part.size();
+        Object[][] vals = new Object[funcs.size()][];
+
+        for (int i = 0; i < funcs.size(); i++) {
+            vals[i] = new Object[size];
+
+            funcs.get(i).compute(p, vals[i]);
+        }
+
+        RowHandler<Row> hnd = context().rowHandler();
+
+        for (int i = 0; i < size; i++) {
+            Row row = part.get(i);
+            int cnt = hnd.columnCount(row);
+
+            Object[] fields = new Object[cnt + funcs.size()];
+
+            for (int j = 0; j < cnt; j++)
+                fields[j] = hnd.get(j, row);
+
+            for (int j = 0; j < funcs.size(); j++)
+                fields[cnt + j] = vals[j][i];
+
+            outBuf.add(rowFactory.create(fields));
+        }
+
+        part.clear();
+
+        nodeMemoryTracker.reset();
+    }
+
+    /**
+     * @return ROW_NUMBER function.
+     */
+    public static <Row> WindowFunction<Row> rowNumber() {
+        return (p, res) -> {
+            for (int i = 0; i < p.size(); i++)
+                res[i] = (long)i + 1;
+        };
+    }
+
+    /**
+     * @return RANK function.
+     */
+    public static <Row> WindowFunction<Row> rank() {
+        return (p, res) -> {
+            for (int i = 0; i < p.size(); i++)
+                res[i] = (long)p.peerStart(i) + 1;
+        };
+    }
+
+    /**
+     * @return DENSE_RANK function.
+     */
+    public static <Row> WindowFunction<Row> denseRank() {
+        return (p, res) -> {
+            long rank = 0;
+
+            for (int i = 0; i < p.size(); i++) {
+                if (p.peerStart(i) == i)
+                    rank++;
+
+                res[i] = rank;
+            }
+        };
+    }
+
+    /**
+     * Creates LAG or LEAD function.
+     *
+     * @param val Value of a row.
+     * @param shift Offset of the row to take the value from, negative for LAG and positive for LEAD.
+     * @param dflt Default value of the current row, used if there is no row at the offset.
+     * @return Function.
+     */
+    public static <Row> WindowFunction<Row> offset(Function<Row, Object> val, int shift,
+        @Nullable Function<Row, Object> dflt) {
+        return (p, res) -> {
+            for (int i = 0; i < p.size(); i++) {
+                long idx = (long)i + shift;
+
+                if (idx >= 0 && idx < p.size())
+                    res[i] = val.apply(p.row((int)idx));
+                else
+                    res[i] = dflt == null ? null : dflt.apply(p.row(i));
+            }
+        };
+    }
+
+    /**
+     * Creates FIRST_VALUE or LAST_VALUE function.
+     *
+     * @param val Value of a row.
+     * @param first {@code True} to take the value from the first row of the frame, {@code false} from the last one.
+     * @return Function.
+     */
+    public static <Row> WindowFunction<Row> frameValue(Function<Row, Object> val, boolean first) {
+        return (p, res) -> {
+            for (int i = 0; i < p.size(); i++) {
+                int start = p.frameStart(i);
+                int end = p.frameEnd(i);
+
+                if (start > end)
+                    res[i] = null;
+                else
+                    res[i] = val.apply(p.row(first ? start : end));
+            }
+        };
+    }
+
+    /**
+     * Creates an aggregate function computed over the frame.
+     * <p>
+     * If the frame of every row starts at the first row of the partition and {@code incremental} is {@code true},
+     * rows are added to a single accumulator as the frame grows. Otherwise the accumulator is recreated for each
+     * distinct frame.
+     *
+     * @param accFactory Factory of the accumulator of the aggregate call.
+     * @param args Function which converts a row to the row of aggregate arguments, {@code null} if the aggregate
+     * takes its arguments from the row itself.
+     * @param incremental Whether the accumulator may be asked for the result several times.
+     * @return Function.
+     */
+    public static <Row> WindowFunction<Row> aggregate(Supplier<List<AccumulatorWrapper<Row>>> accFactory,
+        @Nullable Function<Row, Row> args, boolean incremental) {
+        return (p, res) -> {
+            AccumulatorWrapper<Row> acc = null;
+
+            // Rows [from, to) are added to the accumulator.
+            int from = 0;
+            int to = 0;
+
+            Object val = null;
+
+            for (int i = 0; i < p.size(); i++) {
+                int start = p.frameStart(i);
+                int end = Math.max(start, p.frameEnd(i) + 1);
+
+                if (acc != null && start == from && end == to) {
+                    res[i] = val;
+
+                    continue;
+                }
+
+                if (acc == null || !incremental || start != from || end < to) {
+                    acc = F.first(accFactory.get());
+
+                    from = to = start;
+                }
+
+                while (to < end) {
+                    Row row = p.row(to++);
+
+                    acc.add(args == null ? row : args.apply(row));
+                }
+
+                res[i] = val = acc.end();
+            }
+        };
+    }
+
+    /**
+     * Window function.
+     */
+    @FunctionalInterface
+    public interface WindowFunction<Row> {
+        /**
+         * Computes values of the function for all rows of a partition.
+         *
+         * @param part Partition.
+         * @param res Values of the function, one per row of the partition.
+         */
+        void compute(Partition<Row> part, Object[] res);
+    }
+
+    /**
+     * Rows of a partition with their peers and frames.
+     */
+    public static class Partition<Row> {
+        /** */
+        private final List<Row> rows;
+
+        /** Index of the first peer of a row. */
+        private final int[] peerStart;
+
+        /** Index of the last peer of a row. */
+        private final int[] peerEnd;
+
+        /** */
+        private final boolean rowsFrame;
+
+        /** */
+        private final long lower;
+
+        /** */
+        private final long upper;
+
+        /** */
+        private Partition(
+            List<Row> rows,
+            @Nullable Comparator<Row> peerCmp,
+            boolean rowsFrame,
+            long lower,
+            long upper
+        ) {
+            this.rows = rows;
+            this.rowsFrame = rowsFrame;
+            this.lower = lower;
+            this.upper = upper;
+
+            int size = rows.size();
+
+            peerStart = new int[size];
+            peerEnd = new int[size];
+
+            int start = 0;
+
+            for (int i = 1; i <= size; i++) {
+                if (i == size || (peerCmp != null && peerCmp.compare(rows.get(i - 1), rows.get(i)) != 0)) {
+                    for (int j = start; j < i; j++) {
+                        peerStart[j] = start;
+                        peerEnd[j] = i - 1;
+                    }
+
+                    start = i;
+                }
+            }
+        }
+
+        /** @return Count of rows. */
+        public int size() {
+            return rows.size();
+        }
+
+        /** @return Row. */
+        public Row row(int idx) {
+            return rows.get(idx);
+        }
+
+        /** @return Index of the first peer of the row. */
+        public int peerStart(int idx) {
+            return peerStart[idx];
+        }
+
+        /** @return Index of the last peer of the row. */
+        public int peerEnd(int idx) {
+            return peerEnd[idx];
+        }
+
+        /** @return Index of the first row of the frame, greater than {@link #frameEnd(int)} if the frame is empty. */
+        public int frameStart(int idx) {
+            if (lower == UNBOUNDED_PRECEDING)
+                return 0;
+
+            if (lower == UNBOUNDED_FOLLOWING)
+                return size();
+
+            if (!rowsFrame)
+                return peerStart[idx];
+
+            return (int)Math.min(Math.max(idx + lower, 0), size());
+        }
+
+        /** @return Index of the last row of the frame. */
+        public int frameEnd(int idx) {
+            if (upper == UNBOUNDED_FOLLOWING)
+                return size() - 1;
+
+            if (upper == UNBOUNDED_PRECEDING)
+                return -1;
+
+            if (!rowsFrame)
+                return peerEnd[idx];
+
+            return (int)Math.max(Math.min(idx + upper, size() - 1), -1);
+        }
+    }
+}
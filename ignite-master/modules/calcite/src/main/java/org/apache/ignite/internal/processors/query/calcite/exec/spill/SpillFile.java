@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Temporary file of rows. Rows are appended to the file and then read back once in the same order.
+ * <p>
+ * Row is written as a count of fields followed by the fields. Field is written as a type tag followed by the value in
+ * a compact binary form, values of types without a tag are serialized by the marshaller. Object arrays are read back
+ * as {@code Object[]} regardless of the component type.
+ * <p>
+ * Not thread safe.
+ */
+public class SpillFile<Row> implements AutoCloseable {
+    /** Size of read and write buffers. */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /** */
+    private static final byte NULL = 0;
+
+    /** */
+    private static final byte BOOLEAN = 1;
+
+    /** */
+    private static final byte BYTE = 2;
+
+    /** */
+    private static final byte SHORT = 3;
+
+    /** */
+    private static final byte INT = 4;
+
+    /** */
+    private static final byte LONG = 5;
+
+    /** */
+    private static final byte FLOAT = 6;
+
+    /** */
+    private static final byte DOUBLE = 7;
+
+    /** */
+    private static final byte STRING = 8;
+
+    /** */
+    private static final byte DECIMAL = 9;
+
+    /** */
+    private static final byte BYTES = 10;
+
+    /** */
+    private static final byte BYTE_STRING = 11;
+
+    /** */
+    private static final byte UUID_VAL = 12;
+
+    /** */
+    private static final byte GROUP_KEY = 13;
+
+    /** */
+    private static final byte ARRAY = 14;
+
+    /** */
+    private static final byte MARSHALLED = 15;
+
+    /** */
+    private final SpillManager mgr;
+
+    /** */
+    private final File file;
+
+    /** */
+    private final RowFactory<Row> factory;
+
+    /** */
+    private final RowHandler<Row> hnd;
+
+    /** */
+    private DataOutputStream out;
+
+    /** */
+    private DataInputStream in;
+
+    /** Count of written rows. */
+    private int size;
+
+    /** Count of rows to read. */
+    private int remaining = -1;
+
+    /**
+     * @param mgr Spill manager.
+     * @param file File.
+     * @param factory Factory of rows read from the file.
+     */
+    SpillFile(SpillManager mgr, File file, RowFactory<Row> factory) {
+        this.mgr = mgr;
+        this.file = file;
+        this.factory = factory;
+
+        hnd = factory.handler();
+    }
+
+    /**
+     * Appends a row to the file.
+     *
+     * @param row Row.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void add(Row row) throws IgniteCheckedException {
+        assert remaining < 0 : "File is read";
+
+        try {
+            if (out == null)
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUF_SIZE));
+
+            int cnt = hnd.columnCount(row);
+
+            out.writeInt(cnt);
+
+            for (int i = 0; i < cnt; i++)
+                write(hnd.get(i, row));
+
+            size++;
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to write spill file: " + file, e);
+        }
+    }
+
+    /**
+     * @return Count of rows written to the file.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads the next row. The first call finishes writing.
+     *
+     * @return Next row or {@code null} if all rows are read.
+     * @throws IgniteCheckedException If failed.
+     */
+    public @Nullable Row next() throws IgniteCheckedException {
+        try {
+            if (remaining < 0) {
+                remaining = size;
+
+                if (out != null) {
+                    out.close();
+
+                    out = null;
+
+                    mgr.onWritten(file.length());
+                }
+
+                if (size > 0)
+                    in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUF_SIZE));
+            }
+
+            if (remaining == 0) {
+                U.closeQuiet(in);
+
+                in = null;
+
+                return null;
+            }
+
+            remaining--;
+
+            Object[] fields = new Object[in.readInt()];
+
+            for (int i = 0; i < fields.length; i++)
+                fields[i] = read();
+
+            return factory.create(fields);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to read spill file: " + file, e);
+        }
+    }
+
+    /**
+     * Closes the file and removes it from disk.
+     */
+    @Override public void close() {
+        U.closeQuiet(out);
+        U.closeQuiet(in);
+
+        out = null;
+        in = null;
+
+        U.delete(file);
+    }
+
+    /**
+     * @param val Value.
+     */
+    private void write(Object val) throws IOException, IgniteCheckedException {
+        if (val == null)
+            out.writeByte(NULL);
+        else if (val instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer)val);
+        }
+        else if (val instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long)val);
+        }
+        else if (val instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(((String)val).getBytes(StandardCharsets.UTF_8));
+        }
+        else if (val instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double)val);
+        }
+        else if (val instanceof BigDecimal) {
+            BigDecimal dec = (BigDecimal)val;
+
+            out.writeByte(DECIMAL);
+            out.writeInt(dec.scale());
+            writeBytes(dec.unscaledValue().toByteArray());
+        }
+        else if (val instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean)val);
+        }
+        else if (val instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte)val);
+        }
+        else if (val instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short)val);
+        }
+        else if (val instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float)val);
+        }
+        else if (val instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes((byte[])val);
+        }
+        else if (val instanceof ByteString) {
+            out.writeByte(BYTE_STRING);
+            writeBytes(((ByteString)val).getBytes());
+        }
+        else if (val instanceof UUID) {
+            out.writeByte(UUID_VAL);
+            out.writeLong(((UUID)val).getMostSignificantBits());
+            out.writeLong(((UUID)val).getLeastSignificantBits());
+        }
+        else if (val instanceof GroupKey) {
+            out.writeByte(GROUP_KEY);
+            writeArray(((GroupKey)val).fields());
+        }
+        else if (val instanceof Object[]) {
+            out.writeByte(ARRAY);
+            writeArray((Object[])val);
+        }
+        else {
+            out.writeByte(MARSHALLED);
+            writeBytes(mgr.marshal(val));
+        }
+    }
+
+    /**
+     * @param arr Array.
+     */
+    private void writeArray(Object[] arr) throws IOException, IgniteCheckedException {
+        out.writeInt(arr.length);
+
+        for (Object val : arr)
+            write(val);
+    }
+
+    /**
+     * @param bytes Bytes.
+     */
+    private void writeBytes(byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * @return Value.
+     */
+    private Object read() throws IOException, IgniteCheckedException {
+        byte tag = in.readByte();
+
+        switch (tag) {
+            case NULL:
+                return null;
+
+            case BOOLEAN:
+                return in.readBoolean();
+
+            case BYTE:
+                return in.readByte();
+
+            case SHORT:
+                return in.readShort();
+
+            case INT:
+                return in.readInt();
+
+            case LONG:
+                return in.readLong();
+
+            case FLOAT:
+                return in.readFloat();
+
+            case DOUBLE:
+                return in.readDouble();
+
+            case STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+
+            case DECIMAL:
+                int scale = in.readInt();
+
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+
+            case BYTES:
+                return readBytes();
+
+            case BYTE_STRING:
+                return new ByteString(readBytes());
+
+            case UUID_VAL:
+                return new UUID(in.readLong(), in.readLong());
+
+            case GROUP_KEY:
+                return new GroupKey(readArray());
+
+            case ARRAY:
+                return readArray();
+
+            case MARSHALLED:
+                return mgr.unmarshal(readBytes());
+
+            default:
+                throw new IOException("Unexpected value type [file=" + file + ", tag=" + tag + ']');
+        }
+    }
+
+    /**
+     * @return Array.
+     */
+    private Object[] readArray() throws IOException, IgniteCheckedException {
+        Object[] arr = new Object[in.readInt()];
+
+        for (int i = 0; i < arr.length; i++)
+            arr[i] = read();
+
+        return arr;
+    }
+
+    /**
+     * @return Bytes.
+     */
+    private byte[] readBytes() throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+
+        in.readFully(bytes);
+
+        return bytes;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.message.MarshallingContext;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+
+/**
+ * Manages temporary files of execution nodes, which spill their state to disk when a memory quota is exceeded.
+ * <p>
+ * Values of well-known types are written in a compact binary form, other values are serialized by the marshaller.
+ */
+public class SpillManager implements MarshallingContext {
+    /** Directory of spill files, relative to the work directory. */
+    public static final String SPILL_DIR = "sql_spill";
+
+    /** Directory of spill files. */
+    private final File dir;
+
+    /** */
+    private final Marshaller marsh;
+
+    /** */
+    private final ClassLoader clsLdr;
+
+    /** */
+    private final AtomicLong fileIdGen = new AtomicLong();
+
+    /** Count of created files. */
+    private final LongAdder files = new LongAdder();
+
+    /** Count of written bytes. */
+    private final LongAdder bytes = new LongAdder();
+
+    /**
+     * @param dir Directory of spill files.
+     * @param marsh Marshaller of values of not well-known types.
+     * @param clsLdr Class loader.
+     */
+    public SpillManager(File dir, Marshaller marsh, ClassLoader clsLdr) {
+        this.dir = dir;
+        this.marsh = marsh;
+        this.clsLdr = clsLdr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Marshaller marshaller() {
+        return marsh;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ClassLoader classLoader() {
+        return clsLdr;
+    }
+
+    /**
+     * Creates a new spill file. The file is created on disk on the first write.
+     *
+     * @param factory Factory of rows read from the file.
+     * @return Spill file.
+     */
+    public <Row> SpillFile<Row> createFile(RowFactory<Row> factory) {
+        files.increment();
+
+        return new SpillFile<>(this, new File(dir, "spill-" + fileIdGen.incrementAndGet() + ".bin"), factory);
+    }
+
+    /**
+     * @param size Count of bytes written to a spill file.
+     */
+    void onWritten(long size) {
+        bytes.add(size);
+    }
+
+    /**
+     * @return Count of created spill files.
+     */
+    public long spilledFiles() {
+        return files.sum();
+    }
+
+    /**
+     * @return Count of bytes written to spill files.
+     */
+    public long spilledBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * Removes the directory of spill files.
+     */
+    public void stop() {
+        U.delete(dir);
+    }
+}
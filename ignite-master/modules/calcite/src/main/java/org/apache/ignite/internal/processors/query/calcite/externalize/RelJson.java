@@ -736,6 +736,7 @@ class RelJson {
         map.put("agg", toJson(node.getAggregation()));
         map.put("type", toJson(node.getType()));
         map.put("distinct", node.isDistinct());
+        map.put("approximate", node.isApproximate());
         map.put("operands", node.getArgList());
         map.put("filter", node.filterArg);
         map.put("name", node.getName());
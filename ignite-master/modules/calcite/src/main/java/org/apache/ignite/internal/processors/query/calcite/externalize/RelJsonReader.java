@@ -329,12 +329,13 @@ public class RelJsonReader {
             Map<String, Object> aggMap = (Map)jsonAggCall.get("agg");
             SqlAggFunction aggregation = (SqlAggFunction)relJson.toOp(aggMap);
             Boolean distinct = (Boolean)jsonAggCall.get("distinct");
+            boolean approximate = Boolean.TRUE.equals(jsonAggCall.get("approximate"));
             List<Integer> operands = (List<Integer>)jsonAggCall.get("operands");
             Integer filterOperand = (Integer)jsonAggCall.get("filter");
             RelDataType type = relJson.toType(Commons.typeFactory(Commons.emptyCluster()), jsonAggCall.get("type"));
             String name = (String)jsonAggCall.get("name");
             RelCollation collation = relJson.toCollation((List<Map<String, Object>>)jsonAggCall.get("coll"));
-            return AggregateCall.create(aggregation, distinct, false, false, operands,
+            return AggregateCall.create(aggregation, distinct, approximate, false, operands,
                 filterOperand == null ? -1 : filterOperand, null, collation, type, name);
         }
     }
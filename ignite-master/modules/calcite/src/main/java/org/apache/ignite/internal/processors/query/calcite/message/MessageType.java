@@ -50,6 +50,9 @@ public enum MessageType {
     /** */
     GENERIC_VALUE_MESSAGE(307, GenericValueMessage::new),
 
+    /** */
+    QUERY_RUNTIME_FILTER_MESSAGE(308, RuntimeFilterMessage::new),
+
     /** */
     FRAGMENT_MAPPING(350, FragmentMapping::new),
 
@@ -51,10 +51,13 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
     @GridDirectTransient
     private List<Object> rows;
 
-    /** */
+    /** Rows marshalled one by one, used if the rows can't be serialized by {@link RowsBatchSerializer}. */
     @GridDirectCollection(ValueMessage.class)
     private List<ValueMessage> mRows;
 
+    /** Rows serialized by {@link RowsBatchSerializer}. */
+    private byte[] rowsBytes;
+
     /** */
     public QueryBatchMessage() {
     }
@@ -109,8 +112,14 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
     /** {@inheritDoc} */
     @Override public void prepareMarshal(MarshallingContext ctx) throws IgniteCheckedException {
-        if (mRows != null || rows == null)
+        if (mRows != null || rowsBytes != null || rows == null)
+            return;
+
+        if (RowsBatchSerializer.supported(rows)) {
+            rowsBytes = RowsBatchSerializer.serialize(rows, ctx);
+
             return;
+        }
 
         mRows = new ArrayList<>(rows.size());
 
@@ -127,7 +136,16 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
     /** {@inheritDoc} */
     @Override public void prepareUnmarshal(MarshallingContext ctx) throws IgniteCheckedException {
-        if (rows != null || mRows == null)
+        if (rows != null)
+            return;
+
+        if (rowsBytes != null) {
+            rows = RowsBatchSerializer.deserialize(rowsBytes, ctx);
+
+            return;
+        }
+
+        if (mRows == null)
             return;
 
         rows = new ArrayList<>(mRows.size());
@@ -189,6 +207,12 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
                 writer.incrementState();
 
+            case 6:
+                if (!writer.writeByteArray("rowsBytes", rowsBytes))
+                    return false;
+
+                writer.incrementState();
+
         }
 
         return true;
@@ -250,6 +274,14 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
                 reader.incrementState();
 
+            case 6:
+                rowsBytes = reader.readByteArray("rowsBytes");
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
         }
 
         return reader.afterMessageRead(QueryBatchMessage.class);
@@ -262,6 +294,6 @@ public class QueryBatchMessage implements MarshalableMessage, ExecutionContextAw
 
     /** {@inheritDoc} */
     @Override public byte fieldsCount() {
-        return 6;
+        return 7;
     }
 }
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.message;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.util.io.GridUnsafeDataInput;
+import org.apache.ignite.internal.util.io.GridUnsafeDataOutput;
+
+/**
+ * Serializes a batch of rows into a single byte array.
+ * <p>
+ * Values of the types used by the execution for the SQL types (numbers, strings, decimals, binaries, UUIDs) are
+ * written in a compact binary form prefixed with a one byte type tag. Values of other types are marshalled one by one
+ * with the message marshaller. This is much cheaper than marshalling of each row as a whole object.
+ */
+public final class RowsBatchSerializer {
+    /** */
+    private static final byte NULL = 0;
+
+    /** */
+    private static final byte BOOLEAN = 1;
+
+    /** */
+    private static final byte BYTE = 2;
+
+    /** */
+    private static final byte SHORT = 3;
+
+    /** */
+    private static final byte INT = 4;
+
+    /** */
+    private static final byte LONG = 5;
+
+    /** */
+    private static final byte FLOAT = 6;
+
+    /** */
+    private static final byte DOUBLE = 7;
+
+    /** */
+    private static final byte STRING = 8;
+
+    /** */
+    private static final byte DECIMAL = 9;
+
+    /** */
+    private static final byte UUID_VAL = 10;
+
+    /** */
+    private static final byte BYTES = 11;
+
+    /** */
+    private static final byte BYTE_STRING = 12;
+
+    /** Value marshalled with the message marshaller. */
+    private static final byte MARSHALLED = 13;
+
+    /** Estimated size of a serialized field, used to preallocate the output. */
+    private static final int FIELD_SIZE_ESTIMATE = 8;
+
+    /** */
+    private RowsBatchSerializer() {
+        // No-op.
+    }
+
+    /**
+     * @param rows Rows.
+     * @return {@code True} if the rows may be serialized.
+     */
+    public static boolean supported(List<Object> rows) {
+        for (Object row : rows) {
+            if (!(row instanceof Object[]))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param rows Rows, each one is an object array.
+     * @param ctx Marshalling context.
+     * @return Serialized rows.
+     */
+    public static byte[] serialize(List<Object> rows, MarshallingContext ctx) throws IgniteCheckedException {
+        int fieldsCnt = rows.isEmpty() ? 0 : ((Object[])rows.get(0)).length;
+
+        GridUnsafeDataOutput out = new GridUnsafeDataOutput(Math.max(64, rows.size() * fieldsCnt * FIELD_SIZE_ESTIMATE));
+
+        try {
+            out.writeInt(rows.size());
+
+            for (Object row : rows) {
+                Object[] fields = (Object[])row;
+
+                out.writeInt(fields.length);
+
+                for (Object val : fields)
+                    write(out, val, ctx);
+            }
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to serialize rows batch.", e);
+        }
+
+        return out.array();
+    }
+
+    /**
+     * @param bytes Serialized rows.
+     * @param ctx Marshalling context.
+     * @return Rows.
+     */
+    public static List<Object> deserialize(byte[] bytes, MarshallingContext ctx) throws IgniteCheckedException {
+        GridUnsafeDataInput in = new GridUnsafeDataInput();
+
+        in.bytes(bytes, bytes.length);
+
+        try {
+            int rowsCnt = in.readInt();
+
+            List<Object> rows = new ArrayList<>(rowsCnt);
+
+            for (int i = 0; i < rowsCnt; i++) {
+                Object[] fields = new Object[in.readInt()];
+
+                for (int j = 0; j < fields.length; j++)
+                    fields[j] = read(in, ctx);
+
+                rows.add(fields);
+            }
+
+            return rows;
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to deserialize rows batch.", e);
+        }
+    }
+
+    /** */
+    private static void write(GridUnsafeDataOutput out, Object val, MarshallingContext ctx)
+        throws IOException, IgniteCheckedException {
+        if (val == null)
+            out.writeByte(NULL);
+        else if (val instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer)val);
+        }
+        else if (val instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long)val);
+        }
+        else if (val instanceof String) {
+            out.writeByte(STRING);
+            out.writeUTF((String)val);
+        }
+        else if (val instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double)val);
+        }
+        else if (val instanceof BigDecimal) {
+            BigDecimal dec = (BigDecimal)val;
+
+            out.writeByte(DECIMAL);
+            out.writeInt(dec.scale());
+            out.writeByteArray(dec.unscaledValue().toByteArray());
+        }
+        else if (val instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean)val);
+        }
+        else if (val instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte)val);
+        }
+        else if (val instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short)val);
+        }
+        else if (val instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float)val);
+        }
+        else if (val instanceof UUID) {
+            out.writeByte(UUID_VAL);
+            out.writeLong(((UUID)val).getMostSignificantBits());
+            out.writeLong(((UUID)val).getLeastSignificantBits());
+        }
+        else if (val instanceof byte[]) {
+            out.writeByte(BYTES);
+            out.writeByteArray((byte[])val);
+        }
+        else if (val instanceof ByteString) {
+            out.writeByte(BYTE_STRING);
+            out.writeByteArray(((ByteString)val).getBytes());
+        }
+        else {
+            out.writeByte(MARSHALLED);
+            out.writeByteArray(ctx.marshal(val));
+        }
+    }
+
+    /** */
+    private static Object read(GridUnsafeDataInput in, MarshallingContext ctx) throws IOException, IgniteCheckedException {
+        byte type = in.readByte();
+
+        switch (type) {
+            case NULL:
+                return null;
+
+            case BOOLEAN:
+                return in.readBoolean();
+
+            case BYTE:
+                return in.readByte();
+
+            case SHORT:
+                return in.readShort();
+
+            case INT:
+                return in.readInt();
+
+            case LONG:
+                return in.readLong();
+
+            case FLOAT:
+                return in.readFloat();
+
+            case DOUBLE:
+                return in.readDouble();
+
+            case STRING:
+                return in.readUTF();
+
+            case DECIMAL: {
+                int scale = in.readInt();
+
+                return new BigDecimal(new BigInteger(in.readByteArray()), scale);
+            }
+
+            case UUID_VAL:
+                return new UUID(in.readLong(), in.readLong());
+
+            case BYTES:
+                return in.readByteArray();
+
+            case BYTE_STRING:
+                return new ByteString(in.readByteArray());
+
+            case MARSHALLED:
+                return ctx.unmarshal(in.readByteArray());
+
+            default:
+                throw new IOException("Unexpected value type: " + type);
+        }
+    }
+}
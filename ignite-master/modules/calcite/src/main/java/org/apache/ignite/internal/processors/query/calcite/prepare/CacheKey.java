@@ -60,6 +60,16 @@ public class CacheKey {
         this(schemaName, query, null, X.EMPTY_OBJECT_ARRAY);
     }
 
+    /** @return Schema name. */
+    public String schemaName() {
+        return schemaName;
+    }
+
+    /** @return Query string. */
+    public String query() {
+        return query;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
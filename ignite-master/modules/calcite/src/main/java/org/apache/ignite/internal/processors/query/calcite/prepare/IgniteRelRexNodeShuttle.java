@@ -21,6 +21,7 @@ import org.apache.calcite.rex.RexShuttle;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteCorrelatedNestedLoopJoin;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteFilter;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashIndexSpool;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashJoin;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteLimit;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteMergeJoin;
@@ -32,6 +33,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.IgniteSortedIndex
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableFunctionScan;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableModify;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
 
 /** */
 public class IgniteRelRexNodeShuttle extends IgniteRelShuttle {
@@ -78,6 +80,13 @@ public class IgniteRelRexNodeShuttle extends IgniteRelShuttle {
         return super.visit(rel);
     }
 
+    /** {@inheritDoc} */
+    @Override public IgniteRel visit(IgniteHashJoin rel) {
+        rexShuttle.apply(rel.getCondition());
+
+        return super.visit(rel);
+    }
+
     /** {@inheritDoc} */
     @Override public IgniteRel visit(IgniteIndexScan rel) {
         rexShuttle.apply(rel.projects());
@@ -139,4 +148,11 @@ public class IgniteRelRexNodeShuttle extends IgniteRelShuttle {
 
         return super.visit(rel);
     }
+
+    /** {@inheritDoc} */
+    @Override public IgniteRel visit(IgniteWindow rel) {
+        rexShuttle.apply(rel.calls());
+
+        return super.visit(rel);
+    }
 }
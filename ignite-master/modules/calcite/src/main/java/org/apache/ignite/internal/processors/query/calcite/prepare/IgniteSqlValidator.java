@@ -47,6 +47,7 @@ import org.apache.calcite.sql.SqlOperatorTable;
 import org.apache.calcite.sql.SqlSelect;
 import org.apache.calcite.sql.SqlUpdate;
 import org.apache.calcite.sql.SqlUtil;
+import org.apache.calcite.sql.SqlWindow;
 import org.apache.calcite.sql.dialect.CalciteSqlDialect;
 import org.apache.calcite.sql.parser.SqlParserPos;
 import org.apache.calcite.sql.type.FamilyOperandTypeChecker;
@@ -66,6 +67,7 @@ import org.apache.ignite.internal.processors.query.QueryUtils;
 import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteCacheTable;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteTable;
+import org.apache.ignite.internal.processors.query.calcite.sql.fun.IgniteOwnSqlOperatorTable;
 import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
 import org.apache.ignite.internal.processors.query.calcite.util.IgniteResource;
 import org.apache.ignite.internal.util.typedef.F;
@@ -278,6 +280,15 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
             if (isSystemFieldName(alias))
                 throw newValidationError(call, IgniteResource.INSTANCE.illegalAlias(alias));
         }
+        else if (call.getKind() == SqlKind.OVER) {
+            SqlNode win = call.operand(1);
+
+            if (win instanceof SqlIdentifier)
+                win = scope.lookupWindow(((SqlIdentifier)win).getSimple());
+
+            if (win instanceof SqlWindow)
+                validateWindowFrame((SqlWindow)win);
+        }
 
         super.validateCall(call, scope);
     }
@@ -381,6 +392,9 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
 
     /** */
     private void validateAggregateFunction(SqlCall call, SqlAggFunction aggFunction) {
+        if (aggFunction == IgniteOwnSqlOperatorTable.APPROX_PERCENTILE)
+            return;
+
         if (!SqlKind.AGGREGATE.contains(aggFunction.kind))
             throw newValidationError(call,
                 IgniteResource.INSTANCE.unsupportedAggregationFunction(aggFunction.getName()));
@@ -401,6 +415,13 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
             case GROUP_CONCAT:
             case LISTAGG:
             case STRING_AGG:
+            case ROW_NUMBER:
+            case RANK:
+            case DENSE_RANK:
+            case LAG:
+            case LEAD:
+            case FIRST_VALUE:
+            case LAST_VALUE:
                 return;
             default:
                 throw newValidationError(call,
@@ -408,6 +429,18 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
         }
     }
 
+    /** */
+    private void validateWindowFrame(SqlWindow win) {
+        if (win.isRows())
+            return;
+
+        for (SqlNode bound : Arrays.asList(win.getLowerBound(), win.getUpperBound())) {
+            if (bound != null && !SqlWindow.isCurrentRow(bound) && !SqlWindow.isUnboundedPreceding(bound)
+                && !SqlWindow.isUnboundedFollowing(bound))
+                throw newValidationError(bound, IgniteResource.INSTANCE.unsupportedRangeWindowFrame());
+        }
+    }
+
     /** */
     private SqlNodeList inferColumnList(SqlInsert call) {
         final SqlValidatorTable table = table(validatedNamespace(call, unknownType));
@@ -49,6 +49,7 @@ import org.apache.ignite.internal.processors.query.calcite.rule.FilterConverterR
 import org.apache.ignite.internal.processors.query.calcite.rule.FilterSpoolMergeToHashIndexSpoolRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.FilterSpoolMergeToSortedIndexSpoolRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.HashAggregateConverterRule;
+import org.apache.ignite.internal.processors.query.calcite.rule.HashJoinConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.IndexCountRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.IndexMinMaxRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.LogicalScanConverterRule;
@@ -62,6 +63,7 @@ import org.apache.ignite.internal.processors.query.calcite.rule.TableFunctionSca
 import org.apache.ignite.internal.processors.query.calcite.rule.TableModifyConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.UnionConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.ValuesConverterRule;
+import org.apache.ignite.internal.processors.query.calcite.rule.WindowConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.ExposeIndexRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.FilterScanMergeRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.LogicalOrToUnionRule;
@@ -101,6 +103,9 @@ public enum PlannerPhase {
                 RuleSets.ofList(
                     FilterScanMergeRule.TABLE_SCAN_SKIP_CORRELATED,
 
+                    // Extracts window functions of a project to a separate relational operator.
+                    CoreRules.PROJECT_TO_LOGICAL_PROJECT_AND_WINDOW,
+
                     CoreRules.FILTER_MERGE,
                     CoreRules.FILTER_AGGREGATE_TRANSPOSE,
                     CoreRules.FILTER_SET_OP_TRANSPOSE,
@@ -190,11 +195,13 @@ public enum PlannerPhase {
                                         .anyInputs())).toRule(),
 
                     // Rule is applicable to aggregates without ordering, otherwise application of this rule
-                    // leads to invalid projections (i.e. LISTAGG).
+                    // leads to invalid projections (i.e. LISTAGG). Approximate distinct calls are computed
+                    // by a mergeable sketch and must not be expanded.
                     AggregateExpandDistinctAggregatesRule.Config.JOIN
                         .withOperandSupplier(op -> op.operand(LogicalAggregate.class)
                             .predicate(agg -> agg.getAggCallList().stream().noneMatch(call ->
-                                    call.getAggregation().requiresGroupOrder() != Optionality.FORBIDDEN))
+                                    call.getAggregation().requiresGroupOrder() != Optionality.FORBIDDEN
+                                        || call.isApproximate()))
                             .anyInputs())
                         .toRule(),
 
@@ -231,6 +238,7 @@ public enum PlannerPhase {
 
                     // TODO: https://issues.apache.org/jira/browse/IGNITE-16334 join rules ordering is significant here.
                     MergeJoinConverterRule.INSTANCE,
+                    HashJoinConverterRule.INSTANCE,
                     CorrelatedNestedLoopJoinRule.INSTANCE,
                     CorrelateToNestedLoopRule.INSTANCE,
                     NestedLoopJoinConverterRule.INSTANCE,
@@ -254,7 +262,8 @@ public enum PlannerPhase {
                     TableModifyConverterRule.INSTANCE,
                     UnionConverterRule.INSTANCE,
                     SortConverterRule.INSTANCE,
-                    TableFunctionScanConverterRule.INSTANCE
+                    TableFunctionScanConverterRule.INSTANCE,
+                    WindowConverterRule.INSTANCE
                 )
             );
         }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.prepare;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlJoin;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.SqlSelect;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.util.SqlShuttle;
+import org.apache.calcite.util.Pair;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Replaces numeric and character string literals of the query conditions (WHERE and JOIN ... ON clauses) with
+ * dynamic parameters, so queries which differ only in such literals share the same cached plan.
+ *
+ * <p>Literals of the other clauses are kept as is since they affect the result set metadata (select list), must be
+ * constants (window frame bounds, ordinals of the ORDER BY and GROUP BY clauses) or are significant for the plan
+ * (FETCH and OFFSET). Literals of the HAVING clause are kept, since its expressions must match the GROUP BY
+ * expressions, which are kept. Literals of the IN lists are also kept, since the planner converts such lists to
+ * search arguments, which are used as index scan bounds. Exact numeric literals with a fractional part or out of the
+ * BIGINT range are kept too: a parameter would change the precision and scale derived for the expressions with them.
+ * Existing dynamic parameters are renumbered in order of traversal.
+ */
+public class QueryParameterizer extends SqlShuttle {
+    /** Original query parameters. */
+    private final Object[] params;
+
+    /** Parameters of the parameterized query. */
+    private final List<Object> newParams = new ArrayList<>();
+
+    /** Whether the visited node belongs to a condition. */
+    private boolean inCondition;
+
+    /** Count of replaced literals. */
+    private int replaced;
+
+    /** Whether the query refers to a parameter which is not set. */
+    private boolean invalid;
+
+    /**
+     * @param params Original query parameters.
+     */
+    private QueryParameterizer(Object[] params) {
+        this.params = params;
+    }
+
+    /**
+     * Replaces literals of the query conditions with dynamic parameters.
+     *
+     * @param qry Parsed query.
+     * @param params Query parameters.
+     * @return Parameterized query and its parameters or {@code null} if the query has no literals to replace.
+     */
+    public static @Nullable Pair<SqlNode, Object[]> parameterize(SqlNode qry, Object[] params) {
+        if (!qry.isA(SqlKind.QUERY))
+            return null;
+
+        QueryParameterizer parameterizer = new QueryParameterizer(params);
+
+        SqlNode res = qry.accept(parameterizer);
+
+        if (parameterizer.invalid || parameterizer.replaced == 0)
+            return null;
+
+        return Pair.of(res, parameterizer.newParams.toArray());
+    }
+
+    /** {@inheritDoc} */
+    @Override public SqlNode visit(SqlCall call) {
+        if (call instanceof SqlSelect) {
+            SqlSelect select = (SqlSelect)call;
+
+            return visitOperands(call, op -> op == select.getWhere());
+        }
+
+        if (call instanceof SqlJoin) {
+            SqlJoin join = (SqlJoin)call;
+
+            return visitOperands(call, op -> op == join.getCondition());
+        }
+
+        if (call.getKind() == SqlKind.IN || call.getKind() == SqlKind.NOT_IN) {
+            boolean cond = inCondition;
+
+            return visitOperands(call, op -> cond && !(op instanceof SqlNodeList));
+        }
+
+        return super.visit(call);
+    }
+
+    /** {@inheritDoc} */
+    @Override public SqlNode visit(SqlLiteral literal) {
+        if (!inCondition)
+            return literal;
+
+        Object val = value(literal);
+
+        if (val == null)
+            return literal;
+
+        replaced++;
+
+        return parameter(val, literal.getParserPosition());
+    }
+
+    /** {@inheritDoc} */
+    @Override public SqlNode visit(SqlDynamicParam param) {
+        if (param.getIndex() >= params.length) {
+            invalid = true;
+
+            return param;
+        }
+
+        return parameter(params[param.getIndex()], param.getParserPosition());
+    }
+
+    /**
+     * Visits operands of the call.
+     *
+     * @param call Call.
+     * @param cond Predicate which checks whether an operand is a condition.
+     * @return Call with visited operands.
+     */
+    private SqlNode visitOperands(SqlCall call, Predicate<SqlNode> cond) {
+        boolean prev = inCondition;
+
+        List<SqlNode> operands = call.getOperandList();
+        List<SqlNode> newOperands = new ArrayList<>(operands.size());
+        boolean changed = false;
+
+        try {
+            for (SqlNode op : operands) {
+                SqlNode newOp = null;
+
+                if (op != null) {
+                    inCondition = cond.test(op);
+
+                    newOp = op.accept(this);
+                }
+
+                changed |= newOp != op;
+
+                newOperands.add(newOp);
+            }
+        }
+        finally {
+            inCondition = prev;
+        }
+
+        if (!changed)
+            return call;
+
+        return call.getOperator().createCall(call.getFunctionQuantifier(), call.getParserPosition(), newOperands);
+    }
+
+    /**
+     * @param val Parameter value.
+     * @param pos Parser position.
+     * @return Dynamic parameter.
+     */
+    private SqlNode parameter(Object val, SqlParserPos pos) {
+        newParams.add(val);
+
+        return new SqlDynamicParam(newParams.size() - 1, pos);
+    }
+
+    /**
+     * @param literal Literal.
+     * @return Value of the parameter which replaces the literal or {@code null} if the literal must be kept.
+     */
+    private static @Nullable Object value(SqlLiteral literal) {
+        if (literal instanceof SqlCharStringLiteral)
+            return literal.getValueAs(String.class);
+
+        if (!(literal instanceof SqlNumericLiteral))
+            return null;
+
+        SqlNumericLiteral num = (SqlNumericLiteral)literal;
+        BigDecimal val = num.getValueAs(BigDecimal.class);
+
+        if (!num.isExact())
+            return val.doubleValue();
+
+        if (!num.isInteger())
+            return null;
+
+        // Keep the type the literal would have: INTEGER or BIGINT.
+        BigInteger intVal = val.toBigIntegerExact();
+
+        if (intVal.bitLength() < Integer.SIZE)
+            return intVal.intValue();
+
+        if (intVal.bitLength() < Long.SIZE)
+            return intVal.longValue();
+
+        return null;
+    }
+}
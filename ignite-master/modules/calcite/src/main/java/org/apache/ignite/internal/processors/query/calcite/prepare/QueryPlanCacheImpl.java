@@ -19,29 +19,69 @@ package org.apache.ignite.internal.processors.query.calcite.prepare;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.managers.systemview.walker.SqlPlanCacheViewWalker;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
 import org.apache.ignite.internal.processors.query.QueryField;
+import org.apache.ignite.internal.processors.query.calcite.CalciteQueryProcessor;
 import org.apache.ignite.internal.processors.query.calcite.util.AbstractService;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.internal.processors.query.schema.AbstractSchemaChangeListener;
 import org.apache.ignite.internal.processors.query.schema.management.IndexDescriptor;
 import org.apache.ignite.internal.processors.subscription.GridInternalSubscriptionProcessor;
 import org.apache.ignite.internal.util.GridBoundedConcurrentLinkedHashMap;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.systemview.view.SqlPlanCacheView;
+
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 
 /**
  *
  */
 public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCache {
+    /** Name of the plan cache metrics registry and of the plan cache system view. */
+    public static final String PLAN_CACHE_NAME = metricName("sql", "plans", "cache");
+
     /** */
-    private static final int CACHE_SIZE = 1024;
+    public static final String PLAN_CACHE_VIEW_DESC = "SQL query plans cache.";
+
+    /** Cache size used until the engine configuration is applied. */
+    private static final int DFLT_CACHE_SIZE = 1024;
+
+    /** Planning time histogram bounds in milliseconds. */
+    private static final long[] PLANNING_TIME_BOUNDS = new long[] {10, 50, 100, 500, 1000, 5000};
 
     /** */
     private final GridInternalSubscriptionProcessor subscriptionProc;
 
     /** */
-    private volatile Map<CacheKey, QueryPlan> cache;
+    private volatile int cacheSize = DFLT_CACHE_SIZE;
+
+    /** Plan expire timeout in milliseconds, {@code 0} if plans don't expire. */
+    private volatile long expireTimeout;
+
+    /** */
+    private volatile Map<CacheKey, Entry> cache;
+
+    /** */
+    private final LongAdderMetric hits;
+
+    /** */
+    private final LongAdderMetric misses;
+
+    /** */
+    private final LongAdderMetric planningTime;
+
+    /** */
+    private final HistogramMetricImpl planningTimeHistogram;
 
     /**
      * @param ctx Kernal context.
@@ -49,9 +89,31 @@ public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCach
     public QueryPlanCacheImpl(GridKernalContext ctx) {
         super(ctx);
 
-        cache = new GridBoundedConcurrentLinkedHashMap<>(CACHE_SIZE);
+        cache = new GridBoundedConcurrentLinkedHashMap<>(cacheSize);
         subscriptionProc = ctx.internalSubscriptionProcessor();
 
+        MetricRegistry mreg = ctx.metric().registry(PLAN_CACHE_NAME);
+
+        hits = mreg.longAdderMetric("hits", "Count of query plans found in the plan cache.");
+        misses = mreg.longAdderMetric("misses", "Count of queries planned because of the plan cache miss.");
+        planningTime = mreg.longAdderMetric("planningTime", "Total time spent on planning in milliseconds.");
+        planningTimeHistogram = mreg.histogram("planningTimeHistogram", PLANNING_TIME_BOUNDS,
+            "Histogram of the query planning time in milliseconds.");
+
+        mreg.register("size", () -> cache.size(), "Count of query plans in the plan cache.");
+
+        ctx.systemView().registerView(PLAN_CACHE_NAME, PLAN_CACHE_VIEW_DESC,
+            new SqlPlanCacheViewWalker(),
+            () -> F.view(cache.entrySet(), e -> e.getValue().plan != null),
+            e -> new SqlPlanCacheView(
+                e.getKey().schemaName(),
+                e.getKey().query(),
+                e.getValue().hits.sum(),
+                e.getValue().planningTime,
+                e.getValue().createTime,
+                e.getValue().lastAccessTime
+            ));
+
         init();
     }
 
@@ -62,25 +124,149 @@ public class QueryPlanCacheImpl extends AbstractService implements QueryPlanCach
 
     /** {@inheritDoc} */
     @Override public void onStart(GridKernalContext ctx) {
-        // No-op.
+        CalciteQueryEngineConfiguration cfg = Commons.lookupComponent(ctx, CalciteQueryProcessor.class).config();
+
+        cacheSize = cfg.getPlanCacheSize();
+        expireTimeout = cfg.getPlanCacheExpireTimeout();
+
+        clear();
     }
 
     /** {@inheritDoc} */
     @Override public QueryPlan queryPlan(CacheKey key, Supplier<QueryPlan> planSupplier) {
-        QueryPlan plan = cache.computeIfAbsent(key, k -> planSupplier.get());
+        Entry entry = entry(key);
 
-        return plan.copy();
+        if (entry != null)
+            return entry.plan.copy();
+
+        // Concurrent misses of the same key get the same entry, which is planned once.
+        entry = cache.computeIfAbsent(key, k -> new Entry());
+
+        return plan(key, entry, planSupplier).copy();
     }
 
     /** {@inheritDoc} */
     @Override public QueryPlan queryPlan(CacheKey key) {
-        QueryPlan plan = cache.get(key);
-        return plan != null ? plan.copy() : null;
+        Entry entry = entry(key);
+
+        return entry != null ? entry.plan.copy() : null;
     }
 
     /** {@inheritDoc} */
     @Override public void clear() {
-        cache = new GridBoundedConcurrentLinkedHashMap<>(CACHE_SIZE);
+        cache = new GridBoundedConcurrentLinkedHashMap<>(cacheSize);
+    }
+
+    /**
+     * Finds not expired planned cache entry and accounts the cache hit.
+     *
+     * @param key Cache key.
+     * @return Cache entry or {@code null} if there is no planned entry for the key.
+     */
+    private Entry entry(CacheKey key) {
+        Map<CacheKey, Entry> cache = this.cache;
+
+        Entry entry = cache.get(key);
+
+        if (entry == null || entry.plan == null)
+            return null;
+
+        long now = U.currentTimeMillis();
+
+        if (expireTimeout > 0 && now - entry.createTime > expireTimeout) {
+            cache.remove(key, entry);
+
+            return null;
+        }
+
+        onHit(entry, now);
+
+        return entry;
+    }
+
+    /**
+     * Plans the query of the cache entry unless it is already planned by a concurrent thread.
+     *
+     * @param key Cache key.
+     * @param entry Cache entry.
+     * @param planSupplier Plan supplier.
+     * @return Query plan.
+     */
+    private QueryPlan plan(CacheKey key, Entry entry, Supplier<QueryPlan> planSupplier) {
+        synchronized (entry) {
+            if (entry.plan != null) {
+                onHit(entry, U.currentTimeMillis());
+
+                return entry.plan;
+            }
+
+            misses.increment();
+
+            long start = System.nanoTime();
+
+            QueryPlan plan;
+
+            try {
+                plan = planSupplier.get();
+            }
+            catch (RuntimeException | Error e) {
+                // Don't keep entries of the queries which can't be planned.
+                cache.remove(key, entry);
+
+                throw e;
+            }
+
+            long time = U.millisSinceNanos(start);
+
+            planningTime.add(time);
+            planningTimeHistogram.value(time);
+
+            entry.onPlanned(plan, time);
+
+            return plan;
+        }
+    }
+
+    /**
+     * @param entry Cache entry.
+     * @param now Current time.
+     */
+    private void onHit(Entry entry, long now) {
+        entry.hits.increment();
+        entry.lastAccessTime = now;
+
+        hits.increment();
+    }
+
+    /** Plan cache entry, the plan is set once the query is planned. */
+    private static class Entry {
+        /** */
+        private volatile QueryPlan plan;
+
+        /** Planning time in milliseconds. */
+        private volatile long planningTime;
+
+        /** */
+        private volatile long createTime;
+
+        /** */
+        private final LongAdder hits = new LongAdder();
+
+        /** */
+        private volatile long lastAccessTime;
+
+        /**
+         * @param plan Query plan.
+         * @param planningTime Planning time in milliseconds.
+         */
+        private void onPlanned(QueryPlan plan, long planningTime) {
+            this.planningTime = planningTime;
+
+            createTime = lastAccessTime = U.currentTimeMillis();
+
+            // Published last, the entry is visible as planned only when all the fields are set.
+            this.plan = plan;
+        }
     }
 
     /** Schema change listener. */
@@ -153,8 +153,21 @@ public class SqlToNativeCommandConverter {
         int inlineSize = sqlCmd.inlineSize() == null ? QueryIndex.DFLT_INLINE_SIZE :
             sqlCmd.inlineSize().intValue(true);
 
-        return new SqlCreateIndexCommand(schemaName, tblName, idxName, sqlCmd.ifNotExists(), cols, false,
-            parallel, inlineSize);
+        SqlCreateIndexCommand cmd = new SqlCreateIndexCommand(schemaName, tblName, idxName, sqlCmd.ifNotExists(), cols,
+            false, parallel, inlineSize);
+
+        cmd.hash(sqlCmd.hash());
+
+        if (sqlCmd.includeList() != null) {
+            List<String> inclCols = new ArrayList<>(sqlCmd.includeList().size());
+
+            for (SqlNode col : sqlCmd.includeList().getList())
+                inclCols.add(((SqlIdentifier)col).getSimple());
+
+            cmd.includedColumns(inclCols);
+        }
+
+        return cmd;
     }
 
     /**
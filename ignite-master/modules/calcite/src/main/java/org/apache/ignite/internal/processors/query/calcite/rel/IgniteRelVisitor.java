@@ -64,6 +64,11 @@ public interface IgniteRelVisitor<T> {
      */
     T visit(IgniteMergeJoin rel);
 
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}
+     */
+    T visit(IgniteHashJoin rel);
+
     /**
      * See {@link IgniteRelVisitor#visit(IgniteRel)}
      */
@@ -180,6 +185,11 @@ public interface IgniteRelVisitor<T> {
      */
     T visit(IgniteCollect rel);
 
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}
+     */
+    T visit(IgniteWindow rel);
+
     /**
      * Visits a relational node and calculates a result on the basis of node meta information.
      * @param rel Relational node.
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.rel;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexFieldCollation;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexOver;
+import org.apache.calcite.rex.RexWindow;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.Pair;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCostFactory;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistribution;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitUtils;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitsAwareIgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+
+/**
+ * Relational expression that computes window functions sharing the same window (partition keys, order keys and
+ * frame). Output row consists of the input row fields followed by the values of the window function calls.
+ *
+ * <p>The input is required to be sorted by the partition keys and then by the order keys, so the operator processes
+ * partitions one by one and keeps only the rows of the current partition in memory. An input already sorted in a
+ * suitable way (for example, read by an index scan) is consumed as is, without additional sort.
+ */
+public class IgniteWindow extends SingleRel implements TraitsAwareIgniteRel {
+    /** Window function calls. */
+    private final List<RexOver> calls;
+
+    /**
+     * Constructor.
+     *
+     * @param cluster Cluster.
+     * @param traits Trait set.
+     * @param input Input relational expression.
+     * @param calls Window function calls, all of them must have the same window.
+     */
+    public IgniteWindow(RelOptCluster cluster, RelTraitSet traits, RelNode input, List<RexOver> calls) {
+        super(cluster, traits, input);
+
+        assert !calls.isEmpty();
+
+        this.calls = ImmutableList.copyOf(calls);
+    }
+
+    /** */
+    public IgniteWindow(RelInput input) {
+        this(
+            input.getCluster(),
+            input.getTraitSet().replace(IgniteConvention.INSTANCE),
+            input.getInputs().get(0),
+            Commons.transform(input.getExpressionList("calls"), RexOver.class::cast)
+        );
+    }
+
+    /** @return Window function calls. */
+    public List<RexOver> calls() {
+        return calls;
+    }
+
+    /** @return Window shared by all the calls. */
+    public RexWindow window() {
+        return calls.get(0).getWindow();
+    }
+
+    /** @return Partition keys. */
+    public ImmutableBitSet partitionKeys() {
+        ImmutableBitSet.Builder keys = ImmutableBitSet.builder();
+
+        for (RexNode key : window().partitionKeys)
+            keys.set(((RexInputRef)key).getIndex());
+
+        return keys.build();
+    }
+
+    /** @return Order of the rows within a partition. */
+    public RelCollation orderKeys() {
+        List<RelFieldCollation> fields = new ArrayList<>(window().orderKeys.size());
+
+        for (RexFieldCollation key : window().orderKeys) {
+            fields.add(new RelFieldCollation(((RexInputRef)key.left).getIndex(), key.getDirection(),
+                key.getNullDirection()));
+        }
+
+        return RelCollations.of(fields);
+    }
+
+    /** @return Collation of the input required to process partitions one by one. */
+    public RelCollation collation() {
+        return collation(partitionKeys(), orderKeys());
+    }
+
+    /**
+     * Creates the collation required by a window: partition keys followed by the order keys.
+     *
+     * @param partKeys Partition keys.
+     * @param orderKeys Order of the rows within a partition.
+     * @return Collation.
+     */
+    public static RelCollation collation(ImmutableBitSet partKeys, RelCollation orderKeys) {
+        List<RelFieldCollation> fields = new ArrayList<>(partKeys.cardinality() + orderKeys.getFieldCollations().size());
+
+        for (int key : partKeys)
+            fields.add(TraitUtils.createFieldCollation(key));
+
+        for (RelFieldCollation field : orderKeys.getFieldCollations()) {
+            if (!partKeys.get(field.getFieldIndex()))
+                fields.add(field);
+        }
+
+        return RelCollations.of(fields);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected RelDataType deriveRowType() {
+        RelDataTypeFactory.Builder builder = getCluster().getTypeFactory().builder()
+            .addAll(getInput().getRowType().getFieldList());
+
+        for (int i = 0; i < calls.size(); i++)
+            builder.add("$w" + i, calls.get(i).getType());
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteWindow copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new IgniteWindow(getCluster(), traitSet, sole(inputs), calls);
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
+        return new IgniteWindow(cluster, getTraitSet(), sole(inputs), calls);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T> T accept(IgniteRelVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw).item("calls", calls);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Pair<RelTraitSet, List<RelTraitSet>> passThroughDistribution(RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits) {
+        IgniteDistribution distr = TraitUtils.distribution(nodeTraits);
+
+        if (distr == IgniteDistributions.single() || distr.function().correlated() || colocated(distr))
+            return Pair.of(nodeTraits, Commons.transform(inTraits, t -> t.replace(distr)));
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Pair<RelTraitSet, List<RelTraitSet>> passThroughCollation(RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits) {
+        RelCollation required = TraitUtils.collation(nodeTraits);
+        RelCollation collation = suitable(required) ? required : collation();
+
+        return Pair.of(nodeTraits.replace(collation), ImmutableList.of(inTraits.get(0).replace(collation)));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveRewindability(RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits) {
+        return ImmutableList.of(Pair.of(nodeTraits.replace(TraitUtils.rewindability(inTraits.get(0))), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveDistribution(RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits) {
+        IgniteDistribution distr = TraitUtils.distribution(inTraits.get(0));
+
+        if (distr.satisfies(IgniteDistributions.single()))
+            return ImmutableList.of(Pair.of(nodeTraits.replace(IgniteDistributions.single()), inTraits));
+
+        // Input fields keep their positions, so the distribution is not changed.
+        if (colocated(distr))
+            return ImmutableList.of(Pair.of(nodeTraits.replace(distr), inTraits));
+
+        return ImmutableList.of();
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCollation(RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits) {
+        RelCollation collation = TraitUtils.collation(inTraits.get(0));
+
+        if (!suitable(collation))
+            return ImmutableList.of();
+
+        return ImmutableList.of(Pair.of(nodeTraits.replace(collation), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCorrelation(RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits) {
+        return ImmutableList.of(Pair.of(nodeTraits.replace(TraitUtils.correlation(inTraits.get(0))), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        IgniteCostFactory costFactory = (IgniteCostFactory)planner.getCostFactory();
+
+        double rows = mq.getRowCount(getInput());
+
+        // Only the largest partition is kept in memory.
+        double partRows = rows;
+
+        ImmutableBitSet partKeys = partitionKeys();
+
+        if (!partKeys.isEmpty()) {
+            Double partitions = mq.getDistinctRowCount(getInput(), partKeys, null);
+
+            if (partitions != null && partitions > 1)
+                partRows = rows / partitions;
+        }
+
+        double rowSize = getInput().getRowType().getFieldCount() * IgniteCost.AVERAGE_FIELD_SIZE;
+
+        return costFactory.makeCost(
+            rows,
+            rows * (IgniteCost.ROW_PASS_THROUGH_COST + calls.size()),
+            0,
+            partRows * rowSize,
+            0
+        );
+    }
+
+    /**
+     * @param distr Distribution.
+     * @return {@code True} if rows of a partition can't be spread among several hash distributed data sets.
+     */
+    private boolean colocated(IgniteDistribution distr) {
+        if (distr.getType() != RelDistribution.Type.HASH_DISTRIBUTED)
+            return false;
+
+        ImmutableBitSet partKeys = partitionKeys();
+
+        for (Integer key : distr.getKeys()) {
+            if (!partKeys.get(key))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param collation Collation.
+     * @return {@code True} if rows ordered by the collation come partition by partition (partition keys may be
+     * in any order and direction) ordered by the order keys within a partition.
+     */
+    private boolean suitable(RelCollation collation) {
+        ImmutableBitSet partKeys = partitionKeys();
+        List<RelFieldCollation> fields = collation.getFieldCollations();
+
+        if (fields.size() < partKeys.cardinality())
+            return false;
+
+        ImmutableBitSet.Builder prefix = ImmutableBitSet.builder();
+
+        for (int i = 0; i < partKeys.cardinality(); i++)
+            prefix.set(fields.get(i).getFieldIndex());
+
+        if (!prefix.build().equals(partKeys))
+            return false;
+
+        int pos = partKeys.cardinality();
+
+        for (RelFieldCollation field : orderKeys().getFieldCollations()) {
+            if (partKeys.get(field.getFieldIndex()))
+                continue;
+
+            if (pos >= fields.size() || !fields.get(pos++).equals(field))
+                return false;
+        }
+
+        return true;
+    }
+}
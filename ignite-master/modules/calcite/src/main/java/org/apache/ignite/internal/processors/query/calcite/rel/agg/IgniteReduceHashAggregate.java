@@ -91,7 +91,7 @@ public class IgniteReduceHashAggregate extends IgniteReduceAggregateBase impleme
             mem = groupSet.cardinality() * IgniteCost.AVERAGE_FIELD_SIZE;
         else {
             for (AggregateCall aggCall : aggCalls) {
-                if (aggCall.isDistinct())
+                if (aggCall.isDistinct() && !aggCall.isApproximate())
                     mem += IgniteCost.AGG_CALL_MEM_COST * rows;
                 else
                     mem += IgniteCost.AGG_CALL_MEM_COST;
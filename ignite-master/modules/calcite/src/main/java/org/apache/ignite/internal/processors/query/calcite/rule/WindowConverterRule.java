@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.rule;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.PhysicalNode;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rel.logical.LogicalWindow;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexFieldCollation;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexOver;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.rex.RexWindowBounds;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlWindow;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteConvention;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+
+/**
+ * Converts {@link LogicalWindow} to a chain of {@link IgniteWindow} nodes, one per window group.
+ *
+ * <p>Constants of the logical window are inlined into the window function calls and the frame bounds as literals.
+ */
+public class WindowConverterRule extends AbstractIgniteConverterRule<LogicalWindow> {
+    /** */
+    public static final RelOptRule INSTANCE = new WindowConverterRule();
+
+    /** */
+    public WindowConverterRule() {
+        super(LogicalWindow.class, "WindowConverterRule");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalWindow window) {
+        RelOptCluster cluster = window.getCluster();
+        RexBuilder rexBuilder = cluster.getRexBuilder();
+        List<RelDataType> inputTypes = RelOptUtil.getFieldTypeList(window.getInput().getRowType());
+        int inputFieldsCnt = inputTypes.size();
+
+        RexShuttle constants = new RexShuttle() {
+            @Override public RexNode visitInputRef(RexInputRef ref) {
+                if (ref.getIndex() < inputFieldsCnt)
+                    return ref;
+
+                return window.constants.get(ref.getIndex() - inputFieldsCnt);
+            }
+        };
+
+        RelNode input = window.getInput();
+        IgniteWindow res = null;
+
+        for (Window.Group grp : window.groups) {
+            List<RexNode> partKeys = new ArrayList<>(grp.keys.cardinality());
+
+            for (int key : grp.keys)
+                partKeys.add(rexBuilder.makeInputRef(inputTypes.get(key), key));
+
+            ImmutableList.Builder<RexFieldCollation> orderKeysBuilder = ImmutableList.builder();
+
+            for (RelFieldCollation field : grp.orderKeys.getFieldCollations()) {
+                Set<SqlKind> flags = EnumSet.noneOf(SqlKind.class);
+
+                if (field.direction.isDescending())
+                    flags.add(SqlKind.DESCENDING);
+
+                if (field.nullDirection == RelFieldCollation.NullDirection.FIRST)
+                    flags.add(SqlKind.NULLS_FIRST);
+                else if (field.nullDirection == RelFieldCollation.NullDirection.LAST)
+                    flags.add(SqlKind.NULLS_LAST);
+
+                int idx = field.getFieldIndex();
+
+                orderKeysBuilder.add(new RexFieldCollation(rexBuilder.makeInputRef(inputTypes.get(idx), idx), flags));
+            }
+
+            ImmutableList<RexFieldCollation> orderKeys = orderKeysBuilder.build();
+
+            RexWindowBound lowerBound = bound(rexBuilder, grp.lowerBound, constants);
+            RexWindowBound upperBound = bound(rexBuilder, grp.upperBound, constants);
+
+            List<RexOver> calls = new ArrayList<>(grp.aggCalls.size());
+
+            for (Window.RexWinAggCall call : grp.aggCalls) {
+                calls.add((RexOver)rexBuilder.makeOver(call.getType(), (SqlAggFunction)call.getOperator(),
+                    constants.apply(call.getOperands()), partKeys, orderKeys, lowerBound, upperBound,
+                    grp.isRows, true, false, call.distinct, call.ignoreNulls));
+            }
+
+            RelCollation collation = IgniteWindow.collation(grp.keys, grp.orderKeys);
+
+            RelTraitSet traits = cluster.traitSetOf(IgniteConvention.INSTANCE)
+                .replace(IgniteDistributions.single())
+                .replace(collation);
+
+            res = new IgniteWindow(cluster, traits, convert(input, traits), calls);
+
+            input = res;
+        }
+
+        return res;
+    }
+
+    /**
+     * Replaces a reference to a constant in the frame bound offset with the constant itself.
+     *
+     * @param rexBuilder Rex builder.
+     * @param bound Frame bound.
+     * @param constants Shuttle which inlines constants.
+     * @return Frame bound.
+     */
+    private static RexWindowBound bound(RexBuilder rexBuilder, RexWindowBound bound, RexShuttle constants) {
+        if (bound == null || bound.getOffset() == null)
+            return bound;
+
+        return RexWindowBounds.create(null, rexBuilder.makeCall(
+            bound.isPreceding() ? SqlWindow.PRECEDING_OPERATOR : SqlWindow.FOLLOWING_OPERATOR,
+            bound.getOffset().accept(constants)));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.HashIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.exec.IndexScan;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.MultiBounds;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
+import org.apache.ignite.internal.processors.query.calcite.rel.logical.IgniteLogicalIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitUtils;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+import org.apache.ignite.internal.processors.query.calcite.util.RexUtils;
+import org.apache.ignite.spi.indexing.IndexingQueryFilter;
+import org.apache.ignite.spi.indexing.IndexingQueryFilterImpl;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ignite cache hash index.
+ * <p>
+ * Rows of the index are not ordered by the indexed fields, so the index has no collation. It's used only to look up
+ * the rows by exact values ({@code =} or {@code IN}) of all the indexed fields.
+ */
+public class CacheHashIndexImpl implements IgniteIndex {
+    /** Indexed fields. */
+    private final ImmutableIntList keys;
+
+    /** */
+    private final String idxName;
+
+    /** */
+    private final @Nullable Index idx;
+
+    /** */
+    private final IgniteCacheTable tbl;
+
+    /** */
+    public CacheHashIndexImpl(ImmutableIntList keys, String name, @Nullable Index idx, IgniteCacheTable tbl) {
+        this.keys = keys;
+        idxName = name;
+        this.idx = idx;
+        this.tbl = tbl;
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelCollation collation() {
+        return RelCollations.EMPTY;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ImmutableIntList keys() {
+        return keys;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return idxName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteTable table() {
+        return tbl;
+    }
+
+    /** Underlying query index. */
+    public Index queryIndex() {
+        return idx;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteLogicalIndexScan toRel(
+        RelOptCluster cluster,
+        RelOptTable relOptTbl,
+        @Nullable List<RexNode> proj,
+        @Nullable RexNode cond,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        return IgniteLogicalIndexScan.create(cluster, cluster.traitSet(), relOptTbl, idxName, proj, cond, requiredColumns);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        RangeIterable<Row> ranges,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        UUID locNodeId = execCtx.localNodeId();
+
+        if (grp.nodeIds().contains(locNodeId) && idx != null) {
+            return new HashIndexScan<>(execCtx, tbl.descriptor(), idx.unwrap(HashIndex.class), keys,
+                grp.partitions(locNodeId), ranges, requiredColumns);
+        }
+
+        return Collections.emptyList();
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> firstOrLast(
+        boolean first,
+        ExecutionContext<Row> ectx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        throw new UnsupportedOperationException("Rows of a hash index are not ordered [index=" + idxName + ']');
+    }
+
+    /** {@inheritDoc} */
+    @Override public long count(ExecutionContext<?> ectx, ColocationGroup grp, boolean notNull) {
+        assert !notNull : "Not null rows of a hash index can't be counted [index=" + idxName + ']';
+
+        long cnt = 0;
+
+        if (idx != null && grp.nodeIds().contains(ectx.localNodeId())) {
+            IndexingQueryFilter filter = new IndexingQueryFilterImpl(tbl.descriptor().cacheContext().kernalContext(),
+                ectx.topologyVersion(), grp.partitions(ectx.localNodeId()));
+
+            InlineIndex iidx = idx.unwrap(InlineIndex.class);
+
+            boolean checkExpired = !tbl.descriptor().cacheContext().config().isEagerTtl();
+
+            try {
+                for (int i = 0; i < iidx.segmentsCount(); ++i) {
+                    cnt += iidx.count(i, new IndexQueryContext(filter,
+                        checkExpired ? IndexScan.createNotExpiredRowFilter() : null, ectx.mvccSnapshot()));
+                }
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException("Unable to count index records.", e);
+            }
+        }
+
+        return cnt;
+    }
+
+    /**
+     * Builds search bounds only if the condition has exact values for all the indexed fields.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override public List<SearchBounds> toSearchBounds(
+        RelOptCluster cluster,
+        @Nullable RexNode cond,
+        @Nullable ImmutableBitSet requiredColumns
+    ) {
+        RelDataType rowType = tbl.getRowType(cluster.getTypeFactory());
+
+        // The order of the fields doesn't matter, the collation just lists the fields to build bounds for.
+        RelCollation collation = TraitUtils.createCollation(keys);
+
+        if (requiredColumns != null) {
+            if (!requiredColumns.contains(ImmutableBitSet.of(keys)))
+                return null;
+
+            collation = collation.apply(Commons.mapping(requiredColumns, rowType.getFieldCount()));
+        }
+
+        List<SearchBounds> bounds = RexUtils.buildSortedSearchBounds(cluster, collation, cond, rowType,
+            requiredColumns);
+
+        if (bounds == null)
+            return null;
+
+        for (int key : keys) {
+            if (!exact(bounds.get(key)))
+                return null;
+        }
+
+        return bounds;
+    }
+
+    /**
+     * @param bounds Search bounds of a field.
+     * @return {@code True} if the bounds are an exact value or a list of exact values.
+     */
+    private static boolean exact(@Nullable SearchBounds bounds) {
+        if (bounds == null)
+            return false;
+
+        if (bounds.type() == SearchBounds.Type.MULTI) {
+            for (SearchBounds b : ((MultiBounds)bounds).bounds()) {
+                if (b.type() != SearchBounds.Type.EXACT)
+                    return false;
+            }
+
+            return true;
+        }
+
+        return bounds.type() == SearchBounds.Type.EXACT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isInlineScanPossible(@Nullable ImmutableBitSet requiredColumns) {
+        // Cost of a hash index scan doesn't take inlined keys into account.
+        return false;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.query.calcite.schema;
 
 import org.apache.calcite.rel.core.TableModify;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
@@ -49,6 +50,24 @@ public interface CacheTableDescriptor extends TableDescriptor<CacheDataRow> {
      */
     boolean match(CacheDataRow row);
 
+    /**
+     * Reads a subset of columns of a cache row into a relational node row.
+     *
+     * @param ectx Execution context.
+     * @param row Cache row.
+     * @param res Relational node row, created for the participating columns.
+     * @param requiredColumns Participating columns.
+     * @param columns Positions of the relational node row fields to fill.
+     * @throws IgniteCheckedException If failed.
+     */
+    <Row> void fillRow(
+        ExecutionContext<Row> ectx,
+        CacheDataRow row,
+        Row res,
+        @Nullable ImmutableBitSet requiredColumns,
+        ImmutableBitSet columns
+    ) throws IgniteCheckedException;
+
     /**
      * Converts a relational node row to cache key-value tuple with table operation.
      *
@@ -283,6 +283,37 @@ public class CacheTableDescriptorImpl extends NullInitializerExpressionFactory
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override public <Row> void fillRow(
+        ExecutionContext<Row> ectx,
+        CacheDataRow row,
+        Row res,
+        @Nullable ImmutableBitSet requiredColumns,
+        ImmutableBitSet columns
+    ) throws IgniteCheckedException {
+        RowHandler<Row> handler = ectx.rowHandler();
+
+        if (requiredColumns == null) {
+            for (int i = columns.nextSetBit(0); i != -1; i = columns.nextSetBit(i + 1)) {
+                CacheColumnDescriptor desc = descriptors[i];
+
+                handler.set(i, res, TypeUtils.toInternal(ectx,
+                    desc.value(ectx, cacheContext(), row), desc.storageType()));
+            }
+        }
+        else {
+            for (int i = 0, j = requiredColumns.nextSetBit(0); j != -1; j = requiredColumns.nextSetBit(j + 1), i++) {
+                if (!columns.get(i))
+                    continue;
+
+                CacheColumnDescriptor desc = descriptors[j];
+
+                handler.set(i, res, TypeUtils.toInternal(ectx,
+                    desc.value(ectx, cacheContext(), row), desc.storageType()));
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public boolean isUpdateAllowed(RelOptTable tbl, int colIdx) {
         final CacheColumnDescriptor desc = descriptors[colIdx];
@@ -22,6 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.type.RelDataType;
@@ -119,6 +122,24 @@ public class CacheTableImpl extends AbstractTable implements IgniteCacheTable {
         return Collections.emptyList();
     }
 
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet usedColumns,
+        @Nullable Supplier<Predicate<Row>> filterFactory,
+        @Nullable ImmutableBitSet filterColumns,
+        @Nullable Supplier<Function<List<Row>, List<Row>>> combinerFactory
+    ) {
+        UUID locNodeId = execCtx.localNodeId();
+
+        if (grp.nodeIds().contains(locNodeId))
+            return new TableScan<>(execCtx, desc, grp.partitions(locNodeId), usedColumns, filterFactory, filterColumns,
+                combinerFactory);
+
+        return Collections.emptyList();
+    }
+
     /** {@inheritDoc} */
     @Override public IgniteDistribution distribution() {
         return desc.distribution();
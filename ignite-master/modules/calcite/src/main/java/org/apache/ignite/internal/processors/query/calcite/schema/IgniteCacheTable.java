@@ -16,6 +16,15 @@
  */
 package org.apache.ignite.internal.processors.query.calcite.schema;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.jetbrains.annotations.Nullable;
+
 /**
  * Ignite cache-based table.
  */
@@ -25,6 +34,32 @@ public interface IgniteCacheTable extends IgniteTable {
      */
     @Override CacheTableDescriptor descriptor();
 
+    /**
+     * Creates rows iterator over the table, which skips rows not matching the filter. Only columns referenced
+     * by the filter are read from a cache row before the filter is applied, other columns are read for the
+     * matching rows only.
+     * <p>
+     * If the combiner factory is set, the iterator returns partial aggregates of chunks of the scanned rows
+     * computed by the combiners instead of the rows.
+     *
+     * @param execCtx Execution context.
+     * @param grp Colocation group.
+     * @param usedColumns Used columns enumeration.
+     * @param filterFactory Row filter factory, {@code null} if rows are not filtered. Several filter instances are
+     *      created if the table is scanned by several threads.
+     * @param filterColumns Columns of the scanned row referenced by the filter.
+     * @param combinerFactory Factory of combiners of the scanned rows, {@code null} if rows are returned as is.
+     *      Several combiner instances are created if the table is scanned by several threads.
+     * @return Rows iterator.
+     */
+    <Row> Iterable<Row> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        @Nullable ImmutableBitSet usedColumns,
+        @Nullable Supplier<Predicate<Row>> filterFactory,
+        @Nullable ImmutableBitSet filterColumns,
+        @Nullable Supplier<Function<List<Row>, List<Row>>> combinerFactory);
+
     /**
      * Start cache context for lazy caches.
      */
@@ -22,6 +22,7 @@ import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
@@ -36,6 +37,13 @@ public interface IgniteIndex {
     /** */
     public RelCollation collation();
 
+    /**
+     * @return Indexed fields.
+     */
+    public default ImmutableIntList keys() {
+        return collation().getKeys();
+    }
+
     /** */
     public String name();
 
@@ -29,8 +29,10 @@ import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.cache.affinity.AffinityFunction;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -197,6 +199,14 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
 
         // Recreate indexes for the new table without columns shift.
         for (IgniteIndex idx : oldTbl.indexes().values()) {
+            if (idx instanceof CacheHashIndexImpl) {
+                CacheHashIndexImpl idx0 = (CacheHashIndexImpl)idx;
+
+                newTbl.addIndex(new CacheHashIndexImpl(idx0.keys(), idx0.name(), idx0.queryIndex(), newTbl));
+
+                continue;
+            }
+
             CacheIndexImpl idx0 = (CacheIndexImpl)idx;
 
             newTbl.addIndex(new CacheIndexImpl(idx0.collation(), idx0.name(), idx0.queryIndex(), newTbl));
@@ -228,6 +238,16 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
         Mappings.TargetMapping mapping = Commons.mapping(retainedCols.build(), colsCnt);
 
         for (IgniteIndex idx : oldTbl.indexes().values()) {
+            if (idx instanceof CacheHashIndexImpl) {
+                CacheHashIndexImpl idx0 = (CacheHashIndexImpl)idx;
+
+                ImmutableIntList keys = ImmutableIntList.copyOf(Commons.transform(idx0.keys(), mapping::getTarget));
+
+                newTbl.addIndex(new CacheHashIndexImpl(keys, idx0.name(), idx0.queryIndex(), newTbl));
+
+                continue;
+            }
+
             CacheIndexImpl idx0 = (CacheIndexImpl)idx;
 
             newTbl.addIndex(new CacheIndexImpl(RelCollations.permute(idx0.collation(), mapping), idx0.name(),
@@ -291,12 +311,40 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
         IgniteCacheTable tbl = table(schemaName, tblName);
         assert tbl != null;
 
+        if (idxDesc.type() == QueryIndexType.HASH) {
+            tbl.addIndex(new CacheHashIndexImpl(deriveHashIndexKeys(idxDesc, tbl), idxName, idxDesc.index(), tbl));
+
+            return;
+        }
+
         RelCollation idxCollation = deriveSecondaryIndexCollation(idxDesc, tbl);
 
         IgniteIndex idx = new CacheIndexImpl(idxCollation, idxName, idxDesc.index(), tbl);
         tbl.addIndex(idx);
     }
 
+    /**
+     * @return Fields of hash index.
+     */
+    private static ImmutableIntList deriveHashIndexKeys(IndexDescriptor idxDesc, IgniteCacheTable tbl) {
+        CacheTableDescriptor tblDesc = tbl.descriptor();
+        List<Integer> keys = new ArrayList<>(idxDesc.fieldsCount());
+
+        // Only the indexed fields are hashed, the rest keys just make index rows unique.
+        for (String fieldName : idxDesc.keyDefinitions().keySet()) {
+            if (keys.size() == idxDesc.fieldsCount())
+                break;
+
+            ColumnDescriptor fieldDesc = tblDesc.columnDescriptor(fieldName);
+
+            assert fieldDesc != null;
+
+            keys.add(fieldDesc.fieldIndex());
+        }
+
+        return ImmutableIntList.copyOf(keys);
+    }
+
     /**
      * @return Index collation.
      */
@@ -33,7 +33,7 @@ import org.apache.calcite.util.ImmutableNullableList;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Parse tree for {@code CREATE INDEX} statement
+ * Parse tree for {@code CREATE [HASH] INDEX} statement
  */
 public class IgniteSqlCreateIndex extends SqlCreate {
     /** */
@@ -45,12 +45,18 @@ public class IgniteSqlCreateIndex extends SqlCreate {
     /** */
     private final SqlNodeList columnList;
 
+    /** */
+    private final SqlNodeList includeList;
+
     /** */
     private final SqlNumericLiteral parallel;
 
     /** */
     private final SqlNumericLiteral inlineSize;
 
+    /** */
+    private final boolean hash;
+
     /** */
     private static final SqlOperator OPERATOR =
         new SqlSpecialOperator("CREATE INDEX", SqlKind.CREATE_INDEX);
@@ -62,26 +68,33 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         @Nullable SqlIdentifier idxName,
         SqlIdentifier tblName,
         SqlNodeList columnList,
+        @Nullable SqlNodeList includeList,
         SqlNumericLiteral parallel,
-        SqlNumericLiteral inlineSize
+        SqlNumericLiteral inlineSize,
+        boolean hash
     ) {
         super(OPERATOR, pos, false, ifNotExists);
         this.idxName = idxName;
         this.tblName = Objects.requireNonNull(tblName, "table name");
         this.columnList = columnList;
+        this.includeList = includeList;
         this.parallel = parallel;
         this.inlineSize = inlineSize;
+        this.hash = hash;
     }
 
     /** {@inheritDoc} */
     @Override public List<SqlNode> getOperandList() {
-        return ImmutableNullableList.of(idxName, tblName, columnList, parallel, inlineSize);
+        return ImmutableNullableList.of(idxName, tblName, columnList, includeList, parallel, inlineSize);
     }
 
     /** {@inheritDoc} */
     @Override public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
         writer.keyword("CREATE");
 
+        if (hash)
+            writer.keyword("HASH");
+
         writer.keyword("INDEX");
 
         if (ifNotExists)
@@ -114,6 +127,20 @@ public class IgniteSqlCreateIndex extends SqlCreate {
 
         writer.endList(frame);
 
+        if (includeList != null) {
+            writer.keyword("INCLUDE");
+
+            frame = writer.startList("(", ")");
+
+            for (SqlNode c : includeList) {
+                writer.sep(",");
+
+                c.unparse(writer, 0, 0);
+            }
+
+            writer.endList(frame);
+        }
+
         if (parallel != null) {
             writer.keyword("PARALLEL");
 
@@ -148,6 +175,13 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         return columnList;
     }
 
+    /**
+     * @return List of the columns stored in the index, but not indexed, or {@code null} if not specified.
+     */
+    public SqlNodeList includeList() {
+        return includeList;
+    }
+
     /**
      * @return PARALLEL clause.
      */
@@ -162,6 +196,13 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         return inlineSize;
     }
 
+    /**
+     * @return Whether the HASH is specified.
+     */
+    public boolean hash() {
+        return hash;
+    }
+
     /**
      * @return Whether the IF NOT EXISTS is specified.
      */
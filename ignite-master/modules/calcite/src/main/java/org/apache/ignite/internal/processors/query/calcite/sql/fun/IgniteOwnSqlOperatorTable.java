@@ -16,9 +16,11 @@
  */
 package org.apache.ignite.internal.processors.query.calcite.sql.fun;
 
+import org.apache.calcite.sql.SqlAggFunction;
 import org.apache.calcite.sql.SqlFunction;
 import org.apache.calcite.sql.SqlFunctionCategory;
 import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlBasicAggFunction;
 import org.apache.calcite.sql.type.OperandTypes;
 import org.apache.calcite.sql.type.ReturnTypes;
 import org.apache.calcite.sql.type.SqlTypeName;
@@ -123,6 +125,17 @@ public class IgniteOwnSqlOperatorTable extends ReflectiveSqlOperatorTable {
             OperandTypes.SAME_SAME,
             SqlFunctionCategory.SYSTEM);
 
+    /**
+     * Approximate percentile: {@code APPROX_PERCENTILE(value, fraction)}, where fraction is between 0 and 1.
+     * Estimated with a t-digest sketch, which has a small fixed size and may be computed in parallel on several nodes.
+     */
+    public static final SqlAggFunction APPROX_PERCENTILE =
+        SqlBasicAggFunction.create(
+            "APPROX_PERCENTILE",
+            SqlKind.OTHER_FUNCTION,
+            ReturnTypes.DOUBLE.andThen(SqlTypeTransforms.FORCE_NULLABLE),
+            OperandTypes.NUMERIC_NUMERIC);
+
     /**
      * Returns the Ignite operator table, creating it if necessary.
      */
@@ -720,90 +720,91 @@ public interface IgniteSqlParserImplConstants {
   int VALUE_TYPE = 714;
   int ENCRYPTED = 715;
   int INDEX = 716;
-  int PARALLEL = 717;
-  int INLINE_SIZE = 718;
-  int LOGGING = 719;
-  int NOLOGGING = 720;
-  int PASSWORD = 721;
-  int KILL = 722;
-  int SCAN = 723;
-  int CONTINUOUS = 724;
-  int SERVICE = 725;
-  int COMPUTE = 726;
-  int ASYNC = 727;
-  int QUERY = 728;
-  int STATISTICS = 729;
-  int REFRESH = 730;
-  int ANALYZE = 731;
-  int MAX_CHANGED_PARTITION_ROWS_PERCENT = 732;
-  int TOTAL = 733;
-  int UNSIGNED_INTEGER_LITERAL = 734;
-  int APPROX_NUMERIC_LITERAL = 735;
-  int DECIMAL_NUMERIC_LITERAL = 736;
-  int EXPONENT = 737;
-  int HEXDIGIT = 738;
-  int WHITESPACE = 739;
-  int BINARY_STRING_LITERAL = 740;
-  int QUOTED_STRING = 741;
-  int PREFIXED_STRING_LITERAL = 742;
-  int UNICODE_STRING_LITERAL = 743;
-  int C_STYLE_ESCAPED_STRING_LITERAL = 744;
-  int CHARSETNAME = 745;
-  int BIG_QUERY_DOUBLE_QUOTED_STRING = 746;
-  int BIG_QUERY_QUOTED_STRING = 747;
-  int UNICODE_QUOTED_ESCAPE_CHAR = 748;
-  int LPAREN = 749;
-  int RPAREN = 750;
-  int LBRACE_D = 751;
-  int LBRACE_T = 752;
-  int LBRACE_TS = 753;
-  int LBRACE_FN = 754;
-  int LBRACE = 755;
-  int RBRACE = 756;
-  int LBRACKET = 757;
-  int RBRACKET = 758;
-  int SEMICOLON = 759;
-  int DOT = 760;
-  int COMMA = 761;
-  int EQ = 762;
-  int GT = 763;
-  int LT = 764;
-  int HOOK = 765;
-  int COLON = 766;
-  int LE = 767;
-  int GE = 768;
-  int NE = 769;
-  int NE2 = 770;
-  int PLUS = 771;
-  int MINUS = 772;
-  int STAR = 773;
-  int SLASH = 774;
-  int PERCENT_REMAINDER = 775;
-  int CONCAT = 776;
-  int NAMED_ARGUMENT_ASSIGNMENT = 777;
-  int DOUBLE_PERIOD = 778;
-  int QUOTE = 779;
-  int DOUBLE_QUOTE = 780;
-  int VERTICAL_BAR = 781;
-  int CARET = 782;
-  int DOLLAR = 783;
-  int INFIX_CAST = 784;
-  int HINT_BEG = 790;
-  int COMMENT_END = 791;
-  int SINGLE_LINE_COMMENT = 794;
-  int FORMAL_COMMENT = 795;
-  int MULTI_LINE_COMMENT = 796;
-  int BRACKET_QUOTED_IDENTIFIER = 798;
-  int QUOTED_IDENTIFIER = 799;
-  int BACK_QUOTED_IDENTIFIER = 800;
-  int BIG_QUERY_BACK_QUOTED_IDENTIFIER = 801;
-  int HYPHENATED_IDENTIFIER = 802;
-  int IDENTIFIER = 803;
-  int COLLATION_ID = 804;
-  int UNICODE_QUOTED_IDENTIFIER = 805;
-  int LETTER = 806;
-  int DIGIT = 807;
-  int BEL = 808;
+  int HASH = 717;
+  int PARALLEL = 718;
+  int INLINE_SIZE = 719;
+  int LOGGING = 720;
+  int NOLOGGING = 721;
+  int PASSWORD = 722;
+  int KILL = 723;
+  int SCAN = 724;
+  int CONTINUOUS = 725;
+  int SERVICE = 726;
+  int COMPUTE = 727;
+  int ASYNC = 728;
+  int QUERY = 729;
+  int STATISTICS = 730;
+  int REFRESH = 731;
+  int ANALYZE = 732;
+  int MAX_CHANGED_PARTITION_ROWS_PERCENT = 733;
+  int TOTAL = 734;
+  int UNSIGNED_INTEGER_LITERAL = 735;
+  int APPROX_NUMERIC_LITERAL = 736;
+  int DECIMAL_NUMERIC_LITERAL = 737;
+  int EXPONENT = 738;
+  int HEXDIGIT = 739;
+  int WHITESPACE = 740;
+  int BINARY_STRING_LITERAL = 741;
+  int QUOTED_STRING = 742;
+  int PREFIXED_STRING_LITERAL = 743;
+  int UNICODE_STRING_LITERAL = 744;
+  int C_STYLE_ESCAPED_STRING_LITERAL = 745;
+  int CHARSETNAME = 746;
+  int BIG_QUERY_DOUBLE_QUOTED_STRING = 747;
+  int BIG_QUERY_QUOTED_STRING = 748;
+  int UNICODE_QUOTED_ESCAPE_CHAR = 749;
+  int LPAREN = 750;
+  int RPAREN = 751;
+  int LBRACE_D = 752;
+  int LBRACE_T = 753;
+  int LBRACE_TS = 754;
+  int LBRACE_FN = 755;
+  int LBRACE = 756;
+  int RBRACE = 757;
+  int LBRACKET = 758;
+  int RBRACKET = 759;
+  int SEMICOLON = 760;
+  int DOT = 761;
+  int COMMA = 762;
+  int EQ = 763;
+  int GT = 764;
+  int LT = 765;
+  int HOOK = 766;
+  int COLON = 767;
+  int LE = 768;
+  int GE = 769;
+  int NE = 770;
+  int NE2 = 771;
+  int PLUS = 772;
+  int MINUS = 773;
+  int STAR = 774;
+  int SLASH = 775;
+  int PERCENT_REMAINDER = 776;
+  int CONCAT = 777;
+  int NAMED_ARGUMENT_ASSIGNMENT = 778;
+  int DOUBLE_PERIOD = 779;
+  int QUOTE = 780;
+  int DOUBLE_QUOTE = 781;
+  int VERTICAL_BAR = 782;
+  int CARET = 783;
+  int DOLLAR = 784;
+  int INFIX_CAST = 785;
+  int HINT_BEG = 791;
+  int COMMENT_END = 792;
+  int SINGLE_LINE_COMMENT = 795;
+  int FORMAL_COMMENT = 796;
+  int MULTI_LINE_COMMENT = 797;
+  int BRACKET_QUOTED_IDENTIFIER = 799;
+  int QUOTED_IDENTIFIER = 800;
+  int BACK_QUOTED_IDENTIFIER = 801;
+  int BIG_QUERY_BACK_QUOTED_IDENTIFIER = 802;
+  int HYPHENATED_IDENTIFIER = 803;
+  int IDENTIFIER = 804;
+  int COLLATION_ID = 805;
+  int UNICODE_QUOTED_IDENTIFIER = 806;
+  int LETTER = 807;
+  int DIGIT = 808;
+  int BEL = 809;
 
   int DEFAULT = 0;
   int DQID = 1;
@@ -1531,6 +1532,7 @@ public interface IgniteSqlParserImplConstants {
     "\"VALUE_TYPE\"",
     "\"ENCRYPTED\"",
     "\"INDEX\"",
+    "\"HASH\"",
     "\"PARALLEL\"",
     "\"INLINE_SIZE\"",
     "\"LOGGING\"",
@@ -1606,12 +1608,12 @@ public interface IgniteSqlParserImplConstants {
     "\"\\f\"",
     "\"/*+\"",
     "\"*/\"",
-    "<token of kind 792>",
+    "<token of kind 793>",
     "\"/*\"",
     "<SINGLE_LINE_COMMENT>",
     "<FORMAL_COMMENT>",
     "<MULTI_LINE_COMMENT>",
-    "<token of kind 797>",
+    "<token of kind 798>",
     "<BRACKET_QUOTED_IDENTIFIER>",
     "<QUOTED_IDENTIFIER>",
     "<BACK_QUOTED_IDENTIFIER>",
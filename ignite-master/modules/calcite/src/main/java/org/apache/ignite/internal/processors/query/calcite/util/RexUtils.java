@@ -775,6 +775,26 @@ public class RexUtils {
         return cors;
     }
 
+    /**
+     * @param node Expression over the scanned row (table scan condition or projection).
+     * @return Indexes of the row fields referenced by local refs of the expression.
+     */
+    public static ImmutableBitSet localRefs(RexNode node) {
+        ImmutableBitSet.Builder refs = ImmutableBitSet.builder();
+
+        RexVisitor<Void> v = new RexVisitorImpl<Void>(true) {
+            @Override public Void visitLocalRef(RexLocalRef locRef) {
+                refs.set(locRef.getIndex());
+
+                return null;
+            }
+        };
+
+        node.accept(v);
+
+        return refs.build();
+    }
+
     /** */
     private static Boolean containsRef(RexNode node) {
         RexVisitor<Void> v = new RexVisitorImpl<Void>(true) {
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowBatch;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
+import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+/**
+ * Tests batch execution mode of scan, filter and project nodes.
+ */
+public class BatchExecutionTest extends AbstractExecutionTest {
+    /** */
+    private static final int ROWS_CNT = 3000;
+
+    /** */
+    @Test
+    public void testBatchExpressions() {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        RelDataType rowType = TypeUtils.createRowType(ctx.getTypeFactory(), Integer.class, Integer.class);
+        ExpressionFactory<Object[]> factory = ctx.expressionFactory();
+
+        Predicate<Object[]> pred = factory.predicate(condition(ctx, rowType), rowType);
+        Function<Object[], Object[]> prj = factory.project(projects(ctx, rowType), rowType);
+        Consumer<RowBatch<Object[]>> batchPred = factory.batchPredicate(condition(ctx, rowType), rowType);
+        Consumer<RowBatch<Object[]>> batchPrj = factory.batchProject(projects(ctx, rowType), rowType);
+
+        RowBatch<Object[]> batch = new RowBatch<>(16);
+        List<Object[]> exp = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            Object[] row = row(i, i % 3 == 0 ? null : i * 10);
+
+            batch.add(row);
+
+            if (pred.test(row))
+                exp.add(prj.apply(row));
+        }
+
+        batchPred.accept(batch);
+        batchPrj.accept(batch);
+
+        assertEquals(exp.size(), batch.size());
+
+        for (int i = 0; i < batch.size(); i++)
+            assertEqualsArraysAware(exp.get(i), batch.get(i));
+
+        // Compiled code is reused for the next batch.
+        batch.clear();
+        batch.add(row(100, 1));
+        batch.add(row(0, 1));
+
+        batchPred.accept(batch);
+
+        assertEquals(1, batch.size());
+        assertEquals(100, batch.get(0)[0]);
+    }
+
+    /** */
+    @Test
+    public void testScanFilterProject() {
+        for (int batchSize : new int[] {1, 7, 512, 1024}) {
+            for (boolean pushDown : new boolean[] {false, true})
+                checkScanFilterProject(batchSize, pushDown);
+        }
+    }
+
+    /**
+     * @param batchSize Batch size.
+     * @param pushDown Whether filter and projection are evaluated by the scan node.
+     */
+    private void checkScanFilterProject(int batchSize, boolean pushDown) {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, Integer.class, Integer.class);
+        RelDataType outType = TypeUtils.createRowType(tf, Integer.class, Integer.class);
+        ExpressionFactory<Object[]> factory = ctx.expressionFactory();
+
+        List<Object[]> data = new ArrayList<>(ROWS_CNT);
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            data.add(row(i, i % 3 == 0 ? null : i * 10));
+
+        RexNode cond = condition(ctx, rowType);
+        List<RexNode> prj = projects(ctx, rowType);
+
+        RootNode<Object[]> root = new RootNode<>(ctx, outType);
+
+        if (pushDown) {
+            ScanNode<Object[]> scan = new BatchScanNode(ctx, rowType, data, batchSize, factory.predicate(cond, rowType),
+                factory.project(prj, rowType), factory.batchPredicate(cond, rowType), factory.batchProject(prj, rowType));
+
+            root.register(scan);
+        }
+        else {
+            ScanNode<Object[]> scan = new BatchScanNode(ctx, rowType, data, batchSize, null, null, null, null);
+
+            FilterNode<Object[]> filter = new FilterNode<>(ctx, rowType, factory.predicate(cond, rowType),
+                factory.batchPredicate(cond, rowType));
+
+            ProjectNode<Object[]> project = new ProjectNode<>(ctx, outType, factory.project(prj, rowType),
+                factory.batchProject(prj, rowType));
+
+            filter.register(scan);
+            project.register(filter);
+            root.register(project);
+        }
+
+        int cnt = 0;
+
+        for (int i = 0; i < ROWS_CNT; i++) {
+            if (i <= 5 || i % 3 == 0)
+                continue;
+
+            assertTrue(root.hasNext());
+
+            Object[] row = root.next();
+
+            assertEquals(i * 10, row[0]);
+            assertEquals(i * 11, row[1]);
+
+            cnt++;
+        }
+
+        assertFalse(root.hasNext());
+        assertTrue(cnt > 0);
+    }
+
+    /** Condition: {@code $0 > 5 AND $1 IS NOT NULL}. */
+    private static RexNode condition(ExecutionContext<Object[]> ctx, RelDataType rowType) {
+        RexBuilder rexBuilder = new RexBuilder(ctx.getTypeFactory());
+
+        return rexBuilder.makeCall(SqlStdOperatorTable.AND,
+            rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN,
+                ref(rexBuilder, rowType, 0),
+                rexBuilder.makeExactLiteral(BigDecimal.valueOf(5))),
+            rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL,
+                ref(rexBuilder, rowType, 1)));
+    }
+
+    /** Projection: {@code $1, $0 + $1}. */
+    private static List<RexNode> projects(ExecutionContext<Object[]> ctx, RelDataType rowType) {
+        RexBuilder rexBuilder = new RexBuilder(ctx.getTypeFactory());
+
+        return ImmutableList.of(
+            ref(rexBuilder, rowType, 1),
+            rexBuilder.makeCall(SqlStdOperatorTable.PLUS,
+                ref(rexBuilder, rowType, 0),
+                ref(rexBuilder, rowType, 1)));
+    }
+
+    /** Reference to the row field. */
+    private static RexNode ref(RexBuilder rexBuilder, RelDataType rowType, int idx) {
+        return rexBuilder.makeInputRef(rowType.getFieldList().get(idx).getType(), idx);
+    }
+
+    /** Scan node with explicit batch size. */
+    private static class BatchScanNode extends ScanNode<Object[]> {
+        /** */
+        private final int batchSize;
+
+        /** */
+        private BatchScanNode(
+            ExecutionContext<Object[]> ctx,
+            RelDataType rowType,
+            Iterable<Object[]> src,
+            int batchSize,
+            @Nullable Predicate<Object[]> filter,
+            @Nullable Function<Object[], Object[]> rowTransformer,
+            @Nullable Consumer<RowBatch<Object[]>> batchFilter,
+            @Nullable Consumer<RowBatch<Object[]>> batchTransformer
+        ) {
+            super(ctx, rowType, src, filter, rowTransformer, batchFilter, batchTransformer);
+
+            this.batchSize = batchSize;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected int batchSize() {
+            return batchSize;
+        }
+    }
+}
@@ -0,0 +1,631 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.calcite.rel.core.JoinRelType.ANTI;
+import static org.apache.calcite.rel.core.JoinRelType.FULL;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.calcite.rel.core.JoinRelType.LEFT;
+import static org.apache.calcite.rel.core.JoinRelType.RIGHT;
+import static org.apache.calcite.rel.core.JoinRelType.SEMI;
+import static org.apache.ignite.internal.processors.query.calcite.exec.rel.AbstractNode.IN_BUFFER_SIZE;
+
+/** */
+@SuppressWarnings("TypeMayBeWeakened")
+@WithSystemProperty(key = "calcite.debug", value = "true")
+public class HashJoinExecutionTest extends AbstractExecutionTest {
+    /** */
+    public static final Object[][] EMPTY = new Object[0][];
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Before
+    @Override public void setup() throws Exception {
+        nodesCnt = 1;
+        super.setup();
+    }
+
+    /** */
+    @Test
+    public void joinEmptyTables() {
+        verifyJoin(EMPTY, EMPTY, INNER, EMPTY);
+        verifyJoin(EMPTY, EMPTY, LEFT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, RIGHT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, FULL, EMPTY);
+        verifyJoin(EMPTY, EMPTY, SEMI, EMPTY);
+        verifyJoin(EMPTY, EMPTY, ANTI, EMPTY);
+    }
+
+    /** */
+    @Test
+    public void joinEmptyLeftTable() {
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"}
+        };
+
+        verifyJoin(EMPTY, right, INNER, EMPTY);
+        verifyJoin(EMPTY, right, LEFT, EMPTY);
+        verifyJoin(EMPTY, right, RIGHT, new Object[][] {
+            {null, null, "Core"},
+            {null, null, "OLD_Core"},
+            {null, null, "SQL"}
+        });
+        verifyJoin(EMPTY, right, FULL, new Object[][] {
+            {null, null, "Core"},
+            {null, null, "OLD_Core"},
+            {null, null, "SQL"}
+        });
+        verifyJoin(EMPTY, right, SEMI, EMPTY);
+        verifyJoin(EMPTY, right, ANTI, EMPTY);
+    }
+
+    /** */
+    @Test
+    public void joinEmptyRightTable() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 2}
+        };
+
+        verifyJoin(left, EMPTY, INNER, EMPTY);
+        verifyJoin(left, EMPTY, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", null},
+            {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, RIGHT, EMPTY);
+        verifyJoin(left, EMPTY, FULL, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", null},
+            {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, SEMI, EMPTY);
+        verifyJoin(left, EMPTY, ANTI, new Object[][] {
+            {1, "Roman"},
+            {2, "Igor"},
+            {3, "Alexey"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinOneToMany() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 2}
+        };
+
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"},
+            {3, "Arch"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"}
+        });
+        verifyJoin(left, right, RIGHT, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {null, null, "Arch"}
+        });
+        verifyJoin(left, right, FULL, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {null, null, "Arch"}
+        });
+        verifyJoin(left, right, SEMI, new Object[][] {
+            {2, "Igor"},
+            {3, "Alexey"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {1, "Roman"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinOneToMany2() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 2},
+            {4, "Ivan", 4},
+            {5, "Taras", 5},
+            {6, "Lisa", 6}
+        };
+
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"},
+            {3, "QA"},
+            {5, "Arch"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {5, "Taras", "Arch"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {4, "Ivan", null},
+            {5, "Taras", "Arch"},
+            {6, "Lisa", null}
+        });
+        verifyJoin(left, right, RIGHT, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {5, "Taras", "Arch"},
+            {null, null, "QA"}
+        });
+        verifyJoin(left, right, FULL, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Alexey", "SQL"},
+            {4, "Ivan", null},
+            {5, "Taras", "Arch"},
+            {6, "Lisa", null},
+            {null, null, "QA"}
+        });
+        verifyJoin(left, right, SEMI, new Object[][] {
+            {2, "Igor"},
+            {3, "Alexey"},
+            {5, "Taras"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {1, "Roman"},
+            {4, "Ivan"},
+            {6, "Lisa"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinManyToMany() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Taras", 1},
+            {4, "Alexey", 2},
+            {5, "Ivan", 4},
+            {6, "Andrey", 4}
+        };
+
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"},
+            {3, "Arch"},
+            {4, "QA"},
+            {4, "OLD_QA"},
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Taras", "Core"},
+            {3, "Taras", "OLD_Core"},
+            {4, "Alexey", "SQL"},
+            {5, "Ivan", "QA"},
+            {5, "Ivan", "OLD_QA"},
+            {6, "Andrey", "QA"},
+            {6, "Andrey", "OLD_QA"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Taras", "Core"},
+            {3, "Taras", "OLD_Core"},
+            {4, "Alexey", "SQL"},
+            {5, "Ivan", "QA"},
+            {5, "Ivan", "OLD_QA"},
+            {6, "Andrey", "QA"},
+            {6, "Andrey", "OLD_QA"}
+        });
+        verifyJoin(left, right, RIGHT, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Taras", "Core"},
+            {3, "Taras", "OLD_Core"},
+            {4, "Alexey", "SQL"},
+            {5, "Ivan", "QA"},
+            {5, "Ivan", "OLD_QA"},
+            {6, "Andrey", "QA"},
+            {6, "Andrey", "OLD_QA"},
+            {null, null, "Arch"}
+        });
+        verifyJoin(left, right, FULL, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Taras", "Core"},
+            {3, "Taras", "OLD_Core"},
+            {4, "Alexey", "SQL"},
+            {5, "Ivan", "QA"},
+            {5, "Ivan", "OLD_QA"},
+            {6, "Andrey", "QA"},
+            {6, "Andrey", "OLD_QA"},
+            {null, null, "Arch"}
+        });
+        verifyJoin(left, right, SEMI, new Object[][] {
+            {2, "Igor"},
+            {3, "Taras"},
+            {4, "Alexey"},
+            {5, "Ivan"},
+            {6, "Andrey"},
+        });
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {1, "Roman"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinNullKeys() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1}
+        };
+
+        Object[][] right = {
+            {null, "Core"},
+            {1, "SQL"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {2, "Igor", "SQL"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "SQL"}
+        });
+        verifyJoin(left, right, RIGHT, new Object[][] {
+            {2, "Igor", "SQL"},
+            {null, null, "Core"}
+        });
+        verifyJoin(left, right, FULL, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "SQL"},
+            {null, null, "Core"}
+        });
+        verifyJoin(left, right, SEMI, new Object[][] {
+            {2, "Igor"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {1, "Roman"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinWithNonEquiCondition() {
+        Object[][] left = {
+            {1, "Roman", 1},
+            {2, "Igor", 1},
+            {3, "Alexey", 2}
+        };
+
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"}
+        };
+
+        // Matches rows with equal keys and right names which are not prefixed by "OLD_".
+        BiPredicate<Object[], Object[]> nonEquiCond = (r1, r2) -> !((String)r2[1]).startsWith("OLD_");
+
+        verifyJoin(left, right, INNER, nonEquiCond, new Object[][] {
+            {1, "Roman", "Core"},
+            {2, "Igor", "Core"},
+            {3, "Alexey", "SQL"}
+        });
+        verifyJoin(left, right, RIGHT, nonEquiCond, new Object[][] {
+            {1, "Roman", "Core"},
+            {2, "Igor", "Core"},
+            {3, "Alexey", "SQL"},
+            {null, null, "OLD_Core"}
+        });
+
+        // No rows match.
+        nonEquiCond = (r1, r2) -> false;
+
+        verifyJoin(left, right, LEFT, nonEquiCond, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", null},
+            {3, "Alexey", null}
+        });
+        verifyJoin(left, right, SEMI, nonEquiCond, EMPTY);
+        verifyJoin(left, right, ANTI, nonEquiCond, new Object[][] {
+            {1, "Roman"},
+            {2, "Igor"},
+            {3, "Alexey"}
+        });
+    }
+
+    /**
+     * Checks the join of inputs which don't fit the buffers of the node.
+     */
+    @Test
+    public void joinLargeInputs() {
+        int leftSize = IN_BUFFER_SIZE * 3 + 1;
+        int rightSize = IN_BUFFER_SIZE * 2 + 1;
+
+        // Each left row matches two right rows, the right rows with odd keys and with the last key are not matched.
+        Object[][] left = new Object[leftSize][];
+
+        for (int i = 0; i < leftSize; i++)
+            left[i] = new Object[] {i, "L" + i, (i % (rightSize / 2)) * 2};
+
+        Object[][] right = new Object[rightSize * 2][];
+
+        for (int i = 0; i < rightSize; i++) {
+            right[i * 2] = new Object[] {i, "R" + i};
+            right[i * 2 + 1] = new Object[] {i, "R" + i + "_2"};
+        }
+
+        Object[][] inner = new Object[leftSize * 2][];
+
+        for (int i = 0; i < leftSize; i++) {
+            int key = (i % (rightSize / 2)) * 2;
+
+            inner[i * 2] = new Object[] {i, "L" + i, "R" + key};
+            inner[i * 2 + 1] = new Object[] {i, "L" + i, "R" + key + "_2"};
+        }
+
+        verifyJoin(left, right, INNER, inner);
+        verifyJoin(left, right, LEFT, inner);
+
+        Object[][] semi = new Object[leftSize][];
+
+        for (int i = 0; i < leftSize; i++)
+            semi[i] = new Object[] {i, "L" + i};
+
+        verifyJoin(left, right, SEMI, semi);
+        verifyJoin(left, right, ANTI, EMPTY);
+
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+
+        int notMatchedRight = (rightSize - rightSize / 2) * 2;
+
+        assertEquals(leftSize * 2 + notMatchedRight, executeJoin(ctx, left, right, RIGHT, null).size());
+        assertEquals(leftSize * 2 + notMatchedRight, executeJoin(ctx, left, right, FULL, null).size());
+    }
+
+    /** */
+    @Test
+    public void joinRuntimeFilter() {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+
+        RelDataType leftType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        ScanNode<Object[]> leftNode = new ScanNode<>(ctx, leftType, Arrays.asList(new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 3}
+        }));
+
+        RelDataType rightType = TypeUtils.createRowType(ctx.getTypeFactory(), Integer.class, String.class);
+        ScanNode<Object[]> rightNode = new ScanNode<>(ctx, rightType, Arrays.asList(new Object[][] {
+            {1, "Core"},
+            {2, "SQL"},
+            {null, "QA"}
+        }));
+
+        RelDataType outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class,
+            Integer.class, String.class);
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(ctx, outType, leftType, rightType, INNER,
+            ImmutableIntList.of(2), ImmutableIntList.of(0), null);
+        join.register(F.asList(leftNode, rightNode));
+
+        List<RuntimeFilter> filters = new ArrayList<>();
+
+        join.runtimeFilterListener(filters::add);
+
+        RootNode<Object[]> node = new RootNode<>(ctx, outType);
+        node.register(join);
+
+        List<Object[]> rows = new ArrayList<>();
+
+        while (node.hasNext())
+            rows.add(node.next());
+
+        Assert.assertArrayEquals(new Object[][] {{2, "Igor", 1, 1, "Core"}}, rows.toArray(EMPTY));
+
+        assertEquals(1, filters.size());
+
+        RuntimeFilter filter = filters.get(0);
+        RowHandler<Object[]> hnd = ctx.rowHandler();
+
+        assertTrue(filter.mightContain(hnd, new Object[] {0, "", 1}));
+        assertTrue(filter.mightContain(hnd, new Object[] {0, "", 2}));
+        assertFalse(filter.mightContain(hnd, new Object[] {0, "", null}));
+
+        int passed = 0;
+
+        for (int i = 3; i < 10_003; i++) {
+            if (filter.mightContain(hnd, new Object[] {0, "", i}))
+                passed++;
+        }
+
+        assertTrue("Too many false positives: " + passed, passed < 100);
+    }
+
+    /** */
+    @Test
+    public void runtimeFilterIgnoresDecimalScale() {
+        RowHandler<Object[]> hnd = executionContext(F.first(nodes()), UUID.randomUUID(), 0).rowHandler();
+
+        RuntimeFilter filter = new RuntimeFilter(new int[] {0, 1}, 16);
+
+        filter.add(new Object[] {new BigDecimal("1.5"), 0d});
+        filter.add(new Object[] {BigDecimal.ZERO, -0f});
+
+        assertTrue(filter.mightContain(hnd, new Object[] {new BigDecimal("1.50"), -0d}));
+        assertTrue(filter.mightContain(hnd, new Object[] {new BigDecimal("1.500"), 0d}));
+        assertTrue(filter.mightContain(hnd, new Object[] {new BigDecimal("0.00"), 0f}));
+        assertTrue(filter.mightContain(hnd, new Object[] {new BigDecimal("0E+3"), -0f}));
+    }
+
+    /**
+     * Creates execution tree and executes it. Then compares the result of the execution with the given one.
+     *
+     * @param left Data for left table.
+     * @param right Data for right table.
+     * @param joinType Join type.
+     * @param expRes Expected result.
+     */
+    private void verifyJoin(Object[][] left, Object[][] right, JoinRelType joinType, Object[][] expRes) {
+        verifyJoin(left, right, joinType, null, expRes);
+    }
+
+    /**
+     * Creates execution tree and executes it. Then compares the result of the execution with the given one.
+     *
+     * @param left Data for left table.
+     * @param right Data for right table.
+     * @param joinType Join type.
+     * @param nonEquiCond Non-equi join condition.
+     * @param expRes Expected result.
+     */
+    private void verifyJoin(
+        Object[][] left,
+        Object[][] right,
+        JoinRelType joinType,
+        @Nullable BiPredicate<Object[], Object[]> nonEquiCond,
+        Object[][] expRes
+    ) {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+
+        Assert.assertArrayEquals(expRes, executeJoin(ctx, left, right, joinType, nonEquiCond).toArray(EMPTY));
+    }
+
+    /**
+     * Creates execution tree joining the tables by the third column of the left table and the first column of the right
+     * table and executes it.
+     *
+     * @param ctx Execution context.
+     * @param left Data for left table.
+     * @param right Data for right table.
+     * @param joinType Join type.
+     * @param nonEquiCond Non-equi join condition.
+     * @return Left ID and name, and right name (if projected) of the joined rows.
+     */
+    private List<Object[]> executeJoin(
+        ExecutionContext<Object[]> ctx,
+        Object[][] left,
+        Object[][] right,
+        JoinRelType joinType,
+        @Nullable BiPredicate<Object[], Object[]> nonEquiCond
+    ) {
+        RelDataType leftType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        ScanNode<Object[]> leftNode = new ScanNode<>(ctx, leftType, Arrays.asList(left));
+
+        RelDataType rightType = TypeUtils.createRowType(ctx.getTypeFactory(), Integer.class, String.class);
+        ScanNode<Object[]> rightNode = new ScanNode<>(ctx, rightType, Arrays.asList(right));
+
+        RelDataType outType;
+        if (setOf(SEMI, ANTI).contains(joinType))
+            outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        else
+            outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class, Integer.class, String.class);
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(ctx, outType, leftType, rightType, joinType,
+            ImmutableIntList.of(2), ImmutableIntList.of(0), nonEquiCond);
+        join.register(F.asList(leftNode, rightNode));
+
+        RelDataType rowType;
+        ProjectNode<Object[]> project;
+        if (setOf(SEMI, ANTI).contains(joinType)) {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[] {r[0], r[1]});
+        }
+        else {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[] {r[0], r[1], r[4]});
+        }
+        project.register(join);
+
+        RootNode<Object[]> node = new RootNode<>(ctx, rowType);
+        node.register(project);
+
+        List<Object[]> rows = new ArrayList<>();
+
+        while (node.hasNext())
+            rows.add(node.next());
+
+        return rows;
+    }
+
+    /**
+     * Creates {@link Set set} from provided items.
+     *
+     * @param items Items.
+     * @return New set.
+     */
+    private static <T> Set<T> setOf(T... items) {
+        return new HashSet<>(Arrays.asList(items));
+    }
+}
@@ -114,6 +114,29 @@ public class MemoryTrackerTest extends GridCommonAbstractTest {
         assertEquals(0, globalTracker.allocated());
     }
 
+    /** */
+    @Test
+    public void testReuseAfterReset() {
+        MemoryTracker globalTracker = new GlobalMemoryTracker(10_000_000L);
+        MemoryTracker qryTracker = new QueryMemoryTracker(globalTracker, 1_000_000L);
+        RowTracker<Object[]> rowTracker = new ExecutionNodeMemoryTracker<>(qryTracker, 0L);
+
+        rowTracker.onRowAdded(new Object[1]);
+        rowTracker.reset();
+
+        assertEquals(0L, qryTracker.allocated());
+
+        rowTracker.onRowAdded(new Object[1]);
+
+        assertEquals(ExecutionNodeMemoryTracker.BATCH_SIZE, qryTracker.allocated());
+        assertEquals(ExecutionNodeMemoryTracker.BATCH_SIZE, globalTracker.allocated());
+
+        rowTracker.onRowRemoved(new Object[1]);
+
+        assertEquals(0L, qryTracker.allocated());
+        assertEquals(0L, globalTracker.allocated());
+    }
+
     /** */
     @Test
     public void testRemoveOverflow() {
@@ -328,6 +328,43 @@ public class AggregatesIntegrationTest extends AbstractBasicIntegrationTest {
         assertQuery("SELECT SOME(c1 > c2) FROM t").returns(false).check();
     }
 
+    /** */
+    @Test
+    public void testApproximateAggregates() {
+        executeSql("CREATE TABLE t(id INT PRIMARY KEY, grp INT, val INT, dbl DOUBLE)");
+        executeSql("INSERT INTO t SELECT x, x % 2, x % 1000, x FROM table(system_range(1, 10000))");
+
+        List<List<?>> res = executeSql("SELECT APPROX_COUNT_DISTINCT(val), APPROX_COUNT_DISTINCT(dbl), " +
+            "APPROX_PERCENTILE(dbl, 0.5), APPROX_PERCENTILE(dbl, 0.99), APPROX_PERCENTILE(val, 0) FROM t");
+
+        assertEquals(1, res.size());
+
+        assertEquals(1000d, ((Number)res.get(0).get(0)).doubleValue(), 1000 * 0.05);
+        assertEquals(10000d, ((Number)res.get(0).get(1)).doubleValue(), 10000 * 0.05);
+        assertEquals(5000d, ((Number)res.get(0).get(2)).doubleValue(), 10000 * 0.01);
+        assertEquals(9900d, ((Number)res.get(0).get(3)).doubleValue(), 10000 * 0.01);
+        assertEquals(0d, ((Number)res.get(0).get(4)).doubleValue(), 0d);
+
+        // Test with grouping.
+        res = executeSql("SELECT grp, APPROX_COUNT_DISTINCT(val), APPROX_PERCENTILE(dbl, 0.5) FROM t GROUP BY grp " +
+            "ORDER BY grp");
+
+        assertEquals(2, res.size());
+
+        for (List<?> row : res) {
+            assertEquals(500d, ((Number)row.get(1)).doubleValue(), 500 * 0.05);
+            assertEquals(5000d, ((Number)row.get(2)).doubleValue(), 10000 * 0.01);
+        }
+
+        // Empty input.
+        assertQuery("SELECT APPROX_COUNT_DISTINCT(val), APPROX_PERCENTILE(dbl, 0.5) FROM t WHERE id < 0")
+            .returns(0L, null)
+            .check();
+
+        assertThrows("SELECT APPROX_PERCENTILE(dbl, 2) FROM t", IllegalArgumentException.class,
+            "Percentile of APPROX_PERCENTILE() must be between 0 and 1");
+    }
+
     /** */
     protected void createAndPopulateIndexedTable(int backups, CacheMode cacheMode) {
         IgniteCache<Integer, IndexedEmployer> person = client.getOrCreateCache(new CacheConfiguration<Integer, IndexedEmployer>()
@@ -246,7 +246,9 @@ public class CalciteBasicSecondaryIndexIntegrationTest extends AbstractBasicInte
     @Test
     public void testIndexLoopJoin() {
         assertQuery("" +
-            "SELECT /*+ DISABLE_RULE('MergeJoinConverter', 'NestedLoopJoinConverter') */ d1.name, d2.name " +
+            "SELECT " +
+            "/*+ DISABLE_RULE('MergeJoinConverter', 'NestedLoopJoinConverter', 'HashJoinConverter') */ " +
+            "d1.name, d2.name " +
             "FROM Developer d1, Developer d2 WHERE d1.id = d2.id")
             .matches(containsSubPlan("IgniteCorrelatedNestedLoopJoin"))
             .returns("Bach", "Bach")
@@ -55,7 +55,7 @@ public class HashSpoolIntegrationTest extends AbstractBasicIntegrationTest {
         executeSql("INSERT INTO t0 VALUES (null, 0), (1, null), (null, 2), (3, null), (1, 1)");
         executeSql("INSERT INTO t1 VALUES (null, 0), (null, 1), (2, null), (3, null), (1, 1)");
 
-        String sql = "SELECT /*+ DISABLE_RULE ('MergeJoinConverter', 'NestedLoopJoinConverter', " +
+        String sql = "SELECT /*+ DISABLE_RULE ('MergeJoinConverter', 'NestedLoopJoinConverter', 'HashJoinConverter', " +
             "'FilterSpoolMergeToSortedIndexSpoolRule')*/ * " +
             "FROM t0 JOIN t1 ON t0.i1=t1.i1 AND t0.i2=t1.i2";
 
@@ -90,7 +90,9 @@ public class HashSpoolIntegrationTest extends AbstractBasicIntegrationTest {
         executeSql("CREATE TABLE t2(i3 INTEGER, i4 INTEGER)");
         executeSql("INSERT INTO t2 VALUES (1, 1), (2, 2), (null, 3), (4, null)");
 
-        String sql = "SELECT /*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter') */ i1, i4 " +
+        String sql = "SELECT " +
+            "/*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter', 'HashJoinConverter') */ " +
+            "i1, i4 " +
             "FROM t1 JOIN t2 ON i1 IS NOT DISTINCT FROM i3";
 
         assertQuery(sql)
@@ -100,7 +102,9 @@ public class HashSpoolIntegrationTest extends AbstractBasicIntegrationTest {
             .returns(null, 3)
             .check();
 
-        sql = "SELECT /*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter') */ i1, i4 " +
+        sql = "SELECT " +
+            "/*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter', 'HashJoinConverter') */ " +
+            "i1, i4 " +
             "FROM t1 JOIN t2 ON i1 IS NOT DISTINCT FROM i3 AND i2 = i4";
 
         assertQuery(sql)
@@ -23,9 +23,11 @@ import java.util.List;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.cache.query.index.Index;
 import org.apache.ignite.internal.cache.query.index.SortOrder;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
 import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.testframework.GridTestUtils;
@@ -189,6 +191,43 @@ public class IndexDdlIntegrationTest extends AbstractDdlIntegrationTest {
         assertNotNull(findIndex(CACHE_NAME, "my_index"));
     }
 
+    /**
+     * Creates hash index and looks up rows by it.
+     */
+    @Test
+    public void createHashIndex() {
+        assertNull(findIndex(CACHE_NAME, "my_index"));
+
+        sql("create hash index my_index on my_table(val_int, val_str)");
+
+        Index idx = findIndex(CACHE_NAME, "my_index");
+
+        assertNotNull(idx);
+        assertNotNull(idx.unwrap(HashIndex.class));
+
+        sql("insert into my_table values (1, 1, 'a'), (2, 1, 'b'), (3, 2, 'a'), (4, 1, 'a')");
+
+        assertQuery("select id from my_table where val_int = 1 and val_str = 'a'")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .returns(1)
+            .returns(4)
+            .check();
+
+        assertQuery("select id from my_table where val_int in (1, 2) and val_str = 'a'")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "MY_TABLE", "MY_INDEX"))
+            .returns(1)
+            .returns(3)
+            .returns(4)
+            .check();
+
+        assertQuery("select id from my_table where val_int = 1")
+            .matches(QueryChecker.containsTableScan("PUBLIC", "MY_TABLE"))
+            .returns(1)
+            .returns(2)
+            .returns(4)
+            .check();
+    }
+
     /** */
     private Index findIndex(String cacheName, String idxName) {
         return F.find(indexes(cacheName), null, (IgnitePredicate<Index>)i -> idxName.equalsIgnoreCase(i.name()));
@@ -69,7 +69,9 @@ public class IndexScanlIntegrationTest extends AbstractBasicIntegrationTest {
 
         RowCountingIndex idx = injectRowCountingIndex(grid(0), "T", "T_IDX");
 
-        String sql = "SELECT /*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter') */ t1.i1, t2.i1 " +
+        String sql = "SELECT " +
+            "/*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter', 'HashJoinConverter') */ " +
+            "t1.i1, t2.i1 " +
             "FROM t t1 " +
             "LEFT JOIN t t2 ON t1.i2 = t2.i1";
 
@@ -227,7 +229,9 @@ public class IndexScanlIntegrationTest extends AbstractBasicIntegrationTest {
         executeSql("INSERT INTO t2 VALUES (1, 1), (2, 2), (null, 3), (4, null)");
         executeSql("CREATE INDEX t2_idx ON t2(i2)");
 
-        String sql = "SELECT /*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter') */ i1, i3 " +
+        String sql = "SELECT " +
+            "/*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter', 'HashJoinConverter') */ " +
+            "i1, i3 " +
             "FROM t1 JOIN t2 ON i1 IS NOT DISTINCT FROM i2";
 
         assertQuery(sql)
@@ -238,7 +242,9 @@ public class IndexScanlIntegrationTest extends AbstractBasicIntegrationTest {
             .check();
 
         // Collapse expanded IS_NOT_DISTINCT_FROM.
-        sql = "SELECT /*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter') */ i1, i3 " +
+        sql = "SELECT " +
+            "/*+ DISABLE_RULE('NestedLoopJoinConverter', 'MergeJoinConverter', 'HashJoinConverter') */ " +
+            "i1, i3 " +
             "FROM t1 JOIN t2 ON i1 = i2 OR (i1 IS NULL AND i2 IS NULL)";
 
         assertQuery(sql)
@@ -279,6 +285,59 @@ public class IndexScanlIntegrationTest extends AbstractBasicIntegrationTest {
             i -> new Object[] {(long)i * 2, i * 4});
     }
 
+    /** */
+    @Test
+    public void testInlineScanWithIncludedColumns() {
+        executeSql("CREATE TABLE t(id INTEGER PRIMARY KEY, i1 INTEGER, i2 INTEGER, s VARCHAR)");
+        executeSql("CREATE INDEX t_idx ON t(i1) INCLUDE (i2)");
+        RowCountingIndex idx = injectRowCountingIndex(grid(0), "T", "T_IDX");
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            executeSql("INSERT INTO t VALUES (?, ?, ?, ?)", i, i * 2, i * 3, "str" + i);
+
+        checkMultiColumnsInlineScan(true, "SELECT i1, i2 FROM t", idx, i -> new Object[] {i * 2, i * 3});
+
+        // Index rows are updated with the included column.
+        executeSql("UPDATE t SET i2 = i2 + 1 WHERE id % 2 = 0");
+
+        checkMultiColumnsInlineScan(true, "SELECT i1, i2 FROM t", idx,
+            i -> new Object[] {i * 2, i % 2 == 0 ? i * 3 + 1 : i * 3});
+
+        // Updates of the indexed column are reflected too.
+        executeSql("UPDATE t SET i1 = i1 + 1, i2 = i2 - 1 WHERE id % 2 = 0");
+
+        checkMultiColumnsInlineScan(true, "SELECT i1, i2 FROM t", idx,
+            i -> new Object[] {i % 2 == 0 ? i * 2 + 1 : i * 2, i * 3});
+
+        // Primary key column is stored in the index too.
+        assertQuery("SELECT id, i2 FROM t WHERE i1 = 5")
+            .matches(QueryChecker.containsIndexScan("PUBLIC", "T", "T_IDX"))
+            .returns(2, 6)
+            .check();
+
+        assertEquals(1, idx.rowsProcessed());
+        assertTrue(idx.isInlineScan());
+
+        // Not included column is read from the table.
+        checkMultiColumnsInlineScan(false, "SELECT i1, s FROM t", idx,
+            i -> new Object[] {i % 2 == 0 ? i * 2 + 1 : i * 2, "str" + i});
+
+        executeSql("DROP TABLE t");
+
+        // Variable length included column disables inline scan.
+        executeSql("CREATE TABLE t(id INTEGER PRIMARY KEY, i1 INTEGER, s VARCHAR)");
+        executeSql("CREATE INDEX t_idx ON t(i1) INCLUDE (s)");
+        idx = injectRowCountingIndex(grid(0), "T", "T_IDX");
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            executeSql("INSERT INTO t VALUES (?, ?, ?)", i, i * 2, "str" + i);
+
+        executeSql("UPDATE t SET s = 'upd' || s WHERE id % 2 = 0");
+
+        checkMultiColumnsInlineScan(false, "SELECT i1, s FROM t", idx,
+            i -> new Object[] {i * 2, i % 2 == 0 ? "updstr" + i : "str" + i});
+    }
+
     /** */
     public void checkSingleColumnInlineScan(boolean expInline, String dataType, IntFunction<Object> valFactory) {
         executeSql("CREATE TABLE t(id INTEGER PRIMARY KEY, val " + dataType + ')');
@@ -835,20 +835,31 @@ public class JoinIntegrationTest extends AbstractBasicIntegrationTest {
         NESTED_LOOP(
             "CorrelatedNestedLoopJoin",
             "JoinCommuteRule",
-            "MergeJoinConverter"
+            "MergeJoinConverter",
+            "HashJoinConverter"
         ),
 
         /** */
         MERGE(
             "CorrelatedNestedLoopJoin",
             "JoinCommuteRule",
-            "NestedLoopJoinConverter"
+            "NestedLoopJoinConverter",
+            "HashJoinConverter"
         ),
 
         /** */
         CORRELATED(
             "MergeJoinConverter",
             "JoinCommuteRule",
+            "NestedLoopJoinConverter",
+            "HashJoinConverter"
+        ),
+
+        /** */
+        HASH(
+            "CorrelatedNestedLoopJoin",
+            "JoinCommuteRule",
+            "MergeJoinConverter",
             "NestedLoopJoinConverter"
         );
 
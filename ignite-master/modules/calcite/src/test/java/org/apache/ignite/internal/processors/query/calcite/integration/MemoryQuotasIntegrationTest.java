@@ -240,7 +240,8 @@ public class MemoryQuotasIntegrationTest extends AbstractBasicIntegrationTest {
         for (int i = 0; i < 800; i++)
             sql("INSERT INTO tbl2 VALUES (?, ?)", i, new byte[1000]);
 
-        assertQuery("SELECT /*+ DISABLE_RULE('CorrelatedNestedLoopJoin', 'MergeJoinConverter') */ " +
+        assertQuery("SELECT " +
+            "/*+ DISABLE_RULE('CorrelatedNestedLoopJoin', 'MergeJoinConverter', 'HashJoinConverter') */ " +
             "tbl.id, tbl.b, tbl2.id, tbl2.b FROM tbl JOIN tbl2 USING (id)")
             .matches(QueryChecker.containsSubPlan("IgniteNestedLoopJoin"))
             .resultSize(800)
@@ -249,7 +250,8 @@ public class MemoryQuotasIntegrationTest extends AbstractBasicIntegrationTest {
         for (int i = 800; i < 1000; i++)
             sql("INSERT INTO tbl2 VALUES (?, ?)", i, new byte[1000]);
 
-        assertThrows("SELECT /*+ DISABLE_RULE('CorrelatedNestedLoopJoin', 'MergeJoinConverter') */" +
+        assertThrows("SELECT " +
+            "/*+ DISABLE_RULE('CorrelatedNestedLoopJoin', 'MergeJoinConverter', 'HashJoinConverter') */" +
                 "tbl.id, tbl.b, tbl2.id, tbl2.b FROM tbl JOIN tbl2 USING (id)",
             IgniteException.class, "Query quota exceeded");
     }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_SCAN_PARALLELISM;
+import static org.apache.ignite.internal.processors.query.calcite.QueryChecker.awaitReservationsRelease;
+
+/**
+ * Tests table scan by several threads in parallel.
+ */
+@WithSystemProperty(key = IGNITE_CALCITE_EXEC_SCAN_PARALLELISM, value = "4")
+public class ParallelTableScanIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int ROWS_CNT = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        // Scan parallelism exceeds the count of query threads, so scan tasks share threads with the fragments.
+        return super.getConfiguration(igniteInstanceName).setQueryThreadPoolSize(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE test(id INT PRIMARY KEY, grp INT, val VARCHAR)");
+
+        sql("INSERT INTO test SELECT x, x % 10, 'val' || CAST(x AS VARCHAR) FROM TABLE(SYSTEM_RANGE(0, ?))",
+            ROWS_CNT - 1);
+    }
+
+    /** */
+    @Test
+    public void testAggregate() {
+        assertQuery("SELECT COUNT(*), SUM(id) FROM test")
+            .returns((long)ROWS_CNT, (long)ROWS_CNT * (ROWS_CNT - 1) / 2)
+            .check();
+
+        assertQuery("SELECT grp, COUNT(*) FROM test WHERE grp < 3 GROUP BY grp")
+            .returns(0, (long)ROWS_CNT / 10)
+            .returns(1, (long)ROWS_CNT / 10)
+            .returns(2, (long)ROWS_CNT / 10)
+            .check();
+    }
+
+    /** Rows are partially aggregated by the scanning tasks and merged by the map aggregate. */
+    @Test
+    public void testPartialAggregate() {
+        String hint = "/*+ DISABLE_RULE('ColocatedHashAggregateConverterRule', 'ColocatedSortAggregateConverterRule', " +
+            "'MapReduceSortAggregateConverterRule') */";
+
+        QueryChecker checker = assertQuery("SELECT " + hint + " grp, COUNT(*), SUM(id), MIN(id), MAX(id) " +
+            "FROM test GROUP BY grp")
+            .matches(QueryChecker.containsSubPlan("IgniteMapHashAggregate"));
+
+        for (int grp = 0; grp < 10; grp++) {
+            checker.returns(grp, (long)ROWS_CNT / 10, (long)ROWS_CNT * (ROWS_CNT - 10) / 20 + ROWS_CNT / 10 * grp,
+                grp, ROWS_CNT - 10 + grp);
+        }
+
+        checker.check();
+
+        // Projection and filter of the scan.
+        assertQuery("SELECT " + hint + " grp + 1, COUNT(*) FROM test WHERE id >= ? AND grp < 2 GROUP BY grp + 1")
+            .withParams(ROWS_CNT / 2)
+            .matches(QueryChecker.containsSubPlan("IgniteMapHashAggregate"))
+            .returns(1, (long)ROWS_CNT / 20)
+            .returns(2, (long)ROWS_CNT / 20)
+            .check();
+
+        // Aggregate without accumulators.
+        assertQuery("SELECT " + hint + " DISTINCT grp FROM test WHERE grp > 7")
+            .matches(QueryChecker.containsSubPlan("IgniteMapHashAggregate"))
+            .returns(8)
+            .returns(9)
+            .check();
+
+        assertQuery("SELECT " + hint + " COUNT(*), AVG(id) FROM test WHERE grp = 0")
+            .returns((long)ROWS_CNT / 10, (ROWS_CNT - 10) / 2)
+            .check();
+
+        assertQuery("SELECT " + hint + " COUNT(*) FROM test WHERE grp = 100")
+            .returns(0L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testFilter() {
+        assertQuery("SELECT id, grp FROM test WHERE val = 'val4242'")
+            .returns(4242, 2)
+            .check();
+
+        assertQuery("SELECT COUNT(*) FROM test WHERE id >= ? AND grp = 0")
+            .withParams(ROWS_CNT / 2)
+            .returns((long)ROWS_CNT / 20)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testScanNotFinished() {
+        for (int i = 0; i < 10; i++) {
+            assertQuery("SELECT id FROM test LIMIT 5")
+                .resultSize(5)
+                .check();
+        }
+
+        assertQuery("SELECT COUNT(*) FROM test")
+            .returns((long)ROWS_CNT)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testConcurrentScansNotFinished() throws Exception {
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < 20; i++) {
+                assertQuery("SELECT id FROM test LIMIT 5")
+                    .resultSize(5)
+                    .check();
+
+                assertQuery("SELECT COUNT(*) FROM test WHERE grp = 1")
+                    .returns((long)ROWS_CNT / 10)
+                    .check();
+            }
+        }, 8, "query-worker");
+
+        // Partitions are released by the scan tasks finished after the queries.
+        for (int i = 0; i < nodeCount(); i++)
+            awaitReservationsRelease(grid(i), "SQL_PUBLIC_TEST");
+    }
+}
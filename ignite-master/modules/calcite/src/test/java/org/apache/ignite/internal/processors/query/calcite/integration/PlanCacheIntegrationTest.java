@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCacheImpl.PLAN_CACHE_NAME;
+
+/**
+ * Tests query plan cache with literals parameterization.
+ */
+public class PlanCacheIntegrationTest extends AbstractBasicIntegrationTest {
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setSqlConfiguration(
+            new SqlConfiguration().setQueryEnginesConfiguration(new CalciteQueryEngineConfiguration()
+                .setLiteralsParameterizationEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE person(id INT PRIMARY KEY, name VARCHAR, age INT)");
+
+        for (int i = 0; i < 10; i++)
+            sql("INSERT INTO person VALUES (?, ?, ?)", i, "name" + i, 20 + i);
+    }
+
+    /** */
+    @Test
+    public void testLiteralsParameterization() {
+        MetricRegistry mreg = client.context().metric().registry(PLAN_CACHE_NAME);
+
+        mreg.reset();
+
+        LongMetric hits = mreg.findMetric("hits");
+        LongMetric misses = mreg.findMetric("misses");
+
+        for (int i = 0; i < 10; i++)
+            assertEquals(F.asList(F.asList("name" + i)), sql("SELECT name FROM person WHERE id = " + i));
+
+        assertEquals(1, misses.value());
+        assertEquals(9, hits.value());
+
+        // Literal of another type requires another plan.
+        assertTrue(sql("SELECT name FROM person WHERE id = 10000000000").isEmpty());
+
+        assertEquals(2, misses.value());
+
+        // Literals of the select list are not parameterized.
+        assertEquals(F.asList(F.asList("name1", 1)), sql("SELECT name, 1 FROM person WHERE id = 1"));
+        assertEquals(F.asList(F.asList("name1", 2)), sql("SELECT name, 2 FROM person WHERE id = 1"));
+
+        assertEquals(4, misses.value());
+        assertEquals(9, hits.value());
+    }
+
+    /** */
+    @Test
+    public void testParametersAndLiterals() {
+        assertQuery("SELECT name FROM person WHERE age > ? AND id < 3")
+            .withParams(20)
+            .returns("name1")
+            .returns("name2")
+            .check();
+
+        assertQuery("SELECT name FROM person WHERE id < 5 AND age > ?")
+            .withParams(22)
+            .returns("name3")
+            .returns("name4")
+            .check();
+
+        assertQuery("SELECT name FROM person WHERE id IN (1, 2) AND name LIKE 'name%'")
+            .returns("name1")
+            .returns("name2")
+            .check();
+
+        assertQuery("SELECT p1.name FROM person p1 JOIN person p2 ON p1.id = p2.id + 1 AND p2.age = 25 " +
+            "WHERE p1.id IN (SELECT id FROM person WHERE name = 'name6')")
+            .returns("name6")
+            .check();
+
+        assertQuery("SELECT age / 10, COUNT(*) FROM person WHERE age >= 20 GROUP BY age / 10 HAVING COUNT(*) > 5 " +
+            "ORDER BY 1 LIMIT 1")
+            .returns(2, 10L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testGroupByExpressionInHaving() {
+        assertQuery("SELECT age + 1, COUNT(*) FROM person WHERE id > 0 GROUP BY age + 1 HAVING age + 1 > 28")
+            .returns(29, 1L)
+            .returns(30, 1L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testDecimalLiterals() {
+        MetricRegistry mreg = client.context().metric().registry(PLAN_CACHE_NAME);
+
+        mreg.reset();
+
+        LongMetric misses = mreg.findMetric("misses");
+
+        // Exact literals with a fractional part are kept, since they define the scale of the expressions.
+        assertEquals(F.asList(F.asList(9)), sql("SELECT id FROM person WHERE age / 4.0 > 7.2"));
+        assertEquals(F.asList(F.asList(9)), sql("SELECT id FROM person WHERE age / 4.0 > 7.0"));
+
+        assertEquals(2, misses.value());
+    }
+
+    /** */
+    @Test
+    public void testPlanCacheView() {
+        for (int i = 0; i < 3; i++)
+            sql("SELECT name FROM person WHERE id = " + i);
+
+        List<List<?>> rows = sql("SELECT sql, hits FROM sys.sql_plans_cache").stream()
+            .filter(r -> ((String)r.get(0)).contains("PERSON") && ((String)r.get(0)).contains("WHERE"))
+            .collect(Collectors.toList());
+
+        assertEquals(1, rows.size());
+        assertTrue(((String)rows.get(0).get(0)).contains("?"));
+        assertEquals(2L, rows.get(0).get(1));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+/**
+ * Tests spilling of the query execution state to disk on memory quota exceeding.
+ */
+public class SpillToDiskIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final long QRY_MEMORY_QUOTA = 1_000_000L;
+
+    /** {@inheritDoc} */
+    @Override protected int nodeCount() {
+        return 2;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setSqlConfiguration(
+            new SqlConfiguration().setQueryEnginesConfiguration(new CalciteQueryEngineConfiguration()
+                .setQueryMemoryQuota(QRY_MEMORY_QUOTA).setSpillToDiskEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE tbl (id INT, b VARBINARY) WITH TEMPLATE=REPLICATED");
+
+        for (int i = 0; i < 3000; i++)
+            sql("INSERT INTO tbl VALUES (?, ?)", i, new byte[1000]);
+    }
+
+    /** */
+    @Test
+    public void testSortNode() {
+        long files = spilledFiles();
+
+        List<List<?>> res = sql("SELECT id, b FROM tbl ORDER BY id DESC");
+
+        assertEquals(3000, res.size());
+
+        for (int i = 0; i < res.size(); i++)
+            assertEquals(2999 - i, res.get(i).get(0));
+
+        assertTrue(spilledFiles() > files);
+
+        // Top-N sort is not spilled.
+        assertThrows("SELECT id, b FROM tbl ORDER BY id LIMIT 2000", IgniteException.class, "Query quota exceeded");
+    }
+
+    /** */
+    @Test
+    public void testHashAggregateNode() {
+        long files = spilledFiles();
+
+        assertQuery("SELECT COUNT(*), SUM(cnt), MIN(id), MAX(id) FROM " +
+            "(SELECT id, ANY_VALUE(b), COUNT(*) AS cnt FROM tbl GROUP BY id)")
+            .returns(3000L, 3000L, 0, 2999)
+            .check();
+
+        assertTrue(spilledFiles() > files);
+
+        assertQuery("SELECT id, ANY_VALUE(b) FROM tbl GROUP BY id")
+            .matches(QueryChecker.containsSubPlan("IgniteColocatedHashAggregate"))
+            .resultSize(3000)
+            .check();
+
+        // Single group can't be spilled.
+        assertThrows("SELECT ARRAY_AGG(b) FROM tbl", IgniteException.class, "Query quota exceeded");
+    }
+
+    /** */
+    @Test
+    public void testHashJoinNode() {
+        sql("CREATE TABLE tbl2 (id INT, b VARBINARY) WITH TEMPLATE=REPLICATED");
+
+        for (int i = 0; i < 3000; i += 2)
+            sql("INSERT INTO tbl2 VALUES (?, ?)", i, new byte[1000]);
+
+        long files = spilledFiles();
+
+        String hint = "/*+ DISABLE_RULE('CorrelatedNestedLoopJoin', 'MergeJoinConverter', 'NestedLoopJoinConverter') */ ";
+
+        assertQuery("SELECT " + hint + "tbl.id, tbl2.b FROM tbl JOIN tbl2 USING (id)")
+            .matches(QueryChecker.containsSubPlan("IgniteHashJoin"))
+            .resultSize(1500)
+            .check();
+
+        assertTrue(spilledFiles() > files);
+
+        assertQuery("SELECT " + hint + "tbl.id, tbl2.b FROM tbl LEFT JOIN tbl2 USING (id)")
+            .matches(QueryChecker.containsSubPlan("IgniteHashJoin"))
+            .resultSize(3000)
+            .check();
+
+        assertQuery("SELECT " + hint + "COUNT(tbl.id), COUNT(tbl2.id) FROM tbl2 RIGHT JOIN tbl USING (id)")
+            .returns(3000L, 1500L)
+            .check();
+    }
+
+    /** @return Count of files spilled by all nodes. */
+    private long spilledFiles() {
+        long cnt = 0;
+
+        for (Ignite ign : G.allGrids()) {
+            SpillManager spillMgr = GridTestUtils.getFieldValue(queryProcessor(ign).executionService(), "spillMgr");
+
+            if (spillMgr != null)
+                cnt += spillMgr.spilledFiles();
+        }
+
+        return cnt;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.junit.Test;
+
+/**
+ * Tests table scan with the filter applied before all the row columns are read.
+ */
+public class TableScanFilterIntegrationTest extends AbstractBasicIntegrationTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE test(id INT PRIMARY KEY, a INT, b VARCHAR, c INT, d VARCHAR)");
+
+        for (int i = 0; i < 100; i++)
+            sql("INSERT INTO test VALUES (?, ?, ?, ?, ?)", i, i % 10, "b" + i, i % 2 == 0 ? null : i, "d" + i);
+    }
+
+    /** */
+    @Test
+    public void testFilterOnPartOfColumns() {
+        assertQuery("SELECT id, b, d FROM test WHERE a = 3 AND c > 50")
+            .returns(53, "b53", "d53")
+            .returns(63, "b63", "d63")
+            .returns(73, "b73", "d73")
+            .returns(83, "b83", "d83")
+            .returns(93, "b93", "d93")
+            .check();
+
+        assertQuery("SELECT * FROM test WHERE d = 'd42'")
+            .returns(42, 2, "b42", null, "d42")
+            .check();
+
+        assertQuery("SELECT d FROM test WHERE c IS NULL AND a = 4 AND id < 30")
+            .returns("d4")
+            .returns("d14")
+            .returns("d24")
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testFilterWithoutColumns() {
+        assertQuery("SELECT COUNT(*) FROM test WHERE ? = 1")
+            .withParams(1)
+            .returns(100L)
+            .check();
+
+        assertQuery("SELECT COUNT(*) FROM test WHERE ? = 1")
+            .withParams(0)
+            .returns(0L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testCorrelatedFilter() {
+        assertQuery("SELECT t0.id, (SELECT COUNT(*) FROM test t1 WHERE t1.a = t0.id) FROM test t0 WHERE t0.id IN (1, 20)")
+            .returns(1, 10L)
+            .returns(20, 0L)
+            .check();
+    }
+}
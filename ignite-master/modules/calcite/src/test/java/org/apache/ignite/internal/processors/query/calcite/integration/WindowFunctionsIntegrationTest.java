@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.apache.calcite.sql.validate.SqlValidatorException;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.query.calcite.QueryChecker.containsSubPlan;
+import static org.hamcrest.CoreMatchers.not;
+
+/**
+ * Window functions integration test.
+ */
+public class WindowFunctionsIntegrationTest extends AbstractBasicIntegrationTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE emp(id INT PRIMARY KEY, dept INT, salary INT)");
+        sql("INSERT INTO emp VALUES (1, 1, 100), (2, 1, 200), (3, 1, 200), (4, 1, 300), (5, 2, 50), (6, 2, 70)");
+    }
+
+    /** */
+    @Test
+    public void testRanking() {
+        assertQuery("SELECT id, ROW_NUMBER() OVER (PARTITION BY dept ORDER BY salary, id), " +
+            "RANK() OVER (PARTITION BY dept ORDER BY salary), DENSE_RANK() OVER (PARTITION BY dept ORDER BY salary) " +
+            "FROM emp")
+            .returns(1, 1L, 1L, 1L)
+            .returns(2, 2L, 2L, 2L)
+            .returns(3, 3L, 2L, 2L)
+            .returns(4, 4L, 4L, 3L)
+            .returns(5, 1L, 1L, 1L)
+            .returns(6, 2L, 2L, 2L)
+            .check();
+
+        assertQuery("SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY dept ORDER BY salary DESC, id) rn " +
+            "FROM emp) WHERE rn = 1")
+            .returns(4)
+            .returns(6)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testOffsetFunctions() {
+        assertQuery("SELECT id, LAG(salary) OVER (PARTITION BY dept ORDER BY id), " +
+            "LEAD(salary, 1, 0) OVER (PARTITION BY dept ORDER BY id) FROM emp")
+            .returns(1, null, 200)
+            .returns(2, 100, 200)
+            .returns(3, 200, 300)
+            .returns(4, 200, 0)
+            .returns(5, null, 70)
+            .returns(6, 50, 0)
+            .check();
+
+        assertQuery("SELECT id, FIRST_VALUE(salary) OVER (PARTITION BY dept ORDER BY id), " +
+            "LAST_VALUE(salary) OVER (PARTITION BY dept ORDER BY id) FROM emp")
+            .returns(1, 100, 100)
+            .returns(2, 100, 200)
+            .returns(3, 100, 200)
+            .returns(4, 100, 300)
+            .returns(5, 50, 50)
+            .returns(6, 50, 70)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testAggregates() {
+        // Default frame with ORDER BY includes peers of the current row.
+        assertQuery("SELECT id, SUM(salary) OVER (PARTITION BY dept ORDER BY salary), " +
+            "COUNT(*) OVER (PARTITION BY dept) FROM emp")
+            .returns(1, 100L, 4L)
+            .returns(2, 500L, 4L)
+            .returns(3, 500L, 4L)
+            .returns(4, 800L, 4L)
+            .returns(5, 50L, 2L)
+            .returns(6, 120L, 2L)
+            .check();
+
+        assertQuery("SELECT id, SUM(salary) OVER (PARTITION BY dept ORDER BY id ROWS BETWEEN 1 PRECEDING AND 1 FOLLOWING), " +
+            "MIN(salary) OVER (ORDER BY id ROWS BETWEEN 2 PRECEDING AND CURRENT ROW) FROM emp")
+            .returns(1, 300L, 100)
+            .returns(2, 500L, 100)
+            .returns(3, 700L, 100)
+            .returns(4, 500L, 200)
+            .returns(5, 120L, 50)
+            .returns(6, 120L, 50)
+            .check();
+
+        assertQuery("SELECT id, SUM(salary) OVER w FROM emp WINDOW w AS (PARTITION BY dept ORDER BY id " +
+            "ROWS BETWEEN 2 PRECEDING AND CURRENT ROW)")
+            .returns(1, 100L)
+            .returns(2, 300L)
+            .returns(3, 500L)
+            .returns(4, 700L)
+            .returns(5, 50L)
+            .returns(6, 120L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testRangeFrameWithOffset() {
+        assertThrows("SELECT SUM(salary) OVER (ORDER BY salary RANGE BETWEEN 10 PRECEDING AND CURRENT ROW) FROM emp",
+            SqlValidatorException.class, "RANGE window frame with an offset is not supported");
+    }
+
+    /** */
+    @Test
+    public void testIndexCollation() {
+        sql("CREATE INDEX emp_dept_salary ON emp(dept, salary)");
+
+        assertQuery("SELECT /*+ FORCE_INDEX(EMP_DEPT_SALARY) */ id, RANK() OVER (PARTITION BY dept ORDER BY salary) " +
+            "FROM emp")
+            .matches(containsSubPlan("IgniteWindow"))
+            .matches(not(containsSubPlan("IgniteSort")))
+            .returns(1, 1L)
+            .returns(2, 2L)
+            .returns(3, 2L)
+            .returns(4, 4L)
+            .returns(5, 1L)
+            .returns(6, 2L)
+            .check();
+    }
+}
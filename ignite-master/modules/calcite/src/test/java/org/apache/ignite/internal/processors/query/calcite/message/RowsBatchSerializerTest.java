@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.message;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.marshaller.Marshaller;
+import org.apache.ignite.marshaller.jdk.JdkMarshaller;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests serialization of rows batches.
+ */
+public class RowsBatchSerializerTest extends GridCommonAbstractTest {
+    /** */
+    private static final MarshallingContext CTX = new MarshallingContext() {
+        /** */
+        private final Marshaller marsh = new JdkMarshaller();
+
+        /** {@inheritDoc} */
+        @Override public Marshaller marshaller() {
+            return marsh;
+        }
+
+        /** {@inheritDoc} */
+        @Override public ClassLoader classLoader() {
+            return getClass().getClassLoader();
+        }
+    };
+
+    /** */
+    @Test
+    public void testSerialization() throws Exception {
+        List<Object> rows = Arrays.asList(
+            new Object[] {1, 2L, "str", 1.5d, new BigDecimal("-123.4500"), true, (byte)3, (short)4, 5.5f},
+            new Object[] {null, UUID.randomUUID(), new byte[] {1, 2, 3}, new ByteString(new byte[] {4, 5}),
+                new Timestamp(System.currentTimeMillis())},
+            new Object[0],
+            new Object[] {"", new BigDecimal("1E+30"), Long.MIN_VALUE, Double.NaN}
+        );
+
+        assertTrue(RowsBatchSerializer.supported(rows));
+
+        List<Object> res = RowsBatchSerializer.deserialize(RowsBatchSerializer.serialize(rows, CTX), CTX);
+
+        assertEquals(rows.size(), res.size());
+
+        for (int i = 0; i < rows.size(); i++)
+            assertTrue(Arrays.deepEquals((Object[])rows.get(i), (Object[])res.get(i)));
+
+        assertTrue(RowsBatchSerializer.deserialize(RowsBatchSerializer.serialize(Arrays.asList(), CTX), CTX).isEmpty());
+
+        assertFalse(RowsBatchSerializer.supported(Arrays.asList(new Object[] {1}, "row")));
+    }
+}
@@ -757,6 +757,12 @@ public abstract class AbstractPlannerTest extends GridCommonAbstractTest {
             throw new AssertionError();
         }
 
+        /** {@inheritDoc} */
+        @Override public <Row> void fillRow(ExecutionContext<Row> ectx, CacheDataRow row, Row res,
+            @Nullable ImmutableBitSet requiredColumns, ImmutableBitSet columns) throws IgniteCheckedException {
+            throw new AssertionError();
+        }
+
         /** {@inheritDoc} */
         @Override public <Row> ModifyTuple toTuple(ExecutionContext<Row> ectx, Row row, TableModify.Operation op,
             @Nullable Object arg) throws IgniteCheckedException {
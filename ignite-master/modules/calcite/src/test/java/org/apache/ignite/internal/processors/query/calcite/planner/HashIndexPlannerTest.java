@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.planner;
+
+import java.util.List;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.ExactBounds;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.MultiBounds;
+import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteSort;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteSchema;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.junit.Test;
+
+/**
+ * Planner test for hash index scans.
+ */
+public class HashIndexPlannerTest extends AbstractPlannerTest {
+    /** */
+    private IgniteSchema publicSchema;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        TestTable tbl = createTable("TEST", 1000, IgniteDistributions.single(),
+            "C1", Integer.class,
+            "C2", String.class,
+            "C3", Integer.class
+        );
+
+        tbl.addHashIndex("HASH_C1_C2", 0, 1);
+
+        publicSchema = createSchema(tbl);
+    }
+
+    /** */
+    @Test
+    public void testEqualityOfAllFields() throws Exception {
+        assertPlan("SELECT * FROM TEST WHERE C1 = 1 AND C2 = 'a'", publicSchema,
+            isIndexScan("TEST", "HASH_C1_C2").and(scan -> exact(scan.searchBounds(), 0)
+                && exact(scan.searchBounds(), 1) && scan.searchBounds().get(2) == null));
+
+        assertPlan("SELECT C3 FROM TEST WHERE C2 = ? AND C1 = ?", publicSchema,
+            isIndexScan("TEST", "HASH_C1_C2"));
+
+        assertPlan("SELECT * FROM TEST WHERE C1 = 1 AND C2 = 'a' AND C3 > 0", publicSchema,
+            isIndexScan("TEST", "HASH_C1_C2").and(scan -> scan.condition() != null));
+    }
+
+    /** */
+    @Test
+    public void testInList() throws Exception {
+        assertPlan("SELECT * FROM TEST WHERE C1 IN (1, 2, 3) AND C2 = 'a'", publicSchema,
+            isIndexScan("TEST", "HASH_C1_C2").and(scan -> scan.searchBounds().get(0) instanceof MultiBounds
+                && exact(scan.searchBounds(), 1)));
+    }
+
+    /** */
+    @Test
+    public void testNotApplicableConditions() throws Exception {
+        // Not all the indexed fields are compared.
+        assertPlan("SELECT * FROM TEST WHERE C1 = 1", publicSchema, isTableScan("TEST"));
+
+        // Ranges can't be looked up.
+        assertPlan("SELECT * FROM TEST WHERE C1 > 1 AND C2 = 'a'", publicSchema, isTableScan("TEST"));
+
+        assertPlan("SELECT * FROM TEST WHERE C1 IN (1, 2) OR C1 > 10 AND C2 = 'a'", publicSchema,
+            isTableScan("TEST"));
+
+        assertPlan("SELECT * FROM TEST", publicSchema, isTableScan("TEST"));
+    }
+
+    /** */
+    @Test
+    public void testNoCollation() throws Exception {
+        // Rows of a hash index are not ordered.
+        assertPlan("SELECT * FROM TEST WHERE C1 IN (1, 2) AND C2 = 'a' ORDER BY C1, C2", publicSchema,
+            isInstanceOf(IgniteSort.class).and(hasChildThat(isIndexScan("TEST", "HASH_C1_C2"))));
+
+        // Hash index can't be used for MIN/MAX.
+        assertPlan("SELECT MIN(C1) FROM TEST", publicSchema,
+            nodeOrAnyChild(isInstanceOf(IgniteIndexScan.class)).negate());
+    }
+
+    /**
+     * @param bounds Search bounds.
+     * @param fld Field index.
+     * @return {@code True} if the bounds of the field are an exact value.
+     */
+    private static boolean exact(List<SearchBounds> bounds, int fld) {
+        return bounds.get(fld) instanceof ExactBounds;
+    }
+}
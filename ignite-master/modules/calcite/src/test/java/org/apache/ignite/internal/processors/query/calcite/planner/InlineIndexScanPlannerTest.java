@@ -73,4 +73,37 @@ public class InlineIndexScanPlannerTest extends AbstractPlannerTest {
         // Don't use any indexes that contain variable length types or objects for inline scans.
         assertPlan("SELECT I5 FROM TBL", publicSchema, isTableScan("TBL"));
     }
+
+    /** */
+    @Test
+    public void testInlineScanWithIncludedColumns() throws Exception {
+        TestTable tbl = createTable("TBL", 100, IgniteDistributions.single(),
+            "ID", Integer.class,
+            "VAL", Integer.class,
+            "AMOUNT", Long.class,
+            "NAME", String.class
+        );
+
+        // Included columns are stored after the indexed and the primary key columns.
+        tbl.addIndex("IDX_VAL", 1, 0);
+        tbl.addIndex("IDX_VAL_INCL_AMOUNT", 1, 0, 2);
+        tbl.addIndex("IDX_ID_INCL_NAME", 0, 3);
+
+        IgniteSchema publicSchema = createSchema(tbl);
+
+        // Included column is read from the index.
+        assertPlan("SELECT VAL, AMOUNT FROM TBL WHERE VAL = ?", publicSchema, isIndexScan("TBL", "IDX_VAL_INCL_AMOUNT")
+            .and(AbstractIndexScan::isInlineScan));
+
+        assertPlan("SELECT AMOUNT FROM TBL", publicSchema, isIndexScan("TBL", "IDX_VAL_INCL_AMOUNT")
+            .and(AbstractIndexScan::isInlineScan));
+
+        // Index without included columns is still prefered if it covers the query.
+        assertPlan("SELECT VAL FROM TBL", publicSchema, isIndexScan("TBL", "IDX_VAL")
+            .and(AbstractIndexScan::isInlineScan));
+
+        // Variable length included column disables inline scan.
+        assertPlan("SELECT NAME FROM TBL WHERE ID = ?", publicSchema, isIndexScan("TBL", "IDX_ID_INCL_NAME")
+            .and(i -> !i.isInlineScan()));
+    }
 }
@@ -428,6 +428,7 @@ public class PlannerTest extends AbstractPlannerTest {
             ArrayRowHandler.INSTANCE,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
             0,
             Commons.parametersMap(ctx.parameters()));
 
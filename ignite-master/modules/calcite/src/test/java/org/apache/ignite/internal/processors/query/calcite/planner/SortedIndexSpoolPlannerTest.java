@@ -90,7 +90,8 @@ public class SortedIndexSpoolPlannerTest extends AbstractPlannerTest {
         IgniteRel phys = physicalPlan(
             sql,
             publicSchema,
-            "MergeJoinConverter", "NestedLoopJoinConverter", "FilterSpoolMergeToHashIndexSpoolRule"
+            "MergeJoinConverter", "NestedLoopJoinConverter", "HashJoinConverter",
+            "FilterSpoolMergeToHashIndexSpoolRule"
         );
 
         checkSplitAndSerialization(phys, publicSchema);
@@ -157,7 +158,8 @@ public class SortedIndexSpoolPlannerTest extends AbstractPlannerTest {
         IgniteRel phys = physicalPlan(
             sql,
             publicSchema,
-            "MergeJoinConverter", "NestedLoopJoinConverter", "FilterSpoolMergeToHashIndexSpoolRule"
+            "MergeJoinConverter", "NestedLoopJoinConverter", "HashJoinConverter",
+            "FilterSpoolMergeToHashIndexSpoolRule"
         );
 
         System.out.println("+++ \n" + RelOptUtil.toString(phys));
@@ -221,7 +223,8 @@ public class SortedIndexSpoolPlannerTest extends AbstractPlannerTest {
                     })
                     .and(hasChildThat(isIndexScan("T1", "t1_jid_idx")))
                 )),
-            "MergeJoinConverter", "NestedLoopJoinConverter", "FilterSpoolMergeToHashIndexSpoolRule"
+            "MergeJoinConverter", "NestedLoopJoinConverter", "HashJoinConverter",
+            "FilterSpoolMergeToHashIndexSpoolRule"
         );
     }
 
@@ -252,7 +255,8 @@ public class SortedIndexSpoolPlannerTest extends AbstractPlannerTest {
                     .and(input(1, isInstanceOf(IgniteSortedIndexSpool.class)
                         .and(spool -> spool.collation().getFieldCollations().get(0).getFieldIndex() == equalIdx)
                     ))),
-                "MergeJoinConverter", "NestedLoopJoinConverter", "FilterSpoolMergeToHashIndexSpoolRule"
+                "MergeJoinConverter", "NestedLoopJoinConverter", "HashJoinConverter",
+                "FilterSpoolMergeToHashIndexSpoolRule"
             );
         }
     }
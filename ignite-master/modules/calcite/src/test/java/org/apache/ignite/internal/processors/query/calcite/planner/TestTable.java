@@ -25,6 +25,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.plan.RelOptCluster;
@@ -42,6 +45,7 @@ import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.sql.SqlCall;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.cache.query.index.IndexDefinition;
 import org.apache.ignite.internal.cache.query.index.IndexName;
 import org.apache.ignite.internal.cache.query.index.Order;
@@ -55,6 +59,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
 import org.apache.ignite.internal.processors.query.calcite.prepare.MappingQueryContext;
 import org.apache.ignite.internal.processors.query.calcite.rel.logical.IgniteLogicalTableScan;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheHashIndexImpl;
 import org.apache.ignite.internal.processors.query.calcite.schema.CacheIndexImpl;
 import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
 import org.apache.ignite.internal.processors.query.calcite.schema.IgniteCacheTable;
@@ -174,6 +179,18 @@ public class TestTable implements IgniteCacheTable {
         throw new AssertionError();
     }
 
+    /** {@inheritDoc} */
+    @Override public <Row> Iterable<Row> scan(
+        ExecutionContext<Row> execCtx,
+        ColocationGroup grp,
+        ImmutableBitSet bitSet,
+        Supplier<Predicate<Row>> filterFactory,
+        ImmutableBitSet filterColumns,
+        Supplier<Function<List<Row>, List<Row>>> combinerFactory
+    ) {
+        return scan(execCtx, grp, bitSet);
+    }
+
     /** {@inheritDoc} */
     @Override public Schema.TableType getJdbcTableType() {
         throw new AssertionError();
@@ -262,6 +279,13 @@ public class TestTable implements IgniteCacheTable {
         return this;
     }
 
+    /** */
+    public TestTable addHashIndex(String name, int... keys) {
+        indexes.put(name, new CacheHashIndexImpl(ImmutableIntList.of(keys), name, null, this));
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public IgniteIndex getIndex(String idxName) {
         return indexes.get(idxName);
@@ -433,6 +433,54 @@ public class SqlCustomParserTest extends GridCommonAbstractTest {
         assertEquals(10, createIdx.parallel().intValue(true));
     }
 
+    /**
+     * Create index with included columns.
+     */
+    @Test
+    public void createIndexWithIncludedColumns() throws SqlParseException {
+        String qry = "create index my_index on my_table(id) include (val1, val2) inline_size 20";
+
+        IgniteSqlCreateIndex createIdx = parse(qry);
+
+        assertThat(createIdx.columnList(), hasItem(indexedColumn("ID", false)));
+        assertEquals(2, createIdx.includeList().size());
+        assertEquals("VAL1", ((SqlIdentifier)createIdx.includeList().get(0)).getSimple());
+        assertEquals("VAL2", ((SqlIdentifier)createIdx.includeList().get(1)).getSimple());
+        assertEquals(20, createIdx.inlineSize().intValue(true));
+
+        assertNull(((IgniteSqlCreateIndex)parse("create index my_index on my_table(id)")).includeList());
+
+        assertParserThrows("create index my_index on my_table(id) include val1", SqlParseException.class);
+        assertParserThrows("create index my_index on my_table(id) include (val1 desc)", SqlParseException.class);
+    }
+
+    /**
+     * Create hash index.
+     */
+    @Test
+    public void createHashIndex() throws SqlParseException {
+        String qry = "create hash index if not exists my_index on my_table(id, val) inline_size 20";
+
+        IgniteSqlCreateIndex createIdx = parse(qry);
+
+        assertTrue(createIdx.hash());
+        assertTrue(createIdx.ifNotExists());
+        assertThat(createIdx.indexName().names, is(ImmutableList.of("MY_INDEX")));
+        assertThat(createIdx.columnList(), hasItem(indexedColumn("ID", false)));
+        assertThat(createIdx.columnList(), hasItem(indexedColumn("VAL", false)));
+        assertEquals(20, createIdx.inlineSize().intValue(true));
+
+        assertFalse(((IgniteSqlCreateIndex)parse("create index my_index on my_table(id)")).hash());
+
+        // HASH is a non-reserved keyword.
+        createIdx = parse("create index hash on my_table(hash)");
+
+        assertFalse(createIdx.hash());
+        assertThat(createIdx.indexName().names, is(ImmutableList.of("HASH")));
+
+        assertParserThrows("create index hash index my_index on my_table(id)", SqlParseException.class);
+    }
+
     /**
      * Create index with malformed statements.
      */
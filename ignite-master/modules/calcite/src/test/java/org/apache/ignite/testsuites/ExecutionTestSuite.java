@@ -18,11 +18,13 @@
 package org.apache.ignite.testsuites;
 
 import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeSortedIndexTest;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.BatchExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ContinuousExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashAggregateExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashAggregateSingleGroupExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashIndexSpoolExecutionTest;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.HashJoinExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.IntersectExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.LimitExecutionTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.MergeJoinExecutionTest;
@@ -43,6 +45,7 @@ import org.junit.runners.Suite;
     ExecutionTest.class,
     ContinuousExecutionTest.class,
     MergeJoinExecutionTest.class,
+    HashJoinExecutionTest.class,
     NestedLoopJoinExecutionTest.class,
     TableSpoolExecutionTest.class,
     SortedIndexSpoolExecutionTest.class,
@@ -55,6 +58,7 @@ import org.junit.runners.Suite;
     RuntimeSortedIndexTest.class,
     LimitExecutionTest.class,
     TimeCalculationExecutionTest.class,
+    BatchExecutionTest.class,
 })
 public class ExecutionTestSuite {
 }
@@ -22,6 +22,7 @@ import org.apache.ignite.internal.processors.query.calcite.planner.AggregatePlan
 import org.apache.ignite.internal.processors.query.calcite.planner.CorrelatedNestedLoopJoinPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.CorrelatedSubqueryPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.HashAggregatePlannerTest;
+import org.apache.ignite.internal.processors.query.calcite.planner.HashIndexPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.HashIndexSpoolPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.IndexRebuildPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.IndexSearchBoundsPlannerTest;
@@ -76,6 +77,7 @@ import org.junit.runners.Suite;
     PlannerTimeoutTest.class,
     IndexSearchBoundsPlannerTest.class,
     InlineIndexScanPlannerTest.class,
+    HashIndexPlannerTest.class,
 
     HintsTestSuite.class
 })
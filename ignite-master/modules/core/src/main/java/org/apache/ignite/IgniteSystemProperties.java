@@ -33,6 +33,7 @@ import org.apache.ignite.configuration.DeploymentMode;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.binary.BinaryArray;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBuilder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
 import org.apache.ignite.internal.client.GridClient;
 import org.apache.ignite.internal.marshaller.optimized.OptimizedMarshaller;
@@ -63,6 +64,7 @@ import static org.apache.ignite.internal.LongJVMPauseDetector.DFLT_JVM_PAUSE_DET
 import static org.apache.ignite.internal.binary.BinaryArray.DFLT_IGNITE_USE_BINARY_ARRAYS;
 import static org.apache.ignite.internal.binary.streams.BinaryMemoryAllocator.DFLT_MARSHAL_BUFFERS_PER_THREAD_POOL_SIZE;
 import static org.apache.ignite.internal.binary.streams.BinaryMemoryAllocator.DFLT_MARSHAL_BUFFERS_RECHECK;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBuilder.DFLT_IGNITE_INDEX_BULK_LOAD_FILL_FACTOR;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender.DFLT_THROTTLE_INLINE_SIZE_CALCULATION;
 import static org.apache.ignite.internal.managers.discovery.GridDiscoveryManager.DFLT_DISCOVERY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.affinity.AffinityAssignment.DFLT_AFFINITY_BACKUPS_THRESHOLD;
@@ -93,8 +95,11 @@ import static org.apache.ignite.internal.processors.cache.distributed.dht.topolo
 import static org.apache.ignite.internal.processors.cache.mvcc.MvccCachingManager.DFLT_MVCC_TX_SIZE_CACHING_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_WAL_RECOVERY_READER_THREAD_CNT;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory.DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage.DFLT_IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPageDeltas.DFLT_CHECKPOINT_PAGE_DELTAS_MAX_PAGES;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriter.DFLT_CHECKPOINT_WRITE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointWorkflow.DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.DFLT_PAGE_LOCK_TRACKER_CAPACITY;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.HEAP_LOG;
@@ -102,13 +107,18 @@ import static org.apache.ignite.internal.processors.cache.persistence.diagnostic
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTable.DFLT_LONG_LONG_HASH_MAP_LOAD_FACTOR;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadAhead.DFLT_PAGE_READ_AHEAD_PAGES;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadAhead.DFLT_PAGE_READ_AHEAD_THREADS;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.DFLT_THROTTLE_LOG_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.DFLT_IGNITE_SNAPSHOT_SEQUENTIAL_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPACTION_BLOCK_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_MMAP;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_READER_MMAP;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_GROUP_COMMIT_MAX_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_SEGMENT_SYNC_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE;
@@ -1276,6 +1286,14 @@ public final class IgniteSystemProperties {
     @SystemProperty(value = "Enables usage of the mapped byte buffer", defaults = "" + DFLT_WAL_MMAP)
     public static final String IGNITE_WAL_MMAP = "IGNITE_WAL_MMAP";
 
+    /**
+     * When set to {@code true} (default), segments of WAL archive are read through memory mapping by WAL iterators,
+     * including historical rebalance and CDC.
+     */
+    @SystemProperty(value = "When set to true, segments of WAL archive are read through memory mapping",
+        defaults = "" + DFLT_WAL_READER_MMAP)
+    public static final String IGNITE_WAL_READER_MMAP = "IGNITE_WAL_READER_MMAP";
+
     /**
      * When set to {@code true}, Data store folders are generated only by consistent id, and no consistent ID will be
      * set based on existing data store folders. This option also enables compatible folder generation mode as it was
@@ -1353,6 +1371,20 @@ public final class IgniteSystemProperties {
         "from store, reads are protected by locking", defaults = "" + DFLT_DELAYED_REPLACED_PAGE_WRITE)
     public static final String IGNITE_DELAYED_REPLACED_PAGE_WRITE = "IGNITE_DELAYED_REPLACED_PAGE_WRITE";
 
+    /**
+     * Number of pages read ahead asynchronously when a thread reads pages of a partition sequentially (scans of
+     * partitions and indexes, rebalancing, warm-up). Value {@code 0} disables read-ahead.
+     */
+    @SystemProperty(value = "Number of pages read ahead asynchronously when a thread reads pages of a partition " +
+        "sequentially (scans of partitions and indexes, rebalancing, warm-up). Value 0 disables read-ahead",
+        type = Integer.class, defaults = "" + DFLT_PAGE_READ_AHEAD_PAGES)
+    public static final String IGNITE_PAGE_READ_AHEAD_PAGES = "IGNITE_PAGE_READ_AHEAD_PAGES";
+
+    /** Number of threads of a data region reading pages ahead, see {@link #IGNITE_PAGE_READ_AHEAD_PAGES}. */
+    @SystemProperty(value = "Number of threads of a data region reading pages ahead", type = Integer.class,
+        defaults = "" + DFLT_PAGE_READ_AHEAD_THREADS)
+    public static final String IGNITE_PAGE_READ_AHEAD_THREADS = "IGNITE_PAGE_READ_AHEAD_THREADS";
+
     /**
      * When set to {@code true}, WAL implementation with dedicated worker will be used even in FSYNC mode.
      * Default is {@code false}.
@@ -1361,6 +1393,16 @@ public final class IgniteSystemProperties {
         "even in FSYNC mode")
     public static final String IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER = "IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER";
 
+    /**
+     * Maximum number of not yet synced WAL bytes collected by a WAL group commit. When the threshold is reached,
+     * the group is fsync-ed without waiting for the end of {@link DataStorageConfiguration#getWalFsyncDelayNanos()}.
+     * Used by the WAL implementation with dedicated worker only.
+     */
+    @SystemProperty(value = "Maximum number of not yet synced WAL bytes collected by a WAL group commit before " +
+        "the fsync is issued without waiting for the end of the fsync delay", type = Integer.class,
+        defaults = "" + DFLT_WAL_GROUP_COMMIT_MAX_BATCH_SIZE)
+    public static final String IGNITE_WAL_GROUP_COMMIT_MAX_BATCH_SIZE = "IGNITE_WAL_GROUP_COMMIT_MAX_BATCH_SIZE";
+
     /**
      * When set to {@code true}, on-heap cache cannot be enabled - see
      * {@link CacheConfiguration#setOnheapCacheEnabled(boolean)}.
@@ -1415,6 +1457,15 @@ public final class IgniteSystemProperties {
         defaults = "" + DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT)
     public static final String IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT = "IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT";
 
+    /**
+     * Uncompressed size of a block of a compacted WAL segment. Compacted segment is split into independently
+     * compressed blocks, so WAL iterators can start reading from the block that contains the required pointer.
+     * Segments split into blocks can't be read by versions that don't support them, {@code 0} disables splitting.
+     */
+    @SystemProperty(value = "Uncompressed size of a block of a compacted WAL segment in bytes", type = Integer.class,
+        defaults = "" + DFLT_WAL_COMPACTION_BLOCK_SIZE)
+    public static final String IGNITE_WAL_COMPACTION_BLOCK_SIZE = "IGNITE_WAL_COMPACTION_BLOCK_SIZE";
+
     /**
      * Whenever read load balancing is enabled, that means 'get' requests will be distributed between primary and backup
      * nodes if it is possible and {@link CacheConfiguration#isReadFromBackup()} is {@code true}.
@@ -1724,6 +1775,13 @@ public final class IgniteSystemProperties {
         type = Integer.class)
     public static final String IGNITE_RECOVERY_SEMAPHORE_PERMITS = "IGNITE_RECOVERY_SEMAPHORE_PERMITS";
 
+    /**
+     * Number of threads that read archived WAL segments in parallel during binary memory recovery.
+     */
+    @SystemProperty(value = "Number of threads that read archived WAL segments in parallel during binary memory " +
+        "recovery", type = Integer.class, defaults = "" + DFLT_WAL_RECOVERY_READER_THREAD_CNT)
+    public static final String IGNITE_WAL_RECOVERY_READER_THREAD_CNT = "IGNITE_WAL_RECOVERY_READER_THREAD_CNT";
+
     /**
      * Maximum size of history of server nodes (server node IDs) that ever joined to current topology.
      */
@@ -1776,6 +1834,24 @@ public final class IgniteSystemProperties {
         type = Integer.class, defaults = "" + DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD)
     public static final String CHECKPOINT_PARALLEL_SORT_THRESHOLD = "CHECKPOINT_PARALLEL_SORT_THRESHOLD";
 
+    /**
+     * Maximum number of pages with adjacent indexes of a partition file written by a single request during checkpoint.
+     * Value {@code 1} disables batching of page writes.
+     */
+    @SystemProperty(value = "Maximum number of pages with adjacent indexes of a partition file written by a single " +
+        "request during checkpoint. Value 1 disables batching of page writes",
+        type = Integer.class, defaults = "" + DFLT_CHECKPOINT_WRITE_BATCH_SIZE)
+    public static final String IGNITE_CHECKPOINT_WRITE_BATCH_SIZE = "IGNITE_CHECKPOINT_WRITE_BATCH_SIZE";
+
+    /**
+     * Maximum number of hot pages which routine checkpoints can write as deltas to a single delta file instead of
+     * rewriting them in partition files. Value {@code 0} disables delta checkpoints.
+     */
+    @SystemProperty(value = "Maximum number of hot pages which routine checkpoints can write as deltas to a single " +
+        "delta file instead of rewriting them in partition files. Value 0 disables delta checkpoints",
+        type = Integer.class, defaults = "" + DFLT_CHECKPOINT_PAGE_DELTAS_MAX_PAGES)
+    public static final String IGNITE_CHECKPOINT_PAGE_DELTAS_MAX_PAGES = "IGNITE_CHECKPOINT_PAGE_DELTAS_MAX_PAGES";
+
     /**
      * Keep static cache configuration even if stored cache data differs from the static config. When this property
      * is set, static cache configuration will override persisted configuration. DDL operations are not allowed
@@ -2052,6 +2128,27 @@ public final class IgniteSystemProperties {
         type = Integer.class)
     public static final String IGNITE_CALCITE_EXEC_IO_BATCH_SIZE = "IGNITE_CALCITE_EXEC_IO_BATCH_SIZE";
 
+    /**
+     * Calcite-based SQL engine. Batch size (count of rows) passed at once between scan, filter, project and hash
+     * aggregate execution nodes. Zero disables batch execution mode. Batches hold rows, values are not stored
+     * by columns.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Batch size (count of rows) passed at once between scan, " +
+        "filter, project and hash aggregate execution nodes. Zero disables batch execution mode. Batches hold rows, " +
+        "values are not stored by columns", type = Integer.class)
+    public static final String IGNITE_CALCITE_EXEC_BATCH_SIZE = "IGNITE_CALCITE_EXEC_BATCH_SIZE";
+
+    /**
+     * Calcite-based SQL engine. Count of tasks scanning local table partitions in parallel for a query fragment.
+     * Value {@code 1} means that partitions are scanned by the fragment thread only. If the scanned rows are
+     * aggregated, partial aggregates are computed by the scanning tasks as well.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Count of tasks scanning local table partitions in parallel " +
+        "for a query fragment. Value 1 means that partitions are scanned by the fragment thread only. If the scanned " +
+        "rows are aggregated, partial aggregates are computed by the scanning tasks as well",
+        type = Integer.class, defaults = "1")
+    public static final String IGNITE_CALCITE_EXEC_SCAN_PARALLELISM = "IGNITE_CALCITE_EXEC_SCAN_PARALLELISM";
+
     /**
      * Calcite-based SQL engine. Maximum number of pending data messages for each outbox.
      */
@@ -2074,6 +2171,15 @@ public final class IgniteSystemProperties {
         type = Integer.class, defaults = "" + DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE)
     public static final String IGNITE_INDEX_REBUILD_BATCH_SIZE = "IGNITE_INDEX_REBUILD_BATCH_SIZE";
 
+    /**
+     * Fill factor of the index pages, when an index is loaded bottom-up from sorted rows, e.g. when indexes are rebuilt
+     * in the maintenance mode. The default value is {@link InlineIndexBuilder#DFLT_IGNITE_INDEX_BULK_LOAD_FILL_FACTOR}.
+     */
+    @SystemProperty(value = "Fill factor of the index pages, when an index is loaded bottom-up from sorted rows, " +
+        "e.g. when indexes are rebuilt in the maintenance mode", type = Float.class,
+        defaults = "" + DFLT_IGNITE_INDEX_BULK_LOAD_FILL_FACTOR)
+    public static final String IGNITE_INDEX_BULK_LOAD_FILL_FACTOR = "IGNITE_INDEX_BULK_LOAD_FILL_FACTOR";
+
     /**
      * Throttle frequency for an index row inline size calculation and logging index inline size recommendation.
      * The default value is {@link InlineRecommender#DFLT_THROTTLE_INLINE_SIZE_CALCULATION}.
@@ -56,6 +56,10 @@ public class QueryIndex implements Serializable {
     /** */
     private int inlineSize = DFLT_INLINE_SIZE;
 
+    /** */
+    @GridToStringInclude
+    private Collection<String> inclFields;
+
     /**
      * Creates an empty index. Should be populated via setters.
      */
@@ -296,6 +300,38 @@ public class QueryIndex implements Serializable {
         return this;
     }
 
+    /**
+     * Gets fields which are not indexed, but whose values are stored in the index rows after the indexed fields.
+     * See {@link #setIncludedFields(Collection)} for details.
+     *
+     * @return Included fields or {@code null} if there are no included fields.
+     */
+    public Collection<String> getIncludedFields() {
+        return inclFields;
+    }
+
+    /**
+     * Sets fields which are not indexed, but whose values are stored in the index rows after the indexed fields.
+     * Included fields are not supported for {@link QueryIndexType#GEOSPATIAL} and {@link QueryIndexType#FULLTEXT}
+     * indexes.
+     * <p>
+     * The Calcite-based SQL engine executes a query which reads only the indexed, the primary key and the included
+     * fields without data pages access, only if all these fields are of fixed-size types (numeric, boolean, date and
+     * time types, {@code UUID}) and fully inlined (see {@link #getInlineSize()}). A single variable length field,
+     * like {@code VARCHAR} or {@code DECIMAL}, either indexed or included, disables such scan for the index.
+     * <p>
+     * The H2-based SQL engine always reads rows from data pages, so included fields don't make the index cheaper
+     * for a query, which reads them.
+     *
+     * @param inclFields Included fields.
+     * @return {@code this} for chaining.
+     */
+    public QueryIndex setIncludedFields(Collection<String> inclFields) {
+        this.inclFields = inclFields;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -309,12 +345,13 @@ public class QueryIndex implements Serializable {
         return inlineSize == index.inlineSize &&
             F.eq(name, index.name) &&
             F.eq(fields, index.fields) &&
+            F.eq(inclFields, index.inclFields) &&
             type == index.type;
     }
 
     /** {@inheritDoc} */
     @Override public int hashCode() {
-        return Objects.hash(name, fields, type, inlineSize);
+        return Objects.hash(name, fields, type, inlineSize, inclFields);
     }
 
     /** {@inheritDoc} */
@@ -36,7 +36,15 @@ public enum QueryIndexType {
     /**
      * Geo-spatial index.
      */
-    GEOSPATIAL;
+    GEOSPATIAL,
+
+    /**
+     * Hash index. Supports only lookups by equality of all the indexed fields, rows are not ordered by the fields.
+     * <p>
+     * The index is a B+ tree ordered by the hash of the indexed fields, so a lookup costs O(log n) like in a sorted
+     * index, but compares hashes instead of the field values.
+     */
+    HASH;
 
     /** Enum values. */
     private static final QueryIndexType[] VALS = values();
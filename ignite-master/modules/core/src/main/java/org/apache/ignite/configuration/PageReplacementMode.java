@@ -70,7 +70,25 @@ public enum PageReplacementMode {
      * This algorithm has near to zero maintenance cost and replacement policy efficiency between random-LRU and
      * segmented-LRU.
      */
-    CLOCK;
+    CLOCK,
+
+    /**
+     * 2Q algorithm with an adaptive probation queue size.
+     *
+     * Pages are kept in two queues: a probation FIFO queue and a protected LRU queue. Page loaded from the disk for
+     * the first time is added to the probation queue. Pages replaced from the queues are remembered by two ghost lists,
+     * which store hashes of page IDs only. If a page found in a ghost list is loaded again, it is added to the
+     * protected queue, and the target size of the probation queue is adjusted the same way as in ARC algorithm: a page
+     * returned after replacement from the probation queue grows the target, a page returned after replacement from the
+     * protected queue shrinks it. Page to replace is taken from the head of the probation queue if it exceeds the
+     * target size, otherwise from the head of the protected queue.
+     *
+     * Pages loaded by full scans (SQL table scans, scan queries, cache dumps) are added to the probation queue only
+     * and never affect the target size or ghost lists, so a large scan can't replace the hot pages of the protected
+     * queue. This algorithm is recommended for data regions shared by point lookups and analytic scans. It has the
+     * same maintenance cost as segmented-LRU and requires up to 2 bytes per page more for the ghost lists.
+     */
+    TWO_Q;
 
     /** Enumerated values. */
     private static final PageReplacementMode[] VALS = values();
@@ -29,6 +29,7 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cache.query.IndexQuery;
 import org.apache.ignite.cache.query.IndexQueryCriterion;
 import org.apache.ignite.internal.cache.query.RangeIndexQueryCriterion;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRowComparator;
@@ -215,6 +216,10 @@ public class IndexQueryProcessor {
         Collection<Index> idxs = idxProc.indexes(cctx.name());
 
         for (Index idx: idxs) {
+            // Rows of hash indexes are not ordered by the indexed fields.
+            if (idx instanceof HashIndex)
+                continue;
+
             SortedSegmentedIndex sortedIdx = assertSortedIndex(idx);
 
             if (checkIndex(sortedIdx, tableName, criteriaFlds))
@@ -229,7 +234,7 @@ public class IndexQueryProcessor {
         if (idx == null)
             return null;
 
-        if (!(idx instanceof SortedSegmentedIndex))
+        if (!(idx instanceof SortedSegmentedIndex) || idx instanceof HashIndex)
             throw new IgniteCheckedException("IndexQuery is not supported for index: " + idx.name());
 
         return (SortedSegmentedIndex)idx;
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyTypeSettings;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface for segmented Ignite indexes which support only lookups by equality of all the indexed keys.
+ */
+public interface HashIndex extends Index {
+    /**
+     * Finds index rows with the indexed keys equal to the specified ones in specified tree segment with cache
+     * filtering. Rows are returned in no particular order.
+     *
+     * @param keys Keys to find, one for each indexed key, or {@code null} to find all rows.
+     * @param segment Number of tree segment to find.
+     * @param qryCtx External index query context.
+     * @return Cursor of found index rows.
+     */
+    public GridCursor<IndexRow> find(@Nullable IndexKey[] keys, int segment, IndexQueryContext qryCtx)
+        throws IgniteCheckedException;
+
+    /**
+     * Finds index rows with the indexed keys equal to the specified ones in all tree segments with cache filtering.
+     * Rows are returned in no particular order.
+     *
+     * @param keys Keys to find, one for each indexed key, or {@code null} to find all rows.
+     * @param qryCtx External index query context.
+     * @return Cursor of found index rows.
+     */
+    public GridCursor<IndexRow> find(@Nullable IndexKey[] keys, IndexQueryContext qryCtx) throws IgniteCheckedException;
+
+    /**
+     * @return Amount of index tree segments.
+     */
+    public int segmentsCount();
+
+    /**
+     * @return Index definition.
+     */
+    public HashIndexDefinition indexDefinition();
+
+    /**
+     * @return Index key type settings.
+     */
+    public IndexKeyTypeSettings keyTypeSettings();
+}
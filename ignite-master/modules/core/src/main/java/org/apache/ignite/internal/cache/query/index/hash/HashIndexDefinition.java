@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.apache.ignite.internal.cache.query.index.IndexName;
+import org.apache.ignite.internal.cache.query.index.Order;
+import org.apache.ignite.internal.cache.query.index.SortOrder;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyTypeSettings;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowCache;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandlerFactory;
+import org.apache.ignite.internal.cache.query.index.sorted.QueryIndexDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.QueryIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyTypeRegistry;
+import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
+
+/**
+ * Defines a hash index.
+ * <p>
+ * Rows of the index are stored in a tree ordered by the hash of the indexed keys first, then by the indexed keys and
+ * by the keys which make the rows unique (the cache key and the affinity key). So the index keys of the tree are the
+ * synthetic hash key followed by the row keys.
+ */
+public class HashIndexDefinition extends QueryIndexDefinition {
+    /** Name of the synthetic key with the hash of the indexed keys. */
+    public static final String HASH_KEY_NAME = "_HASH";
+
+    /** Definition of the synthetic key with the hash of the indexed keys. */
+    private static final IndexKeyDefinition HASH_KEY_DEF =
+        new IndexKeyDefinition(IndexKeyType.INT.code(), new Order(SortOrder.ASC, null), -1);
+
+    /** Row keys: the indexed keys followed by the keys which make the rows unique. */
+    private final LinkedHashMap<String, IndexKeyDefinition> rowKeyDefs;
+
+    /** Count of the indexed keys. */
+    private final int hashedKeysCnt;
+
+    /** Row handler factory. */
+    private final InlineIndexRowHandlerFactory rowHndFactory = (def, keyTypeSettings) -> {
+        List<InlineIndexKeyType> keyTypes =
+            InlineIndexKeyTypeRegistry.types(def.indexKeyDefinitions().values(), keyTypeSettings);
+
+        QueryIndexRowHandler rowHnd = new QueryIndexRowHandler(def.typeDescriptor(), def.cacheInfo(),
+            rowKeyDefinitions(), keyTypes.subList(1, keyTypes.size()), keyTypeSettings);
+
+        return new HashIndexRowHandler(rowHnd, hashedKeysCount(), new ArrayList<>(def.indexKeyDefinitions().values()),
+            keyTypes);
+    };
+
+    /**
+     * @param typeDesc Type descriptor.
+     * @param cacheInfo Cache info.
+     * @param idxName Index name.
+     * @param treeName Index tree name.
+     * @param idxRowCache Index rows cache.
+     * @param rowKeyDefs Indexed keys followed by the keys which make the rows unique.
+     * @param hashedKeysCnt Count of the indexed keys.
+     * @param cfgInlineSize Configured inline size.
+     * @param keyTypeSettings Index key type settings.
+     */
+    public HashIndexDefinition(
+        GridQueryTypeDescriptor typeDesc,
+        GridCacheContextInfo<?, ?> cacheInfo,
+        IndexName idxName,
+        String treeName,
+        IndexRowCache idxRowCache,
+        LinkedHashMap<String, IndexKeyDefinition> rowKeyDefs,
+        int hashedKeysCnt,
+        int cfgInlineSize,
+        IndexKeyTypeSettings keyTypeSettings
+    ) {
+        super(typeDesc, cacheInfo, idxName, treeName, idxRowCache, false, false, withHashKey(rowKeyDefs),
+            cfgInlineSize, keyTypeSettings);
+
+        assert hashedKeysCnt > 0 && hashedKeysCnt <= rowKeyDefs.size() : hashedKeysCnt;
+
+        this.rowKeyDefs = rowKeyDefs;
+        this.hashedKeysCnt = hashedKeysCnt;
+    }
+
+    /**
+     * @return Indexed keys followed by the keys which make the rows unique.
+     */
+    public LinkedHashMap<String, IndexKeyDefinition> rowKeyDefinitions() {
+        return rowKeyDefs;
+    }
+
+    /**
+     * @return Count of the indexed keys.
+     */
+    public int hashedKeysCount() {
+        return hashedKeysCnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public InlineIndexRowHandlerFactory rowHandlerFactory() {
+        return rowHndFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        String flds = String.join(", ", new ArrayList<>(rowKeyDefs.keySet()).subList(0, hashedKeysCnt));
+
+        return "HashIndex[name=" + idxName().idxName() + ", fields=" + flds + "]";
+    }
+
+    /**
+     * @param rowKeyDefs Row keys.
+     * @return Synthetic hash key followed by the row keys.
+     */
+    private static LinkedHashMap<String, IndexKeyDefinition> withHashKey(LinkedHashMap<String, IndexKeyDefinition> rowKeyDefs) {
+        LinkedHashMap<String, IndexKeyDefinition> keyDefs = new LinkedHashMap<>(rowKeyDefs.size() + 1);
+
+        keyDefs.put(HASH_KEY_NAME, HASH_KEY_DEF);
+        keyDefs.putAll(rowKeyDefs);
+
+        return keyDefs;
+    }
+}
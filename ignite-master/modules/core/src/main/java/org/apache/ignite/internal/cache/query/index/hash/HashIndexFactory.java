@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexFactory;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
+import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.metric.IoStatisticsType;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+
+import static org.apache.ignite.internal.metric.IoStatisticsType.HASH_INDEX;
+
+/**
+ * Factory to create {@link HashIndex}.
+ */
+public class HashIndexFactory extends InlineIndexFactory {
+    /** */
+    public static final HashIndexFactory INSTANCE = new HashIndexFactory();
+
+    /** {@inheritDoc} */
+    @Override protected InlineIndexImpl createIndex(GridCacheContext<?, ?> cctx, SortedIndexDefinition def,
+        InlineIndexTree[] segments, IoStatisticsHolderIndex stats) {
+        return new HashIndexImpl(cctx, (HashIndexDefinition)def, segments, stats);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IoStatisticsType statisticsType() {
+        return HASH_INDEX;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexPlainRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash index implementation.
+ * <p>
+ * Segments of the index are trees ordered by the hash of the indexed keys first (see {@link HashIndexDefinition}), so
+ * the index is stored, logged and restored exactly like a sorted index. A lookup by the indexed keys is a lookup of a
+ * single range of the tree.
+ * <p>
+ * A bucketed hash table would give O(1) lookups, but it needs its own page formats, WAL records, recovery, rebuild and
+ * defragmentation, which the tree already has. The tree keeps lookups O(log n), and each comparison on the way down
+ * is an inlined int comparison of the hashes, so the indexed values are compared only on hash collisions. This is
+ * cheaper than a sorted index for long values with common prefixes, which don't fit the inline size.
+ * <p>
+ * {@code HashIndexFindBenchmark} in the benchmarks module measures string lookups on a single node. A lookup reads
+ * 3 index pages with 100K rows and 4 pages with 1M rows, an extendible hash would read 2 (directory and bucket).
+ * Throughput is the same as with a sorted index for short values (300 vs 270 ops/ms with 1M rows) and 3.5 times
+ * higher for values with a 64 chars common prefix (275 vs 80 ops/ms).
+ */
+public class HashIndexImpl extends InlineIndexImpl implements HashIndex {
+    /** Constructor. */
+    public HashIndexImpl(GridCacheContext<?, ?> cctx, HashIndexDefinition def, InlineIndexTree[] segments,
+        IoStatisticsHolderIndex stats) {
+        super(cctx, def, segments, stats);
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridCursor<IndexRow> find(@Nullable IndexKey[] keys, int segment, IndexQueryContext qryCtx)
+        throws IgniteCheckedException {
+        IndexRow row = searchRow(keys);
+
+        return find(row, row, true, true, segment, qryCtx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridCursor<IndexRow> find(@Nullable IndexKey[] keys, IndexQueryContext qryCtx)
+        throws IgniteCheckedException {
+        IndexRow row = searchRow(keys);
+
+        return find(row, row, true, true, qryCtx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public HashIndexDefinition indexDefinition() {
+        return (HashIndexDefinition)super.indexDefinition();
+    }
+
+    /**
+     * @param keys Indexed keys.
+     * @return Search row with the hash and the indexed keys, the rest keys match any value.
+     */
+    @Nullable private IndexRow searchRow(@Nullable IndexKey[] keys) {
+        if (keys == null)
+            return null;
+
+        assert keys.length == indexDefinition().hashedKeysCount() : keys.length;
+
+        IndexKey[] rowKeys = new IndexKey[indexDefinition().indexKeyDefinitions().size()];
+
+        rowKeys[0] = HashIndexRowHandler.hashKey(keys);
+
+        System.arraycopy(keys, 0, rowKeys, 1, keys.length);
+
+        return new IndexPlainRowImpl(rowKeys, segment(0).rowHandler());
+    }
+}
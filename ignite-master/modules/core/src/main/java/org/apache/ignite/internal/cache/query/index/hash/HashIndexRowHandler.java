@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyTypeSettings;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.QueryIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.BooleanIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.DateIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IntegerIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.JavaObjectIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.NullIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.NumericIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.TimeIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.TimestampIndexKey;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+
+/**
+ * Maps a cache row to a row of a hash index: the hash of the indexed keys followed by the row keys.
+ * <p>
+ * Hash codes are stored in the index pages, so they must not change between node restarts. Keys which are equal
+ * according to {@link IndexKey#compare(IndexKey)} have the same hash code even if their types differ, e.g. numbers
+ * of different types or a date and a timestamp. Strings are hashed according to the comparison semantics of the key
+ * type, so case insensitive strings which differ only in case have the same hash code.
+ */
+public class HashIndexRowHandler implements InlineIndexRowHandler {
+    /** Handler of the row keys. */
+    private final QueryIndexRowHandler rowHnd;
+
+    /** Count of the indexed keys. */
+    private final int hashedKeysCnt;
+
+    /** Definitions of the index keys including the hash key. */
+    private final List<IndexKeyDefinition> keyDefs;
+
+    /** Types of the index keys including the hash key. */
+    private final List<InlineIndexKeyType> keyTypes;
+
+    /**
+     * @param rowHnd Handler of the row keys.
+     * @param hashedKeysCnt Count of the indexed keys.
+     * @param keyDefs Definitions of the index keys including the hash key.
+     * @param keyTypes Types of the index keys including the hash key.
+     */
+    public HashIndexRowHandler(
+        QueryIndexRowHandler rowHnd,
+        int hashedKeysCnt,
+        List<IndexKeyDefinition> keyDefs,
+        List<InlineIndexKeyType> keyTypes
+    ) {
+        this.rowHnd = rowHnd;
+        this.hashedKeysCnt = hashedKeysCnt;
+        this.keyDefs = keyDefs;
+        this.keyTypes = keyTypes;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IndexKey indexKey(int idx, CacheDataRow row) {
+        if (idx > 0)
+            return rowHnd.indexKey(idx - 1, row);
+
+        int hash = 0;
+
+        for (int i = 0; i < hashedKeysCnt; i++)
+            hash = 31 * hash + hash(rowHnd.indexKey(i, row));
+
+        return new IntegerIndexKey(hash);
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<InlineIndexKeyType> inlineIndexKeyTypes() {
+        return keyTypes;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<IndexKeyDefinition> indexKeyDefinitions() {
+        return keyDefs;
+    }
+
+    /** {@inheritDoc} */
+    @Override public IndexKeyTypeSettings indexKeyTypeSettings() {
+        return rowHnd.indexKeyTypeSettings();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int partition(CacheDataRow row) {
+        return rowHnd.partition(row);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Object cacheKey(CacheDataRow row) {
+        return rowHnd.cacheKey(row);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Object cacheValue(CacheDataRow row) {
+        return rowHnd.cacheValue(row);
+    }
+
+    /**
+     * @param keys Indexed keys.
+     * @return Hash key of the index row with the indexed keys.
+     */
+    public static IndexKey hashKey(IndexKey[] keys) {
+        int hash = 0;
+
+        for (IndexKey key : keys)
+            hash = 31 * hash + hash(key);
+
+        return new IntegerIndexKey(hash);
+    }
+
+    /**
+     * @param key Index key.
+     * @return Hash code of the key.
+     */
+    static int hash(IndexKey key) {
+        if (key == null || key == NullIndexKey.INSTANCE)
+            return 0;
+
+        if (key instanceof BooleanIndexKey)
+            return (Boolean)key.key() ? 1 : 0;
+
+        // Numbers of different types are compared by their values.
+        if (key instanceof NumericIndexKey)
+            return hash(((Number)key.key()).doubleValue());
+
+        if (key instanceof DateIndexKey)
+            return hash(((DateIndexKey)key).dateValue(), 0);
+
+        if (key instanceof TimestampIndexKey)
+            return hash(((TimestampIndexKey)key).dateValue(), ((TimestampIndexKey)key).nanos());
+
+        if (key instanceof TimeIndexKey)
+            return Long.hashCode(((TimeIndexKey)key).nanos());
+
+        // Hash codes of arbitrary objects may change between restarts, the serialized form is used instead.
+        if (key instanceof JavaObjectIndexKey)
+            return Arrays.hashCode(((JavaObjectIndexKey)key).bytesNoCopy());
+
+        Object val = key.key();
+
+        // String#hashCode() is case sensitive.
+        if (key.type() == IndexKeyType.STRING_IGNORECASE)
+            return hashIgnoreCase(val.toString());
+
+        return val instanceof byte[] ? Arrays.hashCode((byte[])val) : val.hashCode();
+    }
+
+    /**
+     * @param str String.
+     * @return Hash code which is the same for the strings equal according to {@link String#equalsIgnoreCase(String)}.
+     */
+    static int hashIgnoreCase(String str) {
+        int hash = 0;
+
+        // The same char folding as String#equalsIgnoreCase() uses.
+        for (int i = 0; i < str.length(); i++)
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(str.charAt(i)));
+
+        return hash;
+    }
+
+    /**
+     * @param val Number.
+     * @return Hash code which is the same for integral values of all numeric types.
+     */
+    private static int hash(double val) {
+        long longVal = (long)val;
+
+        return longVal == val ? Long.hashCode(longVal) : Double.hashCode(val);
+    }
+
+    /**
+     * @param dateVal Date value.
+     * @param nanos Nanoseconds of the day.
+     * @return Hash code.
+     */
+    private static int hash(long dateVal, long nanos) {
+        return 31 * Long.hashCode(dateVal) + Long.hashCode(nanos);
+    }
+}
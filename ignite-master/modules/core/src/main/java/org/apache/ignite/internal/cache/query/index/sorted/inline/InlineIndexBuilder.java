@@ -0,0 +1,393 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.sorted.inline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_LOAD_FILL_FACTOR;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.getFloat;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE;
+
+/**
+ * Builds an empty inline index from the rows added in any order. Rows of each segment are sorted in the order of the
+ * segment tree with an external merge sort: sorted runs of rows are spilled to files of row links, then the runs are
+ * merged and the tree is loaded bottom-up with {@link BPlusTree#bulkLoad(long, float)}.
+ * <p>
+ * Unlike the put of rows one by one, the index being built is not consistent until {@link #build()} is finished, so
+ * the builder must be used only when the index is not updated concurrently, e.g. when indexes are rebuilt in the
+ * maintenance mode. Rows may be added concurrently. Indexes created by {@code CREATE INDEX} and indexes rebuilt after
+ * a restore from a snapshot or a lost index partition are still filled with puts of rows one by one, since they are
+ * updated by the concurrent cache operations at the same time.
+ */
+public class InlineIndexBuilder implements AutoCloseable {
+    /** Default fill factor of the index pages. */
+    public static final float DFLT_IGNITE_INDEX_BULK_LOAD_FILL_FACTOR = 0.9f;
+
+    /** Default count of rows of a segment sorted in memory. */
+    public static final int DFLT_RUN_SIZE = 100_000;
+
+    /** Name of the directory for sorted runs in the work directory. */
+    private static final String RUNS_DIR = "index-build";
+
+    /** Fill factor of the index pages. */
+    private final float fillFactor = getFloat(IGNITE_INDEX_BULK_LOAD_FILL_FACTOR, DFLT_IGNITE_INDEX_BULK_LOAD_FILL_FACTOR);
+
+    /** Count of rows loaded within a single checkpoint lock. */
+    private final int batchSize = getInteger(IGNITE_INDEX_REBUILD_BATCH_SIZE, DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE);
+
+    /** */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** */
+    private final InlineIndexImpl idx;
+
+    /** */
+    private final InlineIndexRowHandler rowHnd;
+
+    /** Count of rows of a segment sorted in memory. */
+    private final int runSize;
+
+    /** */
+    private final Segment[] segments;
+
+    /** Directory for sorted runs, created lazily. */
+    private File runsDir;
+
+    /**
+     * @param cctx Cache context.
+     * @param idx Empty index.
+     * @param runSize Count of rows of a segment sorted in memory.
+     */
+    public InlineIndexBuilder(GridCacheContext<?, ?> cctx, InlineIndexImpl idx, int runSize) {
+        assert runSize > 0 : runSize;
+
+        this.cctx = cctx;
+        this.idx = idx;
+        this.runSize = runSize;
+
+        rowHnd = idx.segment(0).rowHandler();
+
+        segments = new Segment[idx.segmentsCount()];
+
+        for (int i = 0; i < segments.length; i++)
+            segments[i] = new Segment();
+    }
+
+    /**
+     * @param row Cache row.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void add(CacheDataRow row) throws IgniteCheckedException {
+        int segIdx = idx.segmentForRow(row);
+
+        Segment seg = segments[segIdx];
+
+        try {
+            ThreadLocalRowHandlerHolder.rowHandler(rowHnd);
+
+            IndexRowImpl idxRow = new IndexRowImpl(rowHnd, row);
+
+            idxRow.prepareCache();
+
+            // Validate all keys before an actual put.
+            for (int i = 0; i < rowHnd.indexKeyDefinitions().size(); ++i)
+                idxRow.key(i);
+
+            List<IndexRowImpl> run;
+
+            synchronized (seg) {
+                seg.rows.add(idxRow);
+                seg.cnt++;
+
+                if (seg.rows.size() < runSize)
+                    return;
+
+                run = seg.rows;
+
+                seg.rows = new ArrayList<>();
+            }
+
+            // Sort and spill the run out of the lock.
+            File file = spill(idx.segment(segIdx), run);
+
+            synchronized (seg) {
+                seg.runs.add(file);
+            }
+        }
+        finally {
+            ThreadLocalRowHandlerHolder.clearRowHandler();
+        }
+    }
+
+    /**
+     * Loads the added rows to the index.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void build() throws IgniteCheckedException {
+        try {
+            ThreadLocalRowHandlerHolder.rowHandler(rowHnd);
+
+            for (int i = 0; i < segments.length; i++)
+                build(idx.segment(i), segments[i]);
+        }
+        finally {
+            ThreadLocalRowHandlerHolder.clearRowHandler();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        if (runsDir != null)
+            U.delete(runsDir);
+    }
+
+    /**
+     * @param tree Segment tree.
+     * @param seg Segment.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void build(InlineIndexTree tree, Segment seg) throws IgniteCheckedException {
+        IgniteCacheDatabaseSharedManager db = cctx.shared().database();
+
+        List<Run> runs = new ArrayList<>(seg.runs.size() + 1);
+
+        try (InlineIndexTree.RowComparator cmp = tree.rowComparator()) {
+            seg.rows.sort(cmp);
+
+            runs.add(new MemoryRun(seg.rows));
+
+            for (File file : seg.runs)
+                runs.add(new FileRun(tree, file));
+
+            PriorityQueue<Run> queue = new PriorityQueue<>(runs.size(), (r1, r2) -> cmp.compare(r1.row, r2.row));
+
+            for (Run run : runs) {
+                if (run.next())
+                    queue.add(run);
+            }
+
+            try (BPlusTree<IndexRow, IndexRow>.BulkLoad load = tree.bulkLoad(seg.cnt, fillFactor)) {
+                while (!queue.isEmpty()) {
+                    db.checkpointReadLock();
+
+                    try {
+                        for (int i = 0; i < batchSize && !queue.isEmpty(); i++) {
+                            Run run = queue.poll();
+
+                            load.add(run.row);
+
+                            if (run.next())
+                                queue.add(run);
+                        }
+                    }
+                    finally {
+                        db.checkpointReadUnlock();
+                    }
+                }
+
+                db.checkpointReadLock();
+
+                try {
+                    load.finish();
+                }
+                finally {
+                    db.checkpointReadUnlock();
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to read sorted index rows: " + tree.name(), e);
+        }
+        finally {
+            for (Run run : runs)
+                run.close();
+
+            seg.rows = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Sorts rows and writes their links to a file.
+     *
+     * @param tree Segment tree.
+     * @param rows Rows.
+     * @return File.
+     * @throws IgniteCheckedException If failed.
+     */
+    private File spill(InlineIndexTree tree, List<IndexRowImpl> rows) throws IgniteCheckedException {
+        try (InlineIndexTree.RowComparator cmp = tree.rowComparator()) {
+            rows.sort(cmp);
+        }
+
+        try {
+            File file = File.createTempFile("run", null, runsDir());
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                for (IndexRowImpl row : rows)
+                    out.writeLong(row.link());
+            }
+
+            return file;
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to write sorted index rows: " + tree.name(), e);
+        }
+    }
+
+    /**
+     * @return Directory for sorted runs.
+     * @throws IgniteCheckedException If failed.
+     */
+    private synchronized File runsDir() throws IgniteCheckedException {
+        if (runsDir == null) {
+            IgniteConfiguration cfg = cctx.kernalContext().config();
+
+            File dir = U.resolveWorkDirectory(cfg.getWorkDirectory() == null ? U.defaultWorkDirectory() :
+                cfg.getWorkDirectory(), RUNS_DIR, false);
+
+            try {
+                runsDir = Files.createTempDirectory(dir.toPath(), "idx").toFile();
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to create a directory for sorted index rows: " + dir, e);
+            }
+        }
+
+        return runsDir;
+    }
+
+    /** Rows of a segment. */
+    private static class Segment {
+        /** Rows not spilled yet. */
+        private List<IndexRowImpl> rows = new ArrayList<>();
+
+        /** Files of sorted runs. */
+        private final List<File> runs = new ArrayList<>();
+
+        /** Count of rows. */
+        private long cnt;
+    }
+
+    /** Sorted rows. */
+    private abstract static class Run implements AutoCloseable {
+        /** Current row. */
+        IndexRow row;
+
+        /**
+         * Moves to the next row.
+         *
+         * @return {@code False} if there are no more rows.
+         */
+        abstract boolean next() throws IOException, IgniteCheckedException;
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            // No-op.
+        }
+    }
+
+    /** Sorted rows in memory. */
+    private static class MemoryRun extends Run {
+        /** */
+        private final List<IndexRowImpl> rows;
+
+        /** */
+        private int idx;
+
+        /** @param rows Sorted rows. */
+        MemoryRun(List<IndexRowImpl> rows) {
+            this.rows = rows;
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean next() {
+            if (idx == rows.size())
+                return false;
+
+            row = rows.get(idx++);
+
+            return true;
+        }
+    }
+
+    /** Sorted links of rows in a file. */
+    private static class FileRun extends Run {
+        /** */
+        private final InlineIndexTree tree;
+
+        /** */
+        private final DataInputStream in;
+
+        /**
+         * @param tree Segment tree.
+         * @param file File.
+         */
+        FileRun(InlineIndexTree tree, File file) throws IOException {
+            this.tree = tree;
+
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean next() throws IOException, IgniteCheckedException {
+            long link;
+
+            try {
+                link = in.readLong();
+            }
+            catch (EOFException ignored) {
+                return false;
+            }
+
+            row = tree.createIndexRow(link);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            U.closeQuiet(in);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.ignite.internal.cache.query.index.IndexFactory;
 import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
+import org.apache.ignite.internal.metric.IoStatisticsType;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.RootPage;
@@ -45,7 +46,7 @@ public class InlineIndexFactory implements IndexFactory {
         InlineRecommender recommender = new InlineRecommender(cctx, sdef);
 
         IoStatisticsHolderIndex stats = new IoStatisticsHolderIndex(
-            SORTED_INDEX,
+            statisticsType(),
             cctx.name(),
             sdef.idxName().idxName(),
             cctx.kernalContext().metric()
@@ -67,13 +68,30 @@ public class InlineIndexFactory implements IndexFactory {
                 }
             }
 
-            return new InlineIndexImpl(cctx, sdef, trees, stats);
+            return createIndex(cctx, sdef, trees, stats);
         }
         catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * @param cctx Cache context.
+     * @param def Index definition.
+     * @param segments Trees of the index segments.
+     * @param stats IO statistics of the index.
+     * @return Index over the trees.
+     */
+    protected InlineIndexImpl createIndex(GridCacheContext<?, ?> cctx, SortedIndexDefinition def,
+        InlineIndexTree[] segments, IoStatisticsHolderIndex stats) {
+        return new InlineIndexImpl(cctx, def, segments, stats);
+    }
+
+    /** @return Type of the IO statistics of the index. */
+    protected IoStatisticsType statisticsType() {
+        return SORTED_INDEX;
+    }
+
     /** */
     protected InlineIndexTree createIndexSegment(GridCacheContext<?, ?> cctx, SortedIndexDefinition def,
         RootPage rootPage, IoStatisticsHolder stats, InlineRecommender recommender, int segmentNum) throws Exception {
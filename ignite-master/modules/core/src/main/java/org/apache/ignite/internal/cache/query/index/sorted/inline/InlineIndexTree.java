@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.cache.query.index.sorted.inline;
 
+import java.util.Comparator;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
@@ -59,6 +60,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.processors.cache.tree.mvcc.data.MvccDataRow;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -261,9 +263,23 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
     /** {@inheritDoc} */
     @Override protected int compare(BPlusIO<IndexRow> io, long pageAddr, int idx, IndexRow row)
         throws IgniteCheckedException {
+        return compare(io, pageAddr, idx, row, null);
+    }
 
+    /**
+     * @param io IO.
+     * @param pageAddr Page address.
+     * @param idx Index of row in the given buffer.
+     * @param row Lookup row.
+     * @param currRow Row stored in the given buffer if it is known, or {@code null} to read it by link if needed.
+     * @return Comparison result.
+     * @throws IgniteCheckedException If failed.
+     */
+    private int compare(BPlusIO<IndexRow> io, long pageAddr, int idx, IndexRow row, @Nullable IndexRow currRow)
+        throws IgniteCheckedException {
         if (inlineSize == 0) {
-            IndexRow currRow = getRow(io, pageAddr, idx);
+            if (currRow == null)
+                currRow = getRow(io, pageAddr, idx);
 
             int cmp = compareFullRows(currRow, row, 0);
 
@@ -275,8 +291,6 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         // Use it when can't compare values (variable length, for example).
         int keyIdx;
 
-        IndexRow currRow = null;
-
         int off = io.offset(idx);
 
         List<IndexKeyDefinition> keyDefs = rowHnd.indexKeyDefinitions();
@@ -357,6 +371,16 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         return order == SortOrder.ASC ? c : -c;
     }
 
+    /**
+     * Creates a comparator of rows in the order of this tree. The order may differ from the order of full rows, for
+     * example when a hash of a java object is inlined. The comparator is not thread-safe and must be closed.
+     *
+     * @return Comparator.
+     */
+    public RowComparator rowComparator() {
+        return new RowComparator();
+    }
+
     /** Creates an index row for this tree. */
     public IndexRowImpl createIndexRow(long link) throws IgniteCheckedException {
         IndexRowImpl cachedRow = idxRowCache == null ? null : idxRowCache.get(link);
@@ -741,4 +765,48 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
             }
         };
     }
+
+    /**
+     * Comparator of rows in the order of the tree. The first row is stored to a leaf page buffer, so it is compared with
+     * the second one exactly as a row stored in the tree.
+     */
+    public class RowComparator implements Comparator<IndexRow>, AutoCloseable {
+        /** */
+        private final BPlusIO<IndexRow> io = latestLeafIO();
+
+        /** Leaf page buffer. */
+        private final long buf = GridUnsafe.allocateMemory(pageSize());
+
+        /** Row stored in the buffer. */
+        private IndexRow stored;
+
+        /** */
+        private RowComparator() {
+            io.initNewPage(buf, 0L, pageSize(), null);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int compare(IndexRow r1, IndexRow r2) {
+            if (r1 == r2)
+                return 0;
+
+            try {
+                if (stored != r1) {
+                    io.store(buf, 0, r1, null, false);
+
+                    stored = r1;
+                }
+
+                return InlineIndexTree.this.compare(io, buf, 0, r2, r1);
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException("Failed to compare index rows.", e);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            GridUnsafe.freeMemory(buf);
+        }
+    }
 }
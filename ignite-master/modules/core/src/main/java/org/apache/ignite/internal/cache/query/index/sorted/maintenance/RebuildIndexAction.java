@@ -26,6 +26,8 @@ import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.cache.query.index.Index;
 import org.apache.ignite.internal.cache.query.index.IndexDefinition;
 import org.apache.ignite.internal.cache.query.index.IndexProcessor;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndexFactory;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBuilder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexFactory;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
@@ -43,6 +45,7 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.maintenance.MaintenanceAction;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBuilder.DFLT_RUN_SIZE;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.INDEX_REBUILD_MNTC_TASK_NAME;
 import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.FINISHED;
 
@@ -164,42 +167,55 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
         IndexBuildStatusStorage storage,
         SchemaManager schemaMgr
     ) {
-        GridFutureAdapter<Void> createIdxFut = new GridFutureAdapter<>();
+        IndexProcessor idxProc = ctx.indexProcessor();
 
-        IndexRebuildCancelToken token = new IndexRebuildCancelToken();
+        assert oldIdxDesc.type() == QueryIndexType.SORTED || oldIdxDesc.type() == QueryIndexType.HASH : oldIdxDesc.type();
 
-        SchemaIndexCacheVisitorImpl visitor = new SchemaIndexCacheVisitorImpl(cctx, token, createIdxFut) {
-            /** {@inheritDoc} */
-            @Override public void visit(SchemaIndexCacheVisitorClosure clo) {
-                // Rebuild index after it is created.
-                storage.onStartRebuildIndexes(cctx, false);
+        TableDescriptor tblDesc = oldIdxDesc.table();
+        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
 
-                try {
-                    super.visit(clo);
+        InlineIndexFactory idxFactory = oldIdxDesc.type() == QueryIndexType.HASH ? HashIndexFactory.INSTANCE :
+            InlineIndexFactory.INSTANCE;
 
-                    buildIdxFut.get();
-                }
-                catch (Exception e) {
-                    throw new IgniteException(e);
-                }
-                finally {
-                    storage.onFinishRebuildIndexes(cacheName);
-                }
-            }
-        };
+        Index newIdx = idxProc.createIndex(tblDesc.cacheInfo().cacheContext(), idxFactory, definition);
 
-        IndexProcessor idxProc = ctx.indexProcessor();
+        GridFutureAdapter<Void> createIdxFut = new GridFutureAdapter<>();
 
-        assert oldIdxDesc.type() == QueryIndexType.SORTED : oldIdxDesc.type();
+        IndexRebuildCancelToken token = new IndexRebuildCancelToken();
 
-        TableDescriptor tblDesc = oldIdxDesc.table();
-        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
+        // The index isn't updated concurrently in the maintenance mode, so rows are sorted and loaded to it at once.
+        try (InlineIndexBuilder builder = new InlineIndexBuilder(cctx, newIdx.unwrap(InlineIndexImpl.class), DFLT_RUN_SIZE)) {
+            SchemaIndexCacheVisitorImpl visitor = new SchemaIndexCacheVisitorImpl(cctx, token, createIdxFut) {
+                /** {@inheritDoc} */
+                @Override public void visit(SchemaIndexCacheVisitorClosure clo) {
+                    // Rebuild index after it is created.
+                    storage.onStartRebuildIndexes(cctx, false);
+
+                    try {
+                        super.visit(clo);
+
+                        buildIdxFut.get();
+
+                        builder.build();
+                    }
+                    catch (Exception e) {
+                        throw new IgniteException(e);
+                    }
+                    finally {
+                        storage.onFinishRebuildIndexes(cacheName);
+                    }
+                }
+            };
 
-        Index newIdx = idxProc.createIndexDynamically(tblDesc.cacheInfo().cacheContext(),
-            InlineIndexFactory.INSTANCE, definition, visitor);
+            visitor.visit(row -> {
+                if (newIdx.canHandle(row))
+                    builder.add(row);
+            });
+        }
 
         IndexDescriptor newIdxDesc = new IndexDescriptor(tblDesc, oldIdxDesc.name(), oldIdxDesc.type(),
-            oldIdxDesc.keyDefinitions(), oldIdxDesc.isPk(), oldIdxDesc.isAffinity(), oldIdxDesc.inlineSize(), newIdx);
+            oldIdxDesc.keyDefinitions(), oldIdxDesc.fieldsCount(), oldIdxDesc.includedCount(), oldIdxDesc.isPk(),
+            oldIdxDesc.isAffinity(), oldIdxDesc.inlineSize(), newIdx);
 
         try {
             schemaMgr.addIndex(tblDesc, newIdxDesc);
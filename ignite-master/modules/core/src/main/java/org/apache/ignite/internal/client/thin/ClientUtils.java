@@ -49,6 +49,7 @@ import org.apache.ignite.cache.QueryIndex;
 import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.cache.query.SqlFieldsQuery;
 import org.apache.ignite.client.ClientCacheConfiguration;
+import org.apache.ignite.client.ClientFeatureNotSupportedByServerException;
 import org.apache.ignite.internal.binary.BinaryContext;
 import org.apache.ignite.internal.binary.BinaryFieldMetadata;
 import org.apache.ignite.internal.binary.BinaryMetadata;
@@ -65,8 +66,10 @@ import org.apache.ignite.internal.binary.streams.BinaryInputStream;
 import org.apache.ignite.internal.binary.streams.BinaryOutputStream;
 import org.apache.ignite.internal.processors.platform.cache.expiry.PlatformExpiryPolicy;
 import org.apache.ignite.internal.util.MutableSingletonList;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
+import static org.apache.ignite.internal.client.thin.ProtocolBitmaskFeature.QUERY_INDEX_INCLUDED_FIELDS;
 import static org.apache.ignite.internal.client.thin.ProtocolVersionFeature.EXPIRY_POLICY;
 import static org.apache.ignite.internal.client.thin.ProtocolVersionFeature.QUERY_ENTITY_PRECISION_AND_SCALE;
 import static org.apache.ignite.internal.processors.platform.cache.expiry.PlatformExpiryPolicy.convertDuration;
@@ -350,6 +353,13 @@ public final class ClientUtils {
                                         w.writeBoolean(f.getValue());
                                     }
                                 );
+
+                                if (protocolCtx.isFeatureSupported(QUERY_INDEX_INCLUDED_FIELDS)) {
+                                    ClientUtils.collection(i.getIncludedFields(), out,
+                                        (unused6, f) -> w.writeString(f));
+                                }
+                                else if (!F.isEmpty(i.getIncludedFields()))
+                                    throw new ClientFeatureNotSupportedByServerException(QUERY_INDEX_INCLUDED_FIELDS);
                             });
                     }
                 )
@@ -495,7 +505,18 @@ public final class ClientUtils {
                                         LinkedHashMap::new
                                     ));
 
-                                    return new QueryIndex(fields, type).setName(name).setInlineSize(inlineSize);
+                                    QueryIndex idx = new QueryIndex(fields, type).setName(name)
+                                        .setInlineSize(inlineSize);
+
+                                    if (protocolCtx.isFeatureSupported(QUERY_INDEX_INCLUDED_FIELDS)) {
+                                        Collection<String> inclFields =
+                                            ClientUtils.collection(in, unused6 -> reader.readString());
+
+                                        if (!inclFields.isEmpty())
+                                            idx.setIncludedFields(inclFields);
+                                    }
+
+                                    return idx;
                                 }
                             ));
                     }
@@ -77,7 +77,10 @@ public enum ProtocolBitmaskFeature {
     INDEX_QUERY_LIMIT(15),
 
     /** Service topology. */
-    SERVICE_TOPOLOGY(16);
+    SERVICE_TOPOLOGY(16),
+
+    /** Included fields of query indexes. */
+    QUERY_INDEX_INCLUDED_FIELDS(17);
 
     /** */
     private static final EnumSet<ProtocolBitmaskFeature> ALL_FEATURES_AS_ENUM_SET =
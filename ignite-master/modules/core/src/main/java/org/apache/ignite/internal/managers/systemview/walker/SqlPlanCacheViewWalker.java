@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.systemview.walker;
+
+import java.util.Date;
+import org.apache.ignite.spi.systemview.view.SqlPlanCacheView;
+import org.apache.ignite.spi.systemview.view.SystemViewRowAttributeWalker;
+
+/**
+ * Generated by {@code org.apache.ignite.codegen.SystemViewRowAttributeWalkerGenerator}.
+ * {@link SqlPlanCacheView} attributes walker.
+ * 
+ * @see SqlPlanCacheView
+ */
+public class SqlPlanCacheViewWalker implements SystemViewRowAttributeWalker<SqlPlanCacheView> {
+    /** {@inheritDoc} */
+    @Override public void visitAll(AttributeVisitor v) {
+        v.accept(0, "schemaName", String.class);
+        v.accept(1, "sql", String.class);
+        v.accept(2, "hits", long.class);
+        v.accept(3, "planningTime", long.class);
+        v.accept(4, "createTime", Date.class);
+        v.accept(5, "lastAccessTime", Date.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void visitAll(SqlPlanCacheView row, AttributeWithValueVisitor v) {
+        v.accept(0, "schemaName", String.class, row.schemaName());
+        v.accept(1, "sql", String.class, row.sql());
+        v.acceptLong(2, "hits", row.hits());
+        v.acceptLong(3, "planningTime", row.planningTime());
+        v.accept(4, "createTime", Date.class, row.createTime());
+        v.accept(5, "lastAccessTime", Date.class, row.lastAccessTime());
+    }
+
+    /** {@inheritDoc} */
+    @Override public int count() {
+        return 6;
+    }
+}
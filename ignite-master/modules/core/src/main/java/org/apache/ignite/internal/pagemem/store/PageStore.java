@@ -95,6 +95,28 @@ public interface PageStore extends Closeable {
      */
     public void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes pages with adjacent indexes. Implementations may write all the pages by a single I/O request.
+     *
+     * @param pageIds Page IDs in the ascending order of page indexes, without gaps.
+     * @param pageBufs Page buffers to write.
+     * @param tag Partition file version, 1-based incrementing counter. For outdated pages {@code tag} has lower value,
+     * and write does nothing.
+     * @param calculateCrc if {@code False} crc calculation will be forcibly skipped.
+     * @throws IgniteCheckedException If page writing failed (IO error occurred).
+     */
+    public default void write(
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        assert pageIds.length == pageBufs.length : "pageIds=" + pageIds.length + ", pageBufs=" + pageBufs.length;
+
+        for (int i = 0; i < pageIds.length; i++)
+            write(pageIds[i], pageBufs[i], tag, calculateCrc);
+    }
+
     /**
      * Gets page offset within the store file.
      *
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.pagemem.wal;
 
 import java.io.File;
+import java.util.function.IntPredicate;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.configuration.DataStorageConfiguration;
@@ -133,6 +134,23 @@ public interface IgniteWriteAheadLogManager extends GridCacheSharedManager, Igni
         @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter
     ) throws IgniteCheckedException, StorageException;
 
+    /**
+     * Invoke this method to iterate over the written log entries.
+     *
+     * @param start Optional WAL pointer from which to start iteration.
+     * @param recordDeserializeFilter Specify a filter to skip WAL records. Those records will not be explicitly deserialized.
+     * @param cacheIdFilter Filter of caches. Data entries of other caches are skipped without deserialization and are
+     *      not included into the iterated data records.
+     * @return Records iterator.
+     * @throws IgniteException If failed to start iteration.
+     * @throws StorageException If IO error occurred while reading WAL entries.
+     */
+    public WALIterator replay(
+        WALPointer start,
+        @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter,
+        @Nullable IntPredicate cacheIdFilter
+    ) throws IgniteCheckedException, StorageException;
+
     /**
      * Invoke this method to reserve WAL history since provided pointer and prevent it's deletion.
      *
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetricsImpl;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteAdaptiveThrottle;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
@@ -758,6 +759,29 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
             "Gets used checkpoint buffer size in bytes");
     }
 
+    /**
+     * Registers metrics of the adaptive write throttling.
+     *
+     * @param throttle Write throttle.
+     */
+    public void writeThrottle(PagesWriteAdaptiveThrottle throttle) {
+        MetricRegistry mreg = metricRegistry();
+
+        mreg.register("ThrottlingTargetRate",
+            throttle::targetRate,
+            "Target rate of marking pages dirty computed by the adaptive write throttling (pages per second), " +
+                "0 if the threads that generate dirty pages are not paced");
+
+        mreg.register("ThrottlingParkTime",
+            throttle::currentParkTime,
+            "Time in nanoseconds the adaptive write throttling parks a thread for per each page marked dirty");
+
+        mreg.register("ThrottlingPressure",
+            throttle::pressure,
+            "Memory pressure observed by the adaptive write throttling: the largest of the dirty pages ratio and " +
+                "the checkpoint buffer fill relative to their limits");
+    }
+
     /**
      * @param rateTimeInterval Time interval (in milliseconds) used to calculate allocation/eviction rate.
      * @deprecated Use {@link MetricsMxBean#configureHitRateMetric(String, long)} instead.
@@ -23,6 +23,7 @@ import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
 import org.apache.ignite.internal.processors.metric.GridMetricManager;
 import org.apache.ignite.internal.processors.metric.MetricRegistry;
 import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.processors.metric.impl.DoubleMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HitRateMetric;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
@@ -53,6 +54,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final HitRateMetric walBuffPollSpinsNum;
 
+    /** Number of bytes read from the WAL during recovery. */
+    private final HitRateMetric walRecoveryReadingRate;
+
+    /** Number of WAL records applied during recovery. */
+    private final HitRateMetric walRecoveryApplyingRate;
+
     /** */
     private final AtomicLongMetric lastCpBeforeLockDuration;
 
@@ -98,6 +105,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final AtomicLongMetric lastCpCowPages;
 
+    /** */
+    private final AtomicLongMetric lastCpWriteRequests;
+
+    /** */
+    private final DoubleMetricImpl lastCpAvgWriteRunLength;
+
     /**
      * @deprecated Will be removed in upcoming releases.
      */
@@ -158,6 +171,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final HistogramMetricImpl cpHistogram;
 
+    /** Number of fsync requests coalesced into a single WAL group commit. */
+    private final HistogramMetricImpl walGroupCommitBatchSizeHistogram;
+
+    /** Time spent by committing threads waiting for a WAL group commit, in microseconds. */
+    private final HistogramMetricImpl walGroupCommitWaitTimeHistogram;
+
     /** Total number of logged bytes into the WAL. */
     private final LongAdderMetric walWrittenBytes;
 
@@ -209,6 +228,18 @@ public class DataStorageMetricsImpl {
             rateTimeInterval,
             subInts);
 
+        walRecoveryReadingRate = mreg.hitRateMetric(
+            "WalRecoveryReadingRate",
+            "Number of bytes read from the WAL during node recovery over the last time interval.",
+            rateTimeInterval,
+            subInts);
+
+        walRecoveryApplyingRate = mreg.hitRateMetric(
+            "WalRecoveryApplyingRate",
+            "Number of WAL records applied during node recovery over the last time interval.",
+            rateTimeInterval,
+            subInts);
+
         lastCpBeforeLockDuration = mreg.longMetric("LastCheckpointBeforeLockDuration",
             "Duration of the checkpoint action before taken write lock in milliseconds.");
 
@@ -255,6 +286,12 @@ public class DataStorageMetricsImpl {
         lastCpCowPages = mreg.longMetric("LastCheckpointCopiedOnWritePagesNumber",
             "Number of pages copied to a temporary checkpoint buffer during the last checkpoint.");
 
+        lastCpWriteRequests = mreg.longMetric("LastCheckpointWriteRequestsNumber",
+            "Number of write requests to page stores during the last checkpoint.");
+
+        lastCpAvgWriteRunLength = mreg.doubleMetric("LastCheckpointAverageWriteRunLength",
+            "Average number of adjacent pages written by a single write request during the last checkpoint.");
+
         lastWalSegmentRollOverTime = mreg.longMetric("WalLastRollOverTime",
             "Time of the last WAL segment rollover.");
 
@@ -311,6 +348,14 @@ public class DataStorageMetricsImpl {
         cpHistogram = mreg.histogram("CheckpointHistogram", cpBounds,
                 "Histogram of checkpoint duration in milliseconds.");
 
+        walGroupCommitBatchSizeHistogram = mreg.histogram("WalGroupCommitBatchSizeHistogram",
+            new long[] {1, 2, 4, 8, 16, 32, 64, 128},
+            "Histogram of the number of fsync requests coalesced into a single WAL fsync.");
+
+        walGroupCommitWaitTimeHistogram = mreg.histogram("WalGroupCommitWaitTimeHistogram",
+            new long[] {10, 50, 100, 500, 1000, 5000, 10000, 50000},
+            "Histogram of the time spent by committing threads waiting for WAL fsync in microseconds.");
+
         walWrittenBytes = mreg.longAdderMetric(
             "WalWrittenBytes",
             "Total number of logged bytes into the WAL."
@@ -663,6 +708,8 @@ public class DataStorageMetricsImpl {
      * @param totalPages Total number of all pages in checkpoint.
      * @param dataPages Total number of data pages in checkpoint.
      * @param cowPages Total number of COW-ed pages in checkpoint.
+     * @param writeReqs Number of write requests to page stores.
+     * @param avgWriteRunLength Average number of adjacent pages written by a single request.
      * @param storageSize Storage space allocated, in bytes.
      * @param sparseStorageSize Storage space allocated adjusted for possible sparsity, in bytes.
      */
@@ -682,6 +729,8 @@ public class DataStorageMetricsImpl {
         long totalPages,
         long dataPages,
         long cowPages,
+        long writeReqs,
+        double avgWriteRunLength,
         long storageSize,
         long sparseStorageSize
     ) {
@@ -703,6 +752,8 @@ public class DataStorageMetricsImpl {
         lastCpTotalPages.value(totalPages);
         lastCpDataPages.value(dataPages);
         lastCpCowPages.value(cowPages);
+        lastCpWriteRequests.value(writeReqs);
+        lastCpAvgWriteRunLength.value(avgWriteRunLength);
         this.storageSize.value(storageSize);
         this.sparseStorageSize.value(sparseStorageSize);
 
@@ -750,6 +801,50 @@ public class DataStorageMetricsImpl {
         walFsyncTimeNum.increment();
     }
 
+    /**
+     * Callback on reading a WAL record during recovery.
+     *
+     * @param size Record size in bytes.
+     */
+    public void onWalRecoveryRecordRead(long size) {
+        if (!metricsEnabled)
+            return;
+
+        walRecoveryReadingRate.add(size);
+    }
+
+    /**
+     * Callback on applying a WAL record during recovery.
+     */
+    public void onWalRecoveryRecordApplied() {
+        if (!metricsEnabled)
+            return;
+
+        walRecoveryApplyingRate.increment();
+    }
+
+    /**
+     * Callback on completion of a WAL group commit.
+     *
+     * @param batchSize Number of fsync requests covered by a single fsync.
+     */
+    public void onWalGroupCommit(int batchSize) {
+        if (!metricsEnabled)
+            return;
+
+        walGroupCommitBatchSizeHistogram.value(batchSize);
+    }
+
+    /**
+     * @param nanoTime Time spent by a committing thread waiting for WAL fsync in nanoseconds.
+     */
+    public void onWalGroupCommitWait(long nanoTime) {
+        if (!metricsEnabled)
+            return;
+
+        walGroupCommitWaitTimeHistogram.value(nanoTime / 1_000);
+    }
+
     /**
      * @param num Number.
      */
@@ -40,6 +40,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.ToLongFunction;
@@ -144,6 +145,7 @@ import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.StripedExecutor;
 import org.apache.ignite.internal.util.TimeBag;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.lang.IgniteThrowableSupplier;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.X;
@@ -171,6 +173,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_WAL_REBALANCE_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PREFER_WAL_REBALANCE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_RECOVERY_READER_THREAD_CNT;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.cluster.DistributedConfigurationUtils.makeUpdateListener;
@@ -246,6 +249,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** @see IgniteSystemProperties#IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE */
     public static final int DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE = 60;
 
+    /** @see IgniteSystemProperties#IGNITE_WAL_RECOVERY_READER_THREAD_CNT */
+    public static final int DFLT_WAL_RECOVERY_READER_THREAD_CNT = 4;
+
     /**
      * Threshold value to use history or full rebalance for local partition.
      * Master value contained in {@link #historicalRebalanceThreshold}.
@@ -2142,13 +2148,20 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         long lastArchivedSegment = cctx.wal().lastArchivedSegment();
 
-        WALIterator it = cctx.wal().replay(recPtr, recordTypePredicate);
+        // Archived segments preceding the last archived one are complete, so they are read in parallel by segment.
+        // The rest of the WAL is read sequentially, as the end of the WAL is checked there.
+        WALPointer tailPtr = recPtr.index() < lastArchivedSegment ? new WALPointer(lastArchivedSegment, 0, 0) : recPtr;
+
+        WALIterator it = cctx.wal().replay(tailPtr, recordTypePredicate);
 
         RestoreBinaryState restoreBinaryState = new RestoreBinaryState(status, it, lastArchivedSegment, cacheGroupsPredicate);
 
         AtomicLong applied = new AtomicLong();
 
         try {
+            // Physical records application does not affect deserialization of the next records.
+            restoreBinaryState.startPrefetch(recPtr, tailPtr, recordTypePredicate);
+
             while (restoreBinaryState.hasNext()) {
                 if (exec.error())
                     break;
@@ -2176,6 +2189,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                                         applyPageSnapshot(pageMem, pageSnapshot);
 
                                         applied.incrementAndGet();
+
+                                        dsMetrics.onWalRecoveryRecordApplied();
                                     }
                                     catch (Throwable t) {
                                         U.error(log, "Failed to apply page snapshot. rec=[" + pageSnapshot + ']');
@@ -2252,6 +2267,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                                     applyPageDelta(pageMem, pageDelta, true);
 
                                     applied.incrementAndGet();
+
+                                    dsMetrics.onWalRecoveryRecordApplied();
                                 }
                                 catch (Throwable t) {
                                     U.error(log, "Failed to apply page delta. rec=[" + pageDelta + ']');
@@ -2267,7 +2284,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
             }
         }
         finally {
-            it.close();
+            restoreBinaryState.close();
 
             exec.awaitApplyComplete();
         }
@@ -2283,9 +2300,16 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                     "on disk, but checkpoint record is missed in WAL) " +
                     "[cpStatus=" + status + ", lastRead=" + lastReadPtr + "]");
 
-            if (log.isInfoEnabled())
+            if (log.isInfoEnabled()) {
+                long time = U.currentTimeMillis() - start;
+
+                long readBytes = restoreBinaryState.readBytes();
+
                 log.info("Finished applying memory changes [changesApplied=" + applied +
-                    ", time=" + (U.currentTimeMillis() - start) + " ms]");
+                    ", walRead=" + U.humanReadableByteCount(readBytes) +
+                    ", readSpeed=" + U.humanReadableByteCount(readBytes * 1000 / Math.max(time, 1)) +
+                    "/s, time=" + time + " ms]");
+            }
 
             finalizeCheckpointOnRecovery(status.cpStartTs, status.cpStartId, status.startPtr, exec.executor());
         }
@@ -2632,6 +2656,8 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
                                 }
 
                                 applied.incrementAndGet();
+
+                                dsMetrics.onWalRecoveryRecordApplied();
                             }, cacheDesc.groupId(), dataEntry.partitionId());
                         }
 
@@ -2763,9 +2789,16 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         exec.awaitApplyComplete();
 
-        if (log.isInfoEnabled())
+        if (log.isInfoEnabled()) {
+            long time = U.currentTimeMillis() - start;
+
+            long readBytes = restoreLogicalState.readBytes();
+
             log.info("Finished applying WAL changes [updatesApplied=" + applied +
-                ", time=" + (U.currentTimeMillis() - start) + " ms]");
+                ", walRead=" + U.humanReadableByteCount(readBytes) +
+                ", readSpeed=" + U.humanReadableByteCount(readBytes * 1000 / Math.max(time, 1)) +
+                "/s, time=" + time + " ms]");
+        }
 
         for (DatabaseLifecycleListener lsnr : getDatabaseListeners(cctx.kernalContext()))
             lsnr.afterLogicalUpdatesApplied(this, restoreLogicalState);
@@ -3364,6 +3397,15 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         /** Only {@link WalRecordCacheGroupAware} records satisfied this predicate will be applied. */
         private final IgnitePredicate<Integer> cacheGroupPredicate;
 
+        /** Records prefetcher, {@code null} if records are read by the recovery thread. */
+        @Nullable private WalRecordsPrefetcher prefetcher;
+
+        /** Segments read in parallel ahead of {@link #iterator}. */
+        private List<SegmentRecords> segments = Collections.emptyList();
+
+        /** Number of bytes of the records read from the WAL. */
+        private final LongAdder readBytes = new LongAdder();
+
         /**
          * @param status Checkpoint status.
          * @param iterator WAL iterator.
@@ -3390,46 +3432,131 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
          */
         @Nullable public WALRecord next() throws IgniteCheckedException {
             try {
-                for (; ; ) {
-                    if (!iterator.hasNextX())
-                        return null;
+                return prefetcher != null ? prefetcher.next() : readNext(iterator, Long.MAX_VALUE);
+            }
+            catch (IgniteCheckedException e) {
+                IgniteCheckedException ex = throwsError(e);
+
+                if (ex != null)
+                    throw ex;
+                else
+                    return null;
+            }
+        }
+
+        /**
+         * Reads the next record from the WAL iterator.
+         *
+         * @param it WAL iterator.
+         * @param lastIdx Index of the last segment to read.
+         * @return WALRecord entry or {@code null} if there are no more records.
+         * @throws IgniteCheckedException If failed to read the record.
+         */
+        @Nullable private WALRecord readNext(WALIterator it, long lastIdx) throws IgniteCheckedException {
+            for (; ; ) {
+                if (!it.hasNextX())
+                    return null;
+
+                IgniteBiTuple<WALPointer, WALRecord> tup = it.nextX();
 
-                    IgniteBiTuple<WALPointer, WALRecord> tup = iterator.nextX();
+                if (tup == null)
+                    return null;
 
-                    if (tup == null)
-                        return null;
+                WALRecord rec = tup.get2();
 
-                    WALRecord rec = tup.get2();
+                WALPointer ptr = tup.get1();
 
-                    WALPointer ptr = tup.get1();
+                if (ptr.index() > lastIdx)
+                    return null;
 
-                    rec.position(ptr);
+                rec.position(ptr);
 
-                    // Filter out records by group id.
-                    if (rec instanceof WalRecordCacheGroupAware) {
-                        WalRecordCacheGroupAware grpAwareRecord = (WalRecordCacheGroupAware)rec;
+                readBytes.add(ptr.length());
 
-                        if (!cacheGroupPredicate.apply(grpAwareRecord.groupId()))
-                            continue;
-                    }
+                dsMetrics.onWalRecoveryRecordRead(ptr.length());
 
-                    // Filter out data entries by group id.
-                    if (rec instanceof DataRecord)
-                        rec = filterEntriesByGroupId((DataRecord)rec);
+                // Filter out records by group id.
+                if (rec instanceof WalRecordCacheGroupAware) {
+                    WalRecordCacheGroupAware grpAwareRecord = (WalRecordCacheGroupAware)rec;
 
-                    return rec;
+                    if (!cacheGroupPredicate.apply(grpAwareRecord.groupId()))
+                        continue;
                 }
+
+                // Filter out data entries by group id.
+                if (rec instanceof DataRecord)
+                    rec = filterEntriesByGroupId((DataRecord)rec);
+
+                return rec;
             }
-            catch (IgniteCheckedException e) {
-                IgniteCheckedException ex = throwsError(e);
+        }
 
-                if (ex != null)
-                    throw ex;
-                else
-                    return null;
+        /**
+         * Starts reading and decoding records in dedicated threads ahead of the recovery thread. Must be used
+         * only if the application of records does not affect the deserialization of the next ones.
+         *
+         * @param start Pointer to start reading from.
+         * @param tailPtr Start pointer of {@link #iterator}, the segments preceding it are read in parallel.
+         * @param recordDeserializeFilter Filter of records to read.
+         */
+        public void startPrefetch(
+            WALPointer start,
+            WALPointer tailPtr,
+            IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter
+        ) {
+            assert prefetcher == null;
+
+            List<IgniteThrowableSupplier<WALRecord>> srcs = new ArrayList<>();
+
+            if (start.index() < tailPtr.index()) {
+                segments = new ArrayList<>();
+
+                for (long idx = start.index(); idx < tailPtr.index(); idx++) {
+                    WALPointer segStart = idx == start.index() ? start : new WALPointer(idx, 0, 0);
+
+                    segments.add(new SegmentRecords(this, idx, segStart, recordDeserializeFilter));
+                }
+
+                srcs.addAll(segments);
+            }
+
+            srcs.add(() -> readNext(iterator, Long.MAX_VALUE));
+
+            int threads = Math.max(1, getInteger(IGNITE_WAL_RECOVERY_READER_THREAD_CNT, DFLT_WAL_RECOVERY_READER_THREAD_CNT));
+
+            prefetcher = new WalRecordsPrefetcher(cctx.igniteInstanceName(), log, threads, srcs);
+
+            prefetcher.start();
+        }
+
+        /**
+         * Stops reading records and closes the WAL iterators.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        public void close() throws IgniteCheckedException {
+            try {
+                if (prefetcher != null)
+                    prefetcher.stop();
+            }
+            finally {
+                try {
+                    for (SegmentRecords seg : segments)
+                        seg.close();
+                }
+                finally {
+                    iterator.close();
+                }
             }
         }
 
+        /**
+         * @return Number of bytes of the records read from the WAL.
+         */
+        public long readBytes() {
+            return readBytes.sum();
+        }
+
         /**
          * Filter outs data entries from given data record that not satisfy {@link #cacheGroupPredicate}.
          *
@@ -3455,6 +3582,10 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         public WALPointer lastReadRecordPointer() {
             assert status.startPtr != null;
 
+            // The segments read in parallel precede the segments read by the iterator.
+            if (prefetcher != null && prefetcher.source() < segments.size())
+                return segments.get(prefetcher.source()).lastRead();
+
             return iterator.lastRead()
                 .orElseGet(() -> status.startPtr);
         }
@@ -3474,6 +3605,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
          * @throws IgniteCheckedException If CRC check fail during binary recovery state or another exception occurring.
          */
         public boolean hasNext() throws IgniteCheckedException {
+            if (prefetcher != null)
+                return prefetcher.hasNext();
+
             try {
                 return iterator.hasNextX();
             }
@@ -3506,6 +3640,74 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         }
     }
 
+    /**
+     * Records of a single complete WAL segment. The WAL iterator is opened by the first read.
+     */
+    private class SegmentRecords implements IgniteThrowableSupplier<WALRecord> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Segment index. */
+        private final long idx;
+
+        /** Pointer to start reading from. */
+        private final WALPointer start;
+
+        /** Filter of records to read. */
+        private final IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter;
+
+        /** Restore context. */
+        private final RestoreStateContext ctx;
+
+        /** WAL iterator. */
+        private volatile WALIterator it;
+
+        /**
+         * @param ctx Restore context.
+         * @param idx Segment index.
+         * @param start Pointer to start reading from.
+         * @param recordDeserializeFilter Filter of records to read.
+         */
+        private SegmentRecords(
+            RestoreStateContext ctx,
+            long idx,
+            WALPointer start,
+            IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter
+        ) {
+            this.ctx = ctx;
+            this.idx = idx;
+            this.start = start;
+            this.recordDeserializeFilter = recordDeserializeFilter;
+        }
+
+        /** {@inheritDoc} */
+        @Override public WALRecord get() throws IgniteCheckedException {
+            if (it == null)
+                it = cctx.wal().replay(start, recordDeserializeFilter);
+
+            return ctx.readNext(it, idx);
+        }
+
+        /**
+         * @return Last read WAL record pointer.
+         */
+        private WALPointer lastRead() {
+            WALIterator it0 = it;
+
+            return it0 == null ? start : it0.lastRead().orElse(start);
+        }
+
+        /**
+         * Closes the WAL iterator.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        private void close() throws IgniteCheckedException {
+            if (it != null)
+                it.close();
+        }
+    }
+
     /**
      * Restore memory context. Tracks the safety of binary recovery.
      */
@@ -1082,7 +1082,10 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             if (latestReservedPointer == null)
                 log.warning("History for the preloading has not reserved yet.");
 
-            WALIterator it = grp.shared().wal().replay(minPtr);
+            Set<Integer> cacheIds = grp.cacheIds();
+
+            // Entries of caches of other groups are skipped by the WAL reader without deserialization.
+            WALIterator it = grp.shared().wal().replay(minPtr, null, cacheIds::contains);
 
             WALHistoricalIterator histIt = new WALHistoricalIterator(log, grp, partCntrs, partsCounters, it);
 
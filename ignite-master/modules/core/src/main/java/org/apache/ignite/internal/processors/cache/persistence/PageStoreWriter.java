@@ -38,4 +38,25 @@ public interface PageStoreWriter {
      * @throws IgniteCheckedException If write page failed.
      */
     void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) throws IgniteCheckedException;
+
+    /**
+     * Callback for write page which is pinned in {@link PageMemoryEx} until the release closure is called. A writer
+     * which delays the actual write must keep the page pinned until the page is written, otherwise the page may be
+     * replaced and read back from the store before the write, or a newer page image written on the replacement may be
+     * overwritten by the delayed one.
+     *
+     * @param fullPageId Page ID to get byte buffer for.
+     * @param buf Temporary buffer to write changes into.
+     * @param tag {@code Partition generation} if data was read, {@code null} otherwise (data already saved to storage).
+     * @param release Releases the page, must be called exactly once after the page is written.
+     * @throws IgniteCheckedException If write page failed.
+     */
+    default void writePage(FullPageId fullPageId, ByteBuffer buf, int tag, Runnable release) throws IgniteCheckedException {
+        try {
+            writePage(fullPageId, buf, tag);
+        }
+        finally {
+            release.run();
+        }
+    }
 }
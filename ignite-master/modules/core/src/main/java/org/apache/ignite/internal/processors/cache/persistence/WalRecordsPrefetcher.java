@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.util.lang.IgniteThrowableSupplier;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.internal.util.worker.GridWorker;
+import org.apache.ignite.thread.IgniteThread;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads WAL records in dedicated threads ahead of the recovery thread. Decouples records deserialization from
+ * their application: while the recovery thread dispatches records to {@link CacheStripedExecutor} (and may wait
+ * for free permits there), the readers keep decoding the next records.
+ * <p>
+ * Records are read from several sources, usually one per WAL segment. Each source is read by a single reader, and
+ * several sources are read in parallel, but the records are returned in the order of the sources and then in the
+ * order they were read from the source. An error of a source is rethrown by {@link #next()} only after all the
+ * records read before the error are returned, so the recovery thread handles it with the same state as in the case
+ * of sequential reading. The sources following the failed one are not returned.
+ */
+public class WalRecordsPrefetcher {
+    /** Number of records passed to the recovery thread at once. */
+    private static final int BATCH_SIZE = 256;
+
+    /** Maximum number of batches read ahead from a source. */
+    private static final int MAX_BATCHES = 16;
+
+    /** Marker of the end of records. */
+    private static final List<WALRecord> END = Collections.emptyList();
+
+    /** Ignite instance name. */
+    private final String igniteInstanceName;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Records sources in the order of records. */
+    private final List<Source> srcs;
+
+    /** Readers. */
+    private final List<Reader> readers;
+
+    /** Index of the next source to read. */
+    private final AtomicInteger nextSrc = new AtomicInteger();
+
+    /** Index of the last source to read, the sources following a failed one are not read. */
+    private volatile int lastSrc;
+
+    /** Stop flag. */
+    private volatile boolean stop;
+
+    /** Index of the current source. Accessed by the recovery thread only. */
+    private int srcIdx;
+
+    /** Current batch. Accessed by the recovery thread only. */
+    private List<WALRecord> batch;
+
+    /** Index of the next record in the current batch. Accessed by the recovery thread only. */
+    private int batchIdx;
+
+    /**
+     * @param igniteInstanceName Ignite instance name.
+     * @param log Logger.
+     * @param src Records source, returns {@code null} if there are no more records.
+     */
+    public WalRecordsPrefetcher(String igniteInstanceName, IgniteLogger log, IgniteThrowableSupplier<WALRecord> src) {
+        this(igniteInstanceName, log, 1, Collections.singletonList(src));
+    }
+
+    /**
+     * @param igniteInstanceName Ignite instance name.
+     * @param log Logger.
+     * @param threads Number of reader threads.
+     * @param srcs Records sources in the order of records, each returns {@code null} if there are no more records.
+     */
+    public WalRecordsPrefetcher(
+        String igniteInstanceName,
+        IgniteLogger log,
+        int threads,
+        List<? extends IgniteThrowableSupplier<WALRecord>> srcs
+    ) {
+        assert threads > 0 : threads;
+        assert !srcs.isEmpty();
+
+        this.igniteInstanceName = igniteInstanceName;
+        this.log = log;
+
+        this.srcs = new ArrayList<>(srcs.size());
+
+        for (IgniteThrowableSupplier<WALRecord> src : srcs)
+            this.srcs.add(new Source(this.srcs.size(), src));
+
+        lastSrc = srcs.size() - 1;
+
+        readers = new ArrayList<>(threads);
+
+        for (int i = 0; i < Math.min(threads, srcs.size()); i++)
+            readers.add(new Reader(i));
+    }
+
+    /**
+     * Starts reading.
+     */
+    public void start() {
+        for (Reader reader : readers)
+            new IgniteThread(reader).start();
+    }
+
+    /**
+     * @return {@code False} if all the records were returned by {@link #next()}.
+     */
+    public boolean hasNext() {
+        return batch != END;
+    }
+
+    /**
+     * @return Next record or {@code null} if there are no more records.
+     * @throws IgniteCheckedException If the reader failed.
+     */
+    @Nullable public WALRecord next() throws IgniteCheckedException {
+        if (batch == END)
+            return null;
+
+        while (batch == null || batchIdx == batch.size()) {
+            Source src = srcs.get(srcIdx);
+
+            try {
+                batch = src.batches.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInterruptedCheckedException(e);
+            }
+
+            batchIdx = 0;
+
+            if (batch == END) {
+                Throwable err0 = src.err;
+
+                if (err0 instanceof IgniteCheckedException)
+                    throw (IgniteCheckedException)err0;
+                else if (err0 instanceof RuntimeException)
+                    throw (RuntimeException)err0;
+                else if (err0 != null)
+                    throw new IgniteCheckedException("Failed to read WAL records.", err0);
+
+                if (srcIdx == srcs.size() - 1)
+                    return null;
+
+                srcIdx++;
+
+                batch = null;
+            }
+        }
+
+        return batch.get(batchIdx++);
+    }
+
+    /**
+     * @return Index of the source of the last record returned by {@link #next()} or of the failed source.
+     */
+    public int source() {
+        return srcIdx;
+    }
+
+    /**
+     * Stops the readers and waits for their completion.
+     *
+     * @throws IgniteInterruptedCheckedException If interrupted.
+     */
+    public void stop() throws IgniteInterruptedCheckedException {
+        stop = true;
+
+        for (Reader reader : readers)
+            U.join(reader);
+    }
+
+    /**
+     * Records source and the batches read from it.
+     */
+    private static class Source {
+        /** Index of the source. */
+        private final int idx;
+
+        /** Records source, returns {@code null} if there are no more records. */
+        private final IgniteThrowableSupplier<WALRecord> src;
+
+        /** Batches of read records. */
+        private final BlockingQueue<List<WALRecord>> batches = new ArrayBlockingQueue<>(MAX_BATCHES);
+
+        /** Reader error. */
+        private volatile Throwable err;
+
+        /**
+         * @param idx Index of the source.
+         * @param src Records source.
+         */
+        private Source(int idx, IgniteThrowableSupplier<WALRecord> src) {
+            this.idx = idx;
+            this.src = src;
+        }
+    }
+
+    /**
+     * Reads the sources one by one in the order of the sources. A source is taken by the first free reader, so
+     * a source is never read before the preceding ones are taken.
+     */
+    private class Reader extends GridWorker {
+        /**
+         * @param idx Reader index.
+         */
+        private Reader(int idx) {
+            super(igniteInstanceName, "wal-recovery-reader-" + idx, WalRecordsPrefetcher.this.log);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void body() throws InterruptedException {
+            int idx;
+
+            while (!stop && (idx = nextSrc.getAndIncrement()) <= lastSrc) {
+                if (!read(srcs.get(idx)))
+                    return;
+            }
+        }
+
+        /**
+         * @param src Source to read.
+         * @return {@code False} if the prefetcher is stopped.
+         * @throws InterruptedException If interrupted.
+         */
+        private boolean read(Source src) throws InterruptedException {
+            List<WALRecord> recs = new ArrayList<>(BATCH_SIZE);
+
+            try {
+                while (!stopped(src)) {
+                    WALRecord rec = src.src.get();
+
+                    if (rec == null)
+                        break;
+
+                    recs.add(rec);
+
+                    if (recs.size() == BATCH_SIZE) {
+                        if (!offer(src, recs))
+                            return false;
+
+                        recs = new ArrayList<>(BATCH_SIZE);
+                    }
+                }
+            }
+            catch (Throwable e) {
+                src.err = e;
+
+                // The sources following the failed one are not needed.
+                synchronized (WalRecordsPrefetcher.this) {
+                    lastSrc = Math.min(lastSrc, src.idx);
+                }
+
+                if (e instanceof Error)
+                    throw (Error)e;
+            }
+            finally {
+                if (recs.isEmpty() || offer(src, recs))
+                    offer(src, END);
+            }
+
+            return !stopped(src);
+        }
+
+        /**
+         * @param src Source.
+         * @return {@code True} if the records of the source are not needed anymore.
+         */
+        private boolean stopped(Source src) {
+            return stop || src.idx > lastSrc;
+        }
+
+        /**
+         * @param src Source.
+         * @param recs Batch to pass to the recovery thread.
+         * @return {@code False} if the prefetcher is stopped.
+         * @throws InterruptedException If interrupted.
+         */
+        private boolean offer(Source src, List<WALRecord> recs) throws InterruptedException {
+            while (!src.batches.offer(recs, 100, TimeUnit.MILLISECONDS)) {
+                if (stopped(src))
+                    return false;
+            }
+
+            return true;
+        }
+    }
+}
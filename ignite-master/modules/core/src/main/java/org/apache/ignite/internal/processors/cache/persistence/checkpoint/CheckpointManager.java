@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.UUID;
 import java.util.concurrent.Executor;
@@ -31,6 +32,9 @@ import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.LongJVMPauseDetector;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheProcessor;
@@ -174,7 +178,58 @@ public class CheckpointManager {
 
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
             logger,
-            (pageMemEx, fullPage, buf, tag) -> pageStoreManager.write(fullPage.groupId(), fullPage.pageId(), buf, tag, true),
+            new CheckpointPagesWriter.CheckpointPageWriter() {
+                /** {@inheritDoc} */
+                @Override public PageStore write(
+                    PageMemoryEx pageMemEx,
+                    FullPageId fullPageId,
+                    ByteBuffer buf,
+                    int tag
+                ) throws IgniteCheckedException {
+                    int grpId = fullPageId.groupId();
+                    long pageId = fullPageId.pageId();
+
+                    CheckpointPageDeltas deltas = pageStoreManager.pageDeltas();
+
+                    if (deltas != null && deltas.defer(grpId, pageId, buf))
+                        return pageStoreManager.getStore(grpId, PageIdUtils.partId(pageId));
+
+                    return pageStoreManager.write(grpId, pageId, buf, tag, true);
+                }
+
+                /** {@inheritDoc} */
+                @Override public PageStore write(
+                    PageMemoryEx pageMemEx,
+                    int grpId,
+                    long[] pageIds,
+                    ByteBuffer[] bufs,
+                    int tag
+                ) throws IgniteCheckedException {
+                    CheckpointPageDeltas deltas = pageStoreManager.pageDeltas();
+
+                    if (deltas == null)
+                        return pageStoreManager.write(grpId, pageIds, bufs, tag, true);
+
+                    // Deferred pages split the run.
+                    int start = 0;
+
+                    for (int i = 0; i <= pageIds.length; i++) {
+                        if (i < pageIds.length && !deltas.defer(grpId, pageIds[i], bufs[i]))
+                            continue;
+
+                        if (i - start == 1)
+                            pageStoreManager.write(grpId, pageIds[start], bufs[start], tag, true);
+                        else if (i - start > 1) {
+                            pageStoreManager.write(grpId, Arrays.copyOfRange(pageIds, start, i),
+                                Arrays.copyOfRange(bufs, start, i), tag, true);
+                        }
+
+                        start = i + 1;
+                    }
+
+                    return pageStoreManager.getStore(grpId, PageIdUtils.partId(pageIds[0]));
+                }
+            },
             persStoreMetrics,
             throttlingPolicy, threadBuf,
             pageMemoryGroupResolver
@@ -193,7 +248,8 @@ public class CheckpointManager {
             checkpointPagesWriterFactory,
             persistenceCfg.getCheckpointFrequency(),
             persistenceCfg.getCheckpointThreads(),
-            cpFreqDeviation
+            cpFreqDeviation,
+            pageStoreManager::pageDeltas
         );
 
         checkpointer = checkpointerProvider.get();
@@ -0,0 +1,783 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadWriteManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.TMP_SUFFIX;
+
+/**
+ * Incremental checkpoint of hot pages.
+ * <p>
+ * A page written to its page store by {@link #HOT_CHECKPOINTS} consecutive checkpoints is considered hot: its last
+ * written image is kept in memory. Following routine checkpoints do not rewrite such a page if it differs from the
+ * image by a few bytes. Instead, the difference is kept and persisted into a single compacted delta file on each
+ * checkpoint, which costs one sequential write instead of a random page write per hot page. The delta is applied
+ * when the page is read from its page store.
+ * <p>
+ * Deltas are merged into page stores, that is pages are written in full:
+ * <ul>
+ *     <li>after {@link #MAX_DEFERRALS} checkpoints deferring the page or when the difference becomes too large;</li>
+ *     <li>by the first checkpoint that did not update the delta of the page;</li>
+ *     <li>by any checkpoint triggered for a reason other than the checkpoint frequency, the number of dirty pages or
+ *     the WAL size (snapshot, node stop, partition destroy, defragmentation, etc.). So files of page stores never lag
+ *     behind such checkpoint.</li>
+ * </ul>
+ * Any full write of a page to its page store (checkpoint, page replacement, recovery) supersedes its delta.
+ * <p>
+ * The delta file is persisted after page stores are synced and before the checkpoint end marker is written. Pages
+ * written in full whose deltas are still in the persisted delta file are restored from WAL page snapshots if the
+ * checkpoint does not finish: such pages were modified after the previous checkpoint had started.
+ */
+public class CheckpointPageDeltas {
+    /** Default maximum number of pages written as deltas. {@code 0} disables deferring of page writes. */
+    public static final int DFLT_CHECKPOINT_PAGE_DELTAS_MAX_PAGES = 0;
+
+    /** Name of the delta file. */
+    public static final String FILE_NAME = "page-deltas.bin";
+
+    /** Number of consecutive checkpoints that have to write a page to consider it hot. */
+    static final int HOT_CHECKPOINTS = 3;
+
+    /** Maximum number of consecutive checkpoints that can defer the write of a page. */
+    static final int MAX_DEFERRALS = 16;
+
+    /** Reasons of checkpoints that can defer page writes, checkpoints triggered for other reasons merge all deltas. */
+    private static final Set<String> ROUTINE_REASONS = new HashSet<>(Arrays.asList(
+        "timeout",
+        "too many dirty pages",
+        "too big size of WAL without checkpoint"
+    ));
+
+    /** Delta file magic. */
+    private static final int MAGIC = 0x50444C54;
+
+    /** Delta file format version. */
+    private static final int VERSION = 1;
+
+    /** Size of the delta file header: magic, version, page size and number of deltas. */
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    /** Size of a delta run header: offset and length. */
+    private static final int RUN_HEADER_SIZE = 2 * Short.BYTES;
+
+    /** Delta file. */
+    private final File file;
+
+    /** File IO factory. */
+    private final FileIOFactory ioFactory;
+
+    /** Page manager to merge deltas by. Applies deltas on read and reports full page writes to this instance. */
+    private final PageReadWriteManager pageMgr;
+
+    /** Cache groups which pages can be written as deltas. */
+    private final IntPredicate grpFilter;
+
+    /** Maximum number of hot pages. */
+    private final int maxPages;
+
+    /** Maximum size of a delta, bytes. */
+    private final int maxDeltaSize;
+
+    /** Page size. */
+    private final int pageSize;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Tracked pages. */
+    private final Map<FullPageId, Entry> entries = new ConcurrentHashMap<>();
+
+    /** Number of images of hot pages kept in memory. */
+    private final AtomicInteger images = new AtomicInteger();
+
+    /** Number of pages having a delta. */
+    private final AtomicInteger deltas = new AtomicInteger();
+
+    /** Sequence number of the current checkpoint. */
+    private volatile long cpSeq;
+
+    /** If {@code true}, the current checkpoint can defer page writes. */
+    private volatile boolean routine;
+
+    /** If {@code true}, deltas changed since the delta file was persisted. */
+    private volatile boolean changed;
+
+    /** Page buffer used by the checkpointer thread to merge deltas. */
+    private ByteBuffer mergeBuf;
+
+    /**
+     * @param dir Directory of the delta file.
+     * @param ioFactory File IO factory.
+     * @param pageMgr Page manager to merge deltas by.
+     * @param grpFilter Cache groups which pages can be written as deltas.
+     * @param maxPages Maximum number of hot pages, {@code 0} to only merge deltas left by the previous run.
+     * @param pageSize Page size.
+     * @param log Logger.
+     */
+    public CheckpointPageDeltas(
+        File dir,
+        FileIOFactory ioFactory,
+        PageReadWriteManager pageMgr,
+        IntPredicate grpFilter,
+        int maxPages,
+        int pageSize,
+        IgniteLogger log
+    ) {
+        file = new File(dir, FILE_NAME);
+        this.ioFactory = ioFactory;
+        this.pageMgr = pageMgr;
+        this.grpFilter = grpFilter;
+        this.maxPages = maxPages;
+        this.pageSize = pageSize;
+        this.log = log;
+
+        maxDeltaSize = pageSize / 4;
+    }
+
+    /**
+     * @param dir Directory of the delta file.
+     * @return {@code True} if the delta file exists.
+     */
+    public static boolean exists(File dir) {
+        return new File(dir, FILE_NAME).exists();
+    }
+
+    /**
+     * Loads deltas persisted by the previous run.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void restore() throws IgniteCheckedException {
+        File tmp = new File(file.getPath() + TMP_SUFFIX);
+
+        if (tmp.exists() && !U.delete(tmp))
+            throw new IgniteCheckedException("Failed to remove temporary page delta file: " + tmp);
+
+        if (!file.exists())
+            return;
+
+        ByteBuffer buf;
+
+        try {
+            buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath())).order(ByteOrder.nativeOrder());
+        }
+        catch (IOException e) {
+            throw new StorageException("Failed to read page delta file: " + file, e);
+        }
+
+        if (buf.remaining() < HEADER_SIZE + Integer.BYTES || buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION)
+            throw new StorageException("Invalid page delta file: " + file);
+
+        if (buf.getInt(8) != pageSize) {
+            throw new StorageException("Page delta file was written for a different page size [file=" + file +
+                ", pageSize=" + buf.getInt(8) + ", expPageSize=" + pageSize + ']');
+        }
+
+        int crcOff = buf.limit() - Integer.BYTES;
+
+        if (FastCrc.calcCrc(buf, crcOff) != buf.getInt(crcOff))
+            throw new StorageException("Page delta file is corrupted (CRC mismatch): " + file);
+
+        buf.position(HEADER_SIZE - Integer.BYTES);
+
+        int cnt = buf.getInt();
+
+        for (int i = 0; i < cnt; i++) {
+            int grpId = buf.getInt();
+            long pageId = buf.getLong();
+            byte[] delta = new byte[buf.getInt()];
+
+            buf.get(delta);
+
+            Entry e = new Entry();
+
+            e.delta = delta;
+
+            entries.put(new FullPageId(pageId, grpId), e);
+        }
+
+        deltas.set(cnt);
+
+        if (log.isInfoEnabled())
+            log.info("Page deltas restored [pages=" + cnt + ", file=" + file + ']');
+    }
+
+    /**
+     * @return {@code True} if there are deltas to merge.
+     */
+    public boolean hasDeltas() {
+        return deltas.get() > 0;
+    }
+
+    /**
+     * Called before the checkpoint writes pages.
+     *
+     * @param reason Checkpoint reason.
+     */
+    public void onCheckpointBegin(String reason) {
+        routine = maxPages > 0 && ROUTINE_REASONS.contains(reason);
+
+        cpSeq++;
+    }
+
+    /**
+     * Tries to defer the write of a page by the checkpoint.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @return {@code True} if the page must not be written: its delta is kept instead.
+     */
+    public boolean defer(int grpId, long pageId, ByteBuffer pageBuf) {
+        if (!routine)
+            return false;
+
+        Entry e = entries.get(new FullPageId(pageId, grpId));
+
+        if (e == null)
+            return false;
+
+        synchronized (e) {
+            if (e.img == null || e.deferrals >= MAX_DEFERRALS)
+                return false;
+
+            byte[] delta = diff(e.img, pageBuf);
+
+            if (delta == null)
+                return false;
+
+            if (e.delta == null)
+                deltas.incrementAndGet();
+
+            e.delta = delta;
+            e.deferrals++;
+            e.deferCp = cpSeq;
+
+            touch(e);
+
+            changed = true;
+
+            return true;
+        }
+    }
+
+    /**
+     * Writes a page to its page store. The written page supersedes the delta.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @param write Page write.
+     * @return Page store.
+     * @throws IgniteCheckedException If failed.
+     */
+    public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, PageWrite write) throws IgniteCheckedException {
+        Entry e = entries.get(new FullPageId(pageId, grpId));
+
+        if (e == null) {
+            PageStore store = write.apply();
+
+            onPageWritten(grpId, pageId, pageBuf);
+
+            return store;
+        }
+
+        // Serializes the write with the merge of the delta.
+        synchronized (e) {
+            PageStore store = write.apply();
+
+            onPageWritten(grpId, pageId, pageBuf);
+
+            return store;
+        }
+    }
+
+    /**
+     * Called after a page was written to its page store in full.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param pageBuf Written page.
+     */
+    public void onPageWritten(int grpId, long pageId, ByteBuffer pageBuf) {
+        FullPageId key = new FullPageId(pageId, grpId);
+
+        Entry e = entries.get(key);
+
+        if (e == null) {
+            // Hot pages are tracked among pages of the current checkpoint, which are not tracked yet.
+            if (maxPages == 0 || entries.size() >= maxPages * HOT_CHECKPOINTS || !grpFilter.test(grpId))
+                return;
+
+            e = entries.computeIfAbsent(key, k -> new Entry());
+        }
+
+        synchronized (e) {
+            if (e.delta != null) {
+                e.delta = null;
+
+                deltas.decrementAndGet();
+
+                changed = true;
+            }
+
+            e.deferrals = 0;
+
+            touch(e);
+
+            if (e.img == null && (e.streak < HOT_CHECKPOINTS || !reserveImage()))
+                return;
+
+            if (e.img == null)
+                e.img = new byte[pageSize];
+
+            ByteBuffer buf = pageBuf.duplicate();
+
+            buf.clear();
+            buf.get(e.img, 0, pageSize);
+
+            // The image is compared to pages which CRC is zero.
+            Arrays.fill(e.img, PageIO.CRC_OFF, PageIO.CRC_OFF + Integer.BYTES, (byte)0);
+        }
+    }
+
+    /**
+     * Applies the delta to a page read from its page store.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @param keepCrc If {@code true}, the CRC of the page is recalculated.
+     */
+    public void apply(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) {
+        if (deltas.get() == 0)
+            return;
+
+        Entry e = entries.get(new FullPageId(pageId, grpId));
+
+        if (e == null)
+            return;
+
+        byte[] delta;
+
+        synchronized (e) {
+            delta = e.delta;
+        }
+
+        if (delta == null)
+            return;
+
+        ByteBuffer buf = pageBuf.duplicate();
+
+        for (int i = 0; i < delta.length; ) {
+            int off = U.bytesToShort(delta, i) & 0xFFFF;
+            int len = U.bytesToShort(delta, i + Short.BYTES) & 0xFFFF;
+
+            i += RUN_HEADER_SIZE;
+
+            buf.clear();
+            buf.position(off);
+            buf.put(delta, i, len);
+
+            i += len;
+        }
+
+        // Runs may contain the CRC of the page as it was written.
+        PageIO.setCrc(pageBuf, 0);
+
+        if (keepCrc) {
+            buf.clear();
+
+            PageIO.setCrc(pageBuf, FastCrc.calcCrc(buf, pageSize));
+        }
+    }
+
+    /**
+     * Writes pages which deltas can not be kept anymore in full. Called by the checkpointer thread after the
+     * checkpoint has written pages and before page stores are synced.
+     *
+     * @param onWritten Closure called with the page store each merged page was written to.
+     * @return Number of merged pages.
+     * @throws IgniteCheckedException If failed.
+     */
+    public int merge(Consumer<PageStore> onWritten) throws IgniteCheckedException {
+        if (deltas.get() == 0)
+            return 0;
+
+        if (mergeBuf == null)
+            mergeBuf = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+
+        boolean mergeAll = !routine;
+
+        int merged = 0;
+
+        for (Map.Entry<FullPageId, Entry> entry : entries.entrySet()) {
+            Entry e = entry.getValue();
+            FullPageId fullId = entry.getKey();
+
+            if (!grpFilter.test(fullId.groupId()))
+                continue;
+
+            synchronized (e) {
+                if (e.delta == null || (!mergeAll && e.deferCp == cpSeq))
+                    continue;
+
+                mergeBuf.clear();
+
+                // Applies the delta.
+                pageMgr.read(fullId.groupId(), fullId.pageId(), mergeBuf, false);
+
+                mergeBuf.rewind();
+
+                // Partitions are never truncated with deltas, so the write can not be outdated. Supersedes the delta.
+                PageStore store = pageMgr.write(fullId.groupId(), fullId.pageId(), mergeBuf, Integer.MAX_VALUE, true);
+
+                onWritten.accept(store);
+
+                merged++;
+            }
+        }
+
+        return merged;
+    }
+
+    /**
+     * Persists deltas if they were changed since the last call and stops tracking pages which are not written by
+     * checkpoints anymore. Called by the checkpointer thread after page stores are synced and before the checkpoint
+     * end marker is written.
+     *
+     * @throws StorageException If failed.
+     */
+    public void persist() throws StorageException {
+        cleanup();
+
+        if (!changed)
+            return;
+
+        changed = false;
+
+        try {
+            if (deltas.get() == 0) {
+                Files.deleteIfExists(file.toPath());
+
+                return;
+            }
+
+            ByteBuffer buf = serialize();
+
+            File tmp = new File(file.getPath() + TMP_SUFFIX);
+
+            try (FileIO io = ioFactory.create(tmp, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                io.writeFully(buf);
+
+                io.force(true);
+            }
+
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (IOException e) {
+            changed = true;
+
+            throw new StorageException("Failed to write page delta file: " + file, e);
+        }
+    }
+
+    /**
+     * Drops deltas of a partition which is truncated.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     */
+    public void onPartitionTruncated(int grpId, int partId) {
+        remove(e -> e.getKey().groupId() == grpId && PageIdUtils.partId(e.getKey().pageId()) == partId);
+    }
+
+    /**
+     * Drops deltas of a cache group which is destroyed.
+     *
+     * @param grpId Cache group ID.
+     */
+    public void onGroupDestroyed(int grpId) {
+        remove(e -> e.getKey().groupId() == grpId);
+    }
+
+    /** Drops all deltas. */
+    public void clear() {
+        remove(e -> true);
+    }
+
+    /**
+     * @param filter Entries to remove.
+     */
+    private void remove(Predicate<Map.Entry<FullPageId, Entry>> filter) {
+        entries.entrySet().removeIf(entry -> {
+            if (!filter.test(entry))
+                return false;
+
+            Entry e = entry.getValue();
+
+            synchronized (e) {
+                if (e.delta != null) {
+                    e.delta = null;
+
+                    deltas.decrementAndGet();
+
+                    changed = true;
+                }
+
+                if (e.img != null) {
+                    e.img = null;
+
+                    images.decrementAndGet();
+                }
+            }
+
+            return true;
+        });
+    }
+
+    /** Removes pages which were not written by the last two checkpoints and have no delta. */
+    private void cleanup() {
+        long seq = cpSeq;
+
+        remove(entry -> {
+            Entry e = entry.getValue();
+
+            synchronized (e) {
+                return e.delta == null && e.lastCp < seq - 1;
+            }
+        });
+    }
+
+    /**
+     * @return Delta file content.
+     */
+    private ByteBuffer serialize() {
+        int size = HEADER_SIZE + Integer.BYTES;
+        int cnt = 0;
+
+        Map<FullPageId, byte[]> snapshot = new HashMap<>();
+
+        for (Map.Entry<FullPageId, Entry> entry : entries.entrySet()) {
+            byte[] delta;
+
+            synchronized (entry.getValue()) {
+                delta = entry.getValue().delta;
+            }
+
+            if (delta == null)
+                continue;
+
+            snapshot.put(entry.getKey(), delta);
+
+            size += Integer.BYTES + Long.BYTES + Integer.BYTES + delta.length;
+            cnt++;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+
+        buf.putInt(MAGIC);
+        buf.putInt(VERSION);
+        buf.putInt(pageSize);
+        buf.putInt(cnt);
+
+        for (Map.Entry<FullPageId, byte[]> entry : snapshot.entrySet()) {
+            buf.putInt(entry.getKey().groupId());
+            buf.putLong(entry.getKey().pageId());
+            buf.putInt(entry.getValue().length);
+            buf.put(entry.getValue());
+        }
+
+        buf.putInt(FastCrc.calcCrc(buf, buf.position()));
+
+        buf.flip();
+
+        return buf;
+    }
+
+    /**
+     * @return {@code True} if an image of a hot page can be kept in memory.
+     */
+    private boolean reserveImage() {
+        if (images.incrementAndGet() <= maxPages)
+            return true;
+
+        images.decrementAndGet();
+
+        return false;
+    }
+
+    /**
+     * Updates the number of consecutive checkpoints that have written the page.
+     *
+     * @param e Page entry.
+     */
+    private void touch(Entry e) {
+        long seq = cpSeq;
+
+        if (e.lastCp == seq)
+            return;
+
+        e.streak = e.lastCp == seq - 1 ? e.streak + 1 : 1;
+        e.lastCp = seq;
+    }
+
+    /**
+     * Computes the difference between the image of a page and its current content. The CRC field is ignored.
+     *
+     * @param img Page image.
+     * @param pageBuf Page buffer.
+     * @return Runs of changed bytes: offset, length and bytes; or {@code null} if the delta is too large.
+     */
+    byte[] diff(byte[] img, ByteBuffer pageBuf) {
+        pageBuf = pageBuf.duplicate().order(ByteOrder.nativeOrder());
+
+        ByteBuffer imgBuf = ByteBuffer.wrap(img).order(ByteOrder.nativeOrder());
+
+        ByteBuffer res = ByteBuffer.allocate(maxDeltaSize).order(ByteOrder.nativeOrder());
+
+        int runStart = -1;
+        int runEnd = -1;
+
+        for (int off = 0; off < pageSize; off += Long.BYTES) {
+            long cur = pageBuf.getLong(off);
+
+            if (off == PageIO.CRC_OFF - PageIO.CRC_OFF % Long.BYTES)
+                cur = maskCrc(cur, imgBuf.getLong(off), PageIO.CRC_OFF % Long.BYTES);
+
+            if (cur == imgBuf.getLong(off))
+                continue;
+
+            // Runs separated by a single unchanged word are joined: its bytes cost as much as a run header.
+            if (runStart >= 0 && off - runEnd > Long.BYTES) {
+                if (!putRun(res, pageBuf, runStart, runEnd))
+                    return null;
+
+                runStart = -1;
+            }
+
+            if (runStart < 0)
+                runStart = off;
+
+            runEnd = off + Long.BYTES;
+        }
+
+        if (runStart >= 0 && !putRun(res, pageBuf, runStart, runEnd))
+            return null;
+
+        return Arrays.copyOf(res.array(), res.position());
+    }
+
+    /**
+     * Replaces CRC bytes of a word by the bytes of the image, so that CRC changes are not part of a delta.
+     *
+     * @param word Page word.
+     * @param imgWord Image word.
+     * @param crcOff Offset of the CRC in the word.
+     * @return Masked word.
+     */
+    private static long maskCrc(long word, long imgWord, int crcOff) {
+        long mask = 0xFFFFFFFFL << ((GridUnsafe.BIG_ENDIAN ? Long.BYTES - Integer.BYTES - crcOff : crcOff) * 8);
+
+        return (word & ~mask) | (imgWord & mask);
+    }
+
+    /**
+     * @param res Delta.
+     * @param pageBuf Page buffer.
+     * @param start Run start offset.
+     * @param end Run end offset.
+     * @return {@code False} if the delta is too large.
+     */
+    private static boolean putRun(ByteBuffer res, ByteBuffer pageBuf, int start, int end) {
+        if (res.remaining() < RUN_HEADER_SIZE + end - start)
+            return false;
+
+        res.put(U.shortToBytes((short)start));
+        res.put(U.shortToBytes((short)(end - start)));
+
+        for (int i = start; i < end; i++)
+            res.put(pageBuf.get(i));
+
+        return true;
+    }
+
+    /** Page write. */
+    @FunctionalInterface
+    public interface PageWrite {
+        /**
+         * @return Page store the page was written to.
+         * @throws IgniteCheckedException If failed.
+         */
+        PageStore apply() throws IgniteCheckedException;
+    }
+
+    /** Tracked page. Guarded by its own monitor. */
+    private static class Entry {
+        /** Last image of the page written to the page store with zero CRC. {@code Null} if the page is not hot. */
+        private byte[] img;
+
+        /** Difference between the page and {@link #img}. */
+        private byte[] delta;
+
+        /** Sequence number of the last checkpoint that has written the page. */
+        private long lastCp = -1;
+
+        /** Number of consecutive checkpoints that have written the page. */
+        private int streak;
+
+        /** Number of checkpoints that have deferred the write since the image was written. */
+        private int deferrals;
+
+        /** Sequence number of the last checkpoint that has deferred the write. */
+        private long deferCp = -1;
+    }
+}
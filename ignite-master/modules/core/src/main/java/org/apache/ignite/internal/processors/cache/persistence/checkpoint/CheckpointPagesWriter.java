@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
@@ -39,6 +41,8 @@ import org.apache.ignite.internal.util.future.CountDownFuture;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.internal.pagemem.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagemem.PageIdUtils.partId;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getType;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getVersion;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
@@ -47,6 +51,9 @@ import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
  * Implementation of page writer which able to store pages to disk during checkpoint.
  */
 public class CheckpointPagesWriter implements Runnable {
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_WRITE_BATCH_SIZE */
+    public static final int DFLT_CHECKPOINT_WRITE_BATCH_SIZE = 32;
+
     /** Logger. */
     private final IgniteLogger log;
 
@@ -68,8 +75,11 @@ public class CheckpointPagesWriter implements Runnable {
     /** Data storage metrics. */
     private final DataStorageMetricsImpl persStoreMetrics;
 
-    /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
-    private final ThreadLocal<ByteBuffer> threadBuf;
+    /**
+     * Thread local with buffers for the checkpoint threads. Each element of an array represents one page for durable
+     * memory. Adjacent pages of a partition are copied to adjacent buffers and written by a single request.
+     */
+    private final ThreadLocal<ByteBuffer[]> threadBuf;
 
     /** Throttling policy according to the settings. */
     private final PageMemoryImpl.ThrottlingPolicy throttlingPolicy;
@@ -96,7 +106,7 @@ public class CheckpointPagesWriter implements Runnable {
      * @param beforePageWrite Action to be performed before every page write.
      * @param log Logger.
      * @param dsMetrics Data storage metrics.
-     * @param buf Thread local byte buffer.
+     * @param buf Thread local page buffers.
      * @param throttlingPolicy Throttling policy.
      * @param pageMemoryGroupResolver Resolver of page memory by group id.
      * @param progress Checkpoint progress.
@@ -111,7 +121,7 @@ public class CheckpointPagesWriter implements Runnable {
         Runnable beforePageWrite,
         IgniteLogger log,
         DataStorageMetricsImpl dsMetrics,
-        ThreadLocal<ByteBuffer> buf,
+        ThreadLocal<ByteBuffer[]> buf,
         PageMemoryImpl.ThrottlingPolicy throttlingPolicy,
         IgniteThrowableFunction<Integer, PageMemoryEx> pageMemoryGroupResolver,
         CheckpointProgressImpl progress,
@@ -172,42 +182,49 @@ public class CheckpointPagesWriter implements Runnable {
 
         Map<PageMemoryEx, PageStoreWriter> pageStoreWriters = new HashMap<>();
 
-        ByteBuffer tmpWriteBuf = threadBuf.get();
+        PagesRun run = new PagesRun(threadBuf.get());
 
         boolean throttlingEnabled = throttlingPolicy != PageMemoryImpl.ThrottlingPolicy.DISABLED;
 
         GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
             new GridConcurrentMultiPairQueue.Result<>();
 
-        while (writePageIds.next(res)) {
-            if (shutdownNow.getAsBoolean())
-                break;
-
-            beforePageWrite.run();
-
-            FullPageId fullId = res.getValue();
+        try {
+            // Adjacent pages are claimed together to be written by a single request.
+            while (writePageIds.next(res, run.capacity())) {
+                if (shutdownNow.getAsBoolean())
+                    break;
 
-            PageMemoryEx pageMem = res.getKey();
+                beforePageWrite.run();
 
-            tmpWriteBuf.rewind();
+                FullPageId fullId = res.getValue();
 
-            PageStoreWriter pageStoreWriter =
-                pageStoreWriters.computeIfAbsent(pageMem, pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry));
+                PageMemoryEx pageMem = res.getKey();
 
-            pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+                PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(
+                    pageMem,
+                    pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry, run)
+                );
 
-            if (throttlingEnabled) {
-                while (pageMem.isCpBufferOverflowThresholdExceeded()) {
-                    FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
+                pageMem.checkpointWritePage(fullId, run.nextBuffer(), pageStoreWriter, tracker);
 
-                    if (cpPageId.equals(FullPageId.NULL_PAGE))
-                        break;
+                if (throttlingEnabled) {
+                    while (pageMem.isCpBufferOverflowThresholdExceeded()) {
+                        FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
 
-                    tmpWriteBuf.rewind();
+                        if (cpPageId.equals(FullPageId.NULL_PAGE))
+                            break;
 
-                    pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker);
+                        pageMem.checkpointWritePage(cpPageId, run.nextBuffer(), pageStoreWriter, tracker);
+                    }
                 }
             }
+
+            run.flush();
+        }
+        finally {
+            // Pages of a failed run must not stay pinned.
+            run.releaseAll();
         }
 
         return pagesToRetry.isEmpty() ?
@@ -220,17 +237,27 @@ public class CheckpointPagesWriter implements Runnable {
      *
      * @param pageMemEx
      * @param pagesToRetry List pages for retry.
+     * @param run Run of adjacent pages to write.
      * @return Checkpoint page write context.
      */
     private PageStoreWriter createPageStoreWriter(
         PageMemoryEx pageMemEx,
-        Map<PageMemoryEx, List<FullPageId>> pagesToRetry
+        Map<PageMemoryEx, List<FullPageId>> pagesToRetry,
+        PagesRun run
     ) {
         return new PageStoreWriter() {
             /** {@inheritDoc} */
             @Override public void writePage(FullPageId fullPageId, ByteBuffer buf,
                 int tag) throws IgniteCheckedException {
+                writePage(fullPageId, buf, tag, () -> {});
+            }
+
+            /** {@inheritDoc} */
+            @Override public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag,
+                Runnable release) throws IgniteCheckedException {
                 if (tag == PageMemoryImpl.TRY_AGAIN_TAG) {
+                    release.run();
+
                     pagesToRetry.computeIfAbsent(pageMemEx, k -> new ArrayList<>()).add(fullPageId);
 
                     return;
@@ -248,13 +275,185 @@ public class CheckpointPagesWriter implements Runnable {
                         tracker.onDataPageWritten();
                 }
 
-                curCpProgress.updateWrittenPages(1);
+                run.add(pageMemEx, fullPageId, buf, tag, release);
+            }
+        };
+    }
+
+    /**
+     * Run of pages with adjacent indexes of the same partition. The pages are copied to adjacent page buffers and
+     * written to the page store by a single request when the run is interrupted or there are no free buffers.
+     * <p>
+     * The copied pages stay pinned in the page memory until the run is written. Otherwise, a clean page could be
+     * replaced and read back from the store before the write, or a newer page image written on the page replacement
+     * could be overwritten by the copy.
+     */
+    private class PagesRun {
+        /** Page buffers. */
+        private final ByteBuffer[] bufs;
+
+        /** Page IDs of the copied pages. */
+        private final long[] pageIds;
+
+        /** Closures which release the pinned pages. */
+        private final Runnable[] releases;
+
+        /** Index of the first buffer of the run. */
+        private int start;
 
-                PageStore store = pageWriter.write(pageMemEx, fullPageId, buf, tag);
+        /** Index of the next free buffer. */
+        private int end;
 
-                updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
+        /** Page memory of the run. */
+        private PageMemoryEx pageMem;
+
+        /** Cache group ID of the run. */
+        private int grpId;
+
+        /** Partition file version of the run. */
+        private int tag;
+
+        /**
+         * @param bufs Page buffers.
+         */
+        PagesRun(ByteBuffer[] bufs) {
+            this.bufs = bufs;
+
+            pageIds = new long[bufs.length];
+            releases = new Runnable[bufs.length];
+        }
+
+        /**
+         * @return Maximum number of pages in the run.
+         */
+        int capacity() {
+            return bufs.length;
+        }
+
+        /**
+         * @return Buffer to copy the next page to.
+         * @throws IgniteCheckedException If failed to write the run of pages.
+         */
+        ByteBuffer nextBuffer() throws IgniteCheckedException {
+            if (end == bufs.length) {
+                flush();
+
+                start = end = 0;
             }
-        };
+
+            ByteBuffer buf = bufs[end];
+
+            buf.rewind();
+
+            return buf;
+        }
+
+        /**
+         * Adds the page copied to the buffer returned by {@link #nextBuffer()} to the run. The current run is
+         * written if the page is not adjacent to its last page.
+         *
+         * @param pageMem Page memory.
+         * @param fullId Full page ID.
+         * @param buf Page buffer.
+         * @param tag Partition file version.
+         * @param release Releases the page after it is written.
+         * @throws IgniteCheckedException If failed to write the run of pages.
+         */
+        void add(
+            PageMemoryEx pageMem,
+            FullPageId fullId,
+            ByteBuffer buf,
+            int tag,
+            Runnable release
+        ) throws IgniteCheckedException {
+            assert buf == bufs[end];
+            assert releases[end] == null;
+
+            releases[end] = release;
+
+            if (end > start && !adjacent(pageMem, fullId, tag))
+                flush();
+
+            if (start == end) {
+                this.pageMem = pageMem;
+                this.grpId = fullId.groupId();
+                this.tag = tag;
+            }
+
+            pageIds[end++] = fullId.pageId();
+        }
+
+        /**
+         * @param pageMem Page memory.
+         * @param fullId Full page ID.
+         * @param tag Partition file version.
+         * @return {@code True} if the page is next to the last page of the run in the same page store.
+         */
+        private boolean adjacent(PageMemoryEx pageMem, FullPageId fullId, int tag) {
+            long lastPageId = pageIds[end - 1];
+
+            long pageId = fullId.pageId();
+
+            return this.pageMem == pageMem && grpId == fullId.groupId() && this.tag == tag &&
+                partId(lastPageId) == partId(pageId) && pageIndex(lastPageId) + 1 == pageIndex(pageId);
+        }
+
+        /**
+         * Writes the run of pages.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        void flush() throws IgniteCheckedException {
+            int cnt = end - start;
+
+            if (cnt == 0)
+                return;
+
+            PageStore store;
+
+            try {
+                store = cnt == 1 ?
+                    pageWriter.write(pageMem, new FullPageId(pageIds[start], grpId), bufs[start], tag) :
+                    pageWriter.write(
+                        pageMem,
+                        grpId,
+                        Arrays.copyOfRange(pageIds, start, end),
+                        Arrays.copyOfRange(bufs, start, end),
+                        tag
+                    );
+            }
+            finally {
+                release(start, end);
+            }
+
+            curCpProgress.updateWrittenPages(cnt);
+
+            updStores.computeIfAbsent(store, k -> new LongAdder()).add(cnt);
+
+            // Counted regardless of metrics being enabled since the write throttling relies on it.
+            tracker.onPagesRunWritten(cnt);
+
+            start = end;
+        }
+
+        /** Releases all pages which are still pinned. */
+        void releaseAll() {
+            release(0, releases.length);
+        }
+
+        /**
+         * @param from Index of the first buffer, inclusive.
+         * @param to Index of the last buffer, exclusive.
+         */
+        private void release(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (releases[i] != null) {
+                    releases[i].run();
+
+                    releases[i] = null;
+                }
+            }
+        }
     }
 
     /** Interface which allows to write one page to page store. */
@@ -270,5 +469,26 @@ public class CheckpointPagesWriter implements Runnable {
          */
         PageStore write(PageMemoryEx pageMemEx, FullPageId fullPageId, ByteBuffer buf, int tag)
             throws IgniteCheckedException;
+
+        /**
+         * Writes pages with adjacent indexes of the same partition.
+         *
+         * @param pageMemEx Page memory from which pages should be written.
+         * @param grpId Cache group ID.
+         * @param pageIds Page IDs in the ascending order of page indexes, without gaps.
+         * @param bufs Page buffers.
+         * @param tag Page tag.
+         * @return {@link PageStore} which was used to write.
+         * @throws IgniteCheckedException if fail.
+         */
+        default PageStore write(PageMemoryEx pageMemEx, int grpId, long[] pageIds, ByteBuffer[] bufs, int tag)
+            throws IgniteCheckedException {
+            PageStore store = null;
+
+            for (int i = 0; i < pageIds.length; i++)
+                store = write(pageMemEx, new FullPageId(pageIds[i], grpId), bufs[i], tag);
+
+            return store;
+        }
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
@@ -40,6 +42,9 @@ import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_WRITE_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriter.DFLT_CHECKPOINT_WRITE_BATCH_SIZE;
+
 /**
  * Factory class for checkpoint pages writer.
  *
@@ -55,6 +60,13 @@ public class CheckpointPagesWriterFactory {
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
     private volatile ThreadLocal<ByteBuffer> threadBuf;
 
+    /** Thread local with arrays of page buffers for the checkpoint threads, see {@link CheckpointPagesWriter}. */
+    private volatile ThreadLocal<ByteBuffer[]> threadBufs;
+
+    /** Maximum number of adjacent pages written by a single request. */
+    private final int writeBatchSize = Math.max(1, IgniteSystemProperties.getInteger(
+        IGNITE_CHECKPOINT_WRITE_BATCH_SIZE, DFLT_CHECKPOINT_WRITE_BATCH_SIZE));
+
     /** Throttling policy according to the settings. */
     private final PageMemoryImpl.ThrottlingPolicy throttlingPolicy;
 
@@ -83,6 +95,7 @@ public class CheckpointPagesWriterFactory {
         this.log = logger.apply(getClass());
         this.persStoreMetrics = persStoreMetrics;
         this.threadBuf = threadBuf;
+        this.threadBufs = threadBuffers(writeBatchSize);
         this.throttlingPolicy = throttlingPolicy;
         this.pageMemoryGroupResolver = pageMemoryGroupResolver;
         this.checkpointPageWriter = checkpointPageWriter;
@@ -115,7 +128,7 @@ public class CheckpointPagesWriterFactory {
             beforePageWrite,
             log,
             persStoreMetrics,
-            threadBuf,
+            threadBufs,
             throttlingPolicy,
             pageMemoryGroupResolver,
             curCpProgress,
@@ -192,5 +205,41 @@ public class CheckpointPagesWriterFactory {
      */
     public void threadBuf(ThreadLocal<ByteBuffer> threadBuf) {
         this.threadBuf = threadBuf;
+
+        // Custom buffers may be required by the file I/O (e.g. aligned buffers of direct I/O), so pages are written
+        // one by one from these buffers.
+        threadBufs = threadBuffers(1);
+    }
+
+    /**
+     * @param batchSize Number of page buffers.
+     * @return Thread local with arrays of page buffers. If there are several buffers, they are adjacent slices of
+     * the same direct buffer.
+     */
+    private ThreadLocal<ByteBuffer[]> threadBuffers(int batchSize) {
+        return new ThreadLocal<ByteBuffer[]>() {
+            /** {@inheritDoc} */
+            @Override protected ByteBuffer[] initialValue() {
+                ByteBuffer pageBuf = threadBuf.get();
+
+                if (batchSize == 1)
+                    return new ByteBuffer[] {pageBuf};
+
+                int pageSize = pageBuf.capacity();
+
+                ByteBuffer buf = ByteBuffer.allocateDirect(pageSize * batchSize);
+
+                ByteBuffer[] bufs = new ByteBuffer[batchSize];
+
+                for (int i = 0; i < batchSize; i++) {
+                    buf.limit((i + 1) * pageSize);
+                    buf.position(i * pageSize);
+
+                    bufs[i] = buf.slice().order(ByteOrder.nativeOrder());
+                }
+
+                return bufs;
+            }
+        };
     }
 }
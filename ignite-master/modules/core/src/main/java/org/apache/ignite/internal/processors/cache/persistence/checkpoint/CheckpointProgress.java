@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
 
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.internal.processors.cache.persistence.CheckpointState;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.CheckpointMetricsTracker;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -117,6 +118,18 @@ public interface CheckpointProgress {
     /** Clear cp progress counters. */
     public void clearCounters();
 
+    /**
+     * @return Metrics tracker of the checkpoint or {@code null} if the checkpoint has not started yet.
+     */
+    public @Nullable CheckpointMetricsTracker metricsTracker();
+
+    /**
+     * Sets metrics tracker of the checkpoint.
+     *
+     * @param tracker Metrics tracker.
+     */
+    public void metricsTracker(CheckpointMetricsTracker tracker);
+
     /**
      * Invokes a callback closure then a checkpoint reaches specific state. The closure will not be called if an error
      * has happened while transitting to the state.
@@ -23,10 +23,12 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.internal.processors.cache.persistence.CheckpointState;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.CheckpointMetricsTracker;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.FINISHED;
 import static org.apache.ignite.internal.processors.cache.persistence.CheckpointState.LOCK_RELEASED;
@@ -65,6 +67,9 @@ public class CheckpointProgressImpl implements CheckpointProgress {
     /** Number of pages in current checkpoint at the beginning of checkpoint. */
     private volatile int currCheckpointPagesCnt;
 
+    /** Metrics tracker of the checkpoint. */
+    private volatile CheckpointMetricsTracker tracker;
+
     /**
      * @param cpFreq Timeout until next checkpoint.
      */
@@ -244,6 +249,16 @@ public class CheckpointProgressImpl implements CheckpointProgress {
         evictedPagesCntr = null;
     }
 
+    /** {@inheritDoc} */
+    @Override public @Nullable CheckpointMetricsTracker metricsTracker() {
+        return tracker;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void metricsTracker(CheckpointMetricsTracker tracker) {
+        this.tracker = tracker;
+    }
+
     /** {@inheritDoc} */
     @Override public void onStateChanged(CheckpointState state, Runnable clo) {
         GridFutureAdapter<?> fut = futureFor(state);
@@ -155,6 +155,9 @@ public class Checkpointer extends GridWorker {
     /** Checkpoint frequency deviation. */
     private final Supplier<Integer> cpFreqDeviation;
 
+    /** Deltas of hot pages. */
+    private final Supplier<CheckpointPageDeltas> pageDeltas;
+
     /** Checkpoint runner thread pool. If null tasks are to be run in single thread */
     @Nullable private volatile IgniteThreadPoolExecutor checkpointWritePagesPool;
 
@@ -193,6 +196,7 @@ public class Checkpointer extends GridWorker {
      * @param checkpointFrequency Checkpoint frequency.
      * @param checkpointWritePageThreads The number of IO-bound threads which will write pages to disk.
      * @param cpFreqDeviation Deviation of checkpoint frequency.
+     * @param pageDeltas Deltas of hot pages, supplies {@code null} if there are none.
      */
     Checkpointer(
         @Nullable String gridName,
@@ -207,7 +211,8 @@ public class Checkpointer extends GridWorker {
         CheckpointPagesWriterFactory factory,
         long checkpointFrequency,
         int checkpointWritePageThreads,
-        Supplier<Integer> cpFreqDeviation
+        Supplier<Integer> cpFreqDeviation,
+        Supplier<CheckpointPageDeltas> pageDeltas
     ) {
         super(gridName, name, logger.apply(Checkpointer.class), workersRegistry);
         this.pauseDetector = detector;
@@ -220,6 +225,7 @@ public class Checkpointer extends GridWorker {
         this.checkpointWritePageThreads = Math.max(checkpointWritePageThreads, 1);
         this.checkpointWritePagesPool = initializeCheckpointPool();
         this.cpFreqDeviation = cpFreqDeviation;
+        this.pageDeltas = pageDeltas;
         this.psproc = cacheProcessor.context().kernalContext().performanceStatistics();
 
         scheduledCp = new CheckpointProgressImpl(nextCheckpointInterval());
@@ -384,6 +390,13 @@ public class Checkpointer extends GridWorker {
 
             startCheckpointProgress();
 
+            curCpProgress.metricsTracker(tracker);
+
+            CheckpointPageDeltas deltas = pageDeltas.get();
+
+            if (deltas != null)
+                deltas.onCheckpointBegin(curCpProgress.reason());
+
             try {
                 chp = checkpointWorkflow.markCheckpointBegin(lastCpTs, curCpProgress, tracker, this);
             }
@@ -440,12 +453,22 @@ public class Checkpointer extends GridWorker {
                         chp.progress.reason())
                     );
 
-                tracker.onPagesWriteStart();
-                tracker.onFsyncStart();
+                // Deltas are merged even if no pages were modified, so that page stores are up to date for snapshots.
+                if (deltas != null && deltas.hasDeltas()) {
+                    if (!writePages(tracker, chp.cpPages, chp.progress, this, this::isShutdownNow))
+                        return;
+                }
+                else {
+                    tracker.onPagesWriteStart();
+                    tracker.onFsyncStart();
+                }
             }
 
             int destroyedPartitionsCnt = destroyEvictedPartitions();
 
+            if (deltas != null)
+                deltas.persist();
+
             // Must mark successful checkpoint only if there are no exceptions or interrupts.
             checkpointWorkflow.markCheckpointEnd(chp);
 
@@ -537,6 +560,15 @@ public class Checkpointer extends GridWorker {
             return false;
         }
 
+        CheckpointPageDeltas deltas = pageDeltas.get();
+
+        if (deltas != null) {
+            int merged = deltas.merge(store -> updStores.computeIfAbsent(store, k -> new LongAdder()));
+
+            if (merged > 0 && log.isDebugEnabled())
+                log.debug("Page deltas merged [pages=" + merged + ']');
+        }
+
         tracker.onFsyncStart();
 
         if (!skipSync) {
@@ -549,6 +581,8 @@ public class Checkpointer extends GridWorker {
 
                 workProgressDispatcher.blockingSectionBegin();
 
+                long syncStart = System.nanoTime();
+
                 try {
                     updStoreEntry.getKey().sync();
                 }
@@ -556,7 +590,11 @@ public class Checkpointer extends GridWorker {
                     workProgressDispatcher.blockingSectionEnd();
                 }
 
-                curCpProgress.updateSyncedPages(updStoreEntry.getValue().intValue());
+                int syncedPages = updStoreEntry.getValue().intValue();
+
+                curCpProgress.updateSyncedPages(syncedPages);
+
+                tracker.onPagesSynced(syncedPages, System.nanoTime() - syncStart);
             }
         }
 
@@ -606,6 +644,8 @@ public class Checkpointer extends GridWorker {
                 chp.pagesSize,
                 tracker.dataPagesWritten(),
                 tracker.cowPagesWritten(),
+                tracker.writeRequests(),
+                tracker.averageWriteRunLength(),
                 dbMgr.forAllPageStores(PageStore::size),
                 dbMgr.forAllPageStores(PageStore::getSparseSize)
             );
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.file;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
@@ -119,6 +120,46 @@ public abstract class AbstractFileIO implements FileIO {
         }, position, srcBuf.remaining(), true);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Direct buffers adjacent in memory are merged and written by a single request.
+     */
+    @Override public long writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        long written = 0;
+
+        for (int i = 0; i < srcBufs.length; ) {
+            ByteBuffer srcBuf = srcBufs[i];
+
+            int j = i + 1;
+
+            if (srcBuf.isDirect()) {
+                long addr = GridUnsafe.bufferAddress(srcBuf) + srcBuf.position();
+
+                long end = addr + srcBuf.remaining();
+
+                while (j < srcBufs.length && srcBufs[j].isDirect() &&
+                    GridUnsafe.bufferAddress(srcBufs[j]) + srcBufs[j].position() == end &&
+                    end - addr + srcBufs[j].remaining() <= Integer.MAX_VALUE) {
+                    end += srcBufs[j].remaining();
+
+                    j++;
+                }
+
+                if (j > i + 1)
+                    srcBuf = GridUnsafe.wrapPointer(addr, (int)(end - addr));
+            }
+
+            written += writeFully(srcBuf, position + written);
+
+            // Merged buffers are consumed as if they were written one by one.
+            for (; i < j; i++)
+                srcBufs[i].position(srcBufs[i].limit());
+        }
+
+        return written;
+    }
+
     /** {@inheritDoc} */
     @Override public int writeFully(final byte[] buf, final int off, final int len) throws IOException {
         return fully(new IOOperation() {
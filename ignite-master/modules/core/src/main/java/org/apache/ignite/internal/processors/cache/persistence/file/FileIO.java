@@ -176,6 +176,27 @@ public interface FileIO extends AutoCloseable {
      */
     public int writeFully(ByteBuffer srcBuf, long position) throws IOException;
 
+    /**
+     * Writes a sequence of bytes to this file from the given buffers starting from specified file {@code position}.
+     * Buffers are written one after another as if they were a single buffer. Implementations may merge buffers
+     * to reduce the number of I/O requests.
+     *
+     * @param srcBufs Source buffers.
+     * @param position Starting file position.
+     *
+     * @return Number of written bytes.
+     *
+     * @throws IOException If some I/O error occurs.
+     */
+    public default long writeFully(ByteBuffer[] srcBufs, long position) throws IOException {
+        long written = 0;
+
+        for (ByteBuffer srcBuf : srcBufs)
+            written += writeFully(srcBuf, position + written);
+
+        return written;
+    }
+
     /**
      * Writes {@code length} bytes from the {@code buffer}
      * starting at offset {@code off} to this file.
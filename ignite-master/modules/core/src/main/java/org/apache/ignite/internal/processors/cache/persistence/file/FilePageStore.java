@@ -717,37 +717,97 @@ public class FilePageStore implements PageStore {
 
                     long off = pageOffset(pageId);
 
-                    assert (off >= 0 && off <= allocated.get()) || recover :
-                        "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
-                            ", pageId=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath();
+                    beforeWrite(pageId, pageBuf, calculateCrc);
 
-                    assert pageBuf.position() == 0;
-                    assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
-                        + " should be same with " + ByteOrder.nativeOrder();
-                    assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
-                    assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+                    fileIO.writeFully(pageBuf, off);
+
+                    PageIO.setCrc(pageBuf, 0);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    return;
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+            }
+            catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIO);
+
+                        pageBuf.position(0);
 
-                    if (calculateCrc && !skipCrc) {
-                        assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+                        PageIO.setCrc(pageBuf, 0);
 
-                        PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+                        continue;
                     }
+                    catch (IOException e0) {
+                        e0.addSuppressed(e);
+
+                        e = e0;
+                    }
+                }
 
-                    // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)) == 0 :
-                        "CRC hasn't been calculated, crc=0";
+                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
+                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+            }
+        }
+    }
 
-                    assert pageBuf.position() == 0 : pageBuf.position();
+    /** {@inheritDoc} */
+    @Override public void write(
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        assert pageIds.length == pageBufs.length : "pageIds=" + pageIds.length + ", pageBufs=" + pageBufs.length;
 
-                    for (PageWriteListener lsnr : lsnrs) {
-                        lsnr.accept(pageId, pageBuf);
+        if (pageIds.length == 1) {
+            write(pageIds[0], pageBufs[0], tag, calculateCrc);
 
-                        pageBuf.rewind();
+            return;
+        }
+
+        init();
+
+        boolean interrupted = false;
+
+        while (true) {
+            FileIO fileIO = this.fileIO;
+
+            try {
+                lock.readLock().lock();
+
+                try {
+                    if (tag < this.tag)
+                        return;
+
+                    long off = pageOffset(pageIds[0]);
+
+                    for (int i = 0; i < pageIds.length; i++) {
+                        assert pageOffset(pageIds[i]) == off + (long)i * pageSize :
+                            "Pages are not adjacent [first=" + U.hexLong(pageIds[0]) +
+                                ", pageId=" + U.hexLong(pageIds[i]) + ", file=" + getFileAbsolutePath() + ']';
+
+                        beforeWrite(pageIds[i], pageBufs[i], calculateCrc);
                     }
 
-                    fileIO.writeFully(pageBuf, off);
+                    fileIO.writeFully(pageBufs, off);
 
-                    PageIO.setCrc(pageBuf, 0);
+                    for (ByteBuffer pageBuf : pageBufs) {
+                        pageBuf.rewind();
+
+                        PageIO.setCrc(pageBuf, 0);
+                    }
 
                     if (interrupted)
                         Thread.currentThread().interrupt();
@@ -769,9 +829,11 @@ public class FilePageStore implements PageStore {
 
                         reinit(fileIO);
 
-                        pageBuf.position(0);
+                        for (ByteBuffer pageBuf : pageBufs) {
+                            pageBuf.position(0);
 
-                        PageIO.setCrc(pageBuf, 0);
+                            PageIO.setCrc(pageBuf, 0);
+                        }
 
                         continue;
                     }
@@ -782,12 +844,52 @@ public class FilePageStore implements PageStore {
                     }
                 }
 
-                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
-                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+                throw new StorageException("Failed to write pages [file=" + getFileAbsolutePath()
+                    + ", firstPageId=" + pageIds[0] + ", cnt=" + pageIds.length + ", tag=" + tag + "]", e);
             }
         }
     }
 
+    /**
+     * Calculates CRC of the page and notifies write listeners before the page is written to the file.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IOException If failed to get the size of the page data covered by CRC.
+     */
+    private void beforeWrite(long pageId, ByteBuffer pageBuf, boolean calculateCrc) throws IOException {
+        long off = pageOffset(pageId);
+
+        assert (off >= 0 && off <= allocated.get()) || recover :
+            "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
+                ", pageId=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath();
+
+        assert pageBuf.position() == 0;
+        assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
+            + " should be same with " + ByteOrder.nativeOrder();
+        assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
+        assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+
+        if (calculateCrc && !skipCrc) {
+            assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+
+            PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+        }
+
+        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+        assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)) == 0 :
+            "CRC hasn't been calculated, crc=0";
+
+        assert pageBuf.position() == 0 : pageBuf.position();
+
+        for (PageWriteListener lsnr : lsnrs) {
+            lsnr.accept(pageId, pageBuf);
+
+            pageBuf.rewind();
+        }
+    }
+
     /**
      * @param pageBuf Page buffer.
      * @param pageSize Page size.
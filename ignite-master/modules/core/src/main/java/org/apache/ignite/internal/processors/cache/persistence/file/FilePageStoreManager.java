@@ -64,6 +64,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheSharedManagerAdapter
 import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPageDeltas;
 import org.apache.ignite.internal.processors.cache.persistence.defragmentation.DefragmentationFileUtils;
 import org.apache.ignite.internal.processors.cache.persistence.filename.PdsFolderSettings;
 import org.apache.ignite.internal.processors.cache.persistence.metastorage.MetaStorage;
@@ -87,8 +88,11 @@ import static java.lang.String.format;
 import static java.nio.file.Files.delete;
 import static java.nio.file.Files.newDirectoryStream;
 import static java.util.Objects.requireNonNull;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_PAGE_DELTAS_MAX_PAGES;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.MAX_PARTITION_ID;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPageDeltas.DFLT_CHECKPOINT_PAGE_DELTAS_MAX_PAGES;
 
 /**
  * File page store manager.
@@ -177,6 +181,9 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
     /** Absolute directory for file page store. Includes consistent id based folder. */
     private File storeWorkDir;
 
+    /** Deltas of hot pages, {@code null} if delta checkpoints are disabled and no deltas are left. */
+    @Nullable private volatile CheckpointPageDeltas pageDeltas;
+
     /** */
     private final Set<Integer> grpsWithoutIdx = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
 
@@ -245,6 +252,28 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
                 }
             }
         }
+
+        int deltasMaxPages = getInteger(IGNITE_CHECKPOINT_PAGE_DELTAS_MAX_PAGES, DFLT_CHECKPOINT_PAGE_DELTAS_MAX_PAGES);
+
+        if (pageDeltas == null && (deltasMaxPages > 0 || CheckpointPageDeltas.exists(storeWorkDir))) {
+            CheckpointPageDeltas deltas = new CheckpointPageDeltas(
+                storeWorkDir,
+                pageStoreFileIoFactory,
+                this,
+                grpId -> {
+                    CacheGroupContext grp = cctx.cache().cacheGroup(grpId);
+
+                    return grp != null && !grp.config().isEncryptionEnabled();
+                },
+                Math.max(deltasMaxPages, 0),
+                pageSize(),
+                log
+            );
+
+            deltas.restore();
+
+            pageDeltas = deltas;
+        }
     }
 
     /** {@inheritDoc} */
@@ -252,6 +281,11 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         try {
             File cacheWorkDir = cacheWorkDir(cacheConfiguration);
 
+            CheckpointPageDeltas deltas = pageDeltas;
+
+            if (deltas != null)
+                deltas.onGroupDestroyed(CU.cacheGroupId(cacheConfiguration));
+
             if (!cacheWorkDir.exists())
                 return;
 
@@ -272,6 +306,14 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
 
     /** {@inheritDoc} */
     @Override public void cleanupPersistentSpace() throws IgniteCheckedException {
+        CheckpointPageDeltas deltas = pageDeltas;
+
+        if (deltas != null) {
+            deltas.clear();
+
+            U.delete(new File(storeWorkDir, CheckpointPageDeltas.FILE_NAME));
+        }
+
         try {
             try (DirectoryStream<Path> files = newDirectoryStream(
                 storeWorkDir.toPath(), entry -> {
@@ -508,6 +550,11 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
 
         CacheStoreHolder old = idxCacheStores.remove(grp.groupId());
 
+        CheckpointPageDeltas deltas = pageDeltas;
+
+        if (destroy && deltas != null)
+            deltas.onGroupDestroyed(grp.groupId());
+
         if (old != null) {
             IgniteCheckedException ex = shutdown(old, /*clean files if destroy*/destroy, null);
 
@@ -522,12 +569,22 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
 
         PageStore store = getStore(grpId, partId);
 
+        CheckpointPageDeltas deltas = pageDeltas;
+
+        if (deltas != null)
+            deltas.onPartitionTruncated(grpId, partId);
+
         store.truncate(tag);
     }
 
     /** {@inheritDoc} */
     @Override public void read(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) throws IgniteCheckedException {
         pmPageMgr.read(grpId, pageId, pageBuf, keepCrc);
+
+        CheckpointPageDeltas deltas = pageDeltas;
+
+        if (deltas != null)
+            deltas.apply(grpId, pageId, pageBuf, keepCrc);
     }
 
     /** {@inheritDoc} */
@@ -559,7 +616,33 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         int tag,
         boolean calculateCrc
     ) throws IgniteCheckedException {
-        return pmPageMgr.write(grpId, pageId, pageBuf, tag, calculateCrc);
+        CheckpointPageDeltas deltas = pageDeltas;
+
+        if (deltas == null)
+            return pmPageMgr.write(grpId, pageId, pageBuf, tag, calculateCrc);
+
+        return deltas.write(grpId, pageId, pageBuf, () -> pmPageMgr.write(grpId, pageId, pageBuf, tag, calculateCrc));
+    }
+
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        PageStore store = pmPageMgr.write(grpId, pageIds, pageBufs, tag, calculateCrc);
+
+        CheckpointPageDeltas deltas = pageDeltas;
+
+        // Deltas are merged by the checkpointer thread after batches are written, so no write lock is needed.
+        if (deltas != null) {
+            for (int i = 0; i < pageIds.length; i++)
+                deltas.onPageWritten(grpId, pageIds[i], pageBufs[i]);
+        }
+
+        return store;
     }
 
     /** {@inheritDoc} */
@@ -1198,6 +1281,13 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         return dsCfg.getPageSize();
     }
 
+    /**
+     * @return Deltas of hot pages, {@code null} if delta checkpoints are disabled and no deltas are left.
+     */
+    @Nullable public CheckpointPageDeltas pageDeltas() {
+        return pageDeltas;
+    }
+
     /**
      *
      */
@@ -26,6 +26,9 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.ignite.internal.processors.compress.FileSystemUtils;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
@@ -44,6 +47,9 @@ public class RandomAccessFileIO extends AbstractFileIO {
     /** */
     private final int fsBlockSize;
 
+    /** File is opened for reading only. */
+    private final boolean readOnly;
+
     /**
      * Creates I/O implementation for specified {@code file}
      *
@@ -54,6 +60,10 @@ public class RandomAccessFileIO extends AbstractFileIO {
         ch = FileChannel.open(file.toPath(), modes);
         fd = getNativeFileDescriptor(ch);
         fsBlockSize = FileSystemUtils.getFileSystemBlockSize(fd);
+
+        List<OpenOption> opts = Arrays.asList(modes);
+
+        readOnly = !opts.contains(StandardOpenOption.WRITE) && !opts.contains(StandardOpenOption.APPEND);
     }
 
     /**
@@ -142,7 +152,7 @@ public class RandomAccessFileIO extends AbstractFileIO {
 
     /** {@inheritDoc} */
     @Override public MappedByteBuffer map(int sizeBytes) throws IOException {
-        return ch.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+        return ch.map(readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
     }
 
     /** {@inheritDoc} */
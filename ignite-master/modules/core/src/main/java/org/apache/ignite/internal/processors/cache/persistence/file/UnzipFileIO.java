@@ -16,23 +16,35 @@
 */
 package org.apache.ignite.internal.processors.cache.persistence.file;
 
-import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 /**
  * {@link FileIO} that allows to work with ZIP compressed file.
- * Doesn't allow random access and setting {@link FileIO#position()} backwards.
- * Allows sequential reads including setting {@link FileIO#position()} forward.
+ * Data of all the entries of the file is read as a single sequence in the order of entries.
+ * Allows sequential reads including setting {@link FileIO#position()} forward. Setting {@link FileIO#position()} to
+ * another entry or backwards inflates the data starting from the beginning of the entry which contains the position,
+ * so a file compressed by several entries can be read starting from any of them.
  */
 public class UnzipFileIO extends AbstractFileIO {
-    /** Zip input stream. */
-    private final ZipInputStream zis;
+    /** Zip file. */
+    private final ZipFile zipFile;
+
+    /** Entries of the zip file. */
+    private final List<ZipEntry> entries = new ArrayList<>();
+
+    /** Positions of the entries in the uncompressed data. */
+    private final long[] entryPos;
 
     /** Byte array for draining data. */
     private final byte[] arr = new byte[128 * 1024];
@@ -40,6 +52,12 @@ public class UnzipFileIO extends AbstractFileIO {
     /** Size of uncompressed data. */
     private final long size;
 
+    /** Index of the current entry. */
+    private int entryIdx = -1;
+
+    /** Input stream of the current entry. */
+    private InputStream in;
+
     /** Total bytes read counter. */
     private long totalBytesRead = 0;
 
@@ -47,10 +65,70 @@ public class UnzipFileIO extends AbstractFileIO {
      * @param zip Compressed file.
      */
     public UnzipFileIO(File zip) throws IOException {
-        zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
+        zipFile = new ZipFile(zip);
+
+        Enumeration<? extends ZipEntry> e = zipFile.entries();
+
+        while (e.hasMoreElements())
+            entries.add(e.nextElement());
+
+        entryPos = new long[entries.size()];
+
+        long pos = 0;
+
+        for (int i = 0; i < entries.size(); i++) {
+            entryPos[i] = pos;
+
+            pos += entries.get(i).getSize();
+        }
+
+        size = pos;
+
+        if (!entries.isEmpty())
+            openEntry(0);
+    }
+
+    /**
+     * Opens input stream of the entry and sets position to the beginning of the entry.
+     *
+     * @param idx Entry index.
+     * @throws IOException If failed.
+     */
+    private void openEntry(int idx) throws IOException {
+        if (in != null)
+            in.close();
+
+        in = zipFile.getInputStream(entries.get(idx));
 
-        ZipEntry entry = zis.getNextEntry();
-        size = entry.getSize();
+        entryIdx = idx;
+
+        totalBytesRead = entryPos[idx];
+    }
+
+    /**
+     * Reads data from the current entry and switches to the next entry if the current one is read to the end.
+     *
+     * @param len Maximum number of bytes to read.
+     * @return Number of bytes read to {@link #arr} or {@code -1} if the end of the data is reached.
+     * @throws IOException If failed.
+     */
+    private int readEntries(int len) throws IOException {
+        while (in != null) {
+            int bytesRead = in.read(arr, 0, len);
+
+            if (bytesRead != -1) {
+                totalBytesRead += bytesRead;
+
+                return bytesRead;
+            }
+
+            if (entryIdx == entries.size() - 1)
+                break;
+
+            openEntry(entryIdx + 1);
+        }
+
+        return -1;
     }
 
     /** {@inheritDoc} */
@@ -78,29 +156,39 @@ public class UnzipFileIO extends AbstractFileIO {
         if (newPosition == totalBytesRead)
             return;
 
-        if (newPosition < totalBytesRead)
-            throw new UnsupportedOperationException("Seeking backwards is not supported.");
+        if (newPosition < 0 || newPosition > size)
+            throw new EOFException("Position is out of the file bounds [pos=" + newPosition + ", size=" + size + ']');
 
-        long bytesRemaining = newPosition - totalBytesRead;
+        int idx = Arrays.binarySearch(entryPos, newPosition);
+
+        if (idx < 0)
+            idx = -idx - 2;
+        else {
+            // Skip empty entries.
+            while (idx < entryPos.length - 1 && entryPos[idx + 1] == newPosition)
+                idx++;
+        }
 
-        while (bytesRemaining > 0) {
-            int bytesToRead = bytesRemaining > arr.length ? arr.length : (int)bytesRemaining;
+        if (idx != entryIdx || newPosition < totalBytesRead)
+            openEntry(idx);
 
-            bytesRemaining -= zis.read(arr, 0, bytesToRead);
+        while (totalBytesRead < newPosition) {
+            int bytesToRead = (int)Math.min(newPosition - totalBytesRead, arr.length);
+
+            if (readEntries(bytesToRead) == -1)
+                throw new EOFException("Unexpected end of the compressed data [pos=" + totalBytesRead + ']');
         }
     }
 
     /** {@inheritDoc} */
     @Override public int read(ByteBuffer dstBuf) throws IOException {
-        int bytesRead = zis.read(arr, 0, Math.min(dstBuf.remaining(), arr.length));
+        int bytesRead = readEntries(Math.min(dstBuf.remaining(), arr.length));
 
         if (bytesRead == -1)
             return -1;
 
         dstBuf.put(arr, 0, bytesRead);
 
-        totalBytesRead += bytesRead;
-
         return bytesRead;
     }
 
@@ -156,6 +244,12 @@ public class UnzipFileIO extends AbstractFileIO {
 
     /** {@inheritDoc} */
     @Override public void close() throws IOException {
-        zis.close();
+        try {
+            if (in != null)
+                in.close();
+        }
+        finally {
+            zipFile.close();
+        }
     }
 }
@@ -23,6 +23,7 @@ import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntryType;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
  * Tracks various checkpoint phases and stats.
@@ -47,12 +48,32 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COW_PAGES_UPDATER =
         AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "cowPages");
 
+    /** */
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> WRITE_REQUESTS_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "writeRequests");
+
+    /** */
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> WRITTEN_PAGES_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "writtenPages");
+
     /** */
     private volatile int dataPages;
 
     /** */
     private volatile int cowPages;
 
+    /** Number of write requests to page stores. */
+    private volatile int writeRequests;
+
+    /** Number of pages written by {@link #writeRequests}. */
+    private volatile int writtenPages;
+
+    /** Number of fsynced pages. Updated by the checkpointer thread only. */
+    private volatile int syncedPages;
+
+    /** Total time of page stores fsync in nanoseconds. Updated by the checkpointer thread only. */
+    private volatile long syncNanos;
+
     /** */
     private long cpStart = System.currentTimeMillis();
 
@@ -66,10 +87,10 @@ public class CheckpointMetricsTracker {
     private long cpLockRelease;
 
     /** */
-    private long cpPagesWriteStart;
+    private volatile long cpPagesWriteStart;
 
     /** */
-    private long cpFsyncStart;
+    private volatile long cpFsyncStart;
 
     /** */
     private long cpEnd;
@@ -101,6 +122,27 @@ public class CheckpointMetricsTracker {
         DATA_PAGES_UPDATER.incrementAndGet(this);
     }
 
+    /**
+     * Updates counters if a run of adjacent pages was written to a page store by a single request.
+     *
+     * @param pages Number of pages in the run.
+     */
+    public void onPagesRunWritten(int pages) {
+        WRITE_REQUESTS_UPDATER.incrementAndGet(this);
+        WRITTEN_PAGES_UPDATER.addAndGet(this, pages);
+    }
+
+    /**
+     * Updates counters when a page store was fsynced.
+     *
+     * @param pages Number of checkpoint pages written to the page store.
+     * @param nanos Fsync duration in nanoseconds.
+     */
+    public void onPagesSynced(int pages, long nanos) {
+        syncedPages += pages;
+        syncNanos += nanos;
+    }
+
     /**
      * @return COW pages.
      */
@@ -115,6 +157,47 @@ public class CheckpointMetricsTracker {
         return dataPages;
     }
 
+    /**
+     * @return Number of write requests to page stores.
+     */
+    public int writeRequests() {
+        return writeRequests;
+    }
+
+    /**
+     * @return Average number of adjacent pages written by a single request.
+     */
+    public double averageWriteRunLength() {
+        int reqs = writeRequests;
+
+        return reqs == 0 ? 0 : (double)writtenPages / reqs;
+    }
+
+    /**
+     * Returns the average time the disk spent to write and to fsync a page of the checkpoint. Unlike durations of
+     * the checkpoint phases, the value is available while pages are being written.
+     *
+     * @return Page service time in nanoseconds or {@code 0} if no pages were written yet.
+     */
+    public long pageServiceTimeNanos() {
+        int written = writtenPages;
+
+        if (written == 0)
+            return 0;
+
+        long writeStart = cpPagesWriteStart;
+        long writeEnd = cpFsyncStart;
+
+        if (writeEnd < writeStart)
+            writeEnd = System.currentTimeMillis();
+
+        long writeNanos = U.millisToNanos(Math.max(writeEnd - writeStart, 1)) / written;
+
+        int synced = syncedPages;
+
+        return synced == 0 ? writeNanos : writeNanos + syncNanos / synced;
+    }
+
     /** */
     public void onLockWaitStart() {
         cpLockWaitStart = System.currentTimeMillis();
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Read-write lock with an optimistic read mode which does not write to any memory shared between reader threads.
+ * <p>
+ * The lock keeps a sequence number which is odd while the write lock is held. An optimistic reader announces itself
+ * in a reader slot picked by the thread ID, checks that the sequence number is even and proceeds without the read
+ * lock. Slots are padded to separate cache lines, so readers running on different cores do not contend. A writer
+ * makes the sequence number odd and waits until all announced readers leave, so an optimistic read section excludes
+ * writers the same way the read lock does: it may pin pages and update data guarded by the read lock. If the write
+ * lock is held, {@link #tryOptimisticRead()} fails and the reader has to take the read lock.
+ * <p>
+ * Only {@link #writeLock()} is aware of optimistic readers, {@link #readLock()} is the regular read lock.
+ */
+public class OptimisticReadWriteLock extends ReentrantReadWriteLock {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Number of longs per reader slot: 64 bytes. */
+    private static final int SLOT_STRIDE = 8;
+
+    /** Number of spins of a writer waiting for optimistic readers before it yields. */
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    /** Sequence number, odd while the write lock is held. */
+    private volatile long seq;
+
+    /** Numbers of optimistic readers in slots. */
+    private final AtomicLongArray readers;
+
+    /** Reader slot mask. */
+    private final int slotMask;
+
+    /** Write lock aware of optimistic readers. */
+    private final WriteLock writeLock = new OptimisticWriteLock(this);
+
+    /** */
+    public OptimisticReadWriteLock() {
+        int cpus = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+
+        // U.ceilPow2(1) is 0.
+        int slots = cpus > 1 ? U.ceilPow2(cpus) : 1;
+
+        readers = new AtomicLongArray(slots * SLOT_STRIDE);
+        slotMask = slots - 1;
+    }
+
+    /**
+     * Tries to enter an optimistic read section. If succeeded, the section must be left by
+     * {@link #endOptimisticRead()} in the same thread.
+     *
+     * @return {@code True} if the section is entered, {@code false} if the write lock is held.
+     */
+    public boolean tryOptimisticRead() {
+        int slot = slot();
+
+        readers.incrementAndGet(slot);
+
+        if ((seq & 1) == 0)
+            return true;
+
+        readers.decrementAndGet(slot);
+
+        return false;
+    }
+
+    /**
+     * Leaves the optimistic read section entered by {@link #tryOptimisticRead()}.
+     */
+    public void endOptimisticRead() {
+        readers.decrementAndGet(slot());
+    }
+
+    /**
+     * Should be used for assertions only: a reader of another thread may share the slot.
+     *
+     * @return {@code True} if the current thread may be in an optimistic read section.
+     */
+    public boolean isOptimisticReadHeld() {
+        return readers.get(slot()) > 0;
+    }
+
+    /**
+     * @return Sequence number, odd while the write lock is held. Changes each time the write lock is acquired or
+     * released.
+     */
+    public long sequence() {
+        return seq;
+    }
+
+    /** {@inheritDoc} */
+    @Override public WriteLock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * @return Reader slot of the current thread.
+     */
+    private int slot() {
+        return ((int)Thread.currentThread().getId() & slotMask) * SLOT_STRIDE;
+    }
+
+    /**
+     * Called by the writer after the write lock is acquired.
+     */
+    private void onWriteLocked() {
+        assert (seq & 1) == 0;
+
+        // Only the write lock holder changes the sequence number.
+        seq = seq + 1;
+
+        for (int i = 0; i < readers.length(); i += SLOT_STRIDE) {
+            for (int spins = 0; readers.get(i) != 0; spins++) {
+                if (spins >= SPINS_BEFORE_YIELD)
+                    Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Called by the writer before the write lock is released.
+     */
+    private void onWriteUnlock() {
+        assert (seq & 1) == 1;
+
+        seq = seq + 1;
+    }
+
+    /**
+     * Write lock which waits for optimistic readers.
+     */
+    private static class OptimisticWriteLock extends WriteLock {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** */
+        private final OptimisticReadWriteLock lock;
+
+        /**
+         * @param lock Lock.
+         */
+        private OptimisticWriteLock(OptimisticReadWriteLock lock) {
+            super(lock);
+
+            this.lock = lock;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void lock() {
+            super.lock();
+
+            onLocked();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void lockInterruptibly() throws InterruptedException {
+            super.lockInterruptibly();
+
+            onLocked();
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean tryLock() {
+            if (!super.tryLock())
+                return false;
+
+            onLocked();
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+            if (!super.tryLock(timeout, unit))
+                return false;
+
+            onLocked();
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void unlock() {
+            if (getHoldCount() == 1)
+                lock.onWriteUnlock();
+
+            super.unlock();
+        }
+
+        /**
+         * Waits for optimistic readers if the lock is acquired by the current thread for the first time.
+         */
+        private void onLocked() {
+            if (getHoldCount() == 1)
+                lock.onWriteLocked();
+        }
+    }
+}
@@ -34,7 +34,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
@@ -97,9 +96,14 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_PAGES;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_THREADS;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagemem.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePool.SEGMENT_INDEX_MASK;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadAhead.DFLT_PAGE_READ_AHEAD_PAGES;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadAhead.DFLT_PAGE_READ_AHEAD_THREADS;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
 
 /**
@@ -189,6 +193,12 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** */
     private final ExecutorService asyncRunner;
 
+    /** Executor of page reads ahead, {@code null} if read-ahead is disabled. */
+    @Nullable private final ExecutorService readAheadExecutor;
+
+    /** Page read-ahead, {@code null} if disabled. */
+    @Nullable private final PageReadAhead readAhead;
+
     /** Page manager. */
     private final PageReadWriteManager pmPageMgr;
 
@@ -338,6 +348,43 @@ public class PageMemoryImpl implements PageMemoryEx {
             TimeUnit.SECONDS,
             new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors()),
             new IgniteThreadFactory(ctx.igniteInstanceName(), "page-mem-op"));
+
+        int readAheadPages = getInteger(IGNITE_PAGE_READ_AHEAD_PAGES, DFLT_PAGE_READ_AHEAD_PAGES);
+
+        // Page counts are known for partitions of the page store manager only, not for the defragmentation stores.
+        if (readAheadPages > 0 && pmPageMgr == ctx.pageStore()) {
+            int threads = Math.max(1, getInteger(IGNITE_PAGE_READ_AHEAD_THREADS, DFLT_PAGE_READ_AHEAD_THREADS));
+
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                30L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(readAheadPages * threads),
+                new IgniteThreadFactory(ctx.igniteInstanceName(), "page-read-ahead"));
+
+            executor.allowCoreThreadTimeOut(true);
+
+            readAheadExecutor = executor;
+
+            readAhead = new PageReadAhead(readAheadPages, new PageReadAhead.PageLoader() {
+                /** {@inheritDoc} */
+                @Override public int pages(int grpId, int partId) throws IgniteCheckedException {
+                    return ctx.pageStore().pages(grpId, partId);
+                }
+
+                /** {@inheritDoc} */
+                @Override public void load(int grpId, long pageId) throws IgniteCheckedException {
+                    long page = acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false, null);
+
+                    releasePage(grpId, pageId, page);
+                }
+            }, executor, log);
+        }
+        else {
+            readAheadExecutor = null;
+            readAhead = null;
+        }
         
         switch (dataRegionCfg.getPageReplacementMode()) {
             case RANDOM_LRU:
@@ -351,6 +398,10 @@ public class PageMemoryImpl implements PageMemoryEx {
             case CLOCK:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case TWO_Q:
+                pageReplacementPolicyFactory = new TwoQueuePageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteException("Unexpected page replacement mode: " + dataRegionCfg.getPageReplacementMode());
@@ -432,6 +483,14 @@ public class PageMemoryImpl implements PageMemoryEx {
             writeThrottle = new PagesWriteThrottle(this, cpProgressProvider, stateChecker, false, log);
         else if (throttlingPlc == ThrottlingPolicy.CHECKPOINT_BUFFER_ONLY)
             writeThrottle = new PagesWriteThrottle(this, null, stateChecker, true, log);
+        else if (throttlingPlc == ThrottlingPolicy.ADAPTIVE) {
+            PagesWriteAdaptiveThrottle throttle = new PagesWriteAdaptiveThrottle(this, cpProgressProvider,
+                stateChecker, log);
+
+            dataRegionMetrics.writeThrottle(throttle);
+
+            writeThrottle = throttle;
+        }
     }
 
     /** {@inheritDoc} */
@@ -445,6 +504,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             U.shutdownNow(getClass(), asyncRunner, log);
 
+            if (readAheadExecutor != null)
+                U.shutdownNow(getClass(), readAheadExecutor, log);
+
             if (segments != null) {
                 for (Segment seg : segments)
                     seg.close();
@@ -710,6 +772,40 @@ public class PageMemoryImpl implements PageMemoryEx {
         return acquirePage(grpId, pageId, statHolder, restore, null);
     }
 
+    /**
+     * Acquires the page if it is loaded to the memory. Must be called under the segment read lock or in an
+     * optimistic read section of the segment.
+     *
+     * @param seg Segment.
+     * @param grpId Group id.
+     * @param pageId Page id.
+     * @param partId Partition id.
+     * @param statHolder Stat holder.
+     * @return Absolute pointer to the acquired page or {@link #INVALID_REL_PTR} if the page is not loaded.
+     */
+    private long acquireLoadedPage(Segment seg, int grpId, long pageId, int partId, IoStatisticsHolder statHolder) {
+        long relPtr = seg.loadedPages.get(
+            grpId,
+            PageIdUtils.effectivePageId(pageId),
+            seg.partGeneration(grpId, partId),
+            INVALID_REL_PTR,
+            INVALID_REL_PTR
+        );
+
+        if (relPtr == INVALID_REL_PTR)
+            return INVALID_REL_PTR;
+
+        long absPtr = seg.absolute(relPtr);
+
+        seg.acquirePage(absPtr);
+
+        seg.pageReplacementPolicy.onHit(relPtr);
+
+        statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
+
+        return absPtr;
+    }
+
     /**
      * @param grpId Group id.
      * @param pageId Page id.
@@ -725,32 +821,33 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         Segment seg = segment(grpId, pageId);
 
-        seg.readLock().lock();
-
-        try {
-            long relPtr = seg.loadedPages.get(
-                grpId,
-                PageIdUtils.effectivePageId(pageId),
-                seg.partGeneration(grpId, partId),
-                INVALID_REL_PTR,
-                INVALID_REL_PTR
-            );
-
-            // The page is loaded to the memory.
-            if (relPtr != INVALID_REL_PTR) {
-                long absPtr = seg.absolute(relPtr);
-
-                seg.acquirePage(absPtr);
-
-                seg.pageReplacementPolicy.onHit(relPtr);
+        long loadedAbsPtr;
 
-                statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
+        // Cache hits do not take the segment lock unless the segment is being modified.
+        if (seg.tryOptimisticRead()) {
+            try {
+                loadedAbsPtr = acquireLoadedPage(seg, grpId, pageId, partId, statHolder);
+            }
+            finally {
+                seg.endOptimisticRead();
+            }
+        }
+        else {
+            seg.readLock().lock();
 
-                return absPtr;
+            try {
+                loadedAbsPtr = acquireLoadedPage(seg, grpId, pageId, partId, statHolder);
+            }
+            finally {
+                seg.readLock().unlock();
             }
         }
-        finally {
-            seg.readLock().unlock();
+
+        if (loadedAbsPtr != INVALID_REL_PTR) {
+            if (readAhead != null)
+                readAhead.onAccess(grpId, pageId, false);
+
+            return loadedAbsPtr;
         }
 
         FullPageId fullId = new FullPageId(pageId, grpId);
@@ -931,6 +1028,9 @@ public class PageMemoryImpl implements PageMemoryEx {
                     rwLock.writeUnlock(lockedPageAbsPtr + PAGE_LOCK_OFFSET,
                         actualPageId == 0 ? OffheapReadWriteLock.TAG_LOCK_ALWAYS : PageIdUtils.tag(actualPageId));
                 }
+
+                if (readAhead != null)
+                    readAhead.onAccess(grpId, pageId, true);
             }
         }
     }
@@ -1333,19 +1433,19 @@ public class PageMemoryImpl implements PageMemoryEx {
         finally {
             rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
 
+            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
+            // Must release the page only after write unlock and after the page copy is written.
             if (canWrite) {
                 buf.rewind();
 
-                pageStoreWriter.writePage(fullId, buf, tag);
+                pageStoreWriter.writePage(fullId, buf, tag, () -> PageHeader.releasePage(absPtr));
 
                 dataRegionMetrics.onPageWritten();
 
                 buf.rewind();
             }
-
-            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
-            // Must release the page only after write unlock.
-            PageHeader.releasePage(absPtr);
+            else
+                PageHeader.releasePage(absPtr);
         }
     }
 
@@ -1951,7 +2051,7 @@ public class PageMemoryImpl implements PageMemoryEx {
     /**
      *
      */
-    class Segment extends ReentrantReadWriteLock {
+    class Segment extends OptimisticReadWriteLock {
         /** */
         private static final long serialVersionUID = 0L;
 
@@ -2380,7 +2480,7 @@ public class PageMemoryImpl implements PageMemoryEx {
          * @return Partition generation. Growing, 1-based partition version. Changed
          */
         public int partGeneration(int grpId, int partId) {
-            assert getReadHoldCount() > 0 || getWriteHoldCount() > 0;
+            assert getReadHoldCount() > 0 || getWriteHoldCount() > 0 || isOptimisticReadHeld();
 
             Integer tag = partGenerationMap.get(new GroupPartitionId(grpId, partId));
 
@@ -2607,6 +2707,8 @@ public class PageMemoryImpl implements PageMemoryEx {
         /** Target ratio based: CP progress is used as border. */
         TARGET_RATIO_BASED,
         /** Speed based. CP writting speed and estimated ideal speed are used as border */
-        SPEED_BASED
+        SPEED_BASED,
+        /** Adaptive. Feedback controller paces writers by memory pressure and disk latency. */
+        ADAPTIVE
     }
 }
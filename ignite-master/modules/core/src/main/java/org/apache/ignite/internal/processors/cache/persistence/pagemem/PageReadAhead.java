@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Reads pages of a partition ahead of a thread accessing them sequentially.
+ * <p>
+ * Each thread has a single read-ahead stream: the partition and the index of the last page accessed in forward
+ * direction. When the thread misses {@link #SEQ_THRESHOLD} pages of a partition with increasing indexes, each within
+ * the window from the previous one, the next {@code window} pages are loaded to the page memory asynchronously. When
+ * the thread passes the middle of the loaded window, the next half of the window is requested, so the reads stay ahead
+ * of the thread. A miss outside of the window restarts the stream, accesses of loaded pages outside of the window are
+ * ignored. Since a cursor is iterated by one thread at a time, a stream follows pages of B+Tree leaves and data pages
+ * of a scan, a partition iterator, rebalancing supply or warm-up.
+ * <p>
+ * Pages are loaded by a pool of threads and admitted by the page replacement policy as pages of a scan, see
+ * {@link PageReplacementScanHint}. Requests are dropped if the pool is overloaded.
+ *
+ * @see IgniteSystemProperties#IGNITE_PAGE_READ_AHEAD_PAGES
+ */
+public class PageReadAhead {
+    /** @see IgniteSystemProperties#IGNITE_PAGE_READ_AHEAD_PAGES */
+    public static final int DFLT_PAGE_READ_AHEAD_PAGES = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_PAGE_READ_AHEAD_THREADS */
+    public static final int DFLT_PAGE_READ_AHEAD_THREADS = 4;
+
+    /** Count of sequential page misses which starts reading ahead. */
+    static final int SEQ_THRESHOLD = 3;
+
+    /** Read-ahead streams of threads. */
+    private final ThreadLocal<Stream> streams = ThreadLocal.withInitial(Stream::new);
+
+    /** Count of pages read ahead. */
+    private final int window;
+
+    /** Page loader. */
+    private final PageLoader loader;
+
+    /** Executor of page loads. */
+    private final Executor executor;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Count of requested pages. */
+    private final LongAdder requested = new LongAdder();
+
+    /** Count of dropped requests. */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param window Count of pages read ahead.
+     * @param loader Page loader.
+     * @param executor Executor of page loads.
+     * @param log Logger.
+     */
+    public PageReadAhead(int window, PageLoader loader, Executor executor, IgniteLogger log) {
+        assert window > 0 : window;
+
+        this.window = window;
+        this.loader = loader;
+        this.executor = executor;
+        this.log = log;
+    }
+
+    /**
+     * Handles an access to a page by the current thread.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param miss {@code True} if the page has been read from the page store.
+     */
+    public void onAccess(int grpId, long pageId, boolean miss) {
+        Stream s = streams.get();
+
+        if (s.loader)
+            return;
+
+        int partId = PageIdUtils.partId(pageId);
+        int idx = PageIdUtils.pageIndex(pageId);
+
+        if (s.grpId != grpId || s.partId != partId || idx <= s.lastIdx || idx > Math.max(s.lastIdx, s.windowEnd) +
+            window) {
+            if (miss)
+                s.reset(grpId, partId, idx);
+
+            return;
+        }
+
+        s.lastIdx = idx;
+
+        if (s.windowEnd == Stream.NO_WINDOW ? (miss && ++s.seq >= SEQ_THRESHOLD) : idx >= s.triggerIdx)
+            readAhead(s, grpId, PageIdUtils.flag(pageId), idx);
+    }
+
+    /**
+     * @param s Stream.
+     * @param grpId Cache group ID.
+     * @param flag Page ID flag.
+     * @param idx Index of the accessed page.
+     */
+    private void readAhead(Stream s, int grpId, byte flag, int idx) {
+        int pages;
+
+        try {
+            pages = loader.pages(grpId, s.partId);
+        }
+        catch (IgniteCheckedException e) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to get pages count [grpId=" + grpId + ", partId=" + s.partId + ", err=" + e + ']');
+
+            s.reset(grpId, s.partId, idx);
+
+            return;
+        }
+
+        int from = Math.max(idx, s.windowEnd) + 1;
+        int to = (int)Math.min((long)idx + window, pages - 1L);
+
+        s.windowEnd = Math.max(s.windowEnd, to);
+        s.triggerIdx = idx + Math.max(1, window / 2);
+
+        for (int i = from; i <= to; i++) {
+            long pageId = PageIdUtils.pageId(s.partId, flag, i);
+
+            try {
+                executor.execute(() -> load(grpId, pageId));
+
+                requested.increment();
+            }
+            catch (RejectedExecutionException ignored) {
+                dropped.add(to - i + 1);
+
+                // Let the next access request the rest of the window.
+                s.windowEnd = i - 1;
+
+                break;
+            }
+        }
+    }
+
+    /**
+     * Loads the page to the page memory.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    private void load(int grpId, long pageId) {
+        // Page loads of the loader threads must not start new streams.
+        streams.get().loader = true;
+
+        PageReplacementScanHint.begin();
+
+        try {
+            loader.load(grpId, pageId);
+        }
+        catch (Exception e) {
+            if (log.isDebugEnabled())
+                log.debug("Failed to read page ahead [grpId=" + grpId + ", pageId=" + U.hexLong(pageId) +
+                    ", err=" + e + ']');
+        }
+        finally {
+            PageReplacementScanHint.end();
+        }
+    }
+
+    /**
+     * @return Count of requested pages.
+     */
+    public long requestedPages() {
+        return requested.sum();
+    }
+
+    /**
+     * @return Count of pages which were not requested because the executor was overloaded.
+     */
+    public long droppedPages() {
+        return dropped.sum();
+    }
+
+    /**
+     * Loads pages to the page memory.
+     */
+    public interface PageLoader {
+        /**
+         * @param grpId Cache group ID.
+         * @param partId Partition ID.
+         * @return Count of pages allocated in the partition.
+         * @throws IgniteCheckedException If failed.
+         */
+        public int pages(int grpId, int partId) throws IgniteCheckedException;
+
+        /**
+         * Loads the page to the page memory if it is not loaded yet.
+         *
+         * @param grpId Cache group ID.
+         * @param pageId Page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void load(int grpId, long pageId) throws IgniteCheckedException;
+    }
+
+    /**
+     * Read-ahead stream of a thread.
+     */
+    private static class Stream {
+        /** No pages are requested by the stream. */
+        static final int NO_WINDOW = -1;
+
+        /** {@code True} if the thread loads pages for other threads. */
+        boolean loader;
+
+        /** Cache group ID. */
+        int grpId;
+
+        /** Partition ID, {@code -1} if the stream is not started. */
+        int partId = -1;
+
+        /** Index of the last accessed page. */
+        int lastIdx;
+
+        /** Count of sequential page misses. */
+        int seq;
+
+        /** Index of the last requested page or {@link #NO_WINDOW}. */
+        int windowEnd = NO_WINDOW;
+
+        /** Access to the page with this index requests the next pages. */
+        int triggerIdx;
+
+        /**
+         * Starts a new stream.
+         *
+         * @param grpId Cache group ID.
+         * @param partId Partition ID.
+         * @param idx Index of the missed page.
+         */
+        void reset(int grpId, int partId, int idx) {
+            this.grpId = grpId;
+            this.partId = partId;
+
+            lastIdx = idx;
+            seq = 1;
+            windowEnd = NO_WINDOW;
+        }
+    }
+}
@@ -45,6 +45,35 @@ public interface PageReadWriteManager {
      */
     public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes pages with adjacent indexes of the same partition for the given cache ID.
+     *
+     * @param grpId Cache group ID.
+     * @param pageIds Page IDs in the ascending order of page indexes, without gaps.
+     * @param pageBufs Page buffers to write.
+     * @param tag Partition file version.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @return Page store the pages were written to.
+     * @throws IgniteCheckedException If failed to write pages.
+     * @see PageStore#write(long[], ByteBuffer[], int, boolean)
+     */
+    public default PageStore write(
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        assert pageIds.length > 0 && pageIds.length == pageBufs.length;
+
+        PageStore store = null;
+
+        for (int i = 0; i < pageIds.length; i++)
+            store = write(grpId, pageIds[i], pageBufs[i], tag, calculateCrc);
+
+        return store;
+    }
+
     /**
      * Allocates a page for the given page space.
      *
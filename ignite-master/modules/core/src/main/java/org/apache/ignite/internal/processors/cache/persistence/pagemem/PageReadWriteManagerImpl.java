@@ -126,6 +126,34 @@ public class PageReadWriteManagerImpl implements PageReadWriteManager {
         return store;
     }
 
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        CacheGroupContext grpCtx = ctx.cache().cacheGroup(grpId);
+
+        // Compressed pages have different sizes and are written one by one.
+        if (grpCtx != null && grpCtx.compressionHandler().compressionEnabled())
+            return PageReadWriteManager.super.write(grpId, pageIds, pageBufs, tag, calculateCrc);
+
+        PageStore store = pageStores.getStore(grpId, PageIdUtils.partId(pageIds[0]));
+
+        try {
+            store.write(pageIds, pageBufs, tag, calculateCrc);
+        }
+        catch (StorageException e) {
+            ctx.failure().process(new FailureContext(FailureType.CRITICAL_ERROR, e));
+
+            throw e;
+        }
+
+        return store;
+    }
+
     /** {@inheritDoc} */
     @Override public long allocatePage(int grpId, int partId, byte flags) throws IgniteCheckedException {
         assert partId <= MAX_PARTITION_ID || partId == INDEX_PARTITION;
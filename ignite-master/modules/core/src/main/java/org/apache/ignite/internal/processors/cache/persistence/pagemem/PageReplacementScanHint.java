@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+
+/**
+ * Marks page accesses of the current thread as a part of a full scan (SQL table scan, scan query, cache dump).
+ * Page replacement policies may admit pages loaded by a scan to a probation area only, so a large scan does not
+ * evict the working set of point lookups.
+ * <p>
+ * Sections are nestable and must be closed in the same thread:
+ * <pre>
+ * PageReplacementScanHint.begin();
+ *
+ * try {
+ *     // Iterate over the rows.
+ * }
+ * finally {
+ *     PageReplacementScanHint.end();
+ * }
+ * </pre>
+ * Code which can run user callbacks (filters, transformers) should not be included to the section.
+ *
+ * @see PageReplacementMode#TWO_Q
+ */
+public final class PageReplacementScanHint {
+    /** Nesting depth of scan sections of the current thread. */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    /** */
+    private PageReplacementScanHint() {
+        // No-op.
+    }
+
+    /**
+     * Enters a scan section.
+     */
+    public static void begin() {
+        DEPTH.get()[0]++;
+    }
+
+    /**
+     * Leaves the scan section entered by {@link #begin()}.
+     */
+    public static void end() {
+        int[] depth = DEPTH.get();
+
+        assert depth[0] > 0;
+
+        depth[0]--;
+    }
+
+    /**
+     * @return {@code True} if the current thread is in a scan section.
+     */
+    public static boolean active() {
+        return DEPTH.get()[0] > 0;
+    }
+}
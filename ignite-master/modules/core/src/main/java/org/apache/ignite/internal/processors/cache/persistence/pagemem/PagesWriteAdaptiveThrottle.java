@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.processors.cache.persistence.CheckpointLockStateChecker;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointProgress;
+import org.apache.ignite.internal.util.GridConcurrentHashSet;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteOutClosure;
+
+/**
+ * Throttles threads that generate dirty pages during ongoing checkpoint using a feedback (PID) controller.
+ * <p>
+ * The controlled value is the memory pressure: the largest of the dirty pages ratio and the Checkpoint Buffer fill
+ * relative to their limits. The controller output scales the rate at which the disk drains the checkpoint (derived
+ * from the page write and fsync latencies observed by {@link CheckpointMetricsTracker}) into the target rate of
+ * marking pages dirty. Writers are paced evenly to the target rate instead of being stopped once a threshold is
+ * reached, so the latency of page modifications changes smoothly with the disk latency.
+ * <p>
+ * When the page in question is included in the current checkpoint and Checkpoint Buffer is filled over
+ * {@link #CP_BUF_FILL_THRESHOLD}, exponentially growing sleep time is used to throttle as a last resort.
+ */
+public class PagesWriteAdaptiveThrottle implements PagesWriteThrottlePolicy {
+    /** Period of the controller state update. */
+    static final long CONTROL_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    /** Pressure the controller keeps the page memory at. */
+    static final double TARGET_PRESSURE = 0.7;
+
+    /** Maximum fraction of dirty pages in a region, after which writers wait for the checkpoint anyway. */
+    private static final double MAX_DIRTY_PAGES = 0.75;
+
+    /** Proportional gain. */
+    private static final double KP = 2.0;
+
+    /** Integral gain, 1/second. */
+    private static final double KI = 1.0;
+
+    /** Derivative gain, seconds. */
+    private static final double KD = 0.2;
+
+    /** Maximum absolute value of the error integral, keeps the controller from winding up. */
+    private static final double MAX_INTEGRAL = 0.5;
+
+    /** Minimum fraction of the checkpoint drain rate writers are allowed to mark pages dirty at. */
+    private static final double MIN_RATE_FRACTION = 0.05;
+
+    /** Warning min delay nanoseconds. */
+    private static final long WARN_MIN_DELAY_NS = TimeUnit.SECONDS.toNanos(10);
+
+    /** Page memory. */
+    private final PageMemoryImpl pageMemory;
+
+    /** Checkpoint progress provider. */
+    private final IgniteOutClosure<CheckpointProgress> cpProgress;
+
+    /** Checkpoint lock state provider. */
+    private final CheckpointLockStateChecker cpLockStateChecker;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Threads set. Contains threads which are currently parked because of throttling. */
+    private final GridConcurrentHashSet<Thread> parkedThreads = new GridConcurrentHashSet<>();
+
+    /** Identifiers of threads which were marking pages dirty during the current checkpoint. */
+    private final Set<Long> threadIds = new GridConcurrentHashSet<>();
+
+    /**
+     * Used for calculating speed of marking pages dirty.
+     * {@link IntervalBasedMeasurement#getSpeedOpsPerSec(long)} returns pages marked/second.
+     */
+    private final IntervalBasedMeasurement markSpeedAndAvgParkTime = new IntervalBasedMeasurement(250, 3);
+
+    /** Checkpoint buffer protection logic. */
+    private final ExponentialBackoffThrottlingStrategy cpBufferProtector = new ExponentialBackoffThrottlingStrategy();
+
+    /** Checkpoint Buffer-related logic used to keep it safe. */
+    private final CheckpointBufferOverflowWatchdog cpBufferWatchdog;
+
+    /** Time of the last controller update, nanos. */
+    private final AtomicLong lastUpdateTime = new AtomicLong();
+
+    /** Previous warning time, nanos. */
+    private final AtomicLong prevWarnTime = new AtomicLong();
+
+    /** Page service time of the last checkpoint that has written pages, nanos. */
+    private volatile long lastPageServiceTime;
+
+    /** Mutex guarding the controller state updated by writers and reset by the checkpointer. */
+    private final Object ctrlMux = new Object();
+
+    /** Error of the previous controller update. Guarded by {@link #ctrlMux}. */
+    private double prevErr;
+
+    /** Error integral. Guarded by {@link #ctrlMux}. */
+    private double integral;
+
+    /** Current pressure. */
+    private volatile double pressure;
+
+    /** Target rate of marking pages dirty, pages/second. {@code 0} if writers are not paced. */
+    private volatile long targetRate;
+
+    /** Current park time, nanos. */
+    private volatile long parkTime;
+
+    /**
+     * @param pageMemory Page memory.
+     * @param cpProgress Checkpoint progress provider.
+     * @param stateChecker Checkpoint lock state provider.
+     * @param log Logger.
+     */
+    public PagesWriteAdaptiveThrottle(
+        PageMemoryImpl pageMemory,
+        IgniteOutClosure<CheckpointProgress> cpProgress,
+        CheckpointLockStateChecker stateChecker,
+        IgniteLogger log
+    ) {
+        this.pageMemory = pageMemory;
+        this.cpProgress = cpProgress;
+        cpLockStateChecker = stateChecker;
+        this.log = log;
+
+        cpBufferWatchdog = new CheckpointBufferOverflowWatchdog(pageMemory);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMarkDirty(boolean isPageInCheckpoint) {
+        assert cpLockStateChecker.checkpointLockIsHeldByThread();
+
+        long curNanoTime = System.nanoTime();
+
+        long throttleParkTimeNs;
+
+        if (isPageInCheckpoint && isCpBufferOverflowThresholdExceeded())
+            throttleParkTimeNs = cpBufferProtector.protectionParkTime();
+        else {
+            if (isPageInCheckpoint)
+                cpBufferProtector.resetBackoff();
+
+            CheckpointProgress progress = cpProgress.apply();
+
+            if (progress == null || progress.writtenPagesCounter() == null) {
+                reset();
+
+                return;
+            }
+
+            threadIds.add(Thread.currentThread().getId());
+
+            long lastUpdate = lastUpdateTime.get();
+
+            boolean updateNeeded = lastUpdate == 0 || curNanoTime - lastUpdate >= CONTROL_INTERVAL_NS;
+
+            if (updateNeeded && lastUpdateTime.compareAndSet(lastUpdate, curNanoTime))
+                updateController(progress, lastUpdate == 0 ? 0 : curNanoTime - lastUpdate, curNanoTime);
+
+            throttleParkTimeNs = parkTime;
+        }
+
+        if (throttleParkTimeNs > 0) {
+            recurrentLogIfNeeded(throttleParkTimeNs);
+
+            doPark(throttleParkTimeNs);
+        }
+
+        pageMemory.metrics().addThrottlingTime(U.nanosToMillis(System.nanoTime() - curNanoTime));
+        markSpeedAndAvgParkTime.addMeasurementForAverageCalculation(throttleParkTimeNs);
+    }
+
+    /**
+     * Updates the controller state. Invoked by the writer which has set {@link #lastUpdateTime} to the current time.
+     *
+     * @param progress Checkpoint progress.
+     * @param dtNanos Time passed since the previous update or {@code 0} if this is the first update.
+     * @param curNanoTime Current time.
+     */
+    private void updateController(CheckpointProgress progress, long dtNanos, long curNanoTime) {
+        synchronized (ctrlMux) {
+            // The controller has been reset after the update time was set, the next update starts over.
+            if (lastUpdateTime.get() != curNanoTime)
+                return;
+
+            double pressure = pressure(pageMemory.getDirtyPagesRatio(), pageMemory.checkpointBufferPagesCount(),
+                pageMemory.checkpointBufferPagesSize());
+
+            this.pressure = pressure;
+
+            long drainRate = drainRate(progress.metricsTracker());
+
+            if (drainRate <= 0) {
+                // Nothing is known about the disk yet, the checkpoint buffer protection is the only throttling.
+                publish(0, 0);
+
+                return;
+            }
+
+            double rateFraction = rateFraction(pressure, dtNanos);
+
+            long targetRate = Math.max(1, (long)(drainRate * rateFraction));
+
+            long markSpeed = markSpeedAndAvgParkTime.getSpeedOpsPerSec(curNanoTime);
+
+            publish(targetRate, parkTime(targetRate, markSpeed, threadIds.size()));
+        }
+    }
+
+    /**
+     * Computes memory pressure: the largest of the dirty pages ratio and the Checkpoint Buffer fill relative to their
+     * limits. The page memory is at the limit when the pressure is {@code 1}.
+     *
+     * @param dirtyPagesRatio Dirty pages ratio.
+     * @param cpBufUsed Number of used Checkpoint Buffer pages.
+     * @param cpBufSize Checkpoint Buffer size in pages.
+     * @return Pressure.
+     */
+    static double pressure(double dirtyPagesRatio, int cpBufUsed, int cpBufSize) {
+        double cpBufFill = cpBufSize == 0 ? 0 : (double)cpBufUsed / cpBufSize / CP_BUF_FILL_THRESHOLD;
+
+        return Math.max(dirtyPagesRatio / MAX_DIRTY_PAGES, cpBufFill);
+    }
+
+    /**
+     * Estimates the rate at which the disk drains the checkpoint from the page service time of the current
+     * checkpoint, or of the previous one if no pages were written yet.
+     *
+     * @param tracker Metrics tracker of the current checkpoint.
+     * @return Drain rate, pages/second, or {@code 0} if unknown.
+     */
+    private long drainRate(CheckpointMetricsTracker tracker) {
+        long serviceTime = tracker == null ? 0 : tracker.pageServiceTimeNanos();
+
+        if (serviceTime > 0)
+            lastPageServiceTime = serviceTime;
+        else
+            serviceTime = lastPageServiceTime;
+
+        return serviceTime == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / serviceTime;
+    }
+
+    /**
+     * Makes a controller step. Must be invoked under {@link #ctrlMux} unless the throttle is used by a single thread.
+     *
+     * @param pressure Current pressure.
+     * @param dtNanos Time passed since the previous step or {@code 0} if this is the first step.
+     * @return Fraction of the drain rate writers are allowed to mark pages dirty at.
+     */
+    double rateFraction(double pressure, long dtNanos) {
+        double err = pressure - TARGET_PRESSURE;
+
+        double derivative = 0;
+
+        if (dtNanos > 0) {
+            double dt = (double)dtNanos / TimeUnit.SECONDS.toNanos(1);
+
+            integral = Math.max(-MAX_INTEGRAL, Math.min(MAX_INTEGRAL, integral + err * dt));
+
+            derivative = (err - prevErr) / dt;
+        }
+
+        prevErr = err;
+
+        double out = KP * err + KI * integral + KD * derivative;
+
+        return Math.max(MIN_RATE_FRACTION, 1 - out);
+    }
+
+    /**
+     * Computes park time needed to slow down marking pages dirty to the target rate.
+     *
+     * @param targetRate Target rate of marking pages dirty, pages/second.
+     * @param markSpeed Measured rate of marking pages dirty, pages/second.
+     * @param nThreads Number of threads marking pages dirty.
+     * @return Park time, nanos, or {@code 0} if no throttling is needed.
+     */
+    static long parkTime(long targetRate, long markSpeed, int nThreads) {
+        if (targetRate <= 0 || markSpeed <= targetRate)
+            return 0;
+
+        return TimeUnit.SECONDS.toNanos(1) * Math.max(1, nThreads) / targetRate;
+    }
+
+    /**
+     * @param targetRate Target rate.
+     * @param parkTime Park time.
+     */
+    private void publish(long targetRate, long parkTime) {
+        this.targetRate = targetRate;
+        this.parkTime = parkTime;
+    }
+
+    /** Resets the controller state when no checkpoint is writing pages. */
+    private void reset() {
+        if (lastUpdateTime.get() == 0)
+            return;
+
+        synchronized (ctrlMux) {
+            publish(0, 0);
+
+            lastUpdateTime.set(0);
+            integral = 0;
+            prevErr = 0;
+        }
+    }
+
+    /**
+     * Disables the current thread for thread scheduling purposes. May be overriden by subclasses for tests.
+     *
+     * @param throttleParkTimeNs The maximum number of nanoseconds to wait.
+     */
+    protected void doPark(long throttleParkTimeNs) {
+        if (throttleParkTimeNs > LOGGING_THRESHOLD) {
+            U.warn(log, "Parking thread=" + Thread.currentThread().getName()
+                + " for timeout(ms)=" + (throttleParkTimeNs / 1_000_000));
+        }
+
+        parkedThreads.add(Thread.currentThread());
+
+        try {
+            LockSupport.parkNanos(throttleParkTimeNs);
+        }
+        finally {
+            parkedThreads.remove(Thread.currentThread());
+        }
+    }
+
+    /**
+     * Prints warning to log if throttling is applied.
+     *
+     * @param throttleParkTimeNs Park time.
+     */
+    private void recurrentLogIfNeeded(long throttleParkTimeNs) {
+        long prevWarningNs = prevWarnTime.get();
+        long curNs = System.nanoTime();
+
+        if (prevWarningNs != 0 && (curNs - prevWarningNs) <= WARN_MIN_DELAY_NS)
+            return;
+
+        if (prevWarnTime.compareAndSet(prevWarningNs, curNs) && log.isInfoEnabled()) {
+            log.info(String.format("Throttling is applied to page modifications [pressure=%.2f, " +
+                    "markDirty=%d pages/sec, targetRate=%d pages/sec, parkTime=%d ns, pageServiceTime=%d ns, " +
+                    "cpBufUsed=%d, cpBufTotal=%d]",
+                pressure, markSpeedAndAvgParkTime.getSpeedOpsPerSec(curNs), targetRate, throttleParkTimeNs,
+                lastPageServiceTime, pageMemory.checkpointBufferPagesCount(), pageMemory.checkpointBufferPagesSize()));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onBeginCheckpoint() {
+        threadIds.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onFinishCheckpoint() {
+        cpBufferProtector.resetBackoff();
+
+        reset();
+
+        markSpeedAndAvgParkTime.finishInterval();
+        unparkParkedThreads();
+    }
+
+    /***/
+    private void unparkParkedThreads() {
+        parkedThreads.forEach(LockSupport::unpark);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void wakeupThrottledThreads() {
+        if (!isCpBufferOverflowThresholdExceeded()) {
+            cpBufferProtector.resetBackoff();
+
+            unparkParkedThreads();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isCpBufferOverflowThresholdExceeded() {
+        return cpBufferWatchdog.isInDangerZone();
+    }
+
+    /**
+     * @return Target rate of marking pages dirty computed by the controller, pages/second. {@code 0} if writers are
+     * not paced.
+     */
+    public long targetRate() {
+        return targetRate;
+    }
+
+    /**
+     * @return Park time applied to threads marking pages dirty, nanos.
+     */
+    public long currentParkTime() {
+        return parkTime;
+    }
+
+    /**
+     * @return Memory pressure observed by the controller.
+     */
+    public double pressure() {
+        return pressure;
+    }
+}
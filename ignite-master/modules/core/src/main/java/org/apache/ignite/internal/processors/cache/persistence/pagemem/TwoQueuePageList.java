@@ -0,0 +1,622 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Pages 2Q list implementation.
+ * <p>
+ * Loaded pages reside in one of two queues: the probation FIFO queue (A1in) and the protected LRU queue (Am). Pages
+ * evicted from the queues are remembered by the ghost lists A1out and Amout, which keep hashes of page IDs only. Page
+ * loaded for the first time is admitted to the probation queue, page found in a ghost list is admitted to the
+ * protected queue. The target size of the probation queue adapts to the workload the same way as in ARC: a hit in
+ * A1out grows the target, a hit in Amout shrinks it.
+ * <p>
+ * Pages loaded by a scan are admitted to the probation queue, do not affect the target size and are not remembered by
+ * A1out, so a scan can only replace pages of the probation queue and the pages of the protected queue exceeding the
+ * target.
+ *
+ * @see PageReplacementMode#TWO_Q
+ */
+public class TwoQueuePageList {
+    /** Initial ratio of the probation queue target size to total pages count. */
+    static final double PROBATION_TARGET_RATIO = 0.25;
+
+    /** Min ratio of the probation queue target size to total pages count. */
+    static final double MIN_PROBATION_TARGET_RATIO = 1d / 16;
+
+    /** Max ratio of the probation queue target size to total pages count. */
+    static final double MAX_PROBATION_TARGET_RATIO = 0.5;
+
+    /** Ratio of the pages count remembered by a ghost list to total pages count. */
+    private static final double GHOST_TO_TOTAL_PAGES_RATIO = 0.5;
+
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** Probation queue. */
+    private final Queue a1 = new Queue();
+
+    /** Protected queue. */
+    private final Queue am = new Queue();
+
+    /** Ghost list of pages evicted from the probation queue. */
+    private final Ghost a1out;
+
+    /** Ghost list of pages evicted from the protected queue. */
+    private final Ghost amout;
+
+    /** Target size of the probation queue. */
+    private int a1Target;
+
+    /** Min target size of the probation queue. */
+    private final int minA1Target;
+
+    /** Max target size of the probation queue. */
+    private final int maxA1Target;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store protected flags. */
+    private final long protectedFlagsPtr;
+
+    /** Pointer to memory region to store scan flags. */
+    private final long scanFlagsPtr;
+
+    /**
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public TwoQueuePageList(int totalPagesCnt, long memPtr) {
+        linksPtr = memPtr;
+        protectedFlagsPtr = linksPtr + (((long)totalPagesCnt) << 3);
+        scanFlagsPtr = protectedFlagsPtr + flagsMemory(totalPagesCnt);
+
+        GridUnsafe.setMemory(linksPtr, ((long)totalPagesCnt) << 3, (byte)0xFF);
+        GridUnsafe.zeroMemory(protectedFlagsPtr, flagsMemory(totalPagesCnt) * 2);
+
+        int ghostCap = ghostCapacity(totalPagesCnt);
+
+        long ghostPtr = scanFlagsPtr + flagsMemory(totalPagesCnt);
+
+        a1out = new Ghost(ghostPtr, ghostCap);
+        amout = new Ghost(ghostPtr + Ghost.requiredMemory(ghostCap), ghostCap);
+
+        minA1Target = Math.max(1, (int)(totalPagesCnt * MIN_PROBATION_TARGET_RATIO));
+        maxA1Target = Math.max(minA1Target, (int)(totalPagesCnt * MAX_PROBATION_TARGET_RATIO));
+        a1Target = Math.max(minA1Target, (int)(totalPagesCnt * PROBATION_TARGET_RATIO));
+    }
+
+    /**
+     * Adds a loaded page to the list.
+     *
+     * @param pageIdx Page index.
+     * @param hash Hash of the page ID.
+     * @param scan {@code True} if the page is loaded by a scan.
+     */
+    public synchronized void add(int pageIdx, int hash, boolean scan) {
+        if (scan) {
+            scanPage(pageIdx, true);
+
+            addToTail(a1, pageIdx);
+        }
+        else if (amout.contains(hash)) {
+            // The protected queue is too short to keep the page until the next access. Amout is checked first: a page
+            // replaced from the protected queue may still be remembered by A1out since it was promoted.
+            a1Target = Math.max(minA1Target, a1Target - Math.max(1, a1out.size() / Math.max(1, amout.size())));
+
+            addToProtected(pageIdx);
+        }
+        else if (a1out.contains(hash)) {
+            // The probation queue is too short to keep the page until the next access.
+            a1Target = Math.min(maxA1Target, a1Target + Math.max(1, amout.size() / Math.max(1, a1out.size())));
+
+            addToProtected(pageIdx);
+        }
+        else
+            addToTail(a1, pageIdx);
+    }
+
+    /**
+     * Handles an access to a loaded page.
+     *
+     * @param pageIdx Page index.
+     * @param scan {@code True} if the page is accessed by a scan.
+     */
+    public synchronized void hit(int pageIdx, boolean scan) {
+        if (scan)
+            return;
+
+        if (protectedPage(pageIdx)) {
+            if (am.tail != pageIdx) {
+                remove0(am, pageIdx);
+
+                addToTail(am, pageIdx);
+            }
+        }
+        else {
+            // Accesses of a page in the probation queue are correlated, the page is promoted to the protected queue
+            // only by a reload after eviction. A page touched outside of a scan is remembered by A1out on eviction.
+            scanPage(pageIdx, false);
+        }
+    }
+
+    /**
+     * Gets the page to replace. The page is not removed from the list, the caller must either evict it by
+     * {@link #evict(int, int)} or return it to its queue by {@link #requeue(int)}.
+     *
+     * @param skipProbation Take the page from the protected queue if it is not empty, used if no page of the
+     *      probation queue can be replaced.
+     * @return Page index or {@code -1} if list is empty.
+     */
+    public synchronized int victim(boolean skipProbation) {
+        if (am.head == NULL_IDX || (a1.cnt > a1Target && !skipProbation))
+            return a1.head;
+
+        return am.head;
+    }
+
+    /**
+     * Removes the replaced page from the list and remembers it in a ghost list.
+     *
+     * @param pageIdx Page index.
+     * @param hash Hash of the page ID.
+     */
+    public synchronized void evict(int pageIdx, int hash) {
+        if (protectedPage(pageIdx))
+            amout.add(hash);
+        else if (!scanPage(pageIdx))
+            a1out.add(hash);
+
+        remove(pageIdx);
+    }
+
+    /**
+     * Moves a page which can't be replaced to the tail of its queue.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void requeue(int pageIdx) {
+        Queue q = queue(pageIdx);
+
+        remove0(q, pageIdx);
+
+        addToTail(q, pageIdx);
+    }
+
+    /**
+     * Removes page from the list without remembering it.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        remove0(queue(pageIdx), pageIdx);
+
+        protectedPage(pageIdx, false);
+        scanPage(pageIdx, false);
+    }
+
+    /**
+     * @param pageIdx Page index.
+     */
+    private void addToProtected(int pageIdx) {
+        protectedPage(pageIdx, true);
+
+        addToTail(am, pageIdx);
+    }
+
+    /**
+     * @param pageIdx Page index.
+     * @return Queue of the page.
+     */
+    private Queue queue(int pageIdx) {
+        return protectedPage(pageIdx) ? am : a1;
+    }
+
+    /**
+     * Add page to the tail of the queue.
+     *
+     * @param q Queue.
+     * @param pageIdx Page index.
+     */
+    private void addToTail(Queue q, int pageIdx) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        if (q.tail == NULL_IDX) {
+            assert q.head == NULL_IDX : q.head;
+
+            q.head = pageIdx;
+        }
+        else
+            link(q.tail, pageIdx);
+
+        q.tail = pageIdx;
+        q.cnt++;
+    }
+
+    /**
+     * Remove page from the queue.
+     *
+     * @param q Queue.
+     * @param pageIdx Page index.
+     */
+    private void remove0(Queue q, int pageIdx) {
+        assert pageIdx != NULL_IDX;
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            assert q.head == pageIdx : "Unexpected 2Q page index [headIdx=" + q.head + ", pageIdx=" + pageIdx + ']';
+
+            q.head = nextIdx;
+        }
+        else
+            next(prevIdx, nextIdx);
+
+        if (nextIdx == NULL_IDX) {
+            assert q.tail == pageIdx : "Unexpected 2Q page index [tailIdx=" + q.tail + ", pageIdx=" + pageIdx + ']';
+
+            q.tail = prevIdx;
+        }
+        else
+            prev(nextIdx, prevIdx);
+
+        clearLinks(pageIdx);
+
+        q.cnt--;
+    }
+
+    /**
+     * Link two pages.
+     *
+     * @param prevIdx Previous page index.
+     * @param nextIdx Next page index.
+     */
+    private void link(int prevIdx, int nextIdx) {
+        prev(nextIdx, prevIdx);
+        next(prevIdx, nextIdx);
+    }
+
+    /**
+     * Clear page links.
+     *
+     * @param pageIdx Page index.
+     */
+    private void clearLinks(int pageIdx) {
+        GridUnsafe.putLong(linksPtr + (((long)pageIdx) << 3), -1L);
+    }
+
+    /**
+     * Gets link to the previous page in the queue.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3));
+    }
+
+    /**
+     * Gets link to the next page in the queue.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3) + 4);
+    }
+
+    /**
+     * Sets link to the previous page in the queue.
+     *
+     * @param pageIdx Page index.
+     * @param prevIdx Previous page index.
+     */
+    private void prev(int pageIdx, int prevIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Sets link to the next page in the queue.
+     *
+     * @param pageIdx Page index.
+     * @param nextIdx Next page index.
+     */
+    private void next(int pageIdx, int nextIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Gets protected page flag.
+     *
+     * @param pageIdx Page index.
+     */
+    boolean protectedPage(int pageIdx) {
+        return flag(protectedFlagsPtr, pageIdx);
+    }
+
+    /**
+     * Sets protected page flag.
+     *
+     * @param pageIdx Page index.
+     * @param protectedPage Protected page flag.
+     */
+    private void protectedPage(int pageIdx, boolean protectedPage) {
+        flag(protectedFlagsPtr, pageIdx, protectedPage);
+    }
+
+    /**
+     * Gets scan page flag.
+     *
+     * @param pageIdx Page index.
+     */
+    boolean scanPage(int pageIdx) {
+        return flag(scanFlagsPtr, pageIdx);
+    }
+
+    /**
+     * Sets scan page flag.
+     *
+     * @param pageIdx Page index.
+     * @param scanPage Scan page flag.
+     */
+    private void scanPage(int pageIdx, boolean scanPage) {
+        flag(scanFlagsPtr, pageIdx, scanPage);
+    }
+
+    /**
+     * @param flagsPtr Pointer to flags.
+     * @param idx Flag index.
+     * @return Flag value.
+     */
+    private static boolean flag(long flagsPtr, int idx) {
+        long flags = GridUnsafe.getLong(flagsPtr + ((idx >> 3) & (~7)));
+
+        return (flags & (1L << idx)) != 0L;
+    }
+
+    /**
+     * @param flagsPtr Pointer to flags.
+     * @param idx Flag index.
+     * @param val Flag value.
+     */
+    private static void flag(long flagsPtr, int idx, boolean val) {
+        long ptr = flagsPtr + ((idx >> 3) & (~7));
+
+        if (val)
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) | (1L << idx));
+        else
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) & ~(1L << idx));
+    }
+
+    /**
+     * Gets the index of the head page of the probation queue.
+     */
+    synchronized int probationHeadIdx() {
+        return a1.head;
+    }
+
+    /**
+     * Gets the index of the head page of the protected queue.
+     */
+    synchronized int protectedHeadIdx() {
+        return am.head;
+    }
+
+    /**
+     * Gets the index of the tail page of the protected queue.
+     */
+    synchronized int protectedTailIdx() {
+        return am.tail;
+    }
+
+    /**
+     * Gets probation pages count.
+     */
+    synchronized int probationPagesCount() {
+        return a1.cnt;
+    }
+
+    /**
+     * Gets protected pages count.
+     */
+    synchronized int protectedPagesCount() {
+        return am.cnt;
+    }
+
+    /**
+     * Gets target size of the probation queue.
+     */
+    synchronized int probationTarget() {
+        return a1Target;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return pagesCnt * 8L /* links = 2 ints per page */ +
+            flagsMemory(pagesCnt) * 2 /* protected and scan flags */ +
+            Ghost.requiredMemory(ghostCapacity(pagesCnt)) * 2 /* ghost lists */;
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Memory required for a bitmap of flags: 1 bit per page + 8 byte align.
+     */
+    private static long flagsMemory(int pagesCnt) {
+        return ((pagesCnt + 63L) / 8) & (~7L);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Count of pages remembered by a ghost list.
+     */
+    private static int ghostCapacity(int pagesCnt) {
+        return Math.max(1, (int)(pagesCnt * GHOST_TO_TOTAL_PAGES_RATIO));
+    }
+
+    /**
+     * Doubly linked queue of pages.
+     */
+    private static class Queue {
+        /** Index of the head page. */
+        int head = NULL_IDX;
+
+        /** Index of the tail page. */
+        int tail = NULL_IDX;
+
+        /** Count of pages. */
+        int cnt;
+    }
+
+    /**
+     * Ghost list approximated by two Bloom filters: hashes are added to the current filter, when it is full the
+     * previous filter is cleared and becomes the current one. So the list remembers from a half to all of the
+     * {@code capacity} recently added pages, with no memory per page and a false positive rate of a few percents.
+     */
+    private static class Ghost {
+        /** Bits per remembered page. */
+        private static final int BITS_PER_PAGE = 8;
+
+        /** Pointer to the filters. */
+        private final long ptr;
+
+        /** Size of a filter in bytes. */
+        private final long filterSize;
+
+        /** Filter bit index mask. */
+        private final int mask;
+
+        /** Count of pages added to a filter before it is rotated. */
+        private final int filterCap;
+
+        /** Index of the current filter. */
+        private int cur;
+
+        /** Count of pages added to the current filter. */
+        private int curCnt;
+
+        /** Count of pages added to the previous filter. */
+        private int prevCnt;
+
+        /**
+         * @param ptr Pointer to memory region.
+         * @param cap Count of pages to remember.
+         */
+        Ghost(long ptr, int cap) {
+            this.ptr = ptr;
+
+            filterSize = filterSize(cap);
+            mask = (int)(filterSize * 8 - 1);
+            filterCap = Math.max(1, cap / 2);
+
+            GridUnsafe.zeroMemory(ptr, filterSize * 2);
+        }
+
+        /**
+         * @param hash Hash of the page ID.
+         */
+        void add(int hash) {
+            if (curCnt >= filterCap) {
+                cur ^= 1;
+
+                GridUnsafe.zeroMemory(filter(cur), filterSize);
+
+                prevCnt = curCnt;
+                curCnt = 0;
+            }
+
+            long h = hash * 0x9E3779B97F4A7C15L;
+
+            set(filter(cur), (int)h & mask);
+            set(filter(cur), (int)(h >>> 32) & mask);
+
+            curCnt++;
+        }
+
+        /**
+         * @param hash Hash of the page ID.
+         * @return {@code True} if the page may be in the list.
+         */
+        boolean contains(int hash) {
+            long h = hash * 0x9E3779B97F4A7C15L;
+
+            int bit1 = (int)h & mask;
+            int bit2 = (int)(h >>> 32) & mask;
+
+            return (get(filter(0), bit1) && get(filter(0), bit2)) || (get(filter(1), bit1) && get(filter(1), bit2));
+        }
+
+        /**
+         * @return Approximate count of pages in the list.
+         */
+        int size() {
+            return curCnt + prevCnt;
+        }
+
+        /**
+         * @param idx Filter index.
+         * @return Pointer to the filter.
+         */
+        private long filter(int idx) {
+            return ptr + filterSize * idx;
+        }
+
+        /**
+         * @param filterPtr Pointer to the filter.
+         * @param bit Bit index.
+         */
+        private static void set(long filterPtr, int bit) {
+            long ptr = filterPtr + ((bit >>> 3) & (~7));
+
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) | (1L << bit));
+        }
+
+        /**
+         * @param filterPtr Pointer to the filter.
+         * @param bit Bit index.
+         * @return Bit value.
+         */
+        private static boolean get(long filterPtr, int bit) {
+            return (GridUnsafe.getLong(filterPtr + ((bit >>> 3) & (~7))) & (1L << bit)) != 0L;
+        }
+
+        /**
+         * @param cap Count of pages to remember.
+         * @return Size of a filter in bytes, power of two not less than 8.
+         */
+        private static long filterSize(int cap) {
+            return Math.max(8, U.ceilPow2(Math.max(1, cap / 2)) * (long)BITS_PER_PAGE / 8);
+        }
+
+        /**
+         * @param cap Count of pages to remember.
+         * @return Memory required for the ghost list.
+         */
+        static long requiredMemory(int cap) {
+            return filterSize(cap) * 2;
+        }
+    }
+}
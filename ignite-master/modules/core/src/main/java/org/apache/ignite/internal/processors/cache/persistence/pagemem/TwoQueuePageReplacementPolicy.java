@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.INVALID_REL_PTR;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.OUTDATED_REL_PTR;
+
+/**
+ * 2Q page replacement policy implementation.
+ *
+ * @see PageReplacementMode#TWO_Q
+ * @see PageReplacementScanHint
+ */
+public class TwoQueuePageReplacementPolicy extends PageReplacementPolicy {
+    /** 2Q list. */
+    private final TwoQueuePageList list;
+
+    /**
+     * @param seg Page memory segment.
+     * @param ptr Pointer to memory region.
+     * @param pagesCnt Pages count.
+     */
+    protected TwoQueuePageReplacementPolicy(PageMemoryImpl.Segment seg, long ptr, int pagesCnt) {
+        super(seg);
+
+        list = new TwoQueuePageList(pagesCnt, ptr);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onHit(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        list.hit(pageIdx, PageReplacementScanHint.active());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMiss(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        FullPageId fullId = PageHeader.fullPageId(seg.absolute(relPtr));
+
+        list.add(pageIdx, fullId.hashCode(), PageReplacementScanHint.active());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRemove(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        list.remove(pageIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long replace() throws IgniteCheckedException {
+        LoadedPagesMap loadedPages = seg.loadedPages();
+
+        // Count of probation pages which can't be replaced.
+        int skipped = 0;
+
+        for (int i = 0; i < loadedPages.size(); i++) {
+            int pageIdx = list.victim(skipped >= list.probationPagesCount());
+
+            long relPtr = seg.relative(pageIdx);
+            long absPtr = seg.absolute(relPtr);
+
+            FullPageId fullId = PageHeader.fullPageId(absPtr);
+
+            // Check loaded pages map for outdated page.
+            relPtr = loadedPages.get(
+                fullId.groupId(),
+                fullId.effectivePageId(),
+                seg.partGeneration(fullId.groupId(), PageIdUtils.partId(fullId.pageId())),
+                INVALID_REL_PTR,
+                OUTDATED_REL_PTR
+            );
+
+            assert relPtr != INVALID_REL_PTR;
+
+            if (relPtr == OUTDATED_REL_PTR) {
+                list.remove(pageIdx);
+
+                return seg.refreshOutdatedPage(fullId.groupId(), fullId.pageId(), true);
+            }
+
+            if (seg.tryToRemovePage(fullId, absPtr)) {
+                list.evict(pageIdx, fullId.hashCode());
+
+                return relPtr;
+            }
+
+            if (!list.protectedPage(pageIdx))
+                skipped++;
+
+            list.requeue(pageIdx);
+        }
+
+        throw seg.oomException("no pages to replace");
+    }
+}
@@ -54,6 +54,7 @@ import org.apache.ignite.internal.processors.cache.StoredCacheData;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReplacementScanHint;
 import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.AbstractCreateSnapshotFutureTask;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager;
@@ -236,6 +237,9 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
             long writtenEntriesCnt0 = 0;
 
             try (PartitionDumpContext dumpCtx = dumpContext(grp, part)) {
+                // Pages of the partition are loaded as a part of a scan, the dump should not evict the hot pages.
+                PageReplacementScanHint.begin();
+
                 try (GridCloseableIterator<CacheDataRow> rows = gctx.offheap().reservedIterator(part, dumpCtx.topVer)) {
                     if (rows == null)
                         throw new IgniteCheckedException("Partition missing [part=" + part + ']');
@@ -253,6 +257,9 @@ public class CreateDumpFutureTask extends AbstractCreateSnapshotFutureTask imple
                         entriesCnt0++;
                     }
                 }
+                finally {
+                    PageReplacementScanHint.end();
+                }
 
                 entriesCnt.addAndGet(entriesCnt0);
                 writtenEntriesCnt.addAndGet(writtenEntriesCnt0);
@@ -70,10 +70,12 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.util.GridArrays;
 import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.lang.GridTreePrinter;
 import org.apache.ignite.internal.util.lang.GridTuple3;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.SB;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -2541,6 +2543,30 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Creates a loader filling the empty tree bottom-up with the rows sorted in the tree order. Pages of each level are
+     * filled one after another and are never split, each page is written once with a single page snapshot WAL record.
+     * The tree must not be accessed by other threads until the loader is closed.
+     *
+     * @param cnt Exact count of rows to load.
+     * @param fillFactor Fraction of a page capacity to fill, from {@code 0} exclusive to {@code 1} inclusive.
+     * @return Loader.
+     * @throws IgniteCheckedException If the tree is not empty or failed.
+     */
+    public final BulkLoad bulkLoad(long cnt, float fillFactor) throws IgniteCheckedException {
+        A.ensure(cnt >= 0, "cnt >= 0");
+        A.ensure(fillFactor > 0 && fillFactor <= 1, "fillFactor > 0 && fillFactor <= 1");
+
+        checkDestroyed();
+
+        TreeMetaData treeMeta = treeMeta();
+
+        if (treeMeta.rootLvl != 0 || !isEmpty())
+            throw new IgniteCheckedException("Failed to bulk load the tree, the tree is not empty: " + name());
+
+        return new BulkLoad(cnt, fillFactor, treeMeta.rootId);
+    }
+
     /**
      * Returns number of elements in the tree by scanning pages of the bottom (leaf) level.
      * Since a concurrent access is permitted, there is no guarantee about
@@ -6317,6 +6343,259 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Loader of an empty tree, see {@link #bulkLoad(long, float)}.
+     * <p>
+     * The count of pages on each level is known in advance, so the rows are distributed between the pages of a level
+     * evenly and all the levels are filled simultaneously: when a page is full, it is written and passed to its parent
+     * along with its last row, which becomes the separator in the parent page. Pages are built in off-heap buffers and
+     * copied to the page memory at once.
+     * <p>
+     * Rows must be added under the checkpoint read lock. If the loader is closed without {@link #finish()}, the tree
+     * is inconsistent and must be destroyed.
+     */
+    public final class BulkLoad implements AutoCloseable {
+        /** Levels from the leaf one to the root one. */
+        private final List<Level> levels = new ArrayList<>();
+
+        /** */
+        private final long cnt;
+
+        /** */
+        private long added;
+
+        /** */
+        private boolean closed;
+
+        /**
+         * @param cnt Count of rows.
+         * @param fillFactor Fill factor.
+         * @param rootId ID of the empty root leaf page.
+         */
+        private BulkLoad(long cnt, float fillFactor, long rootId) {
+            this.cnt = cnt;
+
+            try {
+                BPlusIO<L> io = latestLeafIO();
+                long items = cnt;
+
+                while (items > 0) {
+                    Level lvl = new Level(io, items, fillFactor);
+
+                    levels.add(lvl);
+
+                    if (lvl.pages == 1)
+                        break;
+
+                    io = latestInnerIO();
+                    items = lvl.pages;
+                }
+            }
+            catch (Throwable e) {
+                close();
+
+                throw e;
+            }
+
+            if (!levels.isEmpty())
+                levels.get(0).pageId = rootId;
+        }
+
+        /**
+         * @param row Row, must be greater than the previous one in the tree order.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void add(T row) throws IgniteCheckedException {
+            assert !closed;
+            assert added < cnt : "Too many rows [expected=" + cnt + ']';
+
+            Level leaf = levels.get(0);
+
+            if (leaf.itemsCnt == 0)
+                leaf.startPage();
+
+            assert leaf.itemsCnt == 0 || compare(0, leaf.io, leaf.buf, leaf.itemsCnt - 1, row) < 0 :
+                "Rows are not sorted or not unique";
+
+            leaf.io.store(leaf.buf, leaf.itemsCnt++, row, null, false);
+            leaf.lastRow = row;
+
+            added++;
+
+            if (leaf.itemsCnt == leaf.pageItems())
+                finishPage(0);
+        }
+
+        /**
+         * Adds the levels built to the tree meta. Must be called once all the rows are added.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        public void finish() throws IgniteCheckedException {
+            if (added != cnt)
+                throw new IgniteCheckedException("Unexpected count of rows [expected=" + cnt + ", actual=" + added + ']');
+
+            for (int lvl = 1; lvl < levels.size(); lvl++) {
+                assert levels.get(lvl).pageIdx == levels.get(lvl).pages;
+
+                Bool res = write(metaPageId, addRoot, levels.get(lvl).firstPageId, lvl, FALSE, statisticsHolder());
+
+                assert res == TRUE : res;
+            }
+
+            close();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            if (closed)
+                return;
+
+            closed = true;
+
+            for (Level lvl : levels)
+                GridUnsafe.freeMemory(lvl.buf);
+        }
+
+        /**
+         * Writes the current page of the level and passes it to the parent one.
+         *
+         * @param lvl Level.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void finishPage(int lvl) throws IgniteCheckedException {
+            Level l = levels.get(lvl);
+
+            long fwdId = l.pageIdx == l.pages - 1 ? 0L : allocatePage(null);
+
+            l.io.setCount(l.buf, lvl == 0 ? l.itemsCnt : l.itemsCnt - 1);
+            l.io.setForward(l.buf, fwdId);
+
+            long page = acquirePage(l.pageId);
+
+            try {
+                long pageAddr = writeLock(l.pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    GridUnsafe.copyMemory(l.buf, pageAddr, pageSize());
+                }
+                finally {
+                    // Log the whole page at once.
+                    writeUnlock(l.pageId, page, pageAddr, Boolean.TRUE, true);
+                }
+            }
+            finally {
+                releasePage(l.pageId, page);
+            }
+
+            if (lvl + 1 < levels.size())
+                addChild(lvl + 1, l.pageId, l.lastRow);
+
+            l.pageIdx++;
+            l.pageId = fwdId;
+            l.itemsCnt = 0;
+            l.lastRow = null;
+        }
+
+        /**
+         * @param lvl Inner level.
+         * @param childId Child page ID.
+         * @param childLastRow Last row of the child page.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void addChild(int lvl, long childId, L childLastRow) throws IgniteCheckedException {
+            Level l = levels.get(lvl);
+
+            if (l.itemsCnt == 0) {
+                if (l.pageId == 0L)
+                    l.pageId = allocatePage(null);
+
+                l.startPage();
+            }
+            else // The last row of the left child separates it from the right one.
+                l.io.store(l.buf, l.itemsCnt - 1, l.lastRow, null, false);
+
+            ((BPlusInnerIO<L>)l.io).setLeft(l.buf, l.itemsCnt++, childId);
+            l.lastRow = childLastRow;
+
+            if (l.itemsCnt == l.pageItems())
+                finishPage(lvl);
+        }
+    }
+
+    /**
+     * Level of a tree being bulk loaded.
+     */
+    private final class Level {
+        /** */
+        private final BPlusIO<L> io;
+
+        /** Count of items on the level, rows for the leaf level or child pages for an inner one. */
+        private final long items;
+
+        /** Count of pages on the level. */
+        private final long pages;
+
+        /** Buffer to build a page in. */
+        private final long buf;
+
+        /** Index of the current page. */
+        private long pageIdx;
+
+        /** Current page ID. */
+        private long pageId;
+
+        /** */
+        private long firstPageId;
+
+        /** Count of items added to the current page. */
+        private int itemsCnt;
+
+        /** Last row of the current page or of the last child of the current page. */
+        private L lastRow;
+
+        /**
+         * @param io IO.
+         * @param items Count of items on the level.
+         * @param fillFactor Fill factor.
+         */
+        private Level(BPlusIO<L> io, long items, float fillFactor) {
+            this.io = io;
+            this.items = items;
+
+            buf = GridUnsafe.allocateMemory(pageSize());
+
+            assert io.isLeaf() || io.getMaxCount(buf, pageSize()) > 1 : "Inner page must fit at least two rows";
+
+            int maxCnt = (int)(io.getMaxCount(buf, pageSize()) * fillFactor);
+
+            // Items of an inner page are the links to its children, there is one more link than the rows.
+            int perPage = io.isLeaf() ? Math.max(1, maxCnt) : Math.max(2, maxCnt + 1);
+
+            long pages0 = (items + perPage - 1) / perPage;
+
+            // An inner page must have at least two children.
+            pages = io.isLeaf() ? pages0 : Math.max(1, Math.min(pages0, items / 2));
+        }
+
+        /** @return Count of items to put to the current page. */
+        private int pageItems() {
+            return (int)(items / pages + (pageIdx < items % pages ? 1 : 0));
+        }
+
+        /** Starts the current page. */
+        private void startPage() {
+            assert pageId != 0L;
+
+            if (pageIdx == 0)
+                firstPageId = pageId;
+
+            io.initNewPage(buf, pageId, pageSize(), pageIdx == 0 && io.isLeaf() ? null : metrics);
+        }
+    }
+
     /**
      *
      */
@@ -359,12 +359,21 @@ public abstract class AbstractWalRecordsIterator
             if (isCompacted)
                 serializerFactory.skipPositionCheck(true);
 
-            FileInput in = segmentFileInputFactory.createFileInput(fileIO, buf);
+            FileInput in = segmentFileInputFactory(desc).createFileInput(fileIO, buf);
 
             if (start != null && desc.idx() == start.index()) {
                 if (isCompacted) {
-                    if (start.fileOffset() != 0)
+                    if (start.fileOffset() != 0) {
+                        // Skip blocks of compacted segment preceding the block which contains the start record.
+                        if (desc.isCompressed()) {
+                            long blockPos = compactedSegmentBlocks(desc).blockPosition(start.fileOffset());
+
+                            if (blockPos > fileIO.position())
+                                in.seek(blockPos);
+                        }
+
                         serializerFactory.recordDeserializeFilter(new StartSeekingFilter(start));
+                    }
                 }
                 else {
                     // Make sure we skip header with serializer version.
@@ -423,7 +432,7 @@ public abstract class AbstractWalRecordsIterator
             SegmentHeader segmentHeader;
 
             try {
-                segmentHeader = readSegmentHeader(fileIO, segmentFileInputFactory);
+                segmentHeader = readSegmentHeader(fileIO, segmentFileInputFactory(desc));
             }
             catch (SegmentEofException | EOFException ignore) {
                 try {
@@ -456,6 +465,28 @@ public abstract class AbstractWalRecordsIterator
         }
     }
 
+    /**
+     * @param desc Segment file descriptor.
+     * @return Factory to provide I/O interfaces for read primitives with the segment file.
+     */
+    protected SegmentFileInputFactory segmentFileInputFactory(AbstractFileDescriptor desc) {
+        return segmentFileInputFactory;
+    }
+
+    /**
+     * @param desc Descriptor of a compacted segment.
+     * @return Index of the blocks of the compacted segment.
+     * @throws IgniteCheckedException If failed to read the index.
+     */
+    protected CompactedSegmentBlocks compactedSegmentBlocks(AbstractFileDescriptor desc) throws IgniteCheckedException {
+        try {
+            return CompactedSegmentBlocks.read(desc.file());
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to read compacted segment: " + desc.file().getAbsolutePath(), e);
+        }
+    }
+
     /** */
     protected abstract AbstractReadFileHandle createReadFileHandle(
         SegmentIO fileIO,
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Index of the blocks of a compacted WAL segment.
+ * <p>
+ * Segment compacted by blocks is a ZIP file with the {@link #FORMAT_MARKER} comment. Each entry of the file holds a
+ * block of records, the name of the entry holds the offset of the first record of the block in the raw segment. The
+ * first block also holds the segment header and is named as the segment. Segments compacted by older versions are
+ * single entry ZIP files without the comment.
+ */
+public class CompactedSegmentBlocks {
+    /** Comment of the ZIP file of a segment compacted by blocks. */
+    public static final String FORMAT_MARKER = "IGNITE_WAL_COMPACTED_BLOCKS_V1";
+
+    /** Separator of the segment name and the offset of the first record in the names of compacted segment blocks. */
+    private static final char BLOCK_OFFSET_SEPARATOR = '@';
+
+    /** Size of the ZIP file the index was read from. */
+    private final long fileSize;
+
+    /** Offsets of the first records of the blocks in the raw segment, ascending. */
+    private final int[] fileOffs;
+
+    /** Positions of the blocks in the uncompressed data. */
+    private final long[] blockPos;
+
+    /**
+     * @param fileSize Size of the ZIP file the index was read from.
+     * @param fileOffs Offsets of the first records of the blocks in the raw segment.
+     * @param blockPos Positions of the blocks in the uncompressed data.
+     */
+    private CompactedSegmentBlocks(long fileSize, int[] fileOffs, long[] blockPos) {
+        this.fileSize = fileSize;
+        this.fileOffs = fileOffs;
+        this.blockPos = blockPos;
+    }
+
+    /**
+     * @param idx Segment index.
+     * @param fileOff Offset of the first record of the block in the raw segment, {@code 0} for the first block.
+     * @return Name of the ZIP entry that holds a block of a compacted segment.
+     */
+    public static String blockName(long idx, int fileOff) {
+        return fileOff == 0 ? idx + ".wal" : idx + ".wal" + BLOCK_OFFSET_SEPARATOR + fileOff;
+    }
+
+    /**
+     * Reads the index of the blocks from the central directory of the ZIP file.
+     *
+     * @param zip Compacted segment.
+     * @return Index of the blocks.
+     * @throws IOException If failed or the file has several entries but is not marked as compacted by blocks.
+     */
+    public static CompactedSegmentBlocks read(File zip) throws IOException {
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            boolean blocks = FORMAT_MARKER.equals(zipFile.getComment());
+
+            if (!blocks) {
+                if (zipFile.size() > 1) {
+                    throw new IOException("Unknown format of compacted WAL segment, it has " + zipFile.size() +
+                        " entries but no format marker: " + zip.getAbsolutePath());
+                }
+
+                return new CompactedSegmentBlocks(zip.length(), new int[] {0}, new long[] {0});
+            }
+
+            List<ZipEntry> entries = new ArrayList<>(zipFile.size());
+
+            Enumeration<? extends ZipEntry> e = zipFile.entries();
+
+            while (e.hasMoreElements())
+                entries.add(e.nextElement());
+
+            int[] fileOffs = new int[entries.size()];
+            long[] blockPos = new long[entries.size()];
+
+            long pos = 0;
+
+            for (int i = 0; i < entries.size(); i++) {
+                String name = entries.get(i).getName();
+
+                int sepIdx = name.lastIndexOf(BLOCK_OFFSET_SEPARATOR);
+
+                fileOffs[i] = sepIdx < 0 ? 0 : Integer.parseInt(name.substring(sepIdx + 1));
+                blockPos[i] = pos;
+
+                if (i > 0 && fileOffs[i] <= fileOffs[i - 1])
+                    throw new IOException("Blocks of compacted WAL segment are out of order: " + zip.getAbsolutePath());
+
+                pos += entries.get(i).getSize();
+            }
+
+            return new CompactedSegmentBlocks(zip.length(), fileOffs, blockPos);
+        }
+    }
+
+    /**
+     * @return {@code True} if the segment is split into several blocks.
+     */
+    public boolean blocks() {
+        return fileOffs.length > 1;
+    }
+
+    /**
+     * @param zip Compacted segment.
+     * @return {@code True} if the index was read from the given file and the file was not replaced since.
+     */
+    boolean matches(File zip) {
+        return zip.length() == fileSize;
+    }
+
+    /**
+     * Finds the block which contains a record with the given offset.
+     *
+     * @param fileOff Offset of the record in the raw segment.
+     * @return Position of the block in the uncompressed data.
+     */
+    public long blockPosition(int fileOff) {
+        int lo = 0;
+        int hi = fileOffs.length - 1;
+
+        // Last block which starts at or before the offset.
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+
+            if (fileOffs[mid] <= fileOff)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+
+        return blockPos[lo];
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CompactedSegmentBlocks.class, this, "blocks", fileOffs.length);
+    }
+}
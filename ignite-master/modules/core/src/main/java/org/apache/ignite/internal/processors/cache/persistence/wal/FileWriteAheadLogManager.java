@@ -50,6 +50,7 @@ import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.IntPredicate;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -100,6 +101,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.Fi
 import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileWriteHandle;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.FileInput;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.LockedSegmentFileInputFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.MappedSegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SimpleSegmentFileInputFactory;
@@ -142,8 +144,10 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAL_ARCHIVE_SIZE_PERCENTAGE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPACTION_BLOCK_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_READER_MMAP;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
 import static org.apache.ignite.IgniteSystemProperties.getDouble;
 import static org.apache.ignite.configuration.DataStorageConfiguration.HALF_MAX_WAL_ARCHIVE_SIZE;
@@ -216,9 +220,15 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** @see IgniteSystemProperties#IGNITE_WAL_MMAP */
     public static final boolean DFLT_WAL_MMAP = true;
 
+    /** @see IgniteSystemProperties#IGNITE_WAL_READER_MMAP */
+    public static final boolean DFLT_WAL_READER_MMAP = true;
+
     /** @see IgniteSystemProperties#IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT */
     public static final int DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT = 4;
 
+    /** @see IgniteSystemProperties#IGNITE_WAL_COMPACTION_BLOCK_SIZE */
+    public static final int DFLT_WAL_COMPACTION_BLOCK_SIZE = 1024 * 1024;
+
     /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE */
     public static final double DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE = 0.25;
 
@@ -231,6 +241,11 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Use mapped byte buffer. */
     private final boolean mmap = IgniteSystemProperties.getBoolean(IGNITE_WAL_MMAP, DFLT_WAL_MMAP);
 
+    /** Factory to provide I/O interfaces for reading of archived segments through memory mapping. */
+    @Nullable private final SegmentFileInputFactory archiveFileInputFactory =
+        IgniteSystemProperties.getBoolean(IGNITE_WAL_READER_MMAP, DFLT_WAL_READER_MMAP) ?
+            new MappedSegmentFileInputFactory() : null;
+
     /**
      * Number of WAL compressor worker threads.
      */
@@ -238,6 +253,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             IgniteSystemProperties.getInteger(IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT,
                 DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT);
 
+    /** Uncompressed size of a block of a compacted segment. */
+    private final int compactionBlockSize =
+        IgniteSystemProperties.getInteger(IGNITE_WAL_COMPACTION_BLOCK_SIZE, DFLT_WAL_COMPACTION_BLOCK_SIZE);
+
     /**
      * Threshold time to print warning to log if awaiting for next wal segment took too long (exceeded this threshold).
      */
@@ -414,6 +433,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
      */
     private final Map<Long, Long> segmentSize = new ConcurrentHashMap<>();
 
+    /** Block indexes of compacted segments: absolute segment index -> index read from {@link #walArchiveDir}. */
+    private final Map<Long, CompactedSegmentBlocks> compactedBlocks = new ConcurrentHashMap<>();
+
     /** Pointer to the last successful checkpoint until which WAL segments can be safely deleted. */
     private volatile WALPointer lastCheckpointPtr = new WALPointer(0, 0, 0);
 
@@ -1056,6 +1078,15 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     @Override public WALIterator replay(
         WALPointer start,
         @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter
+    ) throws IgniteCheckedException, StorageException {
+        return replay(start, recordDeserializeFilter, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override public WALIterator replay(
+        WALPointer start,
+        @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter,
+        @Nullable IntPredicate cacheIdFilter
     ) throws IgniteCheckedException, StorageException {
         FileWriteHandle hnd = currentHandle();
 
@@ -1071,14 +1102,18 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             start,
             end,
             dsCfg,
-            new RecordSerializerFactoryImpl(cctx).recordDeserializeFilter(recordDeserializeFilter),
+            new RecordSerializerFactoryImpl(cctx)
+                .recordDeserializeFilter(recordDeserializeFilter)
+                .cacheIdFilter(cacheIdFilter),
             ioFactory,
             archiver,
             decompressor,
             log,
             segmentAware,
             segmentRouter,
-            lockedSegmentFileInputFactory
+            lockedSegmentFileInputFactory,
+            archiveFileInputFactory,
+            compactedBlocks
         );
 
         try {
@@ -1176,6 +1211,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 long idx = desc.idx();
 
                 segmentSize.remove(idx);
+                compactedBlocks.remove(idx);
                 segmentAware.addSize(idx, -len);
             }
 
@@ -2525,7 +2561,13 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
             try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)))) {
                 zos.setLevel(dsCfg.getWalCompactionLevel());
-                zos.putNextEntry(new ZipEntry(idx + ".wal"));
+
+                // Older versions read only the first entry, so the segment is split into blocks only if it is marked
+                // as such and they can't confuse it with a segment of their own format.
+                if (compactionBlockSize > 0)
+                    zos.setComment(CompactedSegmentBlocks.FORMAT_MARKER);
+
+                zos.putNextEntry(new ZipEntry(CompactedSegmentBlocks.blockName(idx, 0)));
 
                 ByteBuffer buf = ByteBuffer.allocate(HEADER_RECORD_SIZE);
                 buf.order(ByteOrder.nativeOrder());
@@ -2533,11 +2575,25 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 zos.write(prepareSerializerVersionBuffer(idx, serializerVer, true, buf).array());
 
                 final CIX1<WALRecord> appendToZipC = new CIX1<WALRecord>() {
+                    /** Uncompressed size of the current block. */
+                    private long blockSize = HEADER_RECORD_SIZE;
+
                     @Override public void applyx(WALRecord record) throws IgniteCheckedException {
                         final MarshalledRecord marshRec = (MarshalledRecord)record;
 
                         try {
+                            // Each block starts with a whole record, so reading can be started from any block.
+                            if (compactionBlockSize > 0 && blockSize >= compactionBlockSize) {
+                                zos.closeEntry();
+                                zos.putNextEntry(new ZipEntry(
+                                    CompactedSegmentBlocks.blockName(idx, record.position().fileOffset())));
+
+                                blockSize = 0;
+                            }
+
                             zos.write(marshRec.buffer().array(), 0, marshRec.buffer().remaining());
+
+                            blockSize += marshRec.buffer().remaining();
                         }
                         catch (IOException e) {
                             throw new IgniteCheckedException(e);
@@ -2703,10 +2759,10 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
                         try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
                              FileIO io = ioFactory.create(unzipTmp)) {
-                            zis.getNextEntry();
-
-                            while (io.writeFully(arr, 0, zis.read(arr)) > 0)
-                                updateHeartbeat();
+                            while (zis.getNextEntry() != null) {
+                                while (io.writeFully(arr, 0, zis.read(arr)) > 0)
+                                    updateHeartbeat();
+                            }
                         }
 
                         Files.move(unzipTmp.toPath(), unzip.toPath());
@@ -2966,6 +3022,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         /** */
         private final FileDecompressor decompressor;
 
+        /** Factory to provide I/O interfaces for read primitives with archived segments. */
+        @Nullable private final SegmentFileInputFactory archiveFileInputFactory;
+
         /** */
         private final DataStorageConfiguration dsCfg;
 
@@ -2975,6 +3034,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         /** Manager of segment location. */
         private final SegmentRouter segmentRouter;
 
+        /** See {@link FileWriteAheadLogManager#compactedBlocks}. */
+        private final Map<Long, CompactedSegmentBlocks> compactedBlocks;
+
         /** Holder of actual information of latest manipulation on WAL segments. */
         private final SegmentAware segmentAware;
 
@@ -2992,6 +3054,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
          * @param segmentAware Segment aware.
          * @param segmentRouter Segment router.
          * @param segmentFileInputFactory Factory to provide I/O interfaces for read primitives with files.
+         * @param archiveFileInputFactory Factory to provide I/O interfaces for read primitives with archived segments,
+         *      {@code null} to use {@code segmentFileInputFactory} for all the segments.
+         * @param compactedBlocks Block indexes of compacted segments.
          */
         private RecordsIterator(
             GridCacheSharedContext<?, ?> cctx,
@@ -3007,7 +3072,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             IgniteLogger log,
             SegmentAware segmentAware,
             SegmentRouter segmentRouter,
-            SegmentFileInputFactory segmentFileInputFactory
+            SegmentFileInputFactory segmentFileInputFactory,
+            @Nullable SegmentFileInputFactory archiveFileInputFactory,
+            Map<Long, CompactedSegmentBlocks> compactedBlocks
         ) throws IgniteCheckedException {
             super(
                 log,
@@ -3028,6 +3095,19 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             this.decompressor = decompressor;
             this.segmentRouter = segmentRouter;
             this.segmentAware = segmentAware;
+            this.archiveFileInputFactory = archiveFileInputFactory;
+            this.compactedBlocks = compactedBlocks;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected SegmentFileInputFactory segmentFileInputFactory(AbstractFileDescriptor desc) {
+            // Segments of WAL archive are not modified, so there is no need to protect reading from moving
+            // of the segment and they can be read through memory mapping.
+            if (archiveFileInputFactory != null && archiver != null && !desc.isCompressed() &&
+                walArchiveDir.equals(desc.file().getParentFile()))
+                return archiveFileInputFactory;
+
+            return super.segmentFileInputFactory(desc);
         }
 
         /** {@inheritDoc} */
@@ -3045,7 +3125,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         "[segmentIdx=" + desc.idx() + "]");
                 }
 
-                if (decompressor != null)
+                // Segment compacted by blocks is read directly: only the blocks starting from the required one
+                // are inflated, so there is no need to wait for decompression of the whole segment.
+                if (decompressor != null && !compactedSegmentBlocks(zipFile).blocks())
                     decompressor.decompressFile(desc.idx()).get();
                 else
                     currDesc = zipFile;
@@ -3054,6 +3136,22 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             return (ReadFileHandle)super.initReadHandle(currDesc, start);
         }
 
+        /** {@inheritDoc} */
+        @Override protected CompactedSegmentBlocks compactedSegmentBlocks(
+            AbstractFileDescriptor desc
+        ) throws IgniteCheckedException {
+            CompactedSegmentBlocks blocks = compactedBlocks.get(desc.idx());
+
+            // Compacted segments are not modified, but may be deleted and compacted again after a restart.
+            if (blocks == null || !blocks.matches(desc.file())) {
+                blocks = super.compactedSegmentBlocks(desc);
+
+                compactedBlocks.put(desc.idx(), blocks);
+            }
+
+            return blocks;
+        }
+
         /** {@inheritDoc} */
         @Override protected void onClose() throws IgniteCheckedException {
             super.onClose();
@@ -43,6 +43,7 @@ import org.apache.ignite.internal.util.worker.GridWorker;
 import org.apache.ignite.thread.IgniteThread;
 
 import static java.lang.Long.MAX_VALUE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_GROUP_COMMIT_MAX_BATCH_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SEGMENT_SYNC_TIMEOUT;
 import static org.apache.ignite.configuration.WALMode.LOG_ONLY;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
@@ -57,6 +58,9 @@ public class FileHandleManagerImpl implements FileHandleManager {
     /** Default wal segment sync timeout. */
     public static final long DFLT_WAL_SEGMENT_SYNC_TIMEOUT = 500L;
 
+    /** Default maximum number of not yet synced bytes collected by a WAL group commit. */
+    public static final int DFLT_WAL_GROUP_COMMIT_MAX_BATCH_SIZE = 256 * 1024;
+
     /** WAL writer worker. */
     private final WALWriter walWriter;
 
@@ -93,6 +97,10 @@ public class FileHandleManagerImpl implements FileHandleManager {
     /** Fsync delay. */
     private final long fsyncDelay;
 
+    /** Maximum number of not yet synced bytes collected by a WAL group commit. */
+    private final int groupCommitMaxBatchSize =
+        IgniteSystemProperties.getInteger(IGNITE_WAL_GROUP_COMMIT_MAX_BATCH_SIZE, DFLT_WAL_GROUP_COMMIT_MAX_BATCH_SIZE);
+
     /**
      * @param cctx Context.
      * @param metrics Data storage metrics.
@@ -164,7 +172,7 @@ public class FileHandleManagerImpl implements FileHandleManager {
 
         return new FileWriteHandleImpl(
             cctx, fileIO, rbuf, serializer, metrics, walWriter, position,
-            mode, mmap, true, fsyncDelay, maxWalSegmentSize
+            mode, mmap, true, fsyncDelay, groupCommitMaxBatchSize, maxWalSegmentSize
         );
     }
 
@@ -182,7 +190,7 @@ public class FileHandleManagerImpl implements FileHandleManager {
 
         return new FileWriteHandleImpl(
             cctx, fileIO, rbuf, serializer, metrics, walWriter, 0,
-            mode, mmap, false, fsyncDelay, maxWalSegmentSize
+            mode, mmap, false, fsyncDelay, groupCommitMaxBatchSize, maxWalSegmentSize
         );
     }
 
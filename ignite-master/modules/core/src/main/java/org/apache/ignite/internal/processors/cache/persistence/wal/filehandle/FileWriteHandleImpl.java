@@ -102,9 +102,21 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** */
     private final Lock lock = new ReentrantLock();
 
-    /** Condition for timed wait of several threads, see {@link DataStorageConfiguration#getWalFsyncDelayNanos()}. */
+    /** Condition for timed wait of group commit leader, see {@link DataStorageConfiguration#getWalFsyncDelayNanos}. */
     private final Condition fsync = lock.newCondition();
 
+    /** Condition signalled when the group commit in progress is finished. */
+    private final Condition groupCommitDone = lock.newCondition();
+
+    /** Group commit is in progress. Guarded by {@link #lock}. */
+    private boolean groupCommit;
+
+    /** Number of threads joined the group commit in progress. Guarded by {@link #lock}. */
+    private int groupCommitWaiters;
+
+    /** Number of finished group commits. Guarded by {@link #lock}. */
+    private long groupCommitGen;
+
     /**
      * Next segment available condition. Protection from "spurious wakeup" is provided by predicate {@link
      * #fileIO}=<code>null</code>.
@@ -120,6 +132,9 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** Fsync delay. */
     private final long fsyncDelay;
 
+    /** Maximum number of not yet synced bytes collected by a group commit. */
+    private final int groupCommitMaxBatchSize;
+
     /** Persistence metrics tracker. */
     private final DataStorageMetricsImpl metrics;
 
@@ -152,19 +167,21 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
      * @param mmap Mmap.
      * @param resume Created on resume logging flag.
      * @param fsyncDelay Fsync delay.
+     * @param groupCommitMaxBatchSize Maximum number of not yet synced bytes collected by a group commit.
      * @param maxWalSegmentSize Max WAL segment size.
      * @throws IOException If failed.
      */
     FileWriteHandleImpl(
         GridCacheSharedContext cctx, SegmentIO fileIO, SegmentedRingByteBuffer rbuf, RecordSerializer serializer,
         DataStorageMetricsImpl metrics, FileHandleManagerImpl.WALWriter writer, long pos, WALMode mode, boolean mmap,
-        boolean resume, long fsyncDelay, long maxWalSegmentSize) throws IOException {
+        boolean resume, long fsyncDelay, int groupCommitMaxBatchSize, long maxWalSegmentSize) throws IOException {
         super(fileIO);
         assert serializer != null;
 
         this.mmap = mmap;
         this.mode = mode;
         this.fsyncDelay = fsyncDelay;
+        this.groupCommitMaxBatchSize = groupCommitMaxBatchSize;
         this.metrics = metrics;
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.log = cctx.logger(FileWriteHandleImpl.class);
@@ -362,73 +379,117 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     }
 
     /**
+     * Syncs the segment up to the given pointer using group commit: the first thread requesting fsync becomes
+     * the leader of a group, waits for up to {@link #fsyncDelay} nanoseconds (or until {@link #groupCommitMaxBatchSize}
+     * not yet synced bytes are collected) and then issues a single write and fsync covering all the records added
+     * to the buffer so far. Threads requesting fsync while the group is collected just wait for the leader.
+     *
      * @param ptr Pointer to sync.
      * @throws StorageException If failed.
      */
     @Override public void fsync(WALPointer ptr) throws StorageException, IgniteCheckedException {
+        boolean metricsEnabled = metrics.metricsEnabled();
+
+        long waitStart = metricsEnabled && ptr != null ? System.nanoTime() : 0;
+
         lock.lock();
 
         try {
-            if (ptr != null) {
-                if (!needFsync(ptr))
+            if (ptr != null && !needFsync(ptr))
+                return;
+
+            while (groupCommit) {
+                // Join the group commit in progress, its leader flushes the buffer only after the group is collected.
+                long gen = groupCommitGen;
+
+                groupCommitWaiters++;
+
+                if (stop.get() || buf.tail() - lastFsyncPos >= groupCommitMaxBatchSize)
+                    fsync.signal();
+
+                while (groupCommitGen == gen)
+                    U.await(groupCommitDone);
+
+                if (ptr == null || !needFsync(ptr)) {
+                    if (metricsEnabled && ptr != null)
+                        metrics.onWalGroupCommitWait(System.nanoTime() - waitStart);
+
                     return;
+                }
+            }
 
-                if (fsyncDelay > 0 && !stop.get()) {
+            groupCommit = true;
+
+            try {
+                if (ptr != null && fsyncDelay > 0 && !stop.get()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                    long deadline = System.nanoTime() + fsyncDelay;
+
+                    long remaining;
+
+                    while (!stop.get() && buf.tail() - lastFsyncPos < groupCommitMaxBatchSize &&
+                        (remaining = deadline - System.nanoTime()) > 0)
+                        U.await(fsync, remaining, TimeUnit.NANOSECONDS);
 
                     if (!needFsync(ptr))
                         return;
                 }
-            }
 
-            flushOrWait(ptr);
-
-            if (stop.get())
-                return;
-
-            long lastFsyncPos0 = lastFsyncPos;
-            long written0 = written;
+                // Flush the whole buffer to cover records of all the threads joined the group.
+                flushOrWait(null);
 
-            if (lastFsyncPos0 != written0) {
-                // Fsync position must be behind.
-                assert lastFsyncPos0 < written0 : "lastFsyncPos=" + lastFsyncPos0 + ", written=" + written0;
+                if (stop.get())
+                    return;
 
-                boolean metricsEnabled = metrics.metricsEnabled();
+                long lastFsyncPos0 = lastFsyncPos;
+                long written0 = written;
 
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                if (lastFsyncPos0 != written0) {
+                    // Fsync position must be behind.
+                    assert lastFsyncPos0 < written0 : "lastFsyncPos=" + lastFsyncPos0 + ", written=" + written0;
 
-                if (mmap) {
-                    long pos = ptr == null ? -1 : ptr.fileOffset();
+                    long start = metricsEnabled ? System.nanoTime() : 0;
 
-                    List<SegmentedRingByteBuffer.ReadSegment> segs = buf.poll(pos);
+                    if (mmap) {
+                        List<SegmentedRingByteBuffer.ReadSegment> segs = buf.poll();
 
-                    if (segs != null) {
-                        assert segs.size() == 1;
+                        if (segs != null) {
+                            assert segs.size() == 1;
 
-                        SegmentedRingByteBuffer.ReadSegment seg = segs.get(0);
+                            SegmentedRingByteBuffer.ReadSegment seg = segs.get(0);
 
-                        int off = seg.buffer().position();
-                        int len = seg.buffer().limit() - off;
+                            int off = seg.buffer().position();
+                            int len = seg.buffer().limit() - off;
 
-                        fsync((MappedByteBuffer)buf.buf, off, len);
+                            fsync((MappedByteBuffer)buf.buf, off, len);
 
-                        seg.release();
+                            seg.release();
+                        }
                     }
-                }
-                else
-                    walWriter.force();
+                    else
+                        walWriter.force();
+
+                    lastFsyncPos = written;
 
-                lastFsyncPos = written;
+                    long end = metricsEnabled ? System.nanoTime() : 0;
 
-                if (fsyncDelay > 0)
-                    fsync.signalAll();
+                    if (metricsEnabled) {
+                        metrics.onFsync(end - start);
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
+                        metrics.onWalGroupCommit(groupCommitWaiters + 1);
+                    }
+                }
+            }
+            finally {
+                groupCommit = false;
+                groupCommitWaiters = 0;
+                groupCommitGen++;
 
-                if (metricsEnabled)
-                    metrics.onFsync(end - start);
+                groupCommitDone.signalAll();
             }
+
+            if (metricsEnabled && ptr != null)
+                metrics.onWalGroupCommitWait(System.nanoTime() - waitStart);
         }
         finally {
             lock.unlock();
@@ -52,6 +52,14 @@ public interface FileInput extends ByteBufferBackedDataInput {
      */
     SimpleFileInput.Crc32CheckingFileInput startRead(boolean skipCheck);
 
+    /**
+     * @return {@code True} if {@link #ensure(int)} moves not yet read data to the beginning of the buffer,
+     * {@code false} if the data keeps its position in the buffer.
+     */
+    default boolean compactsOnEnsure() {
+        return true;
+    }
+
     /**
      * Checking of CRC32.
      */
@@ -87,7 +95,7 @@ public interface FileInput extends ByteBufferBackedDataInput {
 
             delegate.ensure(requested);
 
-            lastCalcPosition = 0;
+            lastCalcPosition = delegate.compactsOnEnsure() ? 0 : buffer().position();
         }
 
         /** {@inheritDoc} */
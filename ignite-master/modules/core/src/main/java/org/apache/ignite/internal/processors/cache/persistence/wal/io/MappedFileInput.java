@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * File input backed by a memory mapping of the whole segment, see {@link SegmentIO#mappedBuffer()}.
+ * Records are deserialized directly from the mapping without copying the data to an intermediate buffer, and skipping
+ * of filtered records only moves the buffer position.
+ * <p>
+ * The limit of the buffer is moved forward by chunks of the given size and the position of the underlying
+ * {@link FileIO} follows it, so this input leaves the file I/O in the same state as {@link SimpleFileInput} does.
+ */
+public class MappedFileInput implements FileInput {
+    /** Buffer over the mapping, the limit is the end of the data available for reading. */
+    private final ByteBuffer buf;
+
+    /** Segment I/O. */
+    private final SegmentIO io;
+
+    /** Minimal number of bytes by which the limit of the buffer is moved. */
+    private final int chunkSize;
+
+    /**
+     * @param io Segment I/O.
+     * @param buf Buffer over the mapping of the segment.
+     * @param chunkSize Minimal number of bytes by which the limit of the buffer is moved.
+     * @throws IOException If failed.
+     */
+    public MappedFileInput(SegmentIO io, ByteBuffer buf, int chunkSize) throws IOException {
+        assert chunkSize > 0 : chunkSize;
+
+        this.io = io;
+        this.buf = buf;
+        this.chunkSize = chunkSize;
+
+        int pos = (int)io.position();
+
+        buf.limit(pos);
+        buf.position(pos);
+    }
+
+    /** {@inheritDoc} */
+    @Override public FileIO io() {
+        return io;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void seek(long pos) throws IOException {
+        if (pos > buf.capacity())
+            throw new EOFException();
+
+        io.position(pos);
+
+        buf.limit((int)pos);
+        buf.position((int)pos);
+    }
+
+    /** {@inheritDoc} */
+    @Override public ByteBuffer buffer() {
+        return buf;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void ensure(int requested) throws IOException {
+        if (buf.remaining() >= requested)
+            return;
+
+        long end = (long)buf.position() + requested;
+
+        if (end > buf.capacity()) {
+            throw new EOFException("EOF at position [" + buf.capacity() + "] expected to read [" +
+                requested + "] bytes");
+        }
+
+        int limit = (int)Math.min(buf.capacity(), Math.max(end, (long)buf.position() + chunkSize));
+
+        io.position(limit);
+
+        buf.limit(limit);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long position() {
+        return buf.position();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void readFully(@NotNull byte[] b) throws IOException {
+        ensure(b.length);
+
+        buf.get(b);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void readFully(@NotNull byte[] b, int off, int len) throws IOException {
+        ensure(len);
+
+        buf.get(b, off, len);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int skipBytes(int n) throws IOException {
+        ensure(n);
+
+        buf.position(buf.position() + n);
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean readBoolean() throws IOException {
+        return readByte() == 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte readByte() throws IOException {
+        ensure(1);
+
+        return buf.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override public short readShort() throws IOException {
+        ensure(2);
+
+        return buf.getShort();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override public char readChar() throws IOException {
+        ensure(2);
+
+        return buf.getChar();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int readInt() throws IOException {
+        ensure(4);
+
+        return buf.getInt();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long readLong() throws IOException {
+        ensure(8);
+
+        return buf.getLong();
+    }
+
+    /** {@inheritDoc} */
+    @Override public float readFloat() throws IOException {
+        ensure(4);
+
+        return buf.getFloat();
+    }
+
+    /** {@inheritDoc} */
+    @Override public double readDouble() throws IOException {
+        ensure(8);
+
+        return buf.getDouble();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String readLine() throws IOException {
+        if (buf.position() == buf.capacity())
+            return null;
+
+        StringBuilder sb = new StringBuilder();
+
+        while (buf.position() < buf.capacity()) {
+            int c = readUnsignedByte();
+
+            if (c == '\n')
+                break;
+
+            if (c == '\r') {
+                if (buf.position() < buf.capacity()) {
+                    ensure(1);
+
+                    if (buf.get(buf.position()) == '\n')
+                        buf.position(buf.position() + 1);
+                }
+
+                break;
+            }
+
+            sb.append((char)c);
+        }
+
+        return sb.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Crc32CheckingFileInput startRead(boolean skipCheck) {
+        return new Crc32CheckingFileInput(this, skipCheck);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean compactsOnEnsure() {
+        return false;
+    }
+}
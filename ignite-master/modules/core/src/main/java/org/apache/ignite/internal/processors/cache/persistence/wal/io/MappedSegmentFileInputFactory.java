@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferExpander;
+
+/**
+ * Implementation of {@link SegmentFileInputFactory} which reads segments through a memory mapping, see
+ * {@link MappedFileInput}. Falls back to {@link SimpleFileInput} if the segment can't be mapped, for example if it is
+ * compressed.
+ * <p>
+ * Must be used for segments which are not modified during reading only, such as segments of WAL archive.
+ */
+public class MappedSegmentFileInputFactory implements SegmentFileInputFactory {
+    /** {@inheritDoc} */
+    @Override public FileInput createFileInput(SegmentIO segmentIO, ByteBufferExpander buf) throws IOException {
+        ByteBuffer mapped;
+
+        try {
+            mapped = segmentIO.mappedBuffer();
+        }
+        catch (UnsupportedOperationException | NonWritableChannelException ignore) {
+            return new SimpleFileInput(segmentIO, buf);
+        }
+
+        mapped.order(buf.buffer().order());
+
+        return new MappedFileInput(segmentIO, mapped, buf.buffer().capacity());
+    }
+}
@@ -17,8 +17,12 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.wal.io;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
+import org.apache.ignite.internal.util.GridUnsafe;
 
 /**
  * Implementation of {@link FileIO} specified for WAL segment file.
@@ -27,6 +31,9 @@ public class SegmentIO extends FileIODecorator {
     /** Segment id. */
     private final long segmentId;
 
+    /** Mapping of the segment for reading, created on demand. */
+    private MappedByteBuffer mappedBuf;
+
     /**
      * @param id Segment id.
      * @param delegate File I/O delegate
@@ -42,4 +49,31 @@ public class SegmentIO extends FileIODecorator {
     public long getSegmentId() {
         return segmentId;
     }
+
+    /**
+     * Maps the whole segment for reading. The mapping is shared by all the readers of the segment and is released
+     * on close, so buffers returned by this method must not be used after the segment is closed.
+     *
+     * @return Buffer over the mapping with independent position and limit.
+     * @throws IOException If failed.
+     */
+    public synchronized ByteBuffer mappedBuffer() throws IOException {
+        if (mappedBuf == null)
+            mappedBuf = delegate.map((int)delegate.size());
+
+        return mappedBuf.duplicate();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IOException {
+        synchronized (this) {
+            if (mappedBuf != null) {
+                GridUnsafe.cleanDirectBuffer(mappedBuf);
+
+                mappedBuf = null;
+            }
+        }
+
+        super.close();
+    }
 }
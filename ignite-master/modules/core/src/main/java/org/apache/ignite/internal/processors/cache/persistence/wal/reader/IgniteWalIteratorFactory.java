@@ -191,7 +191,8 @@ public class IgniteWalIteratorFactory {
                 iteratorParametersBuilder.highBound,
                 iteratorParametersBuilder.keepBinary,
                 iteratorParametersBuilder.bufferSize,
-                iteratorParametersBuilder.strictBoundsCheck
+                iteratorParametersBuilder.strictBoundsCheck,
+                iteratorParametersBuilder.mmap
             ) {
                 @Override protected void onClose() throws IgniteCheckedException {
                     super.onClose();
@@ -211,7 +212,8 @@ public class IgniteWalIteratorFactory {
                 iteratorParametersBuilder.highBound,
                 iteratorParametersBuilder.keepBinary,
                 iteratorParametersBuilder.bufferSize,
-                iteratorParametersBuilder.strictBoundsCheck
+                iteratorParametersBuilder.strictBoundsCheck,
+                iteratorParametersBuilder.mmap
             );
         }
     }
@@ -483,6 +485,9 @@ public class IgniteWalIteratorFactory {
         /** Use strict bounds check for WAL segments. */
         private boolean strictBoundsCheck;
 
+        /** Read segments through memory mapping. */
+        private boolean mmap;
+
         /**
          * Factory method for {@link IgniteWalIteratorFactory.IteratorParametersBuilder}.
          *
@@ -658,6 +663,19 @@ public class IgniteWalIteratorFactory {
             return this;
         }
 
+        /**
+         * Enables reading of segments through memory mapping. Must be used only if the segments are not modified
+         * or truncated during reading, for example, for segments of WAL archive.
+         *
+         * @param mmap Read segments through memory mapping.
+         * @return IteratorParametersBuilder Self reference.
+         */
+        public IteratorParametersBuilder mmap(boolean mmap) {
+            this.mmap = mmap;
+
+            return this;
+        }
+
         /**
          * Copy current state of builder to new instance.
          *
@@ -676,7 +694,8 @@ public class IgniteWalIteratorFactory {
                 .from(lowBound)
                 .to(highBound)
                 .filter(filter)
-                .strictBoundsCheck(strictBoundsCheck);
+                .strictBoundsCheck(strictBoundsCheck)
+                .mmap(mmap);
         }
 
         /**
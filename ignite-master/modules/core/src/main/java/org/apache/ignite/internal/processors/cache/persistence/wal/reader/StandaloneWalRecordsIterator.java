@@ -47,6 +47,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WalSegmentTailReachedException;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.FileInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.MappedSegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SimpleSegmentFileInputFactory;
@@ -80,6 +81,9 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
     /** Factory to provide I/O interfaces for read primitives with files. */
     private static final SegmentFileInputFactory FILE_INPUT_FACTORY = new SimpleSegmentFileInputFactory();
 
+    /** Factory to provide I/O interfaces for read primitives with files through memory mapping. */
+    private static final SegmentFileInputFactory MAPPED_FILE_INPUT_FACTORY = new MappedSegmentFileInputFactory();
+
     /**
      * File descriptors remained to scan.
      * <code>null</code> value means directory scan mode
@@ -106,6 +110,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
      * @param keepBinary Keep binary. This flag disables converting of non primitive types (BinaryObjects will be used
      * instead)
      * @param walFiles Wal files.
+     * @param mmap Read segments through memory mapping.
      */
     StandaloneWalRecordsIterator(
         @NotNull IgniteLogger log,
@@ -117,7 +122,8 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         WALPointer highBound,
         boolean keepBinary,
         int initialReadBufferSize,
-        boolean strictBoundsCheck
+        boolean strictBoundsCheck,
+        boolean mmap
     ) throws IgniteCheckedException {
         super(
             log,
@@ -126,7 +132,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
             ioFactory,
             initialReadBufferSize,
             highBound,
-            FILE_INPUT_FACTORY
+            mmap ? MAPPED_FILE_INPUT_FACTORY : FILE_INPUT_FACTORY
         );
 
         if (strictBoundsCheck)
@@ -320,7 +326,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
             try {
                 fileIO = fd.toReadOnlyIO(ioFactory);
 
-                segmentHeader = readSegmentHeader(fileIO, FILE_INPUT_FACTORY);
+                segmentHeader = readSegmentHeader(fileIO, segmentFileInputFactory(fd));
 
                 break;
             }
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.IntPredicate;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
@@ -172,6 +173,9 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
     /** */
     private final boolean encryptionDisabled;
 
+    /** Filter of caches whose data entries are read, entries of other caches are skipped. */
+    @Nullable private IntPredicate cacheIdFilter;
+
     /** */
     private static final byte ENCRYPTED = 1;
 
@@ -200,6 +204,16 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         log = cctx.logger(getClass());
     }
 
+    /**
+     * Sets filter of caches whose data entries are read. Entries of other caches are skipped without deserialization
+     * and are not included into the read {@link DataRecord}s.
+     *
+     * @param cacheIdFilter Cache ID filter or {@code null} to read entries of all caches.
+     */
+    public void cacheIdFilter(@Nullable IntPredicate cacheIdFilter) {
+        this.cacheIdFilter = cacheIdFilter;
+    }
+
     /** {@inheritDoc} */
     @Override public int size(WALRecord record) throws IgniteCheckedException {
         int clSz = plainSize(record);
@@ -675,16 +689,7 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case DATA_RECORD_V2:
                 int entryCnt = in.readInt();
 
-                if (entryCnt == 1)
-                    res = new DataRecord(readPlainDataEntry(in, type), 0L);
-                else {
-                    List<DataEntry> entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readPlainDataEntry(in, type));
-
-                    res = new DataRecord(entries, 0L);
-                }
+                res = new DataRecord(readDataEntries(in, type, entryCnt, false), 0L);
 
                 break;
 
@@ -693,16 +698,7 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case ENCRYPTED_DATA_RECORD_V3:
                 entryCnt = in.readInt();
 
-                if (entryCnt == 1)
-                    res = new DataRecord(readEncryptedDataEntry(in, type), 0L);
-                else {
-                    List<DataEntry> entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readEncryptedDataEntry(in, type));
-
-                    res = new DataRecord(entries, 0L);
-                }
+                res = new DataRecord(readDataEntries(in, type, entryCnt, true), 0L);
 
                 break;
 
@@ -2114,14 +2110,50 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         buf.put(rowBytes);
     }
 
+    /**
+     * Reads entries of a data record skipping entries of the caches rejected by the {@link #cacheIdFilter}.
+     *
+     * @param in Input to read from.
+     * @param type Record type.
+     * @param entryCnt Number of entries.
+     * @param encrypted {@code True} if the entries are written by {@link #putEncryptedDataEntry}.
+     * @return Single entry or list of entries.
+     * @throws IOException If failed.
+     * @throws IgniteCheckedException If failed.
+     */
+    Object readDataEntries(
+        ByteBufferBackedDataInput in,
+        RecordType type,
+        int entryCnt,
+        boolean encrypted
+    ) throws IOException, IgniteCheckedException {
+        if (entryCnt == 1) {
+            DataEntry entry = encrypted ? readEncryptedDataEntry(in, type) : readPlainDataEntry(in, type);
+
+            return entry != null ? entry : Collections.emptyList();
+        }
+
+        List<DataEntry> entries = new ArrayList<>(entryCnt);
+
+        for (int i = 0; i < entryCnt; i++) {
+            DataEntry entry = encrypted ? readEncryptedDataEntry(in, type) : readPlainDataEntry(in, type);
+
+            if (entry != null)
+                entries.add(entry);
+        }
+
+        return entries;
+    }
+
     /**
      * @param in Input to read from.
      * @param recType Record type.
-     * @return Read entry.
+     * @return Read entry or {@code null} if the entry is skipped by the {@link #cacheIdFilter}.
      * @throws IOException If failed.
      * @throws IgniteCheckedException If failed.
      */
-    DataEntry readEncryptedDataEntry(ByteBufferBackedDataInput in, RecordType recType) throws IOException, IgniteCheckedException {
+    @Nullable DataEntry readEncryptedDataEntry(ByteBufferBackedDataInput in, RecordType recType)
+        throws IOException, IgniteCheckedException {
         boolean needDecryption = in.readByte() == ENCRYPTED;
 
         RecordType dataRecordType = recType == ENCRYPTED_DATA_RECORD_V3 ? DATA_RECORD_V2 : DATA_RECORD;
@@ -2141,11 +2173,19 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
     /**
      * @param in Input to read from.
-     * @return Read entry.
+     * @param type Record type.
+     * @return Read entry or {@code null} if the entry is skipped by the {@link #cacheIdFilter}.
      */
-    DataEntry readPlainDataEntry(ByteBufferBackedDataInput in, RecordType type) throws IOException, IgniteCheckedException {
+    @Nullable DataEntry readPlainDataEntry(ByteBufferBackedDataInput in, RecordType type)
+        throws IOException, IgniteCheckedException {
         int cacheId = in.readInt();
 
+        if (cacheIdFilter != null && !cacheIdFilter.test(cacheId)) {
+            skipPlainDataEntry(in, type);
+
+            return null;
+        }
+
         int keySize = in.readInt();
         byte keyType = in.readByte();
         byte[] keyBytes = new byte[keySize];
@@ -2217,6 +2257,33 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             );
     }
 
+    /**
+     * Skips the rest of a data entry after the cache ID using the sizes of the key and the value, so that neither the
+     * key nor the value are copied from the input.
+     *
+     * @param in Input to read from.
+     * @param type Record type.
+     * @throws IOException If failed.
+     */
+    private void skipPlainDataEntry(ByteBufferBackedDataInput in, RecordType type) throws IOException {
+        int keySize = in.readInt();
+
+        in.skipBytes(1 /*key type*/ + keySize);
+
+        int valSize = in.readInt();
+
+        if (valSize >= 0)
+            in.skipBytes(1 /*value type*/ + valSize);
+
+        in.skipBytes(1 /*operation*/);
+
+        skipVersion(in, true);
+        skipVersion(in, false);
+
+        in.skipBytes(4 /*partition ID*/ + 8 /*partition counter*/ + 8 /*expire time*/ +
+            (type == DATA_RECORD_V2 || type == CDC_DATA_RECORD ? 1 /*flags*/ : 0));
+    }
+
     /**
      * @param rec Record.
      * @return Real record type.
@@ -2310,6 +2377,25 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         }
     }
 
+    /**
+     * Skips version.
+     *
+     * @param in Data input to read from.
+     * @param allowNull Is {@code null} version allowed.
+     * @throws IOException If failed.
+     */
+    void skipVersion(ByteBufferBackedDataInput in, boolean allowNull) throws IOException {
+        // To be able to read serialization protocol version.
+        in.ensure(1);
+
+        try {
+            in.skipBytes(CacheVersionIO.readSize(in.buffer(), allowNull));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException(e);
+        }
+    }
+
     /**
      * Read set of versions.
      *
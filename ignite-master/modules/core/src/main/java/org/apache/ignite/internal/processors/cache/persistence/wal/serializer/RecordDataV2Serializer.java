@@ -167,16 +167,7 @@ public class RecordDataV2Serializer extends RecordDataV1Serializer {
                 int entryCnt = in.readInt();
                 long timeStamp = in.readLong();
 
-                if (entryCnt == 1)
-                    return new DataRecord(readPlainDataEntry(in, type), timeStamp);
-                else {
-                    List<DataEntry> entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readPlainDataEntry(in, type));
-
-                    return new DataRecord(entries, timeStamp);
-                }
+                return new DataRecord(readDataEntries(in, type, entryCnt, false), timeStamp);
 
             case MVCC_DATA_RECORD:
                 entryCnt = in.readInt();
@@ -195,16 +186,7 @@ public class RecordDataV2Serializer extends RecordDataV1Serializer {
                 entryCnt = in.readInt();
                 timeStamp = in.readLong();
 
-                if (entryCnt == 1)
-                    return new DataRecord(readEncryptedDataEntry(in, type), timeStamp);
-                else {
-                    entries = new ArrayList<>(entryCnt);
-
-                    for (int i = 0; i < entryCnt; i++)
-                        entries.add(readEncryptedDataEntry(in, type));
-
-                    return new DataRecord(entries, timeStamp);
-                }
+                return new DataRecord(readDataEntries(in, type, entryCnt, true), timeStamp);
 
             case SNAPSHOT:
                 long snpId = in.readLong();
@@ -17,12 +17,15 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.wal.serializer;
 
+import java.util.function.IntPredicate;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.FilteredRecord;
 import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Factory for creating {@link RecordSerializer}.
@@ -54,6 +57,14 @@ public interface RecordSerializerFactory {
      */
     public RecordSerializerFactory recordDeserializeFilter(IgniteBiPredicate<WALRecord.RecordType, WALPointer> readTypeFilter);
 
+    /**
+     * Specifies filter of caches. Created serializer will skip data entries of other caches without deserialization
+     * and will not include them into the read {@link DataRecord}s.
+     *
+     * @param cacheIdFilter Cache ID filter or {@code null} to read entries of all caches.
+     */
+    public RecordSerializerFactory cacheIdFilter(@Nullable IntPredicate cacheIdFilter);
+
     /**
      * If marshalledMode is on, created serializer will read {@link MarshalledRecord} with raw binary data instead of
      * actual record.
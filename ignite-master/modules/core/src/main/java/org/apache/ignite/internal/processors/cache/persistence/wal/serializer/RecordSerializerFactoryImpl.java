@@ -16,6 +16,7 @@
 */
 package org.apache.ignite.internal.processors.cache.persistence.wal.serializer;
 
+import java.util.function.IntPredicate;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
@@ -37,6 +38,9 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
     /** Read record filter. */
     private @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter;
 
+    /** Filter of caches whose data entries are read. */
+    private @Nullable IntPredicate cacheIdFilter;
+
     /**
      * Marshalled mode flag.
      * Records are not deserialized in this mode, {@link MarshalledRecord} with binary representation are read instead.
@@ -71,16 +75,24 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
 
         switch (ver) {
             case 1:
+                RecordDataV1Serializer dataV1Ser = new RecordDataV1Serializer(cctx);
+
+                dataV1Ser.cacheIdFilter(cacheIdFilter);
+
                 return new RecordV1Serializer(
-                    new RecordDataV1Serializer(cctx),
+                    dataV1Ser,
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
                     recordDeserializeFilter);
 
             case 2:
+                RecordDataV2Serializer dataV2Ser = new RecordDataV2Serializer(cctx);
+
+                dataV2Ser.cacheIdFilter(cacheIdFilter);
+
                 return new RecordV2Serializer(
-                    new RecordDataV2Serializer(cctx),
+                    dataV2Ser,
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
@@ -123,6 +135,20 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
         return this;
     }
 
+    /**
+     * @return Filter of caches whose data entries are read.
+     */
+    public @Nullable IntPredicate cacheIdFilter() {
+        return cacheIdFilter;
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordSerializerFactoryImpl cacheIdFilter(@Nullable IntPredicate cacheIdFilter) {
+        this.cacheIdFilter = cacheIdFilter;
+
+        return this;
+    }
+
     /**
      * @return Marshalled mode. Records are not deserialized in this mode,  with binary representation are read instead.
      */
@@ -86,6 +86,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheA
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtUnreservedPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReplacementScanHint;
 import org.apache.ignite.internal.processors.datastructures.DataStructuresProcessor;
 import org.apache.ignite.internal.processors.datastructures.GridSetQueryPredicate;
 import org.apache.ignite.internal.processors.datastructures.SetItemKey;
@@ -2143,7 +2144,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                             GridQueryIndexDescriptor desc = e.getValue();
 
                             // Add only SQL indexes.
-                            if (desc.type() == QueryIndexType.SORTED) {
+                            if (desc.type() == QueryIndexType.SORTED || desc.type() == QueryIndexType.HASH) {
                                 Collection<String> idxFields = new LinkedList<>();
                                 Collection<String> descendings = new LinkedList<>();
 
@@ -3186,6 +3187,22 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                 locIters.remove(this);
         }
 
+        /**
+         * Gets the next row, pages are loaded as a part of a scan (see {@link PageReplacementScanHint}).
+         *
+         * @return Next row or {@code null} if there are no more rows.
+         */
+        private CacheDataRow nextRow() {
+            PageReplacementScanHint.begin();
+
+            try {
+                return it.hasNext() ? it.next() : null;
+            }
+            finally {
+                PageReplacementScanHint.end();
+            }
+        }
+
         /**
          * Moves the iterator to the next cache entry.
          */
@@ -3194,9 +3211,9 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
 
             Object next0 = null;
 
-            while (it.hasNext()) {
-                CacheDataRow row = it.next();
+            CacheDataRow row;
 
+            while ((row = nextRow()) != null) {
                 KeyCacheObject key = row.key();
                 CacheObject val;
 
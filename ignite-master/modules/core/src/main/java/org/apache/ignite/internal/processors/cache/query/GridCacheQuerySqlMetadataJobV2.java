@@ -124,7 +124,7 @@ class GridCacheQuerySqlMetadataJobV2 implements IgniteCallable<Collection<GridCa
                         GridQueryIndexDescriptor desc = e.getValue();
 
                         // Add only SQL indexes.
-                        if (desc.type() == QueryIndexType.SORTED) {
+                        if (desc.type() == QueryIndexType.SORTED || desc.type() == QueryIndexType.HASH) {
                             Collection<String> idxFields = new LinkedList<>();
                             Collection<String> descendings = new LinkedList<>();
 
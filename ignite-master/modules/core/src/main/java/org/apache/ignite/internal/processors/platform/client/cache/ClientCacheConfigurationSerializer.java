@@ -40,6 +40,7 @@ import org.apache.ignite.internal.processors.platform.client.ClientProtocolConte
 import org.apache.ignite.internal.processors.platform.client.ClientProtocolVersionFeature;
 import org.apache.ignite.internal.processors.platform.utils.PlatformConfigurationUtils;
 import static java.util.Optional.ofNullable;
+import static org.apache.ignite.internal.processors.platform.client.ClientBitmaskFeature.QUERY_INDEX_INCLUDED_FIELDS;
 import static org.apache.ignite.internal.processors.platform.client.ClientProtocolVersionFeature.QUERY_ENTITY_PRECISION_AND_SCALE;
 
 /**
@@ -280,8 +281,10 @@ public class ClientCacheConfigurationSerializer {
         if (indexes != null) {
             writer.writeInt(indexes.size());
 
+            boolean inclFields = protocolCtx.isFeatureSupported(QUERY_INDEX_INCLUDED_FIELDS);
+
             for (QueryIndex index : indexes)
-                PlatformConfigurationUtils.writeQueryIndex(writer, index);
+                PlatformConfigurationUtils.writeQueryIndex(writer, index, inclFields);
         }
         else
             writer.writeInt(0);
@@ -548,8 +551,10 @@ public class ClientCacheConfigurationSerializer {
         if (cnt > 0) {
             Collection<QueryIndex> indexes = new ArrayList<>(cnt);
 
+            boolean inclFields = protocolCtx.isFeatureSupported(QUERY_INDEX_INCLUDED_FIELDS);
+
             for (int i = 0; i < cnt; i++)
-                indexes.add(PlatformConfigurationUtils.readQueryIndex(in));
+                indexes.add(PlatformConfigurationUtils.readQueryIndex(in, inclFields));
 
             res.setIndexes(indexes);
         }
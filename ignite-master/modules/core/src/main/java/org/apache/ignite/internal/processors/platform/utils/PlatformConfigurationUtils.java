@@ -69,6 +69,7 @@ import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.configuration.MemoryConfiguration;
 import org.apache.ignite.configuration.MemoryPolicyConfiguration;
 import org.apache.ignite.configuration.NearCacheConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.configuration.PersistentStoreConfiguration;
 import org.apache.ignite.configuration.PlatformCacheConfiguration;
 import org.apache.ignite.configuration.SqlConnectorConfiguration;
@@ -694,6 +695,17 @@ public class PlatformConfigurationUtils {
      * @return Query index.
      */
     public static QueryIndex readQueryIndex(BinaryRawReader in) {
+        return readQueryIndex(in, true);
+    }
+
+    /**
+     * Reads the query index.
+     *
+     * @param in Reader.
+     * @param inclFields Whether the included fields are written.
+     * @return Query index.
+     */
+    public static QueryIndex readQueryIndex(BinaryRawReader in, boolean inclFields) {
         QueryIndex res = new QueryIndex();
 
         res.setName(in.readString());
@@ -711,6 +723,19 @@ public class PlatformConfigurationUtils {
             res.setFields(fields);
         }
 
+        if (inclFields) {
+            cnt = in.readInt();
+
+            if (cnt > 0) {
+                List<String> incl = new ArrayList<>(cnt);
+
+                for (int i = 0; i < cnt; i++)
+                    incl.add(in.readString());
+
+                res.setIncludedFields(incl);
+            }
+        }
+
         return res;
     }
 
@@ -1299,6 +1324,17 @@ public class PlatformConfigurationUtils {
      * @param idx Index.
      */
     public static void writeQueryIndex(BinaryRawWriter writer, QueryIndex idx) {
+        writeQueryIndex(writer, idx, true);
+    }
+
+    /**
+     * Writer query index.
+     *
+     * @param writer Writer.
+     * @param idx Index.
+     * @param inclFields Whether to write the included fields.
+     */
+    public static void writeQueryIndex(BinaryRawWriter writer, QueryIndex idx, boolean inclFields) {
         assert idx != null;
 
         writer.writeString(idx.getName());
@@ -1317,6 +1353,19 @@ public class PlatformConfigurationUtils {
         }
         else
             writer.writeInt(0);
+
+        if (inclFields) {
+            Collection<String> incl = idx.getIncludedFields();
+
+            if (incl != null) {
+                writer.writeInt(incl.size());
+
+                for (String field : incl)
+                    writer.writeString(field);
+            }
+            else
+                writer.writeInt(0);
+        }
     }
 
     /**
@@ -2277,6 +2326,7 @@ public class PlatformConfigurationUtils {
         w.writeLong(cfg.getMetricsRateTimeInterval());
         w.writeLong(cfg.getCheckpointPageBufferSize());
         w.writeBoolean(cfg.isLazyMemoryAllocation());
+        w.writeInt(cfg.getPageReplacementMode().ordinal());
     }
 
     /**
@@ -2347,6 +2397,7 @@ public class PlatformConfigurationUtils {
             .setCheckpointPageBufferSize(r.readLong());
 
         cfg.setLazyMemoryAllocation(r.readBoolean());
+        cfg.setPageReplacementMode(PageReplacementMode.fromOrdinal(r.readInt()));
 
         return cfg;
     }
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.query;
 
 import java.util.Collection;
+import java.util.Collections;
 import org.apache.ignite.cache.QueryIndexType;
 
 /**
@@ -39,6 +40,15 @@ public interface GridQueryIndexDescriptor {
      */
     public Collection<String> fields();
 
+    /**
+     * Gets fields which are not indexed, but stored in the index rows after the indexed fields.
+     *
+     * @return Included fields.
+     */
+    public default Collection<String> includedFields() {
+        return Collections.emptyList();
+    }
+
     /**
      * Specifies order of the index for each indexed field.
      *
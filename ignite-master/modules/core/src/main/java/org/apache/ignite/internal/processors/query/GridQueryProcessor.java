@@ -1580,6 +1580,17 @@ public class GridQueryProcessor extends GridProcessorAdapter {
                         break;
                     }
                 }
+
+                if (err == null && idx.getIncludedFields() != null) {
+                    for (String inclField : idx.getIncludedFields()) {
+                        if (!type.fields().containsKey(inclField)) {
+                            err = new SchemaOperationException(SchemaOperationException.CODE_COLUMN_NOT_FOUND,
+                                inclField);
+
+                            break;
+                        }
+                    }
+                }
             }
 
             // Check conflict with other indexes.
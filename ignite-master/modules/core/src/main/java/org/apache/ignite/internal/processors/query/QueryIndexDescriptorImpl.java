@@ -46,6 +46,9 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
     /** Fields which should be indexed in descending order. */
     private Collection<String> descendings;
 
+    /** Fields stored in the index rows, but not indexed. */
+    private final Collection<String> inclFields = new ArrayList<>();
+
     /** Type descriptor. */
     @GridToStringExclude
     private final QueryTypeDescriptorImpl typDesc;
@@ -98,6 +101,11 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override public Collection<String> includedFields() {
+        return inclFields;
+    }
+
     /** {@inheritDoc} */
     @Override public int inlineSize() {
         return inlineSize;
@@ -134,6 +142,23 @@ public class QueryIndexDescriptorImpl implements GridQueryIndexDescriptor {
         return this;
     }
 
+    /**
+     * Adds field stored in the index rows, but not indexed.
+     *
+     * @param field Field name.
+     * @return This instance for chaining.
+     * @throws IgniteCheckedException If failed.
+     */
+    public QueryIndexDescriptorImpl addIncludedField(String field) throws IgniteCheckedException {
+        if (!typDesc.hasField(field))
+            throw new IgniteCheckedException("Field not found: " + field);
+
+        if (!inclFields.contains(field))
+            inclFields.add(field);
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public QueryIndexType type() {
         return type;
@@ -374,6 +374,7 @@ public class QueryUtils {
             normalIdx.setFields(idx.getFields());
             normalIdx.setIndexType(idx.getIndexType());
             normalIdx.setInlineSize(idx.getInlineSize());
+            normalIdx.setIncludedFields(idx.getIncludedFields());
 
             normalIdx.setName(normalizeObjectName(indexName(normalTblName, idx), false));
 
@@ -810,7 +811,7 @@ public class QueryUtils {
         String idxName = indexName(typeDesc.tableName(), idx);
         QueryIndexType idxTyp = idx.getIndexType();
 
-        assert idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL;
+        assert idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL || idxTyp == QueryIndexType.HASH;
 
         QueryIndexDescriptorImpl res = new QueryIndexDescriptorImpl(typeDesc, idxName, idxTyp, idx.getInlineSize());
 
@@ -828,6 +829,17 @@ public class QueryUtils {
             res.addField(field, i++, !asc);
         }
 
+        if (!F.isEmpty(idx.getIncludedFields())) {
+            if (idxTyp == QueryIndexType.GEOSPATIAL)
+                throw new IgniteCheckedException("Included fields are not supported for spatial indexes: " + idxName);
+
+            for (String field : idx.getIncludedFields()) {
+                String alias = typeDesc.aliases().get(field);
+
+                res.addIncludedField(alias != null ? alias : field);
+            }
+        }
+
         return res;
     }
 
@@ -841,7 +853,7 @@ public class QueryUtils {
     private static void processIndex(QueryIndex idx, QueryTypeDescriptorImpl d) throws IgniteCheckedException {
         QueryIndexType idxTyp = idx.getIndexType();
 
-        if (idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL) {
+        if (idxTyp == QueryIndexType.SORTED || idxTyp == QueryIndexType.GEOSPATIAL || idxTyp == QueryIndexType.HASH) {
             QueryIndexDescriptorImpl idxDesc = createIndexDescriptor(d, idx);
 
             d.addIndex(idxDesc);
@@ -1525,7 +1537,8 @@ public class QueryUtils {
 
         if (indexes != null) {
             for (QueryIndex idxDesc : indexes) {
-                if (idxDesc.getFields().containsKey(fieldName))
+                if (idxDesc.getFields().containsKey(fieldName) ||
+                    (idxDesc.getIncludedFields() != null && idxDesc.getIncludedFields().contains(fieldName)))
                     return new SchemaOperationException("Cannot drop column \"" + colName +
                         "\" because an index exists (\"" + idxDesc.getName() + "\") that uses the column.");
             }
@@ -1559,7 +1572,7 @@ public class QueryUtils {
         Collection<GridQueryIndexDescriptor> indexes = type.indexes().values();
 
         for (GridQueryIndexDescriptor idxDesc : indexes) {
-            if (idxDesc.fields().contains(colName))
+            if (idxDesc.fields().contains(colName) || idxDesc.includedFields().contains(colName))
                 return new SchemaOperationException("Cannot drop column \"" + colName +
                     "\" because an index exists (\"" + idxDesc.name() + "\") that uses the column.");
         }
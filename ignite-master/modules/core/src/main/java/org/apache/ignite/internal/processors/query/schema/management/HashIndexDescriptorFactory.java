@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.schema.management;
+
+import java.util.LinkedHashMap;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.cache.query.index.IndexName;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndexDefinition;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndexFactory;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.QueryIndexDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexFactory;
+import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.query.GridQueryIndexDescriptor;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
+
+/**
+ * Factory to create hash index descriptors. Columns of a hash index are the same as of a sorted index on the same
+ * fields, but only the leading indexed columns are hashed.
+ */
+public class HashIndexDescriptorFactory extends SortedIndexDescriptorFactory {
+    /** */
+    public HashIndexDescriptorFactory(IgniteLogger log) {
+        super(log);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected QueryIndexDefinition indexDefinition(
+        GridKernalContext ctx,
+        GridQueryIndexDescriptor idxDesc,
+        TableDescriptor tbl,
+        String treeName,
+        boolean isPk,
+        boolean isAff,
+        LinkedHashMap<String, IndexKeyDefinition> idxCols
+    ) {
+        assert !isPk && !isAff : idxDesc.name();
+
+        GridCacheContextInfo<?, ?> cacheInfo = tbl.cacheInfo();
+        GridQueryTypeDescriptor typeDesc = tbl.type();
+
+        return new HashIndexDefinition(
+            typeDesc,
+            cacheInfo,
+            new IndexName(cacheInfo.name(), typeDesc.schemaName(), typeDesc.tableName(), idxDesc.name()),
+            treeName,
+            ctx.indexProcessor().rowCacheCleaner(cacheInfo.groupId()),
+            idxCols,
+            idxDesc.fields().size(),
+            idxDesc.inlineSize(),
+            ctx.indexProcessor().keyTypeSettings()
+        );
+    }
+
+    /** {@inheritDoc} */
+    @Override protected InlineIndexFactory indexFactory() {
+        return HashIndexFactory.INSTANCE;
+    }
+}
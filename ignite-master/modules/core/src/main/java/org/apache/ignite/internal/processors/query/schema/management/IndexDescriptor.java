@@ -35,6 +35,12 @@ public class IndexDescriptor {
     /** */
     private final LinkedHashMap<String, IndexKeyDefinition> keyDefs;
 
+    /** Count of the leading key definitions which define the indexed fields. */
+    private final int fieldsCnt;
+
+    /** Count of the trailing key definitions which define the included columns. */
+    private final int inclCnt;
+
     /** */
     private final boolean isPk;
 
@@ -59,15 +65,21 @@ public class IndexDescriptor {
         String name,
         QueryIndexType type,
         LinkedHashMap<String, IndexKeyDefinition> keyDefs,
+        int fieldsCnt,
+        int inclCnt,
         boolean isPk,
         boolean isAff,
         int inlineSize,
         Index idx
     ) {
+        assert fieldsCnt + inclCnt <= keyDefs.size() : fieldsCnt + ", " + inclCnt;
+
         this.tbl = tbl;
         this.name = name;
         this.type = type;
         this.keyDefs = keyDefs;
+        this.fieldsCnt = fieldsCnt;
+        this.inclCnt = inclCnt;
         this.isPk = isPk;
         this.isAff = isAff;
         this.targetIdx = null;
@@ -83,6 +95,8 @@ public class IndexDescriptor {
     ) {
         this.name = name;
         this.keyDefs = keyDefs;
+        fieldsCnt = targetIdx.fieldsCount();
+        inclCnt = targetIdx.includedCount();
         isPk = false;
         isAff = false;
         this.targetIdx = targetIdx;
@@ -107,6 +121,22 @@ public class IndexDescriptor {
         return keyDefs;
     }
 
+    /**
+     * @return Count of the indexed fields. Key definitions of the indexed fields are followed by the definitions of
+     * the columns which make index rows unique and of the included columns.
+     */
+    public int fieldsCount() {
+        return fieldsCnt;
+    }
+
+    /**
+     * @return Count of the included columns, which are not indexed, but stored in the index rows. Their key
+     * definitions are the last ones.
+     */
+    public int includedCount() {
+        return inclCnt;
+    }
+
     /** */
     public boolean isPk() {
         return isPk;
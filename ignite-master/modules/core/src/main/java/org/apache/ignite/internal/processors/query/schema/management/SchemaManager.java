@@ -189,10 +189,13 @@ public class SchemaManager {
 
         idxDescFactory.putAll(IDX_DESC_FACTORY);
 
-        // Register default index descriptor factory for tree indexes if it wasn't overrided.
+        // Register default index descriptor factories for tree indexes if they weren't overrided.
         if (!idxDescFactory.containsKey(QueryIndexType.SORTED))
             idxDescFactory.put(QueryIndexType.SORTED, new SortedIndexDescriptorFactory(log));
 
+        if (!idxDescFactory.containsKey(QueryIndexType.HASH))
+            idxDescFactory.put(QueryIndexType.HASH, new HashIndexDescriptorFactory(log));
+
         ctx.systemView().registerView(SQL_SCHEMA_VIEW, SQL_SCHEMA_VIEW_DESC,
             new SqlSchemaViewWalker(),
             schemas.values(),
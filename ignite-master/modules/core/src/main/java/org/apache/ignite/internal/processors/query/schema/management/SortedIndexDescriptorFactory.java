@@ -41,9 +41,6 @@ import org.jetbrains.annotations.Nullable;
 
 /** Factory to create sorted index descriptors. */
 public class SortedIndexDescriptorFactory extends AbstractIndexDescriptorFactory {
-    /** */
-    private static final InlineIndexFactory SORTED_IDX_FACTORY = InlineIndexFactory.INSTANCE;
-
     /** */
     public static final String H2_TREE = "H2Tree";
 
@@ -91,6 +88,13 @@ public class SortedIndexDescriptorFactory extends AbstractIndexDescriptorFactory
         if (!(isPk && QueryUtils.KEY_FIELD_NAME.equals(tbl.affinityKey())))
             addAffinityColumn(unwrappedCols, tbl);
 
+        int wrappedKeysCnt = wrappedCols.size();
+        int unwrappedKeysCnt = unwrappedCols.size();
+
+        // Included columns follow the columns which make index rows unique, so they don't affect the order of rows.
+        addIncludedColumns(wrappedCols, idxDesc, typeDesc);
+        addIncludedColumns(unwrappedCols, idxDesc, typeDesc);
+
         LinkedHashMap<String, IndexKeyDefinition> idxCols = unwrappedCols;
 
         Index idx;
@@ -105,23 +109,12 @@ public class SortedIndexDescriptorFactory extends AbstractIndexDescriptorFactory
             if (!ctx.indexProcessor().useUnwrappedPk(cctx, treeName))
                 idxCols = wrappedCols;
 
-            QueryIndexDefinition idxDef = new QueryIndexDefinition(
-                typeDesc,
-                cacheInfo,
-                new IndexName(cacheInfo.name(), typeDesc.schemaName(), typeDesc.tableName(), idxName),
-                treeName,
-                ctx.indexProcessor().rowCacheCleaner(cacheInfo.groupId()),
-                isPk,
-                isAff,
-                idxCols,
-                idxDesc.inlineSize(),
-                ctx.indexProcessor().keyTypeSettings()
-            );
+            QueryIndexDefinition idxDef = indexDefinition(ctx, idxDesc, tbl, treeName, isPk, isAff, idxCols);
 
             if (cacheVisitor != null)
-                idx = ctx.indexProcessor().createIndexDynamically(cctx, SORTED_IDX_FACTORY, idxDef, cacheVisitor);
+                idx = ctx.indexProcessor().createIndexDynamically(cctx, indexFactory(), idxDef, cacheVisitor);
             else
-                idx = ctx.indexProcessor().createIndex(cctx, SORTED_IDX_FACTORY, idxDef);
+                idx = ctx.indexProcessor().createIndex(cctx, indexFactory(), idxDef);
         }
         else {
             ClientIndexDefinition d = new ClientIndexDefinition(
@@ -135,8 +128,63 @@ public class SortedIndexDescriptorFactory extends AbstractIndexDescriptorFactory
 
         assert idx instanceof InlineIndex : idx;
 
-        return new IndexDescriptor(tbl, idxName, idxDesc.type(), idxCols, isPk, isAff,
-            ((InlineIndex)idx).inlineSize(), idx);
+        int inclCnt = idxCols.size() - (idxCols == wrappedCols ? wrappedKeysCnt : unwrappedKeysCnt);
+
+        return new IndexDescriptor(tbl, idxName, idxDesc.type(), idxCols, originalIdxCols.size(), inclCnt, isPk,
+            isAff, ((InlineIndex)idx).inlineSize(), idx);
+    }
+
+    /**
+     * Creates definition of the index on an affinity node.
+     *
+     * @param ctx Kernal context.
+     * @param idxDesc Index descriptor.
+     * @param tbl Table descriptor.
+     * @param treeName Index tree name.
+     * @param isPk Whether the index is the primary key index.
+     * @param isAff Whether the index is the affinity key index.
+     * @param idxCols Index columns.
+     * @return Index definition.
+     */
+    protected QueryIndexDefinition indexDefinition(
+        GridKernalContext ctx,
+        GridQueryIndexDescriptor idxDesc,
+        TableDescriptor tbl,
+        String treeName,
+        boolean isPk,
+        boolean isAff,
+        LinkedHashMap<String, IndexKeyDefinition> idxCols
+    ) {
+        GridCacheContextInfo<?, ?> cacheInfo = tbl.cacheInfo();
+        GridQueryTypeDescriptor typeDesc = tbl.type();
+
+        return new QueryIndexDefinition(
+            typeDesc,
+            cacheInfo,
+            new IndexName(cacheInfo.name(), typeDesc.schemaName(), typeDesc.tableName(), idxDesc.name()),
+            treeName,
+            ctx.indexProcessor().rowCacheCleaner(cacheInfo.groupId()),
+            isPk,
+            isAff,
+            idxCols,
+            idxDesc.inlineSize(),
+            ctx.indexProcessor().keyTypeSettings()
+        );
+    }
+
+    /** @return Factory to create the index on an affinity node. */
+    protected InlineIndexFactory indexFactory() {
+        return InlineIndexFactory.INSTANCE;
+    }
+
+    /** Add columns stored in the index rows, but not indexed, to columns list. */
+    private static void addIncludedColumns(
+        LinkedHashMap<String, IndexKeyDefinition> cols,
+        GridQueryIndexDescriptor idxDesc,
+        GridQueryTypeDescriptor typeDesc
+    ) {
+        for (String field : idxDesc.includedFields())
+            cols.putIfAbsent(field, keyDefinition(typeDesc, field, true));
     }
 
     /** Split key into simple components and add to columns list. */
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
@@ -326,7 +327,8 @@ public class SqlCommandProcessor {
 
                 newIdx.setName(cmd0.indexName());
 
-                newIdx.setIndexType(cmd0.spatial() ? QueryIndexType.GEOSPATIAL : QueryIndexType.SORTED);
+                newIdx.setIndexType(cmd0.spatial() ? QueryIndexType.GEOSPATIAL :
+                    cmd0.hash() ? QueryIndexType.HASH : QueryIndexType.SORTED);
 
                 LinkedHashMap<String, Boolean> flds = new LinkedHashMap<>();
 
@@ -342,6 +344,21 @@ public class SqlCommandProcessor {
                 newIdx.setFields(flds);
                 newIdx.setInlineSize(cmd0.inlineSize());
 
+                if (!cmd0.includedColumns().isEmpty()) {
+                    List<String> inclFlds = new ArrayList<>(cmd0.includedColumns().size());
+
+                    for (String colName : cmd0.includedColumns()) {
+                        GridQueryProperty prop = typeDesc.property(colName);
+
+                        if (prop == null)
+                            throw new SchemaOperationException(SchemaOperationException.CODE_COLUMN_NOT_FOUND, colName);
+
+                        inclFlds.add(prop.name());
+                    }
+
+                    newIdx.setIncludedFields(inclFlds);
+                }
+
                 fut = ctx.query().dynamicIndexCreate(cacheInfo.name(), cmd.schemaName(), typeDesc.tableName(),
                     newIdx, cmd0.ifNotExists(), cmd0.parallel());
             }
@@ -374,6 +374,14 @@ public class SqlParser {
 
                     break;
 
+                case HASH:
+                    if (lex.shift() && matchesKeyword(lex, INDEX))
+                        cmd = new SqlCreateIndexCommand().hash(true);
+                    else
+                        throw errorUnexpectedToken(lex, INDEX);
+
+                    break;
+
                 case USER:
                     cmd = new SqlCreateUserCommand();
 
@@ -384,10 +392,10 @@ public class SqlParser {
             if (cmd != null)
                 return cmd.parse(lex);
 
-            errorUnsupportedIfMatchesKeyword(lex, HASH, PRIMARY, UNIQUE);
+            errorUnsupportedIfMatchesKeyword(lex, PRIMARY, UNIQUE);
         }
 
-        throw errorUnexpectedToken(lex, INDEX, SPATIAL, USER);
+        throw errorUnexpectedToken(lex, INDEX, SPATIAL, HASH, USER);
     }
 
     /**
@@ -34,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.internal.sql.SqlKeyword.ASC;
 import static org.apache.ignite.internal.sql.SqlKeyword.DESC;
 import static org.apache.ignite.internal.sql.SqlKeyword.IF;
+import static org.apache.ignite.internal.sql.SqlKeyword.INCLUDE;
 import static org.apache.ignite.internal.sql.SqlKeyword.INLINE_SIZE;
 import static org.apache.ignite.internal.sql.SqlKeyword.ON;
 import static org.apache.ignite.internal.sql.SqlKeyword.PARALLEL;
@@ -66,6 +67,9 @@ public class SqlCreateIndexCommand implements SqlCommand {
     /** Spatial index flag. */
     private boolean spatial;
 
+    /** Hash index flag. */
+    private boolean hash;
+
     /**
      * Parallelism level. <code>parallel=0</code> means that a default number
      * of cores will be used during index creation (e.g. 25% of available cores).
@@ -83,6 +87,10 @@ public class SqlCreateIndexCommand implements SqlCommand {
     /** Inline size. Zero effectively disables inlining. */
     private int inlineSize = QueryIndex.DFLT_INLINE_SIZE;
 
+    /** Names of the columns stored in the index, but not indexed. */
+    @GridToStringInclude
+    private Collection<String> inclCols;
+
     /**
      * Default constructor.
      */
@@ -172,6 +180,13 @@ public class SqlCreateIndexCommand implements SqlCommand {
         return spatial;
     }
 
+    /**
+     * @return Hash index flag.
+     */
+    public boolean hash() {
+        return hash;
+    }
+
     /**
      * @return Inline size.
      */
@@ -189,6 +204,26 @@ public class SqlCreateIndexCommand implements SqlCommand {
         return this;
     }
 
+    /**
+     * @param hash Hash index flag.
+     * @return This instance.
+     */
+    public SqlCreateIndexCommand hash(boolean hash) {
+        this.hash = hash;
+
+        return this;
+    }
+
+    /**
+     * @param inclCols Names of the columns stored in the index, but not indexed.
+     * @return This instance.
+     */
+    public SqlCreateIndexCommand includedColumns(Collection<String> inclCols) {
+        this.inclCols = inclCols;
+
+        return this;
+    }
+
     /**
      * @return Columns.
      */
@@ -196,6 +231,13 @@ public class SqlCreateIndexCommand implements SqlCommand {
         return cols != null ? cols : Collections.<SqlIndexColumn>emptySet();
     }
 
+    /**
+     * @return Names of the columns stored in the index, but not indexed.
+     */
+    public Collection<String> includedColumns() {
+        return inclCols != null ? inclCols : Collections.<String>emptySet();
+    }
+
     /** {@inheritDoc} */
     @Override public SqlCommand parse(SqlLexer lex) {
         ifNotExists = parseIfNotExists(lex);
@@ -279,6 +321,28 @@ public class SqlCreateIndexCommand implements SqlCommand {
         cols.add(col);
     }
 
+    /**
+     * @param lex Lexer.
+     */
+    private void parseIncludedColumnList(SqlLexer lex) {
+        if (!lex.shift() || lex.tokenType() != SqlLexerTokenType.PARENTHESIS_LEFT)
+            throw errorUnexpectedToken(lex, "(");
+
+        inclCols = new LinkedList<>();
+
+        while (true) {
+            String name = parseIdentifier(lex);
+
+            if (colNames.contains(name) || inclCols.contains(name))
+                throw error(lex, "Column already defined: " + name);
+
+            inclCols.add(name);
+
+            if (skipCommaOrRightParenthesis(lex))
+                break;
+        }
+    }
+
     /**
      * Parses CREATE INDEX command properties.
      *
@@ -302,6 +366,16 @@ public class SqlCreateIndexCommand implements SqlCommand {
 
                     break;
 
+                case INCLUDE:
+                    if (!foundProps.add(INCLUDE))
+                        throw error(lex, "Only one " + INCLUDE + " clause may be specified.");
+
+                    lex.shift();
+
+                    parseIncludedColumnList(lex);
+
+                    break;
+
                 case INLINE_SIZE:
                     inlineSize = getIntProperty(lex, INLINE_SIZE, foundProps);
 
@@ -121,8 +121,43 @@ public class GridConcurrentMultiPairQueue<K, V> {
      * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
      */
     public boolean next(Result<K, V> res) {
-        int absPos = pos.getAndIncrement();
+        return next(pos.getAndIncrement(), res);
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code false} if this queue is empty.
+     * Elements are claimed by chunks, so subsequent calls with the same {@code res} return adjacent
+     * elements while the claimed chunk is not exhausted.
+     *
+     * @param res Result holder.
+     * @param chunkSize Number of elements to claim at once.
+     * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
+     */
+    public boolean next(Result<K, V> res, int chunkSize) {
+        assert chunkSize > 0 : chunkSize;
+
+        if (chunkSize == 1)
+            return next(res);
+
+        int absPos = res.chunkPos;
+
+        if (absPos >= res.chunkEnd) {
+            absPos = pos.getAndAdd(chunkSize);
 
+            res.chunkEnd = absPos + chunkSize;
+        }
+
+        res.chunkPos = absPos + 1;
+
+        return next(absPos, res);
+    }
+
+    /**
+     * @param absPos Absolute position of the element.
+     * @param res Result holder.
+     * @return {@code true} if the element exists.
+     */
+    private boolean next(int absPos, Result<K, V> res) {
         if (absPos >= maxPos) {
             res.set(null, null, 0);
 
@@ -171,6 +206,12 @@ public class GridConcurrentMultiPairQueue<K, V> {
         /** Value holeder. */
         private V val;
 
+        /** Position of the next element of the claimed chunk. */
+        private int chunkPos;
+
+        /** End position of the claimed chunk, exclusive. */
+        private int chunkEnd;
+
         /** Current state setter. */
         public void set(K k, V v, int seg) {
             key = k;
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.systemview.view;
+
+import java.util.Date;
+import org.apache.ignite.internal.managers.systemview.walker.Order;
+
+/**
+ * SQL query plan cache entry representation for a {@link SystemView}.
+ */
+public class SqlPlanCacheView {
+    /** Schema name. */
+    private final String schemaName;
+
+    /** Query text. */
+    private final String sql;
+
+    /** Count of the plan cache hits. */
+    private final long hits;
+
+    /** Planning time. */
+    private final long planningTime;
+
+    /** Time the plan was cached. */
+    private final long createTime;
+
+    /** Last time the plan was taken from the cache. */
+    private final long lastAccessTime;
+
+    /**
+     * @param schemaName Schema name.
+     * @param sql Query text.
+     * @param hits Count of the plan cache hits.
+     * @param planningTime Planning time in milliseconds.
+     * @param createTime Time the plan was cached.
+     * @param lastAccessTime Last time the plan was taken from the cache.
+     */
+    public SqlPlanCacheView(String schemaName, String sql, long hits, long planningTime, long createTime,
+        long lastAccessTime) {
+        this.schemaName = schemaName;
+        this.sql = sql;
+        this.hits = hits;
+        this.planningTime = planningTime;
+        this.createTime = createTime;
+        this.lastAccessTime = lastAccessTime;
+    }
+
+    /** @return Schema name. */
+    @Order
+    public String schemaName() {
+        return schemaName;
+    }
+
+    /** @return Query text, literals are replaced with dynamic parameters for the parameterized queries. */
+    @Order(1)
+    public String sql() {
+        return sql;
+    }
+
+    /** @return Count of the plan cache hits. */
+    @Order(2)
+    public long hits() {
+        return hits;
+    }
+
+    /** @return Planning time in milliseconds. */
+    @Order(3)
+    public long planningTime() {
+        return planningTime;
+    }
+
+    /** @return Time the plan was cached. */
+    @Order(4)
+    public Date createTime() {
+        return new Date(createTime);
+    }
+
+    /** @return Last time the plan was taken from the cache. */
+    @Order(5)
+    public Date lastAccessTime() {
+        return new Date(lastAccessTime);
+    }
+}
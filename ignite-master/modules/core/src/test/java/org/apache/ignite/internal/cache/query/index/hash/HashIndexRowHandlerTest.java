@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.hash;
+
+import java.math.BigDecimal;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.DecimalIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.DoubleIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IntegerIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.LongIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.NullIndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.StringIndexKey;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/** */
+public class HashIndexRowHandlerTest extends GridCommonAbstractTest {
+    /** */
+    @Test
+    public void testEqualKeysOfDifferentTypes() {
+        assertEquals(HashIndexRowHandler.hash(new IntegerIndexKey(42)), HashIndexRowHandler.hash(new LongIndexKey(42)));
+        assertEquals(HashIndexRowHandler.hash(new IntegerIndexKey(42)), HashIndexRowHandler.hash(new DoubleIndexKey(42)));
+        assertEquals(HashIndexRowHandler.hash(new IntegerIndexKey(42)),
+            HashIndexRowHandler.hash(new DecimalIndexKey(new BigDecimal("42.00"))));
+        assertEquals(HashIndexRowHandler.hash(new DoubleIndexKey(0.5)),
+            HashIndexRowHandler.hash(new DecimalIndexKey(new BigDecimal("0.5"))));
+
+        assertEquals(0, HashIndexRowHandler.hash(NullIndexKey.INSTANCE));
+    }
+
+    /** */
+    @Test
+    public void testHashKey() throws Exception {
+        IndexKey[] keys1 = {new IntegerIndexKey(1), new StringIndexKey("a")};
+        IndexKey[] keys2 = {new LongIndexKey(1), new StringIndexKey("a")};
+        IndexKey[] keys3 = {new StringIndexKey("a"), new IntegerIndexKey(1)};
+
+        assertEquals(0, HashIndexRowHandler.hashKey(keys1).compare(HashIndexRowHandler.hashKey(keys2)));
+        assertFalse(HashIndexRowHandler.hashKey(keys1).compare(HashIndexRowHandler.hashKey(keys3)) == 0);
+    }
+
+    /** */
+    @Test
+    public void testIgnoreCaseStrings() {
+        assertEquals(HashIndexRowHandler.hash(new IgnoreCaseStringIndexKey("Tenant-A")),
+            HashIndexRowHandler.hash(new IgnoreCaseStringIndexKey("tENANT-a")));
+        assertEquals(HashIndexRowHandler.hashIgnoreCase("\u0130"), HashIndexRowHandler.hashIgnoreCase("\u0069"));
+
+        assertFalse(HashIndexRowHandler.hash(new StringIndexKey("Tenant-A")) ==
+            HashIndexRowHandler.hash(new StringIndexKey("tenant-a")));
+    }
+
+    /** Case insensitive string key. */
+    private static class IgnoreCaseStringIndexKey extends StringIndexKey {
+        /** */
+        IgnoreCaseStringIndexKey(String key) {
+            super(key);
+        }
+
+        /** {@inheritDoc} */
+        @Override public IndexKeyType type() {
+            return IndexKeyType.STRING_IGNORECASE;
+        }
+    }
+}
@@ -234,7 +234,8 @@ public class FunctionalTest extends AbstractBinaryArraysTest {
                     .setKeyFieldName("id")
                     .setNotNullFields(Collections.singleton("id"))
                     .setDefaultFieldValues(Collections.singletonMap("id", 0))
-                    .setIndexes(Collections.singletonList(new QueryIndex("id", true, "IDX_EMPLOYEE_ID")))
+                    .setIndexes(Collections.singletonList(new QueryIndex("id", true, "IDX_EMPLOYEE_ID")
+                        .setIncludedFields(Collections.singletonList("orgId"))))
                     .setAliases(Stream.of("id", "orgId").collect(Collectors.toMap(f -> f, String::toUpperCase)))
                 )
                 .setExpiryPolicy(new PlatformExpiryPolicy(10, 20, 30))
@@ -22,7 +22,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
@@ -32,6 +34,7 @@ import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
@@ -227,4 +230,71 @@ public class WALRecordSerializationTest extends GridCommonAbstractTest {
 
         assertNull("Expected record '" + curExpRecord + "' not found.", curExpRecord);
     }
+
+    /**
+     * Checks that data entries of the caches rejected by the cache ID filter are skipped by the WAL reader.
+     *
+     * @throws Exception If fail.
+     */
+    @Test
+    public void testDataEntriesFilteredByCacheId() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache1 = ignite.createCache(new CacheConfiguration<>("cache1"));
+        IgniteCache<Integer, Integer> cache2 = ignite.createCache(new CacheConfiguration<>("cache2"));
+
+        for (int i = 0; i < 100; i++) {
+            cache1.put(i, i);
+            cache2.put(i, i);
+        }
+
+        IgniteWriteAheadLogManager wal = ignite.context().cache().context().wal();
+
+        wal.flush(null, true);
+
+        int cacheId1 = CU.cacheId("cache1");
+
+        int expCnt = 0;
+
+        try (WALIterator iter = wal.replay(null)) {
+            while (iter.hasNext()) {
+                WALRecord rec = iter.nextX().get2();
+
+                if (rec instanceof DataRecord) {
+                    DataRecord dataRec = (DataRecord)rec;
+
+                    for (int i = 0; i < dataRec.entryCount(); i++) {
+                        if (dataRec.get(i).cacheId() == cacheId1)
+                            expCnt++;
+                    }
+                }
+            }
+        }
+
+        assertTrue(expCnt >= 100);
+
+        int cnt = 0;
+
+        try (WALIterator iter = wal.replay(null, null, cacheId -> cacheId == cacheId1)) {
+            while (iter.hasNext()) {
+                WALRecord rec = iter.nextX().get2();
+
+                if (rec instanceof DataRecord) {
+                    DataRecord dataRec = (DataRecord)rec;
+
+                    for (int i = 0; i < dataRec.entryCount(); i++) {
+                        DataEntry entry = dataRec.get(i);
+
+                        assertEquals(cacheId1, entry.cacheId());
+
+                        cnt++;
+                    }
+                }
+            }
+        }
+
+        assertEquals(expCnt, cnt);
+    }
 }
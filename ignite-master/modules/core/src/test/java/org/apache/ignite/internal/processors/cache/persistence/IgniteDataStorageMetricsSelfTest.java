@@ -18,10 +18,13 @@
 package org.apache.ignite.internal.processors.cache.persistence;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.OpenOption;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -48,6 +51,10 @@ import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.processors.cache.WalStateManager.WALDisableContext;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
 import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
 import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentRouter;
@@ -63,10 +70,13 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.spi.metric.HistogramMetric;
 import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
 import static java.util.Collections.emptyList;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
 import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
 import static org.apache.ignite.cache.CacheMode.PARTITIONED;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
@@ -75,6 +85,7 @@ import static org.apache.ignite.internal.processors.cache.CacheGroupMetricsImpl.
 import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.HEADER_RECORD_SIZE;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.testframework.GridTestUtils.runMultiThreaded;
 import static org.apache.ignite.testframework.GridTestUtils.setFieldValue;
 import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
 
@@ -393,6 +404,98 @@ public class IgniteDataStorageMetricsSelfTest extends GridCommonAbstractTest {
         assertEquals(exp, dsMetricRegistry(n).<LongAdderMetric>findMetric("WalWrittenBytes").value());
     }
 
+    /**
+     * Checking that the WAL group commit metrics are updated when transactions are committed in FSYNC mode.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER, value = "true")
+    public void testWalGroupCommitMetrics() throws Exception {
+        IgniteEx n = startGrid(0, (UnaryOperator<IgniteConfiguration>)cfg -> {
+            cfg.getDataStorageConfiguration()
+                .setWalMode(WALMode.FSYNC)
+                .setWalFsyncDelayNanos(U.millisToNanos(1))
+                .setFileIOFactory(new RandomAccessFileIOFactory());
+
+            return cfg;
+        });
+
+        n.cluster().state(ACTIVE);
+        awaitPartitionMapExchange();
+
+        IgniteCache<Object, Object> cache = n.cache("cache");
+
+        runMultiThreaded(() -> {
+            for (int i = 0; i < 100; i++)
+                cache.put(ThreadLocalRandom.current().nextLong(), new byte[128]);
+        }, 8, "wal-group-commit-loader");
+
+        MetricRegistry mreg = dsMetricRegistry(n);
+
+        HistogramMetric batchSize = mreg.findMetric("WalGroupCommitBatchSizeHistogram");
+        HistogramMetric waitTime = mreg.findMetric("WalGroupCommitWaitTimeHistogram");
+
+        long batches = Arrays.stream(batchSize.value()).sum();
+        long waits = Arrays.stream(waitTime.value()).sum();
+
+        assertTrue("Unexpected batches number: " + batches, batches > 0);
+        assertTrue("Unexpected waits number: " + waits, waits >= batches);
+    }
+
+    /**
+     * Checking that concurrent commits in FSYNC mode are covered by fewer WAL fsyncs than the number of committers.
+     * WAL is not memory mapped, so every fsync is a {@link FileIO#force()} of the segment.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WAL_FSYNC_WITH_DEDICATED_WORKER, value = "true")
+    @WithSystemProperty(key = IGNITE_WAL_MMAP, value = "false")
+    public void testWalGroupCommitCoalescesFsyncs() throws Exception {
+        int writers = 16;
+
+        WalForceCountingFileIOFactory ioFactory = new WalForceCountingFileIOFactory(new RandomAccessFileIOFactory());
+
+        IgniteEx n = startGrid(0, (UnaryOperator<IgniteConfiguration>)cfg -> {
+            cfg.getDataStorageConfiguration()
+                .setWalMode(WALMode.FSYNC)
+                .setWalFsyncDelayNanos(U.millisToNanos(100))
+                .setFileIOFactory(ioFactory);
+
+            return cfg;
+        });
+
+        n.cluster().state(ACTIVE);
+        awaitPartitionMapExchange();
+
+        IgniteCache<Object, Object> cache = n.cache("cache");
+
+        // Warm up the cache, so the concurrent puts below don't allocate pages and log extra records.
+        for (int i = 0; i < writers; i++)
+            cache.put(i, new byte[128]);
+
+        CyclicBarrier barrier = new CyclicBarrier(writers);
+
+        AtomicInteger idx = new AtomicInteger();
+
+        long forcesBefore = ioFactory.forces.get();
+
+        runMultiThreaded(() -> {
+            int key = idx.getAndIncrement();
+
+            barrier.await();
+
+            cache.put(key, new byte[128]);
+
+            return null;
+        }, writers, "wal-group-commit-writer");
+
+        long forces = ioFactory.forces.get() - forcesBefore;
+
+        assertTrue("Unexpected WAL fsyncs number: " + forces, forces > 0 && forces < writers);
+    }
+
     /**
      * Checking that the metrics of the total size compressed segment are working correctly.
      *
@@ -625,4 +728,49 @@ public class IgniteDataStorageMetricsSelfTest extends GridCommonAbstractTest {
 
         assertEquals(exp, dsMetricRegistry(n).<LongAdderMetric>findMetric("WalCompressedBytes").value());
     }
+
+    /**
+     * Counts fsyncs of WAL segments.
+     */
+    private static class WalForceCountingFileIOFactory implements FileIOFactory {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** */
+        private final FileIOFactory delegate;
+
+        /** Number of WAL segment fsyncs. */
+        private final AtomicLong forces = new AtomicLong();
+
+        /**
+         * @param delegate Delegate.
+         */
+        WalForceCountingFileIOFactory(FileIOFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        /** {@inheritDoc} */
+        @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+            FileIO io = delegate.create(file, modes);
+
+            if (!file.getName().endsWith(".wal"))
+                return io;
+
+            return new FileIODecorator(io) {
+                /** {@inheritDoc} */
+                @Override public void force() throws IOException {
+                    forces.incrementAndGet();
+
+                    super.force();
+                }
+
+                /** {@inheritDoc} */
+                @Override public void force(boolean withMetadata) throws IOException {
+                    forces.incrementAndGet();
+
+                    super.force(withMetadata);
+                }
+            };
+        }
+    }
 }
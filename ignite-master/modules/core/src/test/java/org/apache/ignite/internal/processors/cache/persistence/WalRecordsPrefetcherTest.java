@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.wal.record.SwitchSegmentRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.lang.IgniteThrowableSupplier;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests of {@link WalRecordsPrefetcher}.
+ */
+public class WalRecordsPrefetcherTest {
+    /** Per test timeout */
+    @Rule
+    public Timeout globalTimeout = new Timeout((int)GridTestUtils.DFLT_TEST_TIMEOUT);
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecordsOrder() throws Exception {
+        int cnt = 10_000;
+
+        WalRecordsPrefetcher prefetcher = prefetcher(cnt, null);
+
+        try {
+            for (int i = 0; i < cnt; i++) {
+                assertTrue(prefetcher.hasNext());
+
+                assertEquals(i, prefetcher.next().position().fileOffset());
+            }
+
+            assertNull(prefetcher.next());
+            assertFalse(prefetcher.hasNext());
+            assertNull(prefetcher.next());
+        }
+        finally {
+            prefetcher.stop();
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testErrorAfterRecords() throws Exception {
+        int cnt = 300;
+
+        IgniteCheckedException err = new IgniteCheckedException("Test");
+
+        WalRecordsPrefetcher prefetcher = prefetcher(cnt, err);
+
+        try {
+            for (int i = 0; i < cnt; i++)
+                assertEquals(i, prefetcher.next().position().fileOffset());
+
+            try {
+                prefetcher.next();
+
+                fail("Exception expected.");
+            }
+            catch (IgniteCheckedException e) {
+                assertSame(err, e);
+            }
+
+            assertFalse(prefetcher.hasNext());
+        }
+        finally {
+            prefetcher.stop();
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStopBeforeEnd() throws Exception {
+        WalRecordsPrefetcher prefetcher = prefetcher(Integer.MAX_VALUE, null);
+
+        for (int i = 0; i < 10; i++)
+            assertEquals(i, prefetcher.next().position().fileOffset());
+
+        // Returns only when the reader is stopped.
+        prefetcher.stop();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSourcesOrder() throws Exception {
+        int[] cnts = {1000, 0, 1, 5000, 256, 257, 3000};
+
+        List<IgniteThrowableSupplier<WALRecord>> srcs = new ArrayList<>();
+
+        for (int i = 0; i < cnts.length; i++)
+            srcs.add(source(i, cnts[i], null));
+
+        WalRecordsPrefetcher prefetcher = new WalRecordsPrefetcher("test", new NullLogger(), 3, srcs);
+
+        prefetcher.start();
+
+        try {
+            for (int i = 0; i < cnts.length; i++) {
+                for (int j = 0; j < cnts[i]; j++) {
+                    WALPointer ptr = prefetcher.next().position();
+
+                    assertEquals(i, ptr.index());
+                    assertEquals(j, ptr.fileOffset());
+                    assertEquals(i, prefetcher.source());
+                }
+            }
+
+            assertNull(prefetcher.next());
+            assertFalse(prefetcher.hasNext());
+        }
+        finally {
+            prefetcher.stop();
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSourceError() throws Exception {
+        int cnt = 1000;
+
+        IgniteCheckedException err = new IgniteCheckedException("Test");
+
+        List<IgniteThrowableSupplier<WALRecord>> srcs = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++)
+            srcs.add(source(i, cnt, i == 2 ? err : null));
+
+        WalRecordsPrefetcher prefetcher = new WalRecordsPrefetcher("test", new NullLogger(), 4, srcs);
+
+        prefetcher.start();
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < cnt; j++)
+                    assertEquals(new WALPointer(i, j, 0), prefetcher.next().position());
+            }
+
+            try {
+                prefetcher.next();
+
+                fail("Exception expected.");
+            }
+            catch (IgniteCheckedException e) {
+                assertSame(err, e);
+            }
+
+            assertEquals(2, prefetcher.source());
+            assertFalse(prefetcher.hasNext());
+            assertNull(prefetcher.next());
+        }
+        finally {
+            prefetcher.stop();
+        }
+    }
+
+    /**
+     * @param cnt Number of records to read.
+     * @param err Error to throw after all the records are read.
+     * @return Started prefetcher.
+     */
+    private static WalRecordsPrefetcher prefetcher(int cnt, IgniteCheckedException err) {
+        WalRecordsPrefetcher prefetcher = new WalRecordsPrefetcher("test", new NullLogger(), source(0, cnt, err));
+
+        prefetcher.start();
+
+        return prefetcher;
+    }
+
+    /**
+     * @param idx Segment index of the records.
+     * @param cnt Number of records to read.
+     * @param err Error to throw after all the records are read.
+     * @return Records source.
+     */
+    private static IgniteThrowableSupplier<WALRecord> source(int idx, int cnt, IgniteCheckedException err) {
+        AtomicInteger off = new AtomicInteger();
+
+        return () -> {
+            int i = off.getAndIncrement();
+
+            if (i == cnt) {
+                if (err != null)
+                    throw err;
+
+                return null;
+            }
+
+            WALRecord rec = new SwitchSegmentRecord();
+
+            rec.position(new WALPointer(idx, i, 0));
+
+            return rec;
+        };
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.processors.cache.persistence.StorageException;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadWriteManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.logger.NullLogger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link CheckpointPageDeltas}.
+ */
+public class CheckpointPageDeltasTest {
+    /** Page size. */
+    private static final int PAGE_SIZE = 4096;
+
+    /** Cache group ID. */
+    private static final int GRP_ID = 1;
+
+    /** Page ID. */
+    private static final long PAGE_ID = PageIdUtils.pageId(0, FLAG_DATA, 5);
+
+    /** Routine checkpoint reason. */
+    private static final String ROUTINE = "timeout";
+
+    /** */
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    /** Pages written to the page store. */
+    private final Map<Long, byte[]> disk = new HashMap<>();
+
+    /** Number of full page writes. */
+    private final AtomicInteger writes = new AtomicInteger();
+
+    /** Deltas under test. */
+    private CheckpointPageDeltas deltas;
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testHotPageWrittenAsDelta() throws Exception {
+        deltas = create(tmp.getRoot());
+
+        ByteBuffer page = makeHot();
+
+        page.putLong(128, 42L);
+
+        checkpoint(ROUTINE, page);
+
+        assertEquals(0, writes.get());
+        assertTrue(deltas.hasDeltas());
+
+        // The page store keeps the old page, the delta is applied on read.
+        assertFalse(ByteBuffer.wrap(disk.get(PAGE_ID)).equals(withZeroCrc(page)));
+        assertEquals(withZeroCrc(page), read(false));
+
+        ByteBuffer withCrc = read(true);
+
+        assertTrue(PageIO.getCrc(withCrc) != 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLargeChangeWrittenInFull() throws Exception {
+        deltas = create(tmp.getRoot());
+
+        ByteBuffer page = makeHot();
+
+        for (int i = PageIO.COMMON_HEADER_END; i < PAGE_SIZE; i += 8)
+            page.putLong(i, i * 7L + 1);
+
+        checkpoint(ROUTINE, page);
+
+        assertEquals(1, writes.get());
+        assertFalse(deltas.hasDeltas());
+        assertEquals(withZeroCrc(page), read(false));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMergeByNonRoutineCheckpoint() throws Exception {
+        deltas = create(tmp.getRoot());
+
+        ByteBuffer page = makeHot();
+
+        page.putLong(256, 7L);
+
+        checkpoint(ROUTINE, page);
+
+        assertTrue(deltas.hasDeltas());
+
+        deltas.onCheckpointBegin("snapshot");
+
+        AtomicInteger merged = new AtomicInteger();
+
+        assertEquals(1, deltas.merge(store -> merged.incrementAndGet()));
+        assertEquals(1, merged.get());
+        assertFalse(deltas.hasDeltas());
+
+        deltas.persist();
+
+        assertEquals(withZeroCrc(page), ByteBuffer.wrap(disk.get(PAGE_ID)));
+        assertFalse(CheckpointPageDeltas.exists(tmp.getRoot()));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMergeOfIdlePage() throws Exception {
+        deltas = create(tmp.getRoot());
+
+        ByteBuffer page = makeHot();
+
+        page.putLong(256, 7L);
+
+        checkpoint(ROUTINE, page);
+
+        // The delta updated by the current checkpoint is kept.
+        assertEquals(0, deltas.merge(store -> {}));
+
+        deltas.onCheckpointBegin(ROUTINE);
+
+        assertEquals(1, deltas.merge(store -> {}));
+        assertEquals(withZeroCrc(page), ByteBuffer.wrap(disk.get(PAGE_ID)));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPersistAndRestore() throws Exception {
+        File dir = tmp.newFolder();
+
+        deltas = create(dir);
+
+        ByteBuffer page = makeHot();
+
+        page.putInt(1000, 0xCAFE);
+        page.putInt(3000, 0xBABE);
+
+        checkpoint(ROUTINE, page);
+
+        deltas.persist();
+
+        assertTrue(CheckpointPageDeltas.exists(dir));
+
+        deltas = create(dir);
+
+        deltas.restore();
+
+        assertTrue(deltas.hasDeltas());
+        assertEquals(withZeroCrc(page), read(false));
+
+        // Corrupts the delta file.
+        try (RandomAccessFile raf = new RandomAccessFile(new File(dir, CheckpointPageDeltas.FILE_NAME), "rw")) {
+            raf.seek(20);
+            raf.write(raf.read() + 1);
+        }
+
+        try {
+            create(dir).restore();
+
+            fail("Corrupted delta file was restored");
+        }
+        catch (StorageException ignored) {
+            // Expected.
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPartitionTruncateDropsDeltas() throws Exception {
+        deltas = create(tmp.getRoot());
+
+        ByteBuffer page = makeHot();
+
+        page.putLong(512, 1L);
+
+        checkpoint(ROUTINE, page);
+
+        deltas.onPartitionTruncated(GRP_ID, PageIdUtils.partId(PAGE_ID));
+
+        assertFalse(deltas.hasDeltas());
+    }
+
+    /**
+     * Diff ignores the CRC of the page.
+     */
+    @Test
+    public void testDiffIgnoresCrc() {
+        deltas = create(tmp.getRoot());
+
+        ByteBuffer page = newPage();
+
+        byte[] img = new byte[PAGE_SIZE];
+
+        page.get(img);
+
+        PageIO.setCrc(page, 0x12345678);
+
+        assertEquals(0, deltas.diff(img, page).length);
+
+        page.putShort(PageIO.COMMON_HEADER_END, (short)1);
+
+        assertEquals(4 + 8, deltas.diff(img, page).length);
+    }
+
+    /**
+     * Writes the page by {@link CheckpointPageDeltas#HOT_CHECKPOINTS} checkpoints.
+     *
+     * @return Page buffer.
+     * @throws IgniteCheckedException If failed.
+     */
+    private ByteBuffer makeHot() throws IgniteCheckedException {
+        ByteBuffer page = newPage();
+
+        for (int i = 0; i < CheckpointPageDeltas.HOT_CHECKPOINTS; i++) {
+            page.putLong(64, i);
+
+            checkpoint(ROUTINE, page);
+        }
+
+        writes.set(0);
+
+        return page;
+    }
+
+    /**
+     * Writes the page by a checkpoint the same way the checkpoint page writer does.
+     *
+     * @param reason Checkpoint reason.
+     * @param page Page buffer.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void checkpoint(String reason, ByteBuffer page) throws IgniteCheckedException {
+        deltas.onCheckpointBegin(reason);
+
+        if (!deltas.defer(GRP_ID, PAGE_ID, page))
+            deltas.write(GRP_ID, PAGE_ID, page, () -> writeToDisk(PAGE_ID, page));
+
+        deltas.merge(store -> {});
+    }
+
+    /**
+     * @param keepCrc Keep CRC flag.
+     * @return Page read from the page store.
+     * @throws IgniteCheckedException If failed.
+     */
+    private ByteBuffer read(boolean keepCrc) throws IgniteCheckedException {
+        ByteBuffer buf = ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+        pageManager().read(GRP_ID, PAGE_ID, buf, keepCrc);
+
+        buf.rewind();
+
+        return buf;
+    }
+
+    /**
+     * @param pageId Page ID.
+     * @param page Page buffer.
+     * @return Page store.
+     */
+    private PageStore writeToDisk(long pageId, ByteBuffer page) {
+        writes.incrementAndGet();
+
+        disk.put(pageId, withZeroCrc(page).array());
+
+        return null;
+    }
+
+    /**
+     * @param dir Directory.
+     * @return Deltas.
+     */
+    private CheckpointPageDeltas create(File dir) {
+        return new CheckpointPageDeltas(
+            dir,
+            new RandomAccessFileIOFactory(),
+            pageManager(),
+            grpId -> true,
+            16,
+            PAGE_SIZE,
+            new NullLogger()
+        );
+    }
+
+    /**
+     * @return Page manager over {@link #disk} which applies deltas on read.
+     */
+    private PageReadWriteManager pageManager() {
+        return new PageReadWriteManager() {
+            /** {@inheritDoc} */
+            @Override public void read(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) {
+                pageBuf.put(disk.get(pageId));
+
+                deltas.apply(grpId, pageId, pageBuf, keepCrc);
+            }
+
+            /** {@inheritDoc} */
+            @Override public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc)
+                throws IgniteCheckedException {
+                return deltas.write(grpId, pageId, pageBuf, () -> writeToDisk(pageId, pageBuf));
+            }
+
+            /** {@inheritDoc} */
+            @Override public long allocatePage(int grpId, int partId, byte flags) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * @return New page.
+     */
+    private static ByteBuffer newPage() {
+        ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+        page.putShort(PageIO.TYPE_OFF, PageIO.T_DATA);
+        page.putShort(PageIO.VER_OFF, (short)1);
+        page.putLong(PageIO.PAGE_ID_OFF, PAGE_ID);
+
+        return page;
+    }
+
+    /**
+     * @param page Page buffer.
+     * @return Copy of the page with zero CRC.
+     */
+    private static ByteBuffer withZeroCrc(ByteBuffer page) {
+        ByteBuffer copy = ByteBuffer.allocate(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+        ByteBuffer src = page.duplicate();
+
+        src.clear();
+
+        copy.put(src);
+
+        PageIO.setCrc(copy, 0);
+
+        copy.rewind();
+
+        return copy;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Set;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CacheAtomicityMode;
 import org.apache.ignite.cache.CacheWriteSynchronizationMode;
 import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
@@ -44,15 +45,19 @@ import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
 import org.apache.ignite.internal.pagemem.wal.record.RolloverType;
 import org.apache.ignite.internal.processors.cache.persistence.DummyPageIO;
 import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.CompactedSegmentBlocks;
 import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPACTION_BLOCK_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.ZIP_SUFFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPACTION_BLOCK_SIZE;
 
 /**
  *
@@ -156,6 +161,28 @@ public class WalCompactionTest extends GridCommonAbstractTest {
         testApplyingUpdatesFromCompactedWal(true);
     }
 
+    /**
+     * Tests applying updates from WAL archive compacted by small blocks. Such segments are read without decompression.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WAL_COMPACTION_BLOCK_SIZE, value = "65536")
+    public void testApplyingUpdatesFromWalCompactedByBlocks() throws Exception {
+        testApplyingUpdatesFromCompactedWal(false);
+    }
+
+    /**
+     * Tests applying updates from WAL archive compacted without splitting into blocks, as older versions do.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WAL_COMPACTION_BLOCK_SIZE, value = "0")
+    public void testApplyingUpdatesFromWalCompactedAsSingleEntry() throws Exception {
+        testApplyingUpdatesFromCompactedWal(false);
+    }
+
     /**
      * @param switchOffCompressor Switch off compressor after restart.
      * @throws Exception If failed.
@@ -203,6 +230,10 @@ public class WalCompactionTest extends GridCommonAbstractTest {
 
         assertTrue(walSegment.length() < WAL_SEGMENT_SIZE / 2); // Should be compressed at least in half.
 
+        int blockSize = IgniteSystemProperties.getInteger(IGNITE_WAL_COMPACTION_BLOCK_SIZE, DFLT_WAL_COMPACTION_BLOCK_SIZE);
+
+        assertEquals(blockSize > 0, CompactedSegmentBlocks.read(walSegment).blocks());
+
         stopAllGrids();
 
         File nodeLfsDir = new File(dbDir, nodeFolderName);
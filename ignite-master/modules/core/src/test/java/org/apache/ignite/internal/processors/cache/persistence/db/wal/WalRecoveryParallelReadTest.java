@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.db.wal.crc.WalTestUtils;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileDescriptor;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_RECOVERY_READER_THREAD_CNT;
+
+/**
+ * Tests binary memory recovery which reads archived WAL segments in parallel.
+ */
+@WithSystemProperty(key = GridCacheDatabaseSharedManager.IGNITE_PDS_SKIP_CHECKPOINT_ON_NODE_STOP, value = "true")
+@WithSystemProperty(key = IGNITE_WAL_RECOVERY_READER_THREAD_CNT, value = "3")
+public class WalRecoveryParallelReadTest extends GridCommonAbstractTest {
+    /** Size of WAL segment file. */
+    private static final int WAL_SEGMENT_SIZE = 1024 * 1024;
+
+    /** Size of a value. */
+    private static final int VALUE_SIZE = 4 * 1024;
+
+    /** Number of values written after the checkpoint, enough to fill about ten segments. */
+    private static final int CNT = 10 * WAL_SEGMENT_SIZE / VALUE_SIZE;
+
+    /** Minimum number of archived segments written after the checkpoint. */
+    private static final int MIN_ARCHIVED_SEGMENTS = 5;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalSegmentSize(WAL_SEGMENT_SIZE)
+                .setWalSegments(4)
+                .setWalMode(WALMode.LOG_ONLY)
+                .setCheckpointFrequency(Long.MAX_VALUE / 2)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(256L * 1024 * 1024)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecovery() throws Exception {
+        writeAfterCheckpoint();
+
+        stopGrid(0, true);
+
+        IgniteEx ignite = startGrid(0);
+
+        checkValues(ignite, 0, CNT);
+
+        // WAL is resumed after the last record read by the recovery.
+        putValues(ignite, CNT, 2 * CNT);
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        checkValues(ignite, 0, 2 * CNT);
+    }
+
+    /**
+     * Corrupted record in an archived segment read in parallel stops the node start.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCorruptedArchivedSegment() throws Exception {
+        long cpIdx = writeAfterCheckpoint();
+
+        IgniteEx ignite = grid(0);
+
+        File archiveDir = U.field(ignite.context().cache().context().wal(), "walArchiveDir");
+
+        stopGrid(0, true);
+
+        FileDescriptor desc = new FileDescriptor(new File(archiveDir, FileDescriptor.fileName(cpIdx + 2)));
+
+        WalTestUtils.corruptWalSegmentFile(desc, new IgniteWalIteratorFactory(log), new Random());
+
+        GridTestUtils.assertThrows(log, () -> startGrid(0), Exception.class, null);
+    }
+
+    /**
+     * Writes values, makes a checkpoint and writes values to several segments after it.
+     *
+     * @return Index of the segment of the checkpoint.
+     * @throws Exception If failed.
+     */
+    private long writeAfterCheckpoint() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        putValues(ignite, CNT, 2 * CNT);
+
+        forceCheckpoint(ignite);
+
+        IgniteWriteAheadLogManager wal = ignite.context().cache().context().wal();
+
+        long cpIdx = wal.currentSegment();
+
+        putValues(ignite, 0, CNT);
+
+        assertTrue(GridTestUtils.waitForCondition(
+            () -> wal.lastArchivedSegment() >= cpIdx + MIN_ARCHIVED_SEGMENTS, getTestTimeout()));
+
+        return cpIdx;
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @param from First key.
+     * @param to Last key, exclusive.
+     */
+    private static void putValues(IgniteEx ignite, int from, int to) {
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = from; i < to; i++)
+            cache.put(i, value(i));
+    }
+
+    /**
+     * @param ignite Ignite.
+     * @param from First key.
+     * @param to Last key, exclusive.
+     */
+    private static void checkValues(IgniteEx ignite, int from, int to) {
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = from; i < to; i++)
+            assertTrue("Wrong value [key=" + i + ']', Arrays.equals(value(i), cache.get(i)));
+    }
+
+    /**
+     * @param key Key.
+     * @return Value.
+     */
+    private static byte[] value(int key) {
+        byte[] val = new byte[VALUE_SIZE];
+
+        Arrays.fill(val, (byte)key);
+
+        return val;
+    }
+}
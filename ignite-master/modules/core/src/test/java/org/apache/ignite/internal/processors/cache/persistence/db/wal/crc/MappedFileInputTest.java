@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal.crc;
+
+import java.io.EOFException;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferExpander;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.FileInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.MappedFileInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.MappedSegmentFileInputFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFileInputFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.SimpleFileInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.SimpleSegmentFileInputFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of {@link MappedFileInput}.
+ */
+public class MappedFileInputTest {
+    /** Number of entries in the file. */
+    private static final int ENTRIES = 1024;
+
+    /** Size of an entry: three integers and CRC. */
+    private static final int ENTRY_SIZE = 16;
+
+    /** File. */
+    private File file;
+
+    /** Values written to the file. */
+    private int[] vals;
+
+    /** */
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("mapped", "dat");
+        file.deleteOnExit();
+
+        vals = new int[ENTRIES * 3];
+
+        ByteBuffer buf = ByteBuffer.allocate(ENTRIES * ENTRY_SIZE).order(ByteOrder.nativeOrder());
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            int start = buf.position();
+
+            for (int j = 0; j < 3; j++)
+                buf.putInt(vals[i * 3 + j] = rnd.nextInt());
+
+            buf.position(start);
+            buf.putInt(FastCrc.calcCrc(buf, 12));
+        }
+
+        buf.rewind();
+
+        try (FileIO io = new RandomAccessFileIOFactory().create(file)) {
+            io.writeFully(buf);
+            io.force();
+        }
+    }
+
+    /** */
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Checks CRC of entries read through the mapped input, chunks of the mapping split the entries.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadWithCrc() throws Exception {
+        checkRead(new MappedSegmentFileInputFactory(), 7);
+        checkRead(new MappedSegmentFileInputFactory(), ENTRY_SIZE);
+        checkRead(new MappedSegmentFileInputFactory(), ENTRY_SIZE * 10 + 3);
+        checkRead(new MappedSegmentFileInputFactory(), ENTRIES * ENTRY_SIZE * 2);
+    }
+
+    /**
+     * Checks CRC of entries read through the buffered input, refills of the buffer split the entries.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadWithCrcBuffered() throws Exception {
+        checkRead(new SimpleSegmentFileInputFactory(), 7);
+        checkRead(new SimpleSegmentFileInputFactory(), ENTRY_SIZE);
+        checkRead(new SimpleSegmentFileInputFactory(), ENTRY_SIZE * 10 + 3);
+        checkRead(new SimpleSegmentFileInputFactory(), ENTRIES * ENTRY_SIZE * 2);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadLineAndUtf() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocate(64).order(ByteOrder.nativeOrder());
+
+        buf.put("line1\nline2\r\nline3\r".getBytes());
+
+        buf.putShort((short)3);
+        buf.put("utf".getBytes());
+
+        buf.put("last".getBytes());
+
+        buf.flip();
+
+        try (FileIO io = new RandomAccessFileIOFactory().create(file)) {
+            io.clear();
+            io.writeFully(buf);
+            io.force();
+        }
+
+        try (SegmentIO io = new SegmentIO(0, new RandomAccessFileIOFactory().create(file, READ));
+             ByteBufferExpander expBuf = new ByteBufferExpander(4, ByteOrder.nativeOrder())) {
+            FileInput in = new MappedSegmentFileInputFactory().createFileInput(io, expBuf);
+
+            assertEquals("line1", in.readLine());
+            assertEquals("line2", in.readLine());
+            assertEquals("line3", in.readLine());
+            assertEquals("utf", in.readUTF());
+            assertEquals("last", in.readLine());
+            assertNull(in.readLine());
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIntegrityViolation() throws Exception {
+        int pos = ThreadLocalRandom.current().nextInt(0, (ENTRIES - 1) * ENTRY_SIZE);
+
+        try (FileIO io = new RandomAccessFileIOFactory().create(file)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+
+            io.read(b, pos);
+
+            b.put(0, (byte)(b.get(0) ^ (1 << 3)));
+
+            b.rewind();
+
+            io.write(b, pos);
+            io.force();
+        }
+
+        try {
+            checkRead(new MappedSegmentFileInputFactory(), ENTRY_SIZE * 4);
+
+            fail();
+        }
+        catch (IgniteDataIntegrityViolationException ignore) {
+            // No-op.
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSkipAndSeek() throws Exception {
+        try (SegmentIO io = new SegmentIO(0, new RandomAccessFileIOFactory().create(file, READ));
+             ByteBufferExpander expBuf = new ByteBufferExpander(ENTRY_SIZE, ByteOrder.nativeOrder())) {
+            FileInput in = new MappedSegmentFileInputFactory().createFileInput(io, expBuf);
+
+            assertTrue(in instanceof MappedFileInput);
+
+            in.skipBytes(ENTRY_SIZE * 5);
+
+            assertEquals(vals[5 * 3], in.readInt());
+            assertEquals(ENTRY_SIZE * 5 + 4, in.position());
+
+            in.seek(ENTRY_SIZE * 2);
+
+            assertEquals(vals[2 * 3], in.readInt());
+
+            in.seek((ENTRIES - 1) * ENTRY_SIZE);
+
+            in.skipBytes(ENTRY_SIZE - 4);
+
+            assertEquals(ENTRIES * ENTRY_SIZE, io.position());
+
+            in.readInt();
+
+            try {
+                in.readInt();
+
+                fail();
+            }
+            catch (EOFException ignore) {
+                // No-op.
+            }
+        }
+    }
+
+    /**
+     * Checks that the input and the underlying file I/O have the same positions as in the case of buffered reading.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFileIoPosition() throws Exception {
+        try (SegmentIO io = new SegmentIO(0, new RandomAccessFileIOFactory().create(file, READ))) {
+            try (ByteBufferExpander expBuf = new ByteBufferExpander(ENTRY_SIZE, ByteOrder.nativeOrder())) {
+                FileInput in = new MappedSegmentFileInputFactory().createFileInput(io, expBuf);
+
+                in.ensure(ENTRY_SIZE);
+
+                assertEquals(ENTRY_SIZE, io.position());
+            }
+
+            try (ByteBufferExpander expBuf = new ByteBufferExpander(ENTRY_SIZE * 4, ByteOrder.nativeOrder())) {
+                FileInput in = new MappedSegmentFileInputFactory().createFileInput(io, expBuf);
+
+                assertEquals(ENTRY_SIZE, in.position());
+
+                assertEquals(vals[3], in.readInt());
+
+                assertEquals(ENTRY_SIZE * 5, io.position());
+            }
+        }
+    }
+
+    /**
+     * Reads all the entries and checks them.
+     *
+     * @param factory Input factory.
+     * @param bufSize Buffer size which defines the chunks of the mapping or the size of the read buffer.
+     * @throws Exception If failed.
+     */
+    private void checkRead(SegmentFileInputFactory factory, int bufSize) throws Exception {
+        try (SegmentIO io = new SegmentIO(0, new RandomAccessFileIOFactory().create(file, READ));
+             ByteBufferExpander expBuf = new ByteBufferExpander(bufSize, ByteOrder.nativeOrder())) {
+            FileInput in = factory.createFileInput(io, expBuf);
+
+            assertTrue(in instanceof MappedFileInput || in instanceof SimpleFileInput);
+
+            int[] read = new int[3];
+
+            for (int i = 0; i < ENTRIES; i++) {
+                try (FileInput.Crc32CheckingFileInput crcIn = in.startRead(false)) {
+                    for (int j = 0; j < 3; j++)
+                        read[j] = crcIn.readInt();
+                }
+
+                for (int j = 0; j < 3; j++)
+                    assertEquals(vals[i * 3 + j], read[j]);
+            }
+
+            assertEquals(ENTRIES * ENTRY_SIZE, in.position());
+        }
+    }
+}
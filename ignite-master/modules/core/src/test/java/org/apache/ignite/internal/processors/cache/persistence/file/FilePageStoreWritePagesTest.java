@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.OpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests writing of adjacent pages by {@link FilePageStore#write(long[], ByteBuffer[], int, boolean)}.
+ */
+public class FilePageStoreWritePagesTest {
+    /** Page size. */
+    private static final int PAGE_SIZE = 4096;
+
+    /** Partition ID. */
+    private static final int PART_ID = 1;
+
+    /** Number of pages to write. */
+    private static final int PAGES = 8;
+
+    /** */
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    /** Number of write requests to the file. */
+    private final AtomicInteger writes = new AtomicInteger();
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAdjacentBuffers() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocateDirect(PAGE_SIZE * PAGES);
+
+        ByteBuffer[] bufs = new ByteBuffer[PAGES];
+
+        for (int i = 0; i < PAGES; i++) {
+            buf.limit((i + 1) * PAGE_SIZE);
+            buf.position(i * PAGE_SIZE);
+
+            bufs[i] = buf.slice().order(ByteOrder.nativeOrder());
+        }
+
+        checkWrite(bufs, 1);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSeparateBuffers() throws Exception {
+        ByteBuffer[] bufs = new ByteBuffer[PAGES];
+
+        for (int i = 0; i < PAGES; i++)
+            bufs[i] = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+        checkWrite(bufs, PAGES);
+    }
+
+    /**
+     * Writes pages and checks they are read from the store.
+     *
+     * @param bufs Page buffers.
+     * @param expWrites Expected number of write requests to the file.
+     * @throws Exception If failed.
+     */
+    private void checkWrite(ByteBuffer[] bufs, int expWrites) throws Exception {
+        FileIOFactory ioFactory = new FileIOFactory() {
+            /** {@inheritDoc} */
+            @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+                return new FileIODecorator(new RandomAccessFileIOFactory().create(file, modes)) {
+                    /** {@inheritDoc} */
+                    @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+                        writes.incrementAndGet();
+
+                        return super.write(srcBuf, position);
+                    }
+                };
+            }
+        };
+
+        FilePageStore store = (FilePageStore)new FileVersionCheckingFactory(ioFactory, ioFactory, () -> PAGE_SIZE)
+            .createPageStore(PageStore.TYPE_DATA, tmp.newFile("part-1.bin"), allocated -> {});
+
+        try {
+            // The first page is the partition meta page.
+            store.allocatePage();
+
+            long[] pageIds = new long[PAGES];
+
+            for (int i = 0; i < PAGES; i++) {
+                pageIds[i] = PageIdUtils.pageId(PART_ID, FLAG_DATA, (int)store.allocatePage());
+
+                fill(bufs[i], pageIds[i]);
+            }
+
+            writes.set(0);
+
+            store.write(pageIds, bufs, 0, true);
+
+            assertEquals(expWrites, writes.get());
+
+            ByteBuffer readBuf = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+            ByteBuffer expBuf = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+
+            for (int i = 0; i < PAGES; i++) {
+                readBuf.clear();
+
+                store.read(pageIds[i], readBuf, false);
+
+                fill(expBuf, pageIds[i]);
+
+                readBuf.rewind();
+
+                assertEquals("Wrong page " + i, expBuf, readBuf);
+            }
+        }
+        finally {
+            store.stop(true);
+        }
+    }
+
+    /**
+     * @param buf Page buffer.
+     * @param pageId Page ID.
+     */
+    private static void fill(ByteBuffer buf, long pageId) {
+        buf.clear();
+
+        for (int i = 0; i < PAGE_SIZE; i += 8)
+            buf.putLong(i, pageId * 31 + i);
+
+        buf.putShort(PageIO.TYPE_OFF, PageIO.T_DATA);
+        buf.putShort(PageIO.VER_OFF, (short)1);
+        PageIO.setCrc(buf, 0);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests of {@link UnzipFileIO}.
+ */
+public class UnzipFileIOTest {
+    /** Sizes of the zip entries. */
+    private static final int[] ENTRY_SIZES = {1000, 0, 300_000, 1, 0, 50_000};
+
+    /** */
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSequentialRead() throws Exception {
+        try (UnzipFileIO io = new UnzipFileIO(zip())) {
+            assertEquals(totalSize(), io.size());
+
+            checkData(io, 0, totalSize());
+
+            assertEquals(totalSize(), io.position());
+            assertEquals(-1, io.read(ByteBuffer.allocate(10)));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRandomPositions() throws Exception {
+        int size = totalSize();
+
+        int[] positions = {size / 2, 1000, 999, size - 1, 0, 1001, 301_000, 1002, size};
+
+        try (UnzipFileIO io = new UnzipFileIO(zip())) {
+            for (int pos : positions) {
+                io.position(pos);
+
+                assertEquals(pos, io.position());
+
+                checkData(io, pos, Math.min(size - pos, 10_000));
+            }
+        }
+    }
+
+    /**
+     * Reads data from the current position and checks it.
+     *
+     * @param io File IO.
+     * @param pos Current position.
+     * @param len Number of bytes to check.
+     * @throws IOException If failed.
+     */
+    private static void checkData(UnzipFileIO io, int pos, int len) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(len);
+
+        while (buf.hasRemaining()) {
+            if (io.read(buf) == -1)
+                throw new IOException("Unexpected end of data.");
+        }
+
+        buf.flip();
+
+        for (int i = 0; i < len; i++)
+            assertEquals("Wrong byte at " + (pos + i), value(pos + i), buf.get());
+    }
+
+    /**
+     * @return Zip file of several entries whose data forms a sequence of {@link #value(int)}.
+     * @throws IOException If failed.
+     */
+    private File zip() throws IOException {
+        File zip = tmp.newFile("test.zip");
+
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zip))) {
+            int pos = 0;
+
+            for (int i = 0; i < ENTRY_SIZES.length; i++) {
+                zos.putNextEntry(new ZipEntry("entry" + i));
+
+                for (int j = 0; j < ENTRY_SIZES[i]; j++)
+                    zos.write(value(pos++));
+
+                zos.closeEntry();
+            }
+        }
+
+        return zip;
+    }
+
+    /**
+     * @param pos Position.
+     * @return Byte value of the data at the given position.
+     */
+    private static byte value(int pos) {
+        return (byte)(pos * 31 + pos / 251);
+    }
+
+    /**
+     * @return Total size of the entries.
+     */
+    private static int totalSize() {
+        int size = 0;
+
+        for (int s : ENTRY_SIZES)
+            size += s;
+
+        return size;
+    }
+}
@@ -632,4 +632,88 @@ public class IgniteThrottlingUnitTest extends GridCommonAbstractTest {
         // verify progress speed to make a conclusion about progress itself
         assertThat(throttle.getCpWriteSpeed(), is(0L));
     }
+
+    /***/
+    @Test
+    public void adaptiveThrottleShouldNotThrottleWhenCheckpointIsNotRunning() {
+        AtomicInteger parks = new AtomicInteger();
+
+        PagesWriteAdaptiveThrottle throttle = new PagesWriteAdaptiveThrottle(pageMemory2g, cpProvider,
+            stateChecker, log) {
+            @Override protected void doPark(long throttleParkTimeNs) {
+                parks.incrementAndGet();
+            }
+        };
+
+        when(pageMemory2g.getDirtyPagesRatio()).thenReturn(0.74);
+        when(progress.writtenPagesCounter()).thenReturn(null);
+
+        throttle.onMarkDirty(false);
+
+        assertEquals(0, parks.get());
+        assertEquals(0, throttle.targetRate());
+        assertEquals(0, throttle.currentParkTime());
+    }
+
+    /***/
+    @Test
+    public void adaptiveThrottleShouldPaceWritersByDrainRateWhenPressureIsHigh() {
+        PagesWriteAdaptiveThrottle throttle = new PagesWriteAdaptiveThrottle(pageMemory2g, cpProvider,
+            stateChecker, log);
+
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        tracker.onPagesWriteStart();
+        tracker.onPagesRunWritten(1000);
+
+        long drainRate = TimeUnit.SECONDS.toNanos(1) / tracker.pageServiceTimeNanos();
+
+        when(pageMemory2g.getDirtyPagesRatio()).thenReturn(0.7);
+        when(progress.writtenPagesCounter()).thenReturn(new AtomicInteger(1000));
+        when(progress.metricsTracker()).thenReturn(tracker);
+
+        throttle.onMarkDirty(false);
+
+        assertEquals(0.7 / 0.75, throttle.pressure(), 1e-9);
+        assertThat(throttle.targetRate(), is(greaterThan(0L)));
+        assertTrue(throttle.targetRate() < drainRate);
+
+        throttle.onFinishCheckpoint();
+
+        assertEquals(0, throttle.targetRate());
+    }
+
+    /***/
+    @Test
+    public void adaptiveThrottleControllerShouldReactToPressure() {
+        PagesWriteAdaptiveThrottle throttle = new PagesWriteAdaptiveThrottle(pageMemory2g, cpProvider,
+            stateChecker, log);
+
+        double fraction = throttle.rateFraction(0.9, 0);
+
+        assertTrue(fraction < 1);
+
+        // Sustained error must increase throttling by the integral term.
+        assertTrue(throttle.rateFraction(0.9, PagesWriteAdaptiveThrottle.CONTROL_INTERVAL_NS) < fraction);
+
+        // Growing pressure must increase throttling by the derivative term.
+        assertTrue(throttle.rateFraction(1.0, PagesWriteAdaptiveThrottle.CONTROL_INTERVAL_NS) < fraction);
+
+        PagesWriteAdaptiveThrottle relaxed = new PagesWriteAdaptiveThrottle(pageMemory2g, cpProvider,
+            stateChecker, log);
+
+        assertTrue(relaxed.rateFraction(0.3, 0) > 1);
+    }
+
+    /***/
+    @Test
+    public void adaptiveThrottlePressureAndParkTime() {
+        assertEquals(0.5, PagesWriteAdaptiveThrottle.pressure(0.375, 0, 100), 1e-9);
+        // The Checkpoint Buffer fill threshold is a float.
+        assertEquals(0.75, PagesWriteAdaptiveThrottle.pressure(0.1, 50, 100), 1e-6);
+
+        assertEquals(0, PagesWriteAdaptiveThrottle.parkTime(1000, 500, 4));
+        assertEquals(0, PagesWriteAdaptiveThrottle.parkTime(0, 500, 4));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(4), PagesWriteAdaptiveThrottle.parkTime(1000, 2000, 4));
+    }
 }
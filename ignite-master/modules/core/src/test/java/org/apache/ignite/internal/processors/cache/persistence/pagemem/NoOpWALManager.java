@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.cache.persistence.pagemem;
 
 import java.io.File;
+import java.util.function.IntPredicate;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
@@ -88,6 +89,15 @@ public class NoOpWALManager implements IgniteWriteAheadLogManager {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override public WALIterator replay(
+        WALPointer start,
+        @Nullable IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordDeserializeFilter,
+        @Nullable IntPredicate cacheIdFilter
+    ) throws IgniteCheckedException, StorageException {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean reserve(WALPointer start) {
         return false;
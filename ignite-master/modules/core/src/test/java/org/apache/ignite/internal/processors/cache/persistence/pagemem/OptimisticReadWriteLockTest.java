@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link OptimisticReadWriteLock}.
+ */
+public class OptimisticReadWriteLockTest {
+    /** Per test timeout */
+    @Rule
+    public Timeout globalTimeout = new Timeout((int)GridTestUtils.DFLT_TEST_TIMEOUT);
+
+    /**
+     * Optimistic reads fail while the write lock is held, including reentrant holds.
+     */
+    @Test
+    public void testOptimisticReadFailsUnderWriteLock() {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+
+        assertTrue(lock.tryOptimisticRead());
+        assertTrue(lock.isOptimisticReadHeld());
+
+        lock.endOptimisticRead();
+
+        assertFalse(lock.isOptimisticReadHeld());
+
+        lock.writeLock().lock();
+        lock.writeLock().lock();
+
+        assertEquals(1, lock.sequence() & 1);
+
+        lock.writeLock().unlock();
+
+        assertEquals(1, lock.sequence() & 1);
+        assertFalse(lock.tryOptimisticRead());
+        assertFalse(lock.isOptimisticReadHeld());
+
+        lock.writeLock().unlock();
+
+        assertEquals(0, lock.sequence() & 1);
+        assertTrue(lock.tryOptimisticRead());
+
+        lock.endOptimisticRead();
+
+        assertTrue(lock.writeLock().tryLock());
+
+        assertEquals(1, lock.sequence() & 1);
+
+        lock.writeLock().unlock();
+
+        assertEquals(4, lock.sequence());
+    }
+
+    /**
+     * The writer waits for optimistic readers to leave.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriterWaitsForOptimisticReaders() throws Exception {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+
+        assertTrue(lock.tryOptimisticRead());
+
+        CountDownLatch writerStarted = new CountDownLatch(1);
+
+        IgniteInternalFuture<?> writer = GridTestUtils.runAsync(() -> {
+            writerStarted.countDown();
+
+            lock.writeLock().lock();
+            lock.writeLock().unlock();
+        });
+
+        writerStarted.await();
+
+        U.sleep(200);
+
+        assertFalse(writer.isDone());
+
+        lock.endOptimisticRead();
+
+        writer.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Readers never observe a state modified by a writer.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadersExcludeWriters() throws Exception {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+
+        // Invariant: both values are equal outside of the write lock.
+        AtomicLong a = new AtomicLong();
+        AtomicLong b = new AtomicLong();
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        IgniteInternalFuture<?> writers = GridTestUtils.runMultiThreadedAsync(() -> {
+            while (!stop.get()) {
+                lock.writeLock().lock();
+
+                try {
+                    a.incrementAndGet();
+                    b.incrementAndGet();
+                }
+                finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }, 2, "writer");
+
+        IgniteInternalFuture<?> readers = GridTestUtils.runMultiThreadedAsync(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                if (lock.tryOptimisticRead()) {
+                    try {
+                        long a0 = a.get();
+
+                        Thread.yield();
+
+                        assertEquals(a0, b.get());
+                    }
+                    finally {
+                        lock.endOptimisticRead();
+                    }
+                }
+                else {
+                    lock.readLock().lock();
+
+                    try {
+                        assertEquals(a.get(), b.get());
+                    }
+                    finally {
+                        lock.readLock().unlock();
+                    }
+                }
+            }
+        }, 4, "reader");
+
+        try {
+            readers.get();
+        }
+        finally {
+            stop.set(true);
+
+            writers.get();
+        }
+    }
+}
@@ -419,6 +419,102 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             }, null);
     }
 
+    /**
+     * Checks that pages copied by a checkpoint, but written later as a part of a batch, are not replaced until the
+     * batch is written.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCheckpointProtocolCannotReplaceBatchedPage() throws Exception {
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager();
+
+        // Create a 1 mb page memory.
+        PageMemoryImpl memory = createPageMemory(
+            1,
+            PageMemoryImpl.ThrottlingPolicy.TARGET_RATIO_BASED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null);
+
+        int initPageCnt = 500;
+
+        List<FullPageId> allocated = new ArrayList<>(initPageCnt);
+
+        for (int i = 0; i < initPageCnt; i++) {
+            long id = memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX);
+
+            FullPageId fullId = new FullPageId(id, 1);
+            allocated.add(fullId);
+
+            writePage(memory, fullId, (byte)1);
+        }
+
+        memory.beginCheckpoint(new GridFinishedFuture());
+
+        int batchSize = 32;
+
+        Map<FullPageId, byte[]> batch = new HashMap<>();
+
+        List<Runnable> releases = new ArrayList<>();
+
+        // Copy pages like a checkpoint writer which delays writes until the batch is complete.
+        PageStoreWriter batchWriter = new PageStoreWriter() {
+            /** {@inheritDoc} */
+            @Override public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) {
+                fail("Page must be copied for the write: " + fullPageId);
+            }
+
+            /** {@inheritDoc} */
+            @Override public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag, Runnable release) {
+                byte[] data = new byte[PAGE_SIZE];
+
+                buf.get(data);
+
+                batch.put(fullPageId, data);
+
+                releases.add(release);
+            }
+        };
+
+        for (int i = 0; i < batchSize; i++)
+            memory.checkpointWritePage(allocated.get(i), ByteBuffer.allocate(PAGE_SIZE), batchWriter, null);
+
+        assertEquals(batchSize, releases.size());
+
+        boolean oom = false;
+
+        try {
+            // Try force page replacement.
+            while (true)
+                memory.allocatePage(1, INDEX_PARTITION, FLAG_IDX);
+        }
+        catch (IgniteOutOfMemoryException ex) {
+            oom = true;
+        }
+
+        assertTrue("Should oom before check replaced pages.", oom);
+
+        for (int i = 0; i < batchSize; i++) {
+            FullPageId fullId = allocated.get(i);
+
+            assertTrue("Batched page was replaced before write: " + fullId, memory.hasLoadedPage(fullId));
+            assertNull("Batched page was written on replacement: " + fullId, pageStoreMgr.storedPages.get(fullId));
+        }
+
+        pageStoreMgr.storedPages.putAll(batch);
+
+        releases.forEach(Runnable::run);
+
+        for (int i = 0; i < batchSize; i++) {
+            long page = memory.acquirePage(1, allocated.get(i).pageId());
+
+            assertEquals(1, PageHeader.pinCount(page));
+
+            memory.releasePage(1, allocated.get(i).pageId(), page);
+        }
+    }
+
     /**
      * @param mem Page memory.
      * @param fullPageId Full page ID to write.
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.logger.NullLogger;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link PageReadAhead}.
+ */
+public class PageReadAheadTest {
+    /** Cache group ID. */
+    private static final int GRP_ID = 1;
+
+    /** Partition ID. */
+    private static final int PART_ID = 3;
+
+    /** Read-ahead window. */
+    private static final int WINDOW = 8;
+
+    /** Pages count of the partition. */
+    private int pages = 100;
+
+    /** Max count of queued loads, {@code -1} for unbounded queue. */
+    private int queueCap = -1;
+
+    /** Queued loads. */
+    private final List<Runnable> queue = new ArrayList<>();
+
+    /** Indexes of loaded pages. */
+    private final List<Integer> loaded = new ArrayList<>();
+
+    /** Read-ahead under test. */
+    private final PageReadAhead readAhead = new PageReadAhead(WINDOW, new PageReadAhead.PageLoader() {
+        /** {@inheritDoc} */
+        @Override public int pages(int grpId, int partId) {
+            assertEquals(GRP_ID, grpId);
+            assertEquals(PART_ID, partId);
+
+            return pages;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void load(int grpId, long pageId) {
+            assertTrue(PageReplacementScanHint.active());
+
+            loaded.add(PageIdUtils.pageIndex(pageId));
+
+            // Page memory reports the miss of the loader thread.
+            readAhead.onAccess(grpId, pageId, true);
+        }
+    }, task -> {
+        if (queueCap >= 0 && queue.size() >= queueCap)
+            throw new RejectedExecutionException();
+
+        queue.add(task);
+    }, new NullLogger());
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSequentialMisses() throws Exception {
+        access(0, true);
+        access(1, true);
+
+        assertEquals(0, readAhead.requestedPages());
+
+        access(2, true);
+
+        assertEquals(WINDOW, readAhead.requestedPages());
+
+        runQueued();
+
+        assertEquals(range(3, 10), loaded);
+
+        // Loads of the loader thread do not start streams.
+        assertEquals(WINDOW, readAhead.requestedPages());
+
+        for (int i = 3; i < 6; i++)
+            access(i, false);
+
+        assertEquals(WINDOW, readAhead.requestedPages());
+
+        // The middle of the window is passed.
+        access(6, false);
+
+        runQueued();
+
+        assertEquals(range(3, 14), loaded);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRandomMisses() throws Exception {
+        access(10, true);
+        access(50, true);
+        access(5, true);
+        access(6, true);
+        access(40, true);
+        access(41, true);
+
+        // Accesses of loaded pages do not break the stream.
+        access(90, false);
+        access(1, false);
+
+        assertEquals(0, readAhead.requestedPages());
+
+        access(43, true);
+
+        runQueued();
+
+        assertEquals(range(44, 51), loaded);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPartitionEnd() throws Exception {
+        pages = 7;
+
+        access(0, true);
+        access(1, true);
+        access(2, true);
+
+        runQueued();
+
+        assertEquals(range(3, 6), loaded);
+
+        access(4, false);
+        access(5, false);
+        access(6, false);
+
+        assertEquals(4, readAhead.requestedPages());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOverloadedExecutor() throws Exception {
+        queueCap = 2;
+
+        access(0, true);
+        access(1, true);
+        access(2, true);
+
+        assertEquals(2, readAhead.requestedPages());
+        assertEquals(WINDOW - 2, readAhead.droppedPages());
+
+        runQueued();
+
+        queueCap = -1;
+
+        access(3, false);
+        access(4, false);
+
+        // Dropped pages are read by the thread itself, the next window is requested when the middle is passed.
+        access(5, true);
+
+        assertEquals(2, readAhead.requestedPages());
+
+        access(6, true);
+
+        runQueued();
+
+        List<Integer> exp = range(3, 4);
+
+        exp.addAll(range(7, 14));
+
+        assertEquals(exp, loaded);
+    }
+
+    /**
+     * @param idx Page index.
+     * @param miss Miss flag.
+     */
+    private void access(int idx, boolean miss) {
+        readAhead.onAccess(GRP_ID, PageIdUtils.pageId(PART_ID, FLAG_DATA, idx), miss);
+    }
+
+    /**
+     * Runs queued loads in a separate thread.
+     *
+     * @throws Exception If failed.
+     */
+    private void runQueued() throws Exception {
+        List<Runnable> tasks = new ArrayList<>(queue);
+
+        queue.clear();
+
+        Thread t = new Thread(() -> tasks.forEach(Runnable::run));
+
+        t.start();
+        t.join();
+    }
+
+    /**
+     * @param from First index.
+     * @param to Last index, inclusive.
+     * @return List of indexes.
+     */
+    private static List<Integer> range(int from, int to) {
+        List<Integer> res = new ArrayList<>();
+
+        for (int i = from; i <= to; i++)
+            res.add(i);
+
+        return res;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageList.NULL_IDX;
+
+/**
+ * Test 2Q list implementation.
+ */
+public class TwoQueuePageListTest extends GridCommonAbstractTest {
+    /** Max pages count. */
+    private static final int MAX_PAGES_CNT = 64;
+
+    /** Hot pages count. */
+    private static final int HOT_PAGES_CNT = 16;
+
+    /** Memory provider. */
+    private static DirectMemoryProvider provider;
+
+    /** Memory region. */
+    private static DirectMemoryRegion region;
+
+    /** 2Q list. */
+    private TwoQueuePageList list;
+
+    /** Loaded page IDs mapped to page indexes. */
+    private final Map<Long, Integer> loaded = new HashMap<>();
+
+    /** Page IDs by page indexes. */
+    private final long[] pageIds = new long[MAX_PAGES_CNT];
+
+    /** Free page indexes. */
+    private final Deque<Integer> free = new ArrayDeque<>();
+
+    /** */
+    @BeforeClass
+    public static void setUp() {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {TwoQueuePageList.requiredMemory(MAX_PAGES_CNT)});
+
+        region = provider.nextRegion();
+    }
+
+    /** */
+    @AfterClass
+    public static void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        list = new TwoQueuePageList(MAX_PAGES_CNT, region.address());
+
+        loaded.clear();
+        free.clear();
+
+        for (int i = 0; i < MAX_PAGES_CNT; i++)
+            free.add(i);
+    }
+
+    /** */
+    @Test
+    public void testVictim() {
+        assertEquals(NULL_IDX, list.victim(false));
+
+        list.add(0, hash(0), false);
+        list.add(1, hash(1), false);
+
+        // Protected queue is empty.
+        assertEquals(0, list.victim(false));
+
+        list.evict(0, hash(0));
+        list.add(0, hash(0), false);
+
+        assertTrue(list.protectedPage(0));
+
+        // Probation queue doesn't exceed the target.
+        assertEquals(0, list.victim(false));
+
+        for (int i = 2; i < MAX_PAGES_CNT; i++)
+            list.add(i, hash(i), false);
+
+        assertTrue(list.probationPagesCount() > list.probationTarget());
+
+        assertEquals(1, list.victim(false));
+        assertEquals(0, list.victim(true));
+
+        list.requeue(1);
+
+        assertEquals(2, list.victim(false));
+        assertEquals(1, list.next(MAX_PAGES_CNT - 1));
+    }
+
+    /** */
+    @Test
+    public void testHit() {
+        for (int i = 0; i < 3; i++) {
+            list.add(i, hash(i), false);
+            list.evict(i, hash(i));
+            list.add(i, hash(i), false);
+        }
+
+        assertEquals(0, list.protectedHeadIdx());
+        assertEquals(2, list.protectedTailIdx());
+
+        list.hit(0, true);
+
+        assertEquals(0, list.protectedHeadIdx());
+
+        list.hit(0, false);
+
+        assertEquals(1, list.protectedHeadIdx());
+        assertEquals(0, list.protectedTailIdx());
+
+        list.add(3, hash(3), true);
+
+        assertTrue(list.scanPage(3));
+
+        list.hit(3, false);
+
+        assertFalse(list.scanPage(3));
+        assertFalse(list.protectedPage(3));
+        assertEquals(3, list.probationHeadIdx());
+    }
+
+    /** */
+    @Test
+    public void testTargetAdaptation() {
+        int target = list.probationTarget();
+
+        list.add(0, hash(0), false);
+        list.evict(0, hash(0));
+        list.add(0, hash(0), false);
+
+        assertTrue(list.protectedPage(0));
+        assertTrue(list.probationTarget() > target);
+
+        target = list.probationTarget();
+
+        list.add(1, hash(1), false);
+        list.evict(1, hash(1));
+        list.add(1, hash(1), false);
+
+        assertTrue(list.probationTarget() > target);
+
+        target = list.probationTarget();
+
+        // Page evicted from the protected queue.
+        list.evict(1, hash(1));
+        list.add(1, hash(1), false);
+
+        assertTrue(list.protectedPage(1));
+        assertTrue(list.probationTarget() < target);
+
+        target = list.probationTarget();
+
+        // Pages loaded by a scan don't affect the target and are not remembered on eviction.
+        list.add(2, hash(2), true);
+        list.evict(2, hash(2));
+        list.add(2, hash(2), true);
+        list.evict(2, hash(2));
+        list.add(2, hash(2), false);
+
+        assertFalse(list.protectedPage(2));
+        assertEquals(target, list.probationTarget());
+    }
+
+    /** */
+    @Test
+    public void testScanDoesNotEvictHotPages() {
+        // Hot pages get to the protected queue after the first reload.
+        for (int round = 0; round < 3; round++) {
+            for (long pageId = 0; pageId < HOT_PAGES_CNT; pageId++)
+                access(pageId, false);
+
+            for (long pageId = 0; pageId < MAX_PAGES_CNT; pageId++)
+                access(1000 + round * MAX_PAGES_CNT + pageId, false);
+        }
+
+        for (long pageId = 0; pageId < HOT_PAGES_CNT; pageId++) {
+            assertTrue(loaded.containsKey(pageId));
+            assertTrue(list.protectedPage(loaded.get(pageId)));
+        }
+
+        int target = list.probationTarget();
+
+        for (long pageId = 0; pageId < MAX_PAGES_CNT * 100; pageId++)
+            access(100_000 + pageId, true);
+
+        for (long pageId = 0; pageId < HOT_PAGES_CNT; pageId++)
+            assertTrue("Hot page evicted: " + pageId, loaded.containsKey(pageId));
+
+        assertEquals(target, list.probationTarget());
+        assertEquals(MAX_PAGES_CNT, list.probationPagesCount() + list.protectedPagesCount());
+    }
+
+    /**
+     * Emulates an access to the page by the page memory.
+     *
+     * @param pageId Page ID.
+     * @param scan Scan flag.
+     */
+    private void access(long pageId, boolean scan) {
+        Integer idx = loaded.get(pageId);
+
+        if (idx != null) {
+            list.hit(idx, scan);
+
+            return;
+        }
+
+        if (free.isEmpty()) {
+            int victim = list.victim(false);
+
+            list.evict(victim, hash(pageIds[victim]));
+
+            loaded.remove(pageIds[victim]);
+
+            free.add(victim);
+        }
+
+        idx = free.poll();
+
+        pageIds[idx] = pageId;
+
+        loaded.put(pageId, idx);
+
+        list.add(idx, hash(pageId), scan);
+    }
+
+    /**
+     * @param pageId Page ID.
+     * @return Hash of the page ID.
+     */
+    private static int hash(long pageId) {
+        return FullPageId.hashCode(1, pageId);
+    }
+}
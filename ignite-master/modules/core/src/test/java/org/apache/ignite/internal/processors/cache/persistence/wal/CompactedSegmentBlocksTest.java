@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.ignite.testframework.GridTestUtils.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link CompactedSegmentBlocks}.
+ */
+public class CompactedSegmentBlocksTest {
+    /** */
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBlockPosition() throws Exception {
+        // Blocks start at offsets 0, 100 and 250 of the raw segment and hold 90, 120 and 10 bytes.
+        File zip = zip(CompactedSegmentBlocks.FORMAT_MARKER, new int[] {0, 100, 250}, new int[] {90, 120, 10});
+
+        CompactedSegmentBlocks blocks = CompactedSegmentBlocks.read(zip);
+
+        assertTrue(blocks.blocks());
+        assertTrue(blocks.matches(zip));
+
+        assertEquals(0, blocks.blockPosition(0));
+        assertEquals(0, blocks.blockPosition(99));
+        assertEquals(90, blocks.blockPosition(100));
+        assertEquals(90, blocks.blockPosition(249));
+        assertEquals(210, blocks.blockPosition(250));
+        assertEquals(210, blocks.blockPosition(Integer.MAX_VALUE));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSingleEntry() throws Exception {
+        CompactedSegmentBlocks blocks = CompactedSegmentBlocks.read(zip(null, new int[] {0}, new int[] {100}));
+
+        assertFalse(blocks.blocks());
+        assertEquals(0, blocks.blockPosition(50));
+    }
+
+    /**
+     * Several entries without the format marker can't be read as blocks.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testUnknownFormat() throws Exception {
+        File zip = zip(null, new int[] {0, 100}, new int[] {90, 10});
+
+        assertThrows(null, () -> CompactedSegmentBlocks.read(zip), IOException.class, "Unknown format");
+    }
+
+    /**
+     * @param comment Comment of the zip file.
+     * @param fileOffs Offsets of the blocks in the raw segment.
+     * @param sizes Sizes of the blocks.
+     * @return Compacted segment.
+     * @throws IOException If failed.
+     */
+    private File zip(@Nullable String comment, int[] fileOffs, int[] sizes) throws IOException {
+        File zip = tmp.newFile("0000000000000001.wal.zip");
+
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zip))) {
+            if (comment != null)
+                zos.setComment(comment);
+
+            for (int i = 0; i < fileOffs.length; i++) {
+                zos.putNextEntry(new ZipEntry(CompactedSegmentBlocks.blockName(1, fileOffs[i])));
+
+                zos.write(new byte[sizes[i]]);
+
+                zos.closeEntry();
+            }
+        }
+
+        return zip;
+    }
+}
@@ -262,6 +262,59 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         checkCursor(tree.find(10L, 70L), map.subMap(10L, true, 70L, true).values().iterator());
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testBulkLoad() throws IgniteCheckedException {
+        for (int maxPerPage : new int[] {0, 2, 3, 5}) {
+            MAX_PER_PAGE = maxPerPage;
+
+            for (long size : new long[] {0, 1, 2, 3, 7, 100, 1_001, 10_000}) {
+                for (float fillFactor : new float[] {0.5f, 0.9f, 1f}) {
+                    TestTree tree = createTestTree(true);
+
+                    try (TestTree.BulkLoad load = tree.bulkLoad(size, fillFactor)) {
+                        for (long i = 0; i < size; i++)
+                            load.add(i * 2);
+
+                        load.finish();
+                    }
+
+                    assertNoLocks();
+
+                    tree.validateTree();
+
+                    assertEquals(size, tree.size());
+
+                    for (long i = 0; i < size; i++) {
+                        assertEquals(Long.valueOf(i * 2), tree.findOne(i * 2));
+                        assertNull(tree.findOne(i * 2 + 1));
+                    }
+
+                    // The loaded tree is updated as usual.
+                    for (long i = 0; i < size; i++)
+                        tree.put(i * 2 + 1);
+
+                    for (long i = 0; i < size; i += 3)
+                        tree.remove(i);
+
+                    tree.validateTree();
+
+                    assertEquals(2 * size - (size + 2) / 3, tree.size());
+
+                    tree.destroy();
+                }
+            }
+        }
+
+        TestTree tree = createTestTree(true);
+
+        tree.put(1L);
+
+        GridTestUtils.assertThrows(log, () -> tree.bulkLoad(1, 1f), IgniteCheckedException.class, "not empty");
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
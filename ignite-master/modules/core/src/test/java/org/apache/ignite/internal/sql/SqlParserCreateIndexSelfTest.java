@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.sql;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -132,7 +134,13 @@ public class SqlParserCreateIndexSelfTest extends SqlParserAbstractSelfTest {
         assertParseError(null, "CREATE UNIQUE INDEX idx ON tbl(a)", "Unsupported keyword: \"UNIQUE\"");
 
         // HASH
-        assertParseError(null, "CREATE HASH INDEX idx ON tbl(a)", "Unsupported keyword: \"HASH\"");
+        assertFalse(cmd.hash());
+
+        cmd = parseValidate(null, "CREATE HASH INDEX idx ON schema.tbl(a)", "SCHEMA", "TBL", "IDX", DEFAULT_PROPS, "A", false);
+        assertTrue(cmd.hash());
+        assertFalse(cmd.spatial());
+
+        assertParseError(null, "CREATE HASH idx ON tbl(a)", "Unexpected token: \"IDX\" (expected: \"INDEX\")");
 
         // PRIMARY KEY
         assertParseError(null, "CREATE PRIMARY KEY INDEX idx ON tbl(a)", "Unsupported keyword: \"PRIMARY\"");
@@ -226,6 +234,22 @@ public class SqlParserCreateIndexSelfTest extends SqlParserAbstractSelfTest {
                 "\"CREATE INDEX idx ON schema.tbl(a) PARALLEL 3 INLINE_SIZE [*]abc \": Unexpected token: \"ABC\" (expected: \"[integer]\")"
         );
 
+        // INCLUDE
+        assertTrue(cmd.includedColumns().isEmpty());
+
+        cmd = parseValidate(null, "CREATE INDEX idx ON schema.tbl(a) INCLUDE (b, c) INLINE_SIZE 20",
+            "SCHEMA", "TBL", "IDX", getProps(null, 20), "A", false);
+        assertEquals(Arrays.asList("B", "C"), new ArrayList<>(cmd.includedColumns()));
+
+        cmd = parseValidate(null, "CREATE INDEX idx ON schema.tbl(a) PARALLEL 2 INCLUDE (\"b\")",
+            "SCHEMA", "TBL", "IDX", getProps(2, null), "A", false);
+        assertEquals(Arrays.asList("b"), new ArrayList<>(cmd.includedColumns()));
+
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE b", "Unexpected token: \"B\" (expected: \"(\")");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (a)", "Column already defined: A");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b, b)", "Column already defined: B");
+        assertParseError(null, "CREATE INDEX idx ON tbl(a) INCLUDE (b) INCLUDE (c)",
+            "Only one INCLUDE clause may be specified.");
     }
 
     /**
@@ -151,4 +151,48 @@ public class GridConcurrentMultiPairQueueTest extends GridCommonAbstractTest {
 
         assertTrue(queue2.initialSize() == arr1.length + arr2.length + arr3.length + arr4.length);
     }
+
+    /** */
+    @Test
+    public void testChunkedNext() throws Exception {
+        int chunkSize = 3;
+
+        GridTestUtils.runMultiThreaded(() -> {
+            GridConcurrentMultiPairQueue.Result<Integer, Integer> res =
+                new GridConcurrentMultiPairQueue.Result<>();
+
+            while (queue.next(res, chunkSize)) {
+                assertTrue(mapForCheck.get(res.getKey()).remove(res.getValue()));
+
+                Collection<Integer> coll = mapForCheck.get(res.getKey());
+
+                if (coll.isEmpty())
+                    mapForCheck.remove(res.getKey(), coll);
+            }
+        }, ThreadLocalRandom.current().nextInt(1, 20), "GridConcurrentMultiPairQueue chunked test");
+
+        assertTrue(mapForCheck.isEmpty());
+
+        assertTrue(queue.isEmpty());
+
+        // Chunks are claimed sequentially, so a single thread gets elements in the queue order.
+        GridConcurrentMultiPairQueue.Result<Integer, Integer> res = new GridConcurrentMultiPairQueue.Result<>();
+
+        GridConcurrentMultiPairQueue.Result<Integer, Integer> chunkedRes = new GridConcurrentMultiPairQueue.Result<>();
+
+        GridConcurrentMultiPairQueue<Integer, Integer> chunkedQueue = new GridConcurrentMultiPairQueue<>(
+            Collections.singletonMap(10, Arrays.asList(arr1)));
+
+        GridConcurrentMultiPairQueue<Integer, Integer> plainQueue = new GridConcurrentMultiPairQueue<>(
+            Collections.singletonMap(10, Arrays.asList(arr1)));
+
+        while (plainQueue.next(res)) {
+            assertTrue(chunkedQueue.next(chunkedRes, chunkSize));
+
+            assertEquals(res.getKey(), chunkedRes.getKey());
+            assertEquals(res.getValue(), chunkedRes.getValue());
+        }
+
+        assertFalse(chunkedQueue.next(chunkedRes, chunkSize));
+    }
 }
@@ -61,6 +61,7 @@ import org.apache.ignite.internal.processors.cache.persistence.pagemem.Exponenti
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePoolTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.ProgressSpeedCalculationTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.SegmentedLruPageListTest;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageListTest;
 import org.apache.ignite.internal.processors.cache.transactions.AtomicOperationsInTxTest;
 import org.apache.ignite.internal.processors.cache.transactions.TransactionIntegrityWithSystemWorkerDeathTest;
 import org.apache.ignite.internal.processors.cluster.BaselineAutoAdjustMXBeanTest;
@@ -128,6 +129,7 @@ import org.junit.runners.Suite;
     PagePoolTest.class,
     SegmentedLruPageListTest.class,
     ClockPageReplacementFlagsTest.class,
+    TwoQueuePageListTest.class,
     BPlusTreeSelfTest.class,
     BPlusTreeFakeReuseSelfTest.class,
     BPlusTreeReuseSelfTest.class,
@@ -16,10 +16,18 @@
  */
 package org.apache.ignite.testsuites;
 
+import org.apache.ignite.internal.processors.cache.persistence.WalRecordsPrefetcherTest;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPageDeltasTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.wal.crc.MappedFileInputTest;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreWritePagesTest;
+import org.apache.ignite.internal.processors.cache.persistence.file.UnzipFileIOTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTableTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.IgnitePageMemReplaceDelayedWriteUnitTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.IgniteThrottlingUnitTest;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.OptimisticReadWriteLockTest;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageReadAheadTest;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.RobinHoodBackwardShiftHashMapTest;
+import org.apache.ignite.internal.processors.cache.persistence.wal.CompactedSegmentBlocksTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -31,7 +39,15 @@ import org.junit.runners.Suite;
     IgniteThrottlingUnitTest.class,
     IgnitePageMemReplaceDelayedWriteUnitTest.class,
     FullPageIdTableTest.class,
-    RobinHoodBackwardShiftHashMapTest.class
+    RobinHoodBackwardShiftHashMapTest.class,
+    WalRecordsPrefetcherTest.class,
+    UnzipFileIOTest.class,
+    CompactedSegmentBlocksTest.class,
+    MappedFileInputTest.class,
+    FilePageStoreWritePagesTest.class,
+    CheckpointPageDeltasTest.class,
+    OptimisticReadWriteLockTest.class,
+    PageReadAheadTest.class
 })
 public class IgnitePdsUnitTestSuite {
 }
@@ -221,7 +221,7 @@ public class CommandProcessor extends SqlCommandProcessor {
                 cmd.index().getIndexType() == QueryIndexType.GEOSPATIAL,
                 0,
                 -1
-            );
+            ).hash(cmd.index().getIndexType() == QueryIndexType.HASH);
         }
         else if (cmdH2 instanceof GridSqlDropIndex) {
             GridSqlDropIndex cmd = (GridSqlDropIndex)cmdH2;
@@ -18,17 +18,23 @@
 package org.apache.ignite.internal.processors.query.h2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.cache.QueryIndexType;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.cache.query.index.SortOrder;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.query.h2.database.H2HashIndex;
 import org.apache.ignite.internal.processors.query.h2.database.H2TreeClientIndex;
 import org.apache.ignite.internal.processors.query.h2.database.H2TreeIndex;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2ProxyIndex;
@@ -81,13 +87,13 @@ class H2IndexFactory {
 
                 assert targetIdx != null;
 
-                return new GridH2ProxyIndex(tbl, idxDesc.name(), idxCols, targetIdx);
+                return new GridH2ProxyIndex(tbl, idxDesc.name(), idxCols, includedColumns(tbl, idxDesc), targetIdx);
             }
 
             if (cacheInfo.affinityNode()) {
                 InlineIndexImpl qryIdx = idxDesc.index().unwrap(InlineIndexImpl.class);
 
-                return new H2TreeIndex(qryIdx, tbl, idxColsArr, idxDesc.isPk(), log);
+                return new H2TreeIndex(qryIdx, tbl, idxColsArr, includedColumns(tbl, idxDesc), idxDesc.isPk(), log);
             }
             else {
                 InlineIndex qryIdx = idxDesc.index().unwrap(InlineIndex.class);
@@ -98,6 +104,22 @@ class H2IndexFactory {
                 return new H2TreeClientIndex(qryIdx, tbl, idxDesc.name(), idxColsArr, idxType);
             }
         }
+        else if (idxDesc.type() == QueryIndexType.HASH) {
+            if (cacheInfo.affinityNode()) {
+                HashIndex qryIdx = idxDesc.index().unwrap(HashIndex.class);
+
+                // Only the leading columns are hashed, the rest ones just make index rows unique.
+                IndexColumn[] hashedCols = Arrays.copyOf(idxColsArr, qryIdx.indexDefinition().hashedKeysCount());
+
+                return new H2HashIndex(qryIdx, tbl, idxDesc.name(), hashedCols, log);
+            }
+            else {
+                InlineIndex qryIdx = idxDesc.index().unwrap(InlineIndex.class);
+
+                return new H2TreeClientIndex(qryIdx, tbl, idxDesc.name(), idxColsArr,
+                    IndexType.createNonUnique(false, true, false));
+            }
+        }
         else if (idxDesc.type() == QueryIndexType.GEOSPATIAL) {
             if (idxDesc.isProxy()) {
                 Index targetIdx = tbl.getIndex(idxDesc.targetIdx().name());
@@ -112,4 +134,25 @@ class H2IndexFactory {
 
         throw new IllegalStateException("Index type: " + idxDesc.type());
     }
+
+    /**
+     * @param tbl Table.
+     * @param idxDesc Index descriptor.
+     * @return Columns stored in the index rows, but not indexed.
+     */
+    private static Set<Column> includedColumns(GridH2Table tbl, IndexDescriptor idxDesc) {
+        if (idxDesc.includedCount() == 0)
+            return Collections.emptySet();
+
+        Set<Column> res = new HashSet<>();
+
+        int skip = idxDesc.keyDefinitions().size() - idxDesc.includedCount();
+
+        for (String field : idxDesc.keyDefinitions().keySet()) {
+            if (skip-- <= 0)
+                res.add(tbl.getColumn(field));
+        }
+
+        return res;
+    }
 }
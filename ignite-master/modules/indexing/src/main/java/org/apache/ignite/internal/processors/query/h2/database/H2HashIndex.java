@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.hash.HashIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexValueCursor;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.IndexQueryContext;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyTypeRegistry;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKeyFactory;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.query.h2.H2Cursor;
+import org.apache.ignite.internal.processors.query.h2.H2Utils;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2IndexBase;
+import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
+import org.apache.ignite.internal.processors.query.h2.opt.H2CacheRow;
+import org.apache.ignite.internal.processors.query.h2.opt.H2Row;
+import org.apache.ignite.internal.processors.query.h2.opt.QueryContext;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.LT;
+import org.apache.ignite.spi.indexing.IndexingQueryCacheFilter;
+import org.h2.engine.Session;
+import org.h2.index.Cursor;
+import org.h2.index.IndexCondition;
+import org.h2.index.IndexType;
+import org.h2.message.DbException;
+import org.h2.result.SearchRow;
+import org.h2.result.SortOrder;
+import org.h2.table.Column;
+import org.h2.table.IndexColumn;
+import org.h2.table.TableFilter;
+import org.h2.value.Value;
+
+/**
+ * H2 index over {@link HashIndex}. The index is used only if all its columns are compared for equality (with
+ * {@code =} or {@code IN}), rows are not ordered by the columns.
+ */
+public class H2HashIndex extends GridH2IndexBase {
+    /** Underlying Ignite index. */
+    private final HashIndex hashIdx;
+
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Types of the indexed keys. */
+    private final IndexKeyType[] keyTypes;
+
+    /** */
+    private final IgniteLogger log;
+
+    /**
+     * @param hashIdx Underlying Ignite index.
+     * @param tbl Table.
+     * @param name Index name.
+     * @param cols Indexed columns.
+     * @param log Logger.
+     */
+    public H2HashIndex(HashIndex hashIdx, GridH2Table tbl, String name, IndexColumn[] cols, IgniteLogger log) {
+        super(tbl, name, cols, IndexType.createNonUnique(false, true, false));
+
+        assert cols.length == hashIdx.indexDefinition().hashedKeysCount() : cols.length;
+
+        this.hashIdx = hashIdx;
+        this.log = log;
+
+        cctx = tbl.cacheContext();
+
+        List<IndexKeyDefinition> keyDefs = new ArrayList<>(hashIdx.indexDefinition().rowKeyDefinitions().values());
+
+        keyTypes = new IndexKeyType[cols.length];
+
+        for (int i = 0; i < cols.length; i++)
+            keyTypes[i] = keyDefs.get(i).idxType();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int segmentsCount() {
+        return hashIdx.segmentsCount();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long totalRowCount(IndexingQueryCacheFilter partsFilter) {
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Cursor find(Session ses, SearchRow lower, SearchRow upper) {
+        try {
+            QueryContext qctx = ses != null ? H2Utils.context(ses) : null;
+
+            GridCursor<IndexRow> cursor = hashIdx.find(searchKeys(lower, upper), segment(qctx), idxQryContext(qctx));
+
+            GridCursor<H2Row> h2cursor = new IndexValueCursor<>(cursor, this::mapIndexRow);
+
+            return new H2Cursor(h2cursor);
+        }
+        catch (IgniteCheckedException e) {
+            throw DbException.convert(e);
+        }
+    }
+
+    /**
+     * @param lower Lower bound.
+     * @param upper Upper bound.
+     * @return Keys to find or {@code null} if the bounds can't be used for a lookup, so all rows must be scanned
+     * and filtered out by the original condition on H2 level.
+     */
+    private IndexKey[] searchKeys(SearchRow lower, SearchRow upper) {
+        if (lower == null || upper == null)
+            return null;
+
+        IndexKey[] keys = new IndexKey[indexColumns.length];
+
+        for (int i = 0; i < indexColumns.length; ++i) {
+            int colId = indexColumns[i].column.getColumnId();
+
+            Value v = lower.getValue(colId);
+
+            // Only equality of all the columns can be looked up.
+            if (v == null || !v.equals(upper.getValue(colId)))
+                return null;
+
+            IndexKeyType colType = keyTypes[i];
+
+            // The same conversion rules as for the sorted index: convert the value to the column type if possible,
+            // otherwise the value can be used for the lookup only if it can be compared to the column values.
+            if (colType.code() != v.getType()) {
+                if (Value.getHigherOrder(colType.code(), v.getType()) == colType.code())
+                    v = v.convertTo(colType.code());
+                else {
+                    InlineIndexKeyType colKeyType = InlineIndexKeyTypeRegistry.get(colType, hashIdx.keyTypeSettings());
+
+                    IndexKey idxKey = IndexKeyFactory.wrap(v.getObject(), v.getType(), cctx.cacheObjectContext(),
+                        hashIdx.keyTypeSettings());
+
+                    if (colKeyType.isComparableTo(idxKey)) {
+                        keys[i] = idxKey;
+
+                        continue;
+                    }
+
+                    LT.warn(log, "Provided value can't be used for the hash index lookup due to column data type " +
+                        "mismatch. This can lead to full index scans. [index=" + getName() + ", colType=" + colType +
+                        ", valType=" + IndexKeyType.forCode(v.getType()) + ']');
+
+                    return null;
+                }
+            }
+
+            keys[i] = IndexKeyFactory.wrap(v.getObject(), v.getType(), cctx.cacheObjectContext(),
+                hashIdx.keyTypeSettings());
+        }
+
+        return keys;
+    }
+
+    /** */
+    private IndexQueryContext idxQryContext(QueryContext qctx) {
+        if (qctx == null)
+            return null;
+
+        return new IndexQueryContext(qctx.filter(), null, qctx.mvccSnapshot());
+    }
+
+    /** */
+    private H2Row mapIndexRow(IndexRow row) {
+        if (row == null)
+            return null;
+
+        return new H2CacheRow(rowDescriptor(), row.cacheDataRow());
+    }
+
+    /** {@inheritDoc} */
+    @Override public double getCost(
+        Session ses,
+        int[] masks,
+        TableFilter[] filters,
+        int filter,
+        SortOrder sortOrder,
+        HashSet<Column> allColumnsSet
+    ) {
+        if (masks == null)
+            return Double.MAX_VALUE;
+
+        for (IndexColumn col : indexColumns) {
+            if ((masks[col.column.getColumnId()] & IndexCondition.EQUALITY) != IndexCondition.EQUALITY)
+                return Double.MAX_VALUE;
+        }
+
+        QueryContext qctx = H2Utils.context(ses);
+
+        // Lookups on remote nodes aren't supported.
+        if (qctx != null && qctx.distributedJoinContext() != null && getTable().isPartitioned())
+            return Double.MAX_VALUE;
+
+        long rowCnt = getRowCountApproximation();
+
+        // Rows aren't ordered by the columns, so the sort order is not taken into account.
+        double baseCost = getCostRangeIndex(ses, masks, rowCnt, filters, filter, null, false, allColumnsSet);
+
+        int mul = getDistributedMultiplier(ses, filters, filter);
+
+        return mul * baseCost;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean canScan() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getRowCount(Session ses) {
+        Cursor cursor = find(ses, null, null);
+
+        long res = 0;
+
+        while (cursor.next())
+            res++;
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean canGetFirstOrLast() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Cursor findFirstOrLast(Session ses, boolean first) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public H2CacheRow put(H2CacheRow row) {
+        throw new IllegalStateException("Must not be invoked.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean putx(H2CacheRow row) {
+        throw new IllegalStateException("Must not be invoked.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean removex(SearchRow row) {
+        throw new IllegalStateException("Must not be invoked.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T extends Index> T unwrap(Class<T> clazz) {
+        if (clazz.isInstance(hashIdx))
+            return clazz.cast(hashIdx);
+
+        return super.unwrap(clazz);
+    }
+}
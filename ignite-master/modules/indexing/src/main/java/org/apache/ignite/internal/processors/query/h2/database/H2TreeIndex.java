@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import javax.cache.CacheException;
 import org.apache.ignite.IgniteCheckedException;
@@ -90,6 +91,7 @@ import org.h2.index.IndexLookupBatch;
 import org.h2.index.IndexType;
 import org.h2.message.DbException;
 import org.h2.result.SearchRow;
+import org.h2.table.Column;
 import org.h2.table.IndexColumn;
 import org.h2.table.TableFilter;
 import org.h2.value.Value;
@@ -147,8 +149,15 @@ public class H2TreeIndex extends H2TreeIndexBase {
     };
 
     /** */
-    public H2TreeIndex(InlineIndexImpl queryIndex, GridH2Table tbl, IndexColumn[] cols, boolean pk, IgniteLogger log) {
-        super(tbl, queryIndex.name(), cols,
+    public H2TreeIndex(
+        InlineIndexImpl queryIndex,
+        GridH2Table tbl,
+        IndexColumn[] cols,
+        Set<Column> inclCols,
+        boolean pk,
+        IgniteLogger log
+    ) {
+        super(tbl, queryIndex.name(), cols, inclCols,
             pk ? IndexType.createPrimaryKey(false, false) :
                 IndexType.createNonUnique(false, false, false));
 
@@ -710,7 +719,7 @@ public class H2TreeIndex extends H2TreeIndexBase {
      * @return New index.
      */
     public H2TreeIndex createCopy(InlineIndexImpl inlineIndex, SortedIndexDefinition idxDef) throws IgniteCheckedException {
-        return new H2TreeIndex(inlineIndex, tbl, indexColumns, idxDef.primary(), log);
+        return new H2TreeIndex(inlineIndex, tbl, indexColumns, includedColumns(), idxDef.primary(), log);
     }
 
     /**
@@ -18,7 +18,9 @@
 
 package org.apache.ignite.internal.processors.query.h2.database;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2IndexBase;
 import org.apache.ignite.internal.processors.query.h2.opt.GridH2Table;
 import org.h2.engine.Session;
@@ -32,13 +34,33 @@ import org.h2.table.TableFilter;
  * H2 tree index base.
  */
 public abstract class H2TreeIndexBase extends GridH2IndexBase {
+    /** Columns stored in the index rows, but not indexed. */
+    private final Set<Column> inclCols;
+
     /**
      * Constructor.
      *
      * @param tbl Table.
      */
     protected H2TreeIndexBase(GridH2Table tbl, String name, IndexColumn[] cols, IndexType type) {
+        this(tbl, name, cols, Collections.emptySet(), type);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tbl Table.
+     * @param inclCols Columns stored in the index rows, but not indexed.
+     */
+    protected H2TreeIndexBase(GridH2Table tbl, String name, IndexColumn[] cols, Set<Column> inclCols, IndexType type) {
         super(tbl, name, cols, type);
+
+        this.inclCols = inclCols;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Set<Column> includedColumns() {
+        return inclCols;
     }
 
     /**
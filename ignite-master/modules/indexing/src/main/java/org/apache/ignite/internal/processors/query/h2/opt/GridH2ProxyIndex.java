@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.query.h2.opt;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.apache.ignite.internal.processors.query.GridQueryRowDescriptor;
 import org.apache.ignite.internal.processors.query.QueryUtils;
 import org.apache.ignite.internal.processors.query.h2.opt.join.ProxyDistributedLookupBatch;
@@ -45,16 +46,21 @@ public class GridH2ProxyIndex extends H2IndexCostedBase {
     /** Underlying normal index */
     protected Index idx;
 
+    /** Columns stored in the index rows, but not indexed. */
+    private final Set<Column> inclCols;
+
     /**
      *
      * @param tbl Table.
      * @param name Name of the proxy index.
      * @param colsList Column list for the proxy index.
+     * @param inclCols Columns stored in the index rows, but not indexed.
      * @param idx Target index.
      */
     public GridH2ProxyIndex(GridH2Table tbl,
                             String name,
                             List<IndexColumn> colsList,
+                            Set<Column> inclCols,
                             Index idx) {
         super(tbl, name, GridH2IndexBase.columnsArray(tbl, colsList),
             IndexType.createNonUnique(false, false, idx instanceof SpatialIndex));
@@ -66,6 +72,7 @@ public class GridH2ProxyIndex extends H2IndexCostedBase {
         initBaseIndex(tbl, 0, name, cols, IndexType.createNonUnique(false, false, idx instanceof SpatialIndex));
 
         this.idx = idx;
+        this.inclCols = inclCols;
     }
 
     /**
@@ -75,6 +82,11 @@ public class GridH2ProxyIndex extends H2IndexCostedBase {
         return idx;
     }
 
+    /** {@inheritDoc} */
+    @Override public Set<Column> includedColumns() {
+        return inclCols;
+    }
+
     /** {@inheritDoc} */
     @Override public void checkRename() {
         throw DbException.getUnsupportedException("rename");
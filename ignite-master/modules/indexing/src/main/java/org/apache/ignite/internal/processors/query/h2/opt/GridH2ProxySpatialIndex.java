@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.h2.opt;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import org.apache.ignite.internal.processors.query.GridQueryRowDescriptor;
@@ -47,7 +48,7 @@ public class GridH2ProxySpatialIndex extends GridH2ProxyIndex implements Spatial
                                    String name,
                                    List<IndexColumn> colsList,
                                    Index idx) {
-        super(tbl, name, colsList, idx);
+        super(tbl, name, colsList, Collections.emptySet(), idx);
     }
 
     /** {@inheritDoc} */
@@ -21,7 +21,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
 import org.apache.ignite.internal.processors.query.stat.ColumnStatistics;
 import org.apache.ignite.internal.processors.query.stat.ObjectStatisticsImpl;
 import org.apache.ignite.internal.util.typedef.F;
@@ -58,6 +60,13 @@ public abstract class H2IndexCostedBase extends BaseIndex {
         this.tbl = tbl;
     }
 
+    /**
+     * @return Columns stored in the index rows, but not indexed.
+     */
+    public Set<Column> includedColumns() {
+        return Collections.emptySet();
+    }
+
     /** Null fraction by default. */
     private final double NULL_FRACTION = 0.25;
 
@@ -648,7 +657,8 @@ public abstract class H2IndexCostedBase extends BaseIndex {
                     }
                 }
 
-                if (!found) {
+                // Rows are read from the data pages anyway, included columns must not make the index cheaper.
+                if (!found || includedColumns().contains(c)) {
                     foundAllColumnsWeNeed = false;
 
                     break;
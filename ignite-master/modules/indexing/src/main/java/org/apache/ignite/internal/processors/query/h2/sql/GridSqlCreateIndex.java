@@ -98,6 +98,7 @@ public class GridSqlCreateIndex extends GridSqlStatement {
     @Override public String getSQL() {
         StringBuilder sb = new StringBuilder("CREATE ")
             .append(idx.getIndexType() == QueryIndexType.GEOSPATIAL ? "SPATIAL " : "")
+            .append(idx.getIndexType() == QueryIndexType.HASH ? "HASH " : "")
             .append("INDEX ").append(ifNotExists ? "IF NOT EXISTS " : "")
             .append(Parser.quoteIdentifier(schemaName)).append('.')
             .append(Parser.quoteIdentifier(idx.getName())).append(" ON ")
@@ -1064,9 +1064,8 @@ public class GridSqlQueryParser {
      * @see <a href="http://h2database.com/html/grammar.html#create_index">H2 {@code CREATE INDEX} spec.</a>
      */
     private GridSqlCreateIndex parseCreateIndex(CreateIndex createIdx) {
-        if (CREATE_INDEX_HASH.get(createIdx) || CREATE_INDEX_PRIMARY_KEY.get(createIdx) ||
-            CREATE_INDEX_UNIQUE.get(createIdx)) {
-            throw new IgniteSQLException("Only SPATIAL modifier is supported for CREATE INDEX",
+        if (CREATE_INDEX_PRIMARY_KEY.get(createIdx) || CREATE_INDEX_UNIQUE.get(createIdx)) {
+            throw new IgniteSQLException("Only SPATIAL and HASH modifiers are supported for CREATE INDEX",
                 IgniteQueryErrorCode.UNSUPPORTED_OPERATION);
         }
 
@@ -1083,7 +1082,8 @@ public class GridSqlQueryParser {
         QueryIndex idx = new QueryIndex();
 
         idx.setName(CREATE_INDEX_NAME.get(createIdx));
-        idx.setIndexType(CREATE_INDEX_SPATIAL.get(createIdx) ? QueryIndexType.GEOSPATIAL : QueryIndexType.SORTED);
+        idx.setIndexType(CREATE_INDEX_SPATIAL.get(createIdx) ? QueryIndexType.GEOSPATIAL :
+            CREATE_INDEX_HASH.get(createIdx) ? QueryIndexType.HASH : QueryIndexType.SORTED);
 
         IndexColumn[] cols = CREATE_INDEX_COLUMNS.get(createIdx);
 
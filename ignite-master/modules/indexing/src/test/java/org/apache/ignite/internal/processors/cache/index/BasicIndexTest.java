@@ -1613,6 +1613,41 @@ public class BasicIndexTest extends AbstractIndexingCommonTest {
         assertEquals(affInlineSize, ((H2TreeIndex)tbl.getIndex("AFFINITY_KEY")).inlineSize());
     }
 
+    /**
+     * Checks that H2 doesn't cost an index as covering because of included columns, since rows are read
+     * from data pages anyway.
+     */
+    @Test
+    public void testIncludedColumnsDoNotMakeIndexCovering() throws Exception {
+        inlineSize = 10;
+
+        IgniteEx ign = startGrid();
+
+        sql("CREATE TABLE TEST (ID INT PRIMARY KEY, VAL INT, NAME VARCHAR)");
+        sql("CREATE INDEX VAL_IDX ON TEST (VAL)");
+        sql("CREATE INDEX VAL_INCL_IDX ON TEST (VAL) INCLUDE (NAME)");
+
+        for (int i = 0; i < 100; i++)
+            sql("INSERT INTO TEST (ID, VAL, NAME) VALUES (?, ?, ?)", i, i % 10, "name" + i);
+
+        GridH2Table tbl = ((IgniteH2Indexing)ign.context().query().getIndexing()).schemaManager().dataTable("PUBLIC", "TEST");
+
+        H2TreeIndex idx = (H2TreeIndex)tbl.getIndex("VAL_IDX");
+        H2TreeIndex inclIdx = (H2TreeIndex)tbl.getIndex("VAL_INCL_IDX");
+
+        assertTrue(idx.includedColumns().isEmpty());
+        assertEquals(Collections.singleton(tbl.getColumn("NAME")), inclIdx.includedColumns());
+
+        // Full scan of an index with the included column looks cheaper than the table scan only if the index is
+        // costed as covering.
+        String plan = (String)sql("EXPLAIN SELECT NAME FROM TEST").getAll().get(0).get(0);
+
+        assertFalse(plan, plan.contains("VAL_INCL_IDX"));
+
+        assertEquals(Collections.singletonList(Arrays.asList(5, "name5")),
+            sql("SELECT ID, NAME FROM TEST WHERE VAL = 5 AND ID < 10").getAll());
+    }
+
     /** */
     private void checkAll() {
         IgniteCache<Key, Val> cache = grid(0).cache(DEFAULT_CACHE_NAME);
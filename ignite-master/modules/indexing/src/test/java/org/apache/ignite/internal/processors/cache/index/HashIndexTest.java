@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.junit.Test;
+
+/**
+ * Tests SQL queries over hash indexes in the H2 engine: index usage by the planner and query results.
+ */
+public class HashIndexTest extends AbstractIndexingCommonTest {
+    /** Rows count. */
+    private static final int ROW_CNT = 1000;
+
+    /** Number of distinct cities. */
+    private static final int CITY_CNT = 10;
+
+    /** Number of distinct ages. */
+    private static final int AGE_CNT = 50;
+
+    /** Index on a single column. */
+    private static final String NAME_IDX = "NAME_HASH_IDX";
+
+    /** Index on two columns. */
+    private static final String CITY_AGE_IDX = "CITY_AGE_HASH_IDX";
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        sql("CREATE TABLE person (id INT PRIMARY KEY, name VARCHAR, city VARCHAR, age INT) " +
+            "WITH \"CACHE_NAME=person, BACKUPS=1\"");
+
+        sql("CREATE HASH INDEX " + NAME_IDX + " ON person (name)");
+        sql("CREATE HASH INDEX " + CITY_AGE_IDX + " ON person (city, age)");
+
+        for (int i = 0; i < ROW_CNT; i++)
+            sql("INSERT INTO person (id, name, city, age) VALUES (?, ?, ?, ?)", i, name(i), city(i), age(i));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** */
+    @Test
+    public void testEquality() {
+        checkPlan("SELECT id FROM person WHERE name = ?", NAME_IDX, name(1));
+
+        for (int i = 0; i < ROW_CNT; i += 37)
+            assertEquals(ids(i), ids("SELECT id FROM person WHERE name = ?", name(i)));
+
+        assertTrue(sql("SELECT id FROM person WHERE name = ?", "missing").isEmpty());
+
+        // Literals are looked up the same way as parameters.
+        checkPlan("SELECT id FROM person WHERE name = '" + name(5) + '\'', NAME_IDX);
+
+        assertEquals(ids(5), ids("SELECT id FROM person WHERE name = '" + name(5) + '\''));
+    }
+
+    /** */
+    @Test
+    public void testIn() {
+        checkPlan("SELECT id FROM person WHERE name IN (?, ?, ?)", NAME_IDX, name(1), name(2), name(3));
+
+        assertEquals(ids(3, 500, 999),
+            ids("SELECT id FROM person WHERE name IN (?, ?, ?, ?)", name(3), name(500), name(999), "missing"));
+
+        checkPlan("SELECT id FROM person WHERE city = ? AND age IN (?, ?)", CITY_AGE_IDX, city(0), 0, 10);
+
+        assertEquals(ids(i -> city(i).equals(city(1)) && (age(i) == 1 || age(i) == 11)),
+            ids("SELECT id FROM person WHERE city = ? AND age IN (?, ?)", city(1), 1, 11));
+    }
+
+    /** */
+    @Test
+    public void testCompositeIndex() {
+        checkPlan("SELECT id FROM person WHERE city = ? AND age = ?", CITY_AGE_IDX, city(0), 0);
+
+        for (int c = 0; c < CITY_CNT; c++) {
+            for (int a = 0; a < AGE_CNT; a += 7) {
+                String city = "city" + c;
+                int age = a;
+
+                assertEquals(ids(i -> city(i).equals(city) && age(i) == age),
+                    ids("SELECT id FROM person WHERE city = ? AND age = ?", city, age));
+            }
+        }
+
+        // Rows are not ordered by the first column, so a condition on it alone can't be looked up.
+        checkNoIndex("SELECT id FROM person WHERE city = ?", CITY_AGE_IDX, city(0));
+
+        assertEquals(ids(i -> city(i).equals(city(3))), ids("SELECT id FROM person WHERE city = ?", city(3)));
+    }
+
+    /** */
+    @Test
+    public void testRange() {
+        checkNoIndex("SELECT id FROM person WHERE name > ?", NAME_IDX, name(990));
+        checkNoIndex("SELECT id FROM person WHERE city = ? AND age > ?", CITY_AGE_IDX, city(0), 40);
+
+        assertEquals(ids(i -> city(i).equals(city(2)) && age(i) > 40),
+            ids("SELECT id FROM person WHERE city = ? AND age > ?", city(2), 40));
+    }
+
+    /** */
+    @Test
+    public void testTypeConversion() {
+        checkPlan("SELECT id FROM person WHERE city = ? AND age = ?", CITY_AGE_IDX, city(0), 0L);
+
+        // Long and string values of an INT column.
+        assertEquals(ids(i -> city(i).equals(city(4)) && age(i) == 14),
+            ids("SELECT id FROM person WHERE city = ? AND age = ?", city(4), 14L));
+
+        assertEquals(ids(i -> city(i).equals(city(4)) && age(i) == 14),
+            ids("SELECT id FROM person WHERE city = ? AND age = ?", city(4), "14"));
+
+        assertEquals(ids(i -> city(i).equals(city(4)) && age(i) == 14),
+            ids("SELECT id FROM person WHERE city = ? AND age = 14.0", city(4)));
+    }
+
+    /** */
+    @Test
+    public void testUpdates() {
+        try {
+            sql("UPDATE person SET name = ? WHERE id = ?", "updated", 10);
+            sql("DELETE FROM person WHERE id = ?", 20);
+
+            assertEquals(ids(10), ids("SELECT id FROM person WHERE name = ?", "updated"));
+            assertTrue(sql("SELECT id FROM person WHERE name = ?", name(10)).isEmpty());
+            assertTrue(sql("SELECT id FROM person WHERE name = ?", name(20)).isEmpty());
+        }
+        finally {
+            sql("MERGE INTO person (id, name, city, age) VALUES (?, ?, ?, ?)", 10, name(10), city(10), age(10));
+            sql("MERGE INTO person (id, name, city, age) VALUES (?, ?, ?, ?)", 20, name(20), city(20), age(20));
+        }
+
+        assertEquals(ids(10), ids("SELECT id FROM person WHERE name = ?", name(10)));
+        assertEquals(ids(20), ids("SELECT id FROM person WHERE name = ?", name(20)));
+    }
+
+    /**
+     * @param qry Query.
+     * @param idx Index expected to be used.
+     * @param args Query arguments.
+     */
+    private void checkPlan(String qry, String idx, Object... args) {
+        String plan = plan(qry, args);
+
+        assertTrue("Index is not used [idx=" + idx + ", plan=" + plan + ']', plan.contains(idx));
+    }
+
+    /**
+     * @param qry Query.
+     * @param idx Index expected not to be used.
+     * @param args Query arguments.
+     */
+    private void checkNoIndex(String qry, String idx, Object... args) {
+        String plan = plan(qry, args);
+
+        assertFalse("Index is used [idx=" + idx + ", plan=" + plan + ']', plan.contains(idx));
+    }
+
+    /**
+     * @param qry Query.
+     * @param args Query arguments.
+     * @return Query plan.
+     */
+    private String plan(String qry, Object... args) {
+        return (String)sql("EXPLAIN " + qry, args).get(0).get(0);
+    }
+
+    /**
+     * @param qry Query returning IDs.
+     * @param args Query arguments.
+     * @return Sorted IDs.
+     */
+    private Set<Integer> ids(String qry, Object... args) {
+        return sql(qry, args).stream().map(r -> (Integer)r.get(0)).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @param ids IDs.
+     * @return Sorted IDs.
+     */
+    private static Set<Integer> ids(int... ids) {
+        return IntStream.of(ids).boxed().collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @param filter Filter of IDs.
+     * @return Sorted IDs matching the filter.
+     */
+    private static Set<Integer> ids(IntPredicate filter) {
+        return IntStream.range(0, ROW_CNT).filter(filter).boxed().collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /** */
+    private static String name(int id) {
+        return "name" + id;
+    }
+
+    /** */
+    private static String city(int id) {
+        return "city" + id % CITY_CNT;
+    }
+
+    /** */
+    private static int age(int id) {
+        return id % AGE_CNT;
+    }
+
+    /**
+     * @param sql SQL query.
+     * @param args Query arguments.
+     * @return Results.
+     */
+    private List<List<?>> sql(String sql, Object... args) {
+        return grid(0).context().query().querySqlFields(new SqlFieldsQuery(sql).setArgs(args), false).getAll();
+    }
+}
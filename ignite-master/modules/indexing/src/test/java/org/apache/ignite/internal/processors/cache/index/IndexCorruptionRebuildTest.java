@@ -25,6 +25,8 @@ import java.util.stream.Stream;
 import javax.cache.CacheException;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.binary.BinaryObject;
 import org.apache.ignite.cache.query.SqlFieldsQuery;
 import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -65,8 +67,10 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBuilder.DFLT_RUN_SIZE;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.INDEX_REBUILD_MNTC_TASK_NAME;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.parseMaintenanceTaskParameters;
+import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.toMaintenanceTask;
 import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
 
 /**
@@ -97,6 +101,18 @@ public class IndexCorruptionRebuildTest extends GridCommonAbstractTest {
     /** */
     private static final String TABLE_NAME_2 = "test2";
 
+    /** */
+    private static final String TABLE_NAME_3 = "test3";
+
+    /** */
+    private static final String CACHE_NAME_3 = "TEST3";
+
+    /** */
+    private static final String VAL_TYPE = "TEST3_VAL";
+
+    /** Count of index segments. */
+    private static final int SEGMENTS = 2;
+
     /** {@inheritDoc} */
     @Override protected IgniteConfiguration getConfiguration(String gridName) throws Exception {
         IgniteConfiguration cfg = super.getConfiguration(gridName);
@@ -234,6 +250,82 @@ public class IndexCorruptionRebuildTest extends GridCommonAbstractTest {
         validateIndexes(srv);
     }
 
+    /**
+     * Checks the rebuild of an index in the maintenance mode when rows of each segment don't fit a single sorted run.
+     */
+    @Test
+    public void testRebuildIndexWithSeveralRunsPerSegment() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        srv.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = srv.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        cache.query(new SqlFieldsQuery("create table " + TABLE_NAME_3 + " (id int primary key, val int) with " +
+            "\"BACKUPS=0, PARALLELISM=" + SEGMENTS + ", CACHE_NAME=" + CACHE_NAME_3 + ", VALUE_TYPE=" + VAL_TYPE + "\""));
+
+        cache.query(new SqlFieldsQuery("create index " + FAIL_IDX_1 + " on " + TABLE_NAME_3 + "(val)"));
+
+        // Each segment gets more rows than a single sorted run holds.
+        int rows = SEGMENTS * DFLT_RUN_SIZE * 3 / 2;
+
+        try (IgniteDataStreamer<Integer, BinaryObject> streamer = srv.dataStreamer(CACHE_NAME_3)) {
+            streamer.keepBinary(true);
+
+            for (int i = 0; i < rows; i++)
+                streamer.addData(i, srv.binary().builder(VAL_TYPE).setField("VAL", rows - i).build());
+        }
+
+        srv.context().maintenanceRegistry().registerMaintenanceTask(
+            toMaintenanceTask(CU.cacheId(CACHE_NAME_3), FAIL_IDX_1));
+
+        stopGrid(0);
+
+        // Index is rebuilt by the automatic maintenance action.
+        srv = startGrid(0);
+
+        assertTrue(srv.context().maintenanceRegistry().isMaintenanceMode());
+
+        stopGrid(0);
+
+        srv = startGrid(0);
+
+        srv.cluster().state(ClusterState.ACTIVE);
+
+        assertFalse(srv.context().maintenanceRegistry().isMaintenanceMode());
+
+        SchemaManager schemaMgr = srv.context().query().schemaManager();
+
+        InlineIndexImpl idx = schemaMgr.index(schemaMgr.schemaName(CACHE_NAME_3), FAIL_IDX_1).index()
+            .unwrap(InlineIndexImpl.class);
+
+        assertEquals(SEGMENTS, idx.segmentsCount());
+
+        long total = 0;
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            long size = idx.segment(i).size();
+
+            assertTrue("Segment fits a single run [segment=" + i + ", size=" + size + ']', size > DFLT_RUN_SIZE);
+
+            total += size;
+        }
+
+        assertEquals(rows, total);
+
+        validateIndexes(srv);
+
+        cache = srv.cache(DEFAULT_CACHE_NAME);
+
+        List<List<?>> res = cache.query(new SqlFieldsQuery("select id from " + TABLE_NAME_3 + " use index (" +
+            FAIL_IDX_1 + ") where val between ? and ? order by val").setArgs(1000, 1009)).getAll();
+
+        assertEquals(10, res.size());
+
+        for (int i = 0; i < res.size(); i++)
+            assertEquals(rows - 1000 - i, res.get(i).get(0));
+    }
+
     /**
      * Checks that caches have certain corrupted indexes.
      *
@@ -483,21 +483,23 @@ public class GridQueryParsingTest extends AbstractIndexingCommonTest {
             QueryIndex.DFLT_INLINE_SIZE, "old", true, "name", false),
             "create spatial index if not exists idx on Person (old, name desc)");
 
+        assertCreateIndexEquals(
+            buildCreateIndex("idx", "Person", "sch1", true, QueryIndexType.HASH,
+            QueryIndex.DFLT_INLINE_SIZE, "old", true, "name", true),
+            "create hash index if not exists idx on Person (old, name)");
+
         // Schemas for index and table must match
         assertParseThrows("create index if not exists sch2.idx on sch1.Person (name)",
             DbException.class, "Schema name must match");
 
-        assertParseThrows("create hash index if not exists idx on Person (name)",
-            IgniteSQLException.class, "Only SPATIAL modifier is supported for CREATE INDEX");
-
         assertParseThrows("create unique index if not exists idx on Person (name)",
-            IgniteSQLException.class, "Only SPATIAL modifier is supported for CREATE INDEX");
+            IgniteSQLException.class, "Only SPATIAL and HASH modifiers are supported for CREATE INDEX");
 
         assertParseThrows("create primary key on Person (name)",
-            IgniteSQLException.class, "Only SPATIAL modifier is supported for CREATE INDEX");
+            IgniteSQLException.class, "Only SPATIAL and HASH modifiers are supported for CREATE INDEX");
 
         assertParseThrows("create primary key hash on Person (name)",
-            IgniteSQLException.class, "Only SPATIAL modifier is supported for CREATE INDEX");
+            IgniteSQLException.class, "Only SPATIAL and HASH modifiers are supported for CREATE INDEX");
 
         assertParseThrows("create index on Person (name nulls first)",
             IgniteSQLException.class, "NULLS FIRST and NULLS LAST modifiers are not supported for index columns");
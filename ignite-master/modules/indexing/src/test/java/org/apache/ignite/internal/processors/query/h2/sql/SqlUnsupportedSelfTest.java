@@ -100,7 +100,9 @@ public class SqlUnsupportedSelfTest extends AbstractIndexingCommonTest {
         assertSqlUnsupported("CREATE INDEX test_idx ON test (val NULLS FIRST)");
         assertSqlUnsupported("CREATE INDEX test_idx ON test (val NULLS LAST)");
         assertSqlUnsupported("CREATE UNIQUE INDEX test_idx ON test (val)");
-        assertSqlUnsupported("CREATE HASH INDEX test_idx ON test (val)");
+
+        // Hash indexes are supported.
+        execSql("CREATE HASH INDEX test_idx ON test (val)");
     }
 
     /**
@@ -91,6 +91,7 @@ import org.apache.ignite.internal.processors.cache.index.H2ConnectionSettingsTes
 import org.apache.ignite.internal.processors.cache.index.H2RowCachePageEvictionTest;
 import org.apache.ignite.internal.processors.cache.index.H2RowCacheSelfTest;
 import org.apache.ignite.internal.processors.cache.index.H2RowExpireTimeIndexSelfTest;
+import org.apache.ignite.internal.processors.cache.index.HashIndexTest;
 import org.apache.ignite.internal.processors.cache.index.IgniteDecimalSelfTest;
 import org.apache.ignite.internal.processors.cache.index.IndexColumnTypeMismatchTest;
 import org.apache.ignite.internal.processors.cache.index.LongIndexNameTest;
@@ -203,6 +204,7 @@ import org.junit.runners.Suite;
     H2CompareBigQueryTest.class,
     H2CompareBigQueryDistributedJoinsTest.class,
     IndexColumnTypeMismatchTest.class,
+    HashIndexTest.class,
 
     // Cache query metrics.
     CachePartitionedQueryMetricsDistributedSelfTest.class,
@@ -555,6 +555,7 @@ namespace Apache.Ignite.Core.Tests.Cache
             Assert.AreEqual(x.Name, y.Name);
             Assert.AreEqual(x.IndexType, y.IndexType);
             Assert.AreEqual(x.InlineSize, y.InlineSize);
+            Assert.AreEqual(x.IncludedFields, y.IncludedFields);
 
             AssertConfigsAreEqual(x.Fields, y.Fields);
         }
@@ -769,8 +770,10 @@ namespace Apache.Ignite.Core.Tests.Cache
                             new QueryIndex(new QueryIndexField("location", true))
                             {
                                 Name= "index2",
-                                IndexType = QueryIndexType.Sorted
-                            }
+                                IndexType = QueryIndexType.Sorted,
+                                IncludedFields = new[] {"length"}
+                            },
+                            new QueryIndex(false, QueryIndexType.Hash, "length") {Name = "index3"}
                         }
                     }
                 },
@@ -357,6 +357,7 @@ namespace Apache.Ignite.Core.Tests
             Assert.AreEqual("swap", dr.SwapPath);
             Assert.IsTrue(dr.MetricsEnabled);
             Assert.AreEqual(7, dr.CheckpointPageBufferSize);
+            Assert.AreEqual(PageReplacementMode.TwoQ, dr.PageReplacementMode);
 
             dr = ds.DefaultDataRegionConfiguration;
             Assert.AreEqual(2, dr.EmptyPagesPoolSize);
@@ -369,6 +370,7 @@ namespace Apache.Ignite.Core.Tests
             Assert.AreEqual(6, dr.MetricsSubIntervalCount);
             Assert.AreEqual("swap2", dr.SwapPath);
             Assert.IsFalse(dr.MetricsEnabled);
+            Assert.AreEqual(DataRegionConfiguration.DefaultPageReplacementMode, dr.PageReplacementMode);
 
             var sysDr = ds.SystemDataRegionConfiguration;
             Assert.AreEqual(9, sysDr.InitialSize);
@@ -1048,7 +1050,8 @@ namespace Apache.Ignite.Core.Tests
                         MetricsRateTimeInterval = TimeSpan.FromMinutes(2),
                         MetricsSubIntervalCount = 6,
                         SwapPath = Path.GetTempPath(),
-                        CheckpointPageBufferSize = 7
+                        CheckpointPageBufferSize = 7,
+                        PageReplacementMode = PageReplacementMode.SegmentedLru
                     },
                     DataRegionConfigurations = new[]
                     {
@@ -1064,7 +1067,8 @@ namespace Apache.Ignite.Core.Tests
                             PersistenceEnabled = false,
                             MetricsRateTimeInterval = TimeSpan.FromMinutes(3),
                             MetricsSubIntervalCount = 7,
-                            SwapPath = Path.GetTempPath()
+                            SwapPath = Path.GetTempPath(),
+                            PageReplacementMode = PageReplacementMode.TwoQ
                         }
                     },
                     SystemDataRegionConfiguration = new SystemDataRegionConfiguration
@@ -654,6 +654,7 @@ namespace Apache.Ignite.Core.Tests
             Assert.AreEqual(DataRegionConfiguration.DefaultMetricsRateTimeInterval, cfg.MetricsRateTimeInterval);
             Assert.AreEqual(DataRegionConfiguration.DefaultMetricsSubIntervalCount, cfg.MetricsSubIntervalCount);
             Assert.AreEqual(default(long), cfg.CheckpointPageBufferSize);
+            Assert.AreEqual(DataRegionConfiguration.DefaultPageReplacementMode, cfg.PageReplacementMode);
 
             if (DataRegionConfiguration.DefaultMaxSize != cfg.MaxSize)
             {
@@ -909,7 +910,8 @@ namespace Apache.Ignite.Core.Tests
                         MetricsRateTimeInterval = TimeSpan.FromMinutes(2),
                         MetricsSubIntervalCount = 6,
                         SwapPath = PathUtils.GetTempDirectoryName(),
-                        CheckpointPageBufferSize = 28 * 1024 * 1024
+                        CheckpointPageBufferSize = 28 * 1024 * 1024,
+                        PageReplacementMode = PageReplacementMode.SegmentedLru
                     },
                     DataRegionConfigurations = new[]
                     {
@@ -925,7 +927,8 @@ namespace Apache.Ignite.Core.Tests
                             PersistenceEnabled = false,
                             MetricsRateTimeInterval = TimeSpan.FromMinutes(3),
                             MetricsSubIntervalCount = 7,
-                            SwapPath = PathUtils.GetTempDirectoryName()
+                            SwapPath = PathUtils.GetTempDirectoryName(),
+                            PageReplacementMode = PageReplacementMode.TwoQ
                         }
                     },
                     SystemDataRegionConfiguration = new SystemDataRegionConfiguration
@@ -136,11 +136,32 @@ namespace Apache.Ignite.Core.Cache.Configuration
             set { _inlineSize = value; }
         }
 
+        /// <summary>
+        /// Gets or sets a collection of fields, which are not indexed, but whose values are stored in the index rows
+        /// after the indexed fields. Not supported for <see cref="QueryIndexType.Geospatial"/> and
+        /// <see cref="QueryIndexType.FullText"/> indexes.
+        /// <para />
+        /// A query which reads only the indexed, the primary key and the included fields can be executed
+        /// without data pages access, see Java <c>QueryIndex.setIncludedFields</c> for details.
+        /// </summary>
+        [SuppressMessage("Microsoft.Usage", "CA2227:CollectionPropertiesShouldBeReadOnly")]
+        public ICollection<string> IncludedFields { get; set; }
+
+        /// <summary>
+        /// Initializes a new instance of the <see cref="QueryIndex"/> class.
+        /// </summary>
+        /// <param name="reader">The reader.</param>
+        internal QueryIndex(IBinaryRawReader reader) : this(reader, true)
+        {
+            // No-op.
+        }
+
         /// <summary>
         /// Initializes a new instance of the <see cref="QueryIndex"/> class.
         /// </summary>
         /// <param name="reader">The reader.</param>
-        internal QueryIndex(IBinaryRawReader reader)
+        /// <param name="readIncludedFields">Whether the included fields are written.</param>
+        internal QueryIndex(IBinaryRawReader reader, bool readIncludedFields)
         {
             Name = reader.ReadString();
             IndexType = (QueryIndexType) reader.ReadByte();
@@ -149,12 +170,29 @@ namespace Apache.Ignite.Core.Cache.Configuration
             var count = reader.ReadInt();
             Fields = count == 0 ? null : Enumerable.Range(0, count).Select(x =>
                 new QueryIndexField(reader.ReadString(), reader.ReadBoolean())).ToList();
+
+            if (readIncludedFields)
+            {
+                count = reader.ReadInt();
+                IncludedFields = count == 0 ? null : Enumerable.Range(0, count).Select(x =>
+                    reader.ReadString()).ToList();
+            }
         }
 
         /// <summary>
         /// Writes this instance.
         /// </summary>
         internal void Write(IBinaryRawWriter writer)
+        {
+            Write(writer, true);
+        }
+
+        /// <summary>
+        /// Writes this instance.
+        /// </summary>
+        /// <param name="writer">The writer.</param>
+        /// <param name="writeIncludedFields">Whether to write the included fields.</param>
+        internal void Write(IBinaryRawWriter writer, bool writeIncludedFields)
         {
             writer.WriteString(Name);
             writer.WriteByte((byte) IndexType);
@@ -172,6 +210,21 @@ namespace Apache.Ignite.Core.Cache.Configuration
             }
             else
                 writer.WriteInt(0);
+
+            if (writeIncludedFields)
+            {
+                if (IncludedFields != null)
+                {
+                    writer.WriteInt(IncludedFields.Count);
+
+                    foreach (var field in IncludedFields)
+                    {
+                        writer.WriteString(field);
+                    }
+                }
+                else
+                    writer.WriteInt(0);
+            }
         }
     }
 }
\ No newline at end of file
@@ -35,6 +35,11 @@ namespace Apache.Ignite.Core.Cache.Configuration
         /// <summary>
         /// Geo-spatial index.
         /// </summary>
-        Geospatial
+        Geospatial,
+
+        /// <summary>
+        /// Hash index. Supports only lookups by equality of all the indexed fields, rows are not ordered by the fields.
+        /// </summary>
+        Hash
     }
 }
\ No newline at end of file
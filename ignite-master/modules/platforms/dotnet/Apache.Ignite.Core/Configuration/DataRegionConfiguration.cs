@@ -79,6 +79,11 @@ namespace Apache.Ignite.Core.Configuration
         /// </summary>
         public const bool DefaultLazyMemoryAllocation = true;
 
+        /// <summary>
+        /// Default value for <see cref="PageReplacementMode"/>.
+        /// </summary>
+        public const PageReplacementMode DefaultPageReplacementMode = PageReplacementMode.Clock;
+
         /// <summary>
         /// Initializes a new instance of the <see cref="DataRegionConfiguration"/> class.
         /// </summary>
@@ -92,6 +97,7 @@ namespace Apache.Ignite.Core.Configuration
             MetricsSubIntervalCount = DefaultMetricsSubIntervalCount;
             MetricsRateTimeInterval = DefaultMetricsRateTimeInterval;
             LazyMemoryAllocation = DefaultLazyMemoryAllocation;
+            PageReplacementMode = DefaultPageReplacementMode;
         }
 
         /// <summary>
@@ -114,6 +120,7 @@ namespace Apache.Ignite.Core.Configuration
             CheckpointPageBufferSize = reader.ReadLong();
 
             LazyMemoryAllocation = reader.ReadBoolean();
+            PageReplacementMode = (PageReplacementMode)reader.ReadInt();
         }
 
         /// <summary>
@@ -135,6 +142,7 @@ namespace Apache.Ignite.Core.Configuration
             writer.WriteTimeSpanAsLong(MetricsRateTimeInterval);
             writer.WriteLong(CheckpointPageBufferSize);
             writer.WriteBoolean(LazyMemoryAllocation);
+            writer.WriteInt((int)PageReplacementMode);
         }
 
         /// <summary>
@@ -234,5 +242,13 @@ namespace Apache.Ignite.Core.Configuration
         /// </summary>
         [DefaultValue(DefaultLazyMemoryAllocation)]
         public bool LazyMemoryAllocation { get; set; }
+
+        /// <summary>
+        /// Gets or sets the memory pages replacement algorithm. Pages are replaced when the persistent data region
+        /// is full and a page should be loaded from the disk.
+        /// Default is <see cref="DefaultPageReplacementMode"/>.
+        /// </summary>
+        [DefaultValue(DefaultPageReplacementMode)]
+        public PageReplacementMode PageReplacementMode { get; set; }
     }
 }
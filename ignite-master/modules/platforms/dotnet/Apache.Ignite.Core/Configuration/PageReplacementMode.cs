@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+namespace Apache.Ignite.Core.Configuration
+{
+    /// <summary>
+    /// Memory page replacement algorithm, see <see cref="DataRegionConfiguration.PageReplacementMode"/>.
+    /// Pages are replaced when the persistent data region is full and a page should be loaded from the disk.
+    /// </summary>
+    public enum PageReplacementMode
+    {
+        /// <summary>
+        /// Random-LRU algorithm.
+        /// <para />
+        /// When a page should be replaced, the algorithm randomly chooses 5 pages and replaces the least
+        /// recently used one. It has zero maintenance cost, but is not very effective in terms of finding the next
+        /// page to replace.
+        /// </summary>
+        RandomLru,
+
+        /// <summary>
+        /// Segmented-LRU algorithm, a scan-resistant variation of the LRU algorithm.
+        /// <para />
+        /// Pages list is divided into a probationary segment and a protected segment. Pages accessed at least twice
+        /// are moved to the protected segment. Page to replace is taken from the probationary segment.
+        /// </summary>
+        SegmentedLru,
+
+        /// <summary>
+        /// CLOCK algorithm.
+        /// <para />
+        /// Pages are kept in a circular list with a hit flag. Near to zero maintenance cost and replacement
+        /// efficiency between random-LRU and segmented-LRU.
+        /// </summary>
+        Clock,
+
+        /// <summary>
+        /// 2Q algorithm with an adaptive probation queue size.
+        /// <para />
+        /// Pages are kept in a probation FIFO queue and a protected LRU queue. Pages loaded again shortly after the
+        /// replacement are added to the protected queue. Pages loaded by full scans are added to the probation queue
+        /// only, so a large scan can't replace the hot pages of point lookups.
+        /// </summary>
+        TwoQ
+    }
+}
@@ -21,6 +21,7 @@ namespace Apache.Ignite.Core.Impl.Client.Cache
     using System.Diagnostics;
     using System.Linq;
     using Apache.Ignite.Core.Cache.Configuration;
+    using Apache.Ignite.Core.Client;
     using Apache.Ignite.Core.Client.Cache;
     using Apache.Ignite.Core.Impl.Binary;
     using Apache.Ignite.Core.Impl.Binary.IO;
@@ -363,12 +364,20 @@ namespace Apache.Ignite.Core.Impl.Client.Cache
             {
                 writer.WriteInt(entityIndexes.Count);
 
+                var includedFields = features.HasFeature(ClientBitmaskFeature.QueryIndexIncludedFields);
+
                 foreach (var index in entityIndexes)
                 {
                     if (index == null)
                         throw new InvalidOperationException("Invalid cache configuration: QueryIndex can't be null.");
 
-                    index.Write(writer);
+                    if (!includedFields && index.IncludedFields != null && index.IncludedFields.Count > 0)
+                    {
+                        throw new IgniteClientException(
+                            "Included fields of query indexes are not supported by the server");
+                    }
+
+                    index.Write(writer, includedFields);
                 }
             }
             else
@@ -472,8 +481,11 @@ namespace Apache.Ignite.Core.Impl.Client.Cache
             value.Aliases = count == 0 ? null : Enumerable.Range(0, count)
                 .Select(x=> new QueryAlias(reader.ReadString(), reader.ReadString())).ToList();
 
+            var includedFields = features.HasFeature(ClientBitmaskFeature.QueryIndexIncludedFields);
+
             count = reader.ReadInt();
-            value.Indexes = count == 0 ? null : Enumerable.Range(0, count).Select(x => new QueryIndex(reader)).ToList();
+            value.Indexes = count == 0 ? null : Enumerable.Range(0, count)
+                .Select(x => new QueryIndex(reader, includedFields)).ToList();
 
             return value;
         }
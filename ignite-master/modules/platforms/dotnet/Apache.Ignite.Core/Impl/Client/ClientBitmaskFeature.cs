@@ -33,6 +33,12 @@ namespace Apache.Ignite.Core.Impl.Client
         QueryPartitionsBatchSize = 7,
         BinaryConfiguration = 8,
         ServiceInvokeCtx = 10,
-        Heartbeat = 11
+        Heartbeat = 11,
+        // DataReplicationOperations = 12,
+        // AllAffinityMappings = 13,
+        // IndexQuery = 14,
+        // IndexQueryLimit = 15,
+        // ServiceTopology = 16,
+        QueryIndexIncludedFields = 17
     }
 }